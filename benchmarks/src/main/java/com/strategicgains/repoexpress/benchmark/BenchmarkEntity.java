@@ -0,0 +1,119 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.noschema.entity.AbstractEntity;
+import com.strategicgains.repoexpress.jdbc.annotation.Entity;
+import com.strategicgains.repoexpress.jdbc.annotation.Id;
+import com.strategicgains.repoexpress.jdbc.annotation.Property;
+
+/**
+ * A small, flat entity used by all benchmark stores. It carries the JDBC mapping annotations
+ * so the same class can be persisted by JdbcRepository without a hand-written definition.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+@Entity(table = "bench_entities")
+public class BenchmarkEntity
+extends AbstractEntity<Long>
+{
+	// jOOQ quotes mapped names, so the DDL quotes them too (keeping them lower-case on H2).
+	public static final String CREATE_TABLE_SQL = "create table \"bench_entities\" ("
+		+ "\"id\" bigint primary key, "
+		+ "\"name\" varchar(64), "
+		+ "\"category\" varchar(32), "
+		+ "\"amount\" bigint not null)";
+
+	// Supports the name-ordered queries in QueryableBenchmark (and seeking within them).
+	public static final String CREATE_NAME_INDEX_SQL = "create index \"bench_entities_name\" on \"bench_entities\" (\"name\", \"id\")";
+
+	@Id
+	@Property("id")
+	private Long id;
+
+	@Property("name")
+	private String name;
+
+	@Property("category")
+	private String category;
+
+	@Property("amount")
+	private long amount;
+
+	public BenchmarkEntity()
+	{
+		super();
+	}
+
+	public BenchmarkEntity(long id, int categories)
+	{
+		this();
+		this.id = id;
+		this.name = "entity-" + id;
+		this.category = "category-" + (id % categories);
+		this.amount = id;
+	}
+
+	@Override
+	public Identifier getIdentifier()
+	{
+		return (id == null ? null : new Identifier(id));
+	}
+
+	@Override
+	public Long getId()
+	{
+		return id;
+	}
+
+	@Override
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+
+	public String getCategory()
+	{
+		return category;
+	}
+
+	public void setCategory(String category)
+	{
+		this.category = category;
+	}
+
+	public long getAmount()
+	{
+		return amount;
+	}
+
+	public void setAmount(long amount)
+	{
+		this.amount = amount;
+	}
+}
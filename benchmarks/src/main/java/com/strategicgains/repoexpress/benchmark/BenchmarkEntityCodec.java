@@ -0,0 +1,64 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.strategicgains.noschema.document.ObjectCodec;
+
+/**
+ * A compact, hand-written binary codec for BenchmarkEntity, used by the OFF_HEAP store.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class BenchmarkEntityCodec
+implements ObjectCodec<BenchmarkEntity>
+{
+	@Override
+	public byte[] serialize(BenchmarkEntity entity)
+	{
+		byte[] name = entity.getName().getBytes(StandardCharsets.UTF_8);
+		byte[] category = entity.getCategory().getBytes(StandardCharsets.UTF_8);
+		return ByteBuffer.allocate(24 + name.length + category.length)
+			.putLong(entity.getId())
+			.putLong(entity.getAmount())
+			.putInt(name.length).put(name)
+			.putInt(category.length).put(category)
+			.array();
+	}
+
+	@Override
+	public BenchmarkEntity deserialize(byte[] bytes, Class<BenchmarkEntity> type)
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		BenchmarkEntity entity = new BenchmarkEntity();
+		entity.setId(buffer.getLong());
+		entity.setAmount(buffer.getLong());
+		entity.setName(string(buffer));
+		entity.setCategory(string(buffer));
+		return entity;
+	}
+
+	private static String string(ByteBuffer buffer)
+	{
+		int length = buffer.getInt();
+		String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		return value;
+	}
+}
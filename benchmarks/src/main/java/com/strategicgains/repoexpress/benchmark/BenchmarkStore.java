@@ -0,0 +1,103 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import com.strategicgains.repoexpress.Repository;
+import com.strategicgains.repoexpress.memory.LongKeyedRepository;
+import com.strategicgains.repoexpress.memory.OffHeapRepository;
+
+/**
+ * The repository implementations exercised by the benchmarks. Selected via the JMH "store"
+ * parameter (e.g. -p store=JDBC_H2).
+ * <p/>
+ * LONG_MEMORY is a LongKeyedRepository, keyed by the entity's primitive ID.
+ * <p/>
+ * OFF_HEAP is an OffHeapRepository, which decodes a new entity on every read.
+ * <p/>
+ * REMOTE is a local stand-in for the MongoDB, Cassandra and Redis repositories. Its simulated
+ * round-trip latency (in microseconds) is set with the system property
+ * repoexpress.bench.roundTripMicros and defaults to 200.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public enum BenchmarkStore
+{
+	MEMORY
+	{
+		@Override
+		public Repository<BenchmarkEntity> open()
+		{
+			return new InMemoryBenchmarkRepository();
+		}
+	},
+	LONG_MEMORY
+	{
+		@Override
+		public Repository<BenchmarkEntity> open()
+		{
+			return new LongKeyedRepository<BenchmarkEntity>(BenchmarkEntity::getId);
+		}
+	},
+	OFF_HEAP
+	{
+		@Override
+		public Repository<BenchmarkEntity> open()
+		{
+			return new OffHeapRepository<BenchmarkEntity>(new BenchmarkEntityCodec(), BenchmarkEntity.class);
+		}
+	},
+	REMOTE
+	{
+		@Override
+		public Repository<BenchmarkEntity> open()
+		{
+			return new SimulatedRemoteRepository(Long.getLong(ROUND_TRIP_MICROS_PROPERTY, DEFAULT_ROUND_TRIP_MICROS));
+		}
+	},
+	JDBC_H2
+	{
+		@Override
+		public Repository<BenchmarkEntity> open()
+		{
+			return new JdbcBenchmarkRepository(JdbcBenchmarkRepository.h2Config());
+		}
+
+		@Override
+		public void close(Repository<BenchmarkEntity> repository)
+		{
+			((JdbcBenchmarkRepository) repository).shutdown();
+		}
+	};
+
+	public static final String ROUND_TRIP_MICROS_PROPERTY = "repoexpress.bench.roundTripMicros";
+	private static final long DEFAULT_ROUND_TRIP_MICROS = 200L;
+
+	/**
+	 * @return a new, empty repository for this store.
+	 */
+	public abstract Repository<BenchmarkEntity> open();
+
+	/**
+	 * Release any resources held by a repository returned from open().
+	 * 
+	 * @param repository
+	 */
+	public void close(Repository<BenchmarkEntity> repository)
+	{
+		// default is to do nothing.
+	}
+}
@@ -0,0 +1,152 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.adapter.Identifiers;
+import com.strategicgains.repoexpress.util.UuidConverter;
+
+/**
+ * Compares the short-UUID and Identifier codecs against their pre-allocation-free
+ * implementations ({@link LegacyIdCodecs}). The legacy* methods are the baseline; the
+ * *Into methods reuse a per-thread buffer and should show no allocation under -prof gc.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class IdentifierCodecBenchmark
+{
+	private static final int SIZE = 1024;
+
+	private final UUID[] uuids = new UUID[SIZE];
+	private final String[] shortIds = new String[SIZE];
+	private final String[] longIds = new String[SIZE];
+	private final Identifier[] compoundIds = new Identifier[SIZE];
+	private final char[] chars = new char[UuidConverter.LONG_LENGTH];
+	private final StringBuilder sb = new StringBuilder(64);
+	private final ByteBuffer bytes = ByteBuffer.allocate(UuidConverter.SHORT_LENGTH);
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			uuids[i] = new UUID(random.nextLong(), random.nextLong());
+			shortIds[i] = UuidConverter.format(uuids[i]);
+			longIds[i] = uuids[i].toString();
+			compoundIds[i] = new Identifier(uuids[i], random.nextLong());
+		}
+	}
+
+	private int next()
+	{
+		return next++ & (SIZE - 1);
+	}
+
+	@Benchmark
+	public String legacyFormat()
+	{
+		return LegacyIdCodecs.format(uuids[next()]);
+	}
+
+	@Benchmark
+	public String format()
+	{
+		return UuidConverter.format(uuids[next()]);
+	}
+
+	@Benchmark
+	public char[] formatInto()
+	{
+		UuidConverter.format(uuids[next()], chars, 0);
+		return chars;
+	}
+
+	@Benchmark
+	public ByteBuffer formatIntoBuffer()
+	{
+		bytes.clear();
+		return UuidConverter.format(uuids[next()], bytes);
+	}
+
+	@Benchmark
+	public UUID legacyParse()
+	{
+		return LegacyIdCodecs.parse(shortIds[next()]);
+	}
+
+	@Benchmark
+	public UUID parse()
+	{
+		return UuidConverter.parse(shortIds[next()]);
+	}
+
+	@Benchmark
+	public UUID legacyParseLong()
+	{
+		return UUID.fromString(longIds[next()]);
+	}
+
+	@Benchmark
+	public UUID parseLong()
+	{
+		return UuidConverter.parse(longIds[next()]);
+	}
+
+	@Benchmark
+	public String legacyFormatIdentifier()
+	{
+		return LegacyIdCodecs.format(compoundIds[next()], Identifiers.SEPARATOR);
+	}
+
+	@Benchmark
+	public String formatIdentifier()
+	{
+		return Identifiers.format(compoundIds[next()]);
+	}
+
+	@Benchmark
+	public StringBuilder formatIdentifierInto()
+	{
+		sb.setLength(0);
+		return Identifiers.format(compoundIds[next()], sb);
+	}
+}
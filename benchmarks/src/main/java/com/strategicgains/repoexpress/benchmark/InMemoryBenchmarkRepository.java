@@ -0,0 +1,29 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+/**
+ * The concrete InMemoryRepository used for the "MEMORY" benchmark store.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class InMemoryBenchmarkRepository
+extends InMemoryRepository<BenchmarkEntity>
+{
+}
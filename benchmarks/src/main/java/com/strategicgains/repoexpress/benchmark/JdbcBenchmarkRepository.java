@@ -0,0 +1,65 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.Properties;
+
+import org.jooq.SQLDialect;
+
+import com.strategicgains.repoexpress.jdbc.JdbcConfig;
+import com.strategicgains.repoexpress.jdbc.JdbcRepository;
+
+/**
+ * A JdbcRepository over a private, in-memory H2 database. Each instance gets its own database
+ * so benchmark trials never see each other's rows.
+ * <p/>
+ * Connections are pooled when the system property repoexpress.bench.jdbcPoolSize is greater
+ * than zero (the default is a single shared connection).
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class JdbcBenchmarkRepository
+extends JdbcRepository<BenchmarkEntity>
+{
+	public static final String POOL_SIZE_PROPERTY = "repoexpress.bench.jdbcPoolSize";
+
+	public JdbcBenchmarkRepository(JdbcConfig config)
+	{
+		super(config, SQLDialect.H2, BenchmarkEntity.class);
+		getDsl().execute(BenchmarkEntity.CREATE_TABLE_SQL);
+		getDsl().execute(BenchmarkEntity.CREATE_NAME_INDEX_SQL);
+	}
+
+	public static JdbcConfig h2Config()
+	{
+		Properties p = new Properties();
+		p.setProperty("jdbc.url", "jdbc:h2:mem:repoexpress_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		p.setProperty("jdbc.username", "sa");
+		p.setProperty("jdbc.password", "");
+		p.setProperty("jdbc.dialect", SQLDialect.H2.name());
+		p.setProperty("jdbc.pool.maxSize", System.getProperty(POOL_SIZE_PROPERTY, "0"));
+		return new JdbcConfig(p);
+	}
+
+	/**
+	 * Drops everything in the in-memory database, releasing its memory.
+	 */
+	public void shutdown()
+	{
+		getDsl().execute("drop all objects");
+	}
+}
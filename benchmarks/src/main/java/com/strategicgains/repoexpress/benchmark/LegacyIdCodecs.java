@@ -0,0 +1,121 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.restexpress.common.util.StringUtils;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.adapter.Identifiers;
+
+/**
+ * The byte[]- and ByteBuffer-based UuidConverter and the List-joining Identifiers.format()
+ * as they were before the allocation-free variants, kept as the baseline for
+ * {@link IdentifierCodecBenchmark}.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+final class LegacyIdCodecs
+{
+	private static final char[] C64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+	private static final int[] I256 = new int[256];
+
+	static
+	{
+		for (int i = 0; i < C64.length; i++)
+		{
+			I256[C64[i]] = i;
+		}
+	}
+
+	private LegacyIdCodecs()
+	{
+		// prevents instantiation.
+	}
+
+	static String format(UUID uuid)
+	{
+		ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
+		bb.putLong(uuid.getMostSignificantBits());
+		bb.putLong(uuid.getLeastSignificantBits());
+		byte[] bytes = bb.array();
+		char[] chars = new char[22];
+		int i = 0;
+		int j = 0;
+
+		while (i < 15)
+		{
+			int d = (bytes[i++] & 0xff) << 16 | (bytes[i++] & 0xff) << 8 | (bytes[i++] & 0xff);
+			chars[j++] = C64[(d >>> 18) & 0x3f];
+			chars[j++] = C64[(d >>> 12) & 0x3f];
+			chars[j++] = C64[(d >>> 6) & 0x3f];
+			chars[j++] = C64[d & 0x3f];
+		}
+
+		int d = (bytes[i] & 0xff) << 10;
+		chars[j++] = C64[d >> 12];
+		chars[j] = C64[(d >>> 6) & 0x3f];
+		return new String(chars);
+	}
+
+	static UUID parse(String s)
+	{
+		if (s.length() > 24) return UUID.fromString(s);
+
+		byte[] bytes = new byte[16];
+		int i = 0;
+		int j = 0;
+
+		while (i < 15)
+		{
+			int d = getChar(s, j++) << 18 | getChar(s, j++) << 12 | getChar(s, j++) << 6 | getChar(s, j++);
+			bytes[i++] = (byte) (d >> 16);
+			bytes[i++] = (byte) (d >> 8);
+			bytes[i++] = (byte) d;
+		}
+
+		bytes[i] = (byte) ((I256[s.charAt(j++)] << 18 | I256[s.charAt(j)] << 12) >> 16);
+		ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
+		bb.put(bytes, 0, 16);
+		bb.clear();
+		return new UUID(bb.getLong(), bb.getLong());
+	}
+
+	static String format(Identifier id, String separator)
+	{
+		List<String> components = new ArrayList<>(id.size());
+
+		id.components().stream().forEach(c -> {
+			if (c instanceof UUID) components.add(Identifiers.UUID.format((UUID) c));
+			else components.add(c.toString());
+		});
+
+		return StringUtils.join(separator, components);
+	}
+
+	private static int getChar(String s, int j)
+	{
+		char c = s.charAt(j);
+		int v = I256[c];
+		if (v == 0 && c != 'A') throw new IllegalArgumentException("Invalid character in short UUID: " + c);
+		return v;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.KeysetPage;
+import com.strategicgains.repoexpress.Queryable;
+import com.strategicgains.repoexpress.Repository;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.IndexType;
+
+/**
+ * Measures Queryable.readAll() and Queryable.count() for each {@link BenchmarkStore} that
+ * implements {@link Queryable}. Each query filters on one of the entity categories, so it
+ * matches preload / 100 rows.
+ * <p/>
+ * readOffsetPage() and readKeysetPage() read the same unfiltered page, depth rows in, via
+ * QueryRange (OFFSET) and Queryable.readPage() (seek) respectively.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryableBenchmark
+{
+	@Param({"MEMORY", "JDBC_H2"})
+	public BenchmarkStore store;
+
+	@Param("10000")
+	public int preload;
+
+	@Param("20")
+	public int pageSize;
+
+	@Param("5000")
+	public int depth;
+
+	private Repository<BenchmarkEntity> repository;
+	private Queryable<BenchmarkEntity> queryable;
+	private String depthContinuation;
+
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		repository = store.open();
+
+		if (!(repository instanceof Queryable))
+		{
+			throw new IllegalStateException(store + " does not implement Queryable");
+		}
+
+		queryable = (Queryable<BenchmarkEntity>) repository;
+
+		if (repository instanceof InMemoryRepository)
+		{
+			// index what the queries filter and sort on (declared here so RepositoryBenchmark measures an unindexed MEMORY store).
+			((InMemoryRepository<BenchmarkEntity>) repository).addIndex("category", IndexType.HASH);
+			((InMemoryRepository<BenchmarkEntity>) repository).addIndex("name", IndexType.SORTED);
+		}
+
+		for (long i = 0; i < preload; i++)
+		{
+			repository.create(new BenchmarkEntity(i, RepositoryBenchmark.CATEGORIES), false);
+		}
+
+		for (int read = 0; read < depth; read += pageSize)
+		{
+			depthContinuation = queryable.readPage(null, nameOrder(), pageSize, depthContinuation).getContinuation();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown()
+	{
+		store.close(repository);
+	}
+
+	@Benchmark
+	public List<BenchmarkEntity> readAll()
+	{
+		QueryRange range = new QueryRange();
+		range.setStart(0);
+		range.setLimit(pageSize);
+		QueryOrder order = new QueryOrder();
+		order.addSort("name");
+		return queryable.readAll(randomCategory(), range, order);
+	}
+
+	@Benchmark
+	public List<BenchmarkEntity> readOffsetPage()
+	{
+		QueryRange range = new QueryRange();
+		range.setStart(depth);
+		range.setLimit(pageSize);
+		return queryable.readAll(null, range, nameOrder());
+	}
+
+	@Benchmark
+	public KeysetPage<BenchmarkEntity> readKeysetPage()
+	{
+		return queryable.readPage(null, nameOrder(), pageSize, depthContinuation);
+	}
+
+	@Benchmark
+	public long count()
+	{
+		return queryable.count(randomCategory());
+	}
+
+	private static QueryOrder nameOrder()
+	{
+		QueryOrder order = new QueryOrder();
+		order.addSort("name");
+		return order;
+	}
+
+	private QueryFilter randomCategory()
+	{
+		return new QueryFilter()
+			.addCriteria("category", FilterOperator.EQUALS, "category-" + ThreadLocalRandom.current().nextInt(RepositoryBenchmark.CATEGORIES));
+	}
+}
@@ -0,0 +1,198 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.Repository;
+
+/**
+ * Measures the Repository CRUD path for each {@link BenchmarkStore}. The repository is pre-loaded
+ * with 'preload' entities (IDs 0..preload-1) that read, exists, update and readList select from
+ * at random.
+ * <p/>
+ * Run with, for example:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar RepositoryBenchmark -p store=JDBC_H2 -t 8
+ * </pre>
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark
+{
+	static final int CATEGORIES = 100;
+
+	@Param({"MEMORY", "LONG_MEMORY", "OFF_HEAP", "REMOTE", "JDBC_H2"})
+	public BenchmarkStore store;
+
+	@Param("10000")
+	public int preload;
+
+	@Param("20")
+	public int listSize;
+
+	private Repository<BenchmarkEntity> repository;
+	private final AtomicLong nextId = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		repository = store.open();
+
+		for (long i = 0; i < preload; i++)
+		{
+			repository.create(new BenchmarkEntity(i, CATEGORIES), false);
+		}
+
+		nextId.set(preload);
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown()
+	{
+		store.close(repository);
+	}
+
+	@Benchmark
+	public BenchmarkEntity create()
+	{
+		return repository.create(new BenchmarkEntity(nextId.getAndIncrement(), CATEGORIES));
+	}
+
+	@Benchmark
+	public BenchmarkEntity read()
+	{
+		return repository.read(randomId());
+	}
+
+	@Benchmark
+	public boolean exists()
+	{
+		return repository.exists(randomId());
+	}
+
+	@Benchmark
+	public BenchmarkEntity update()
+	{
+		BenchmarkEntity entity = new BenchmarkEntity(ThreadLocalRandom.current().nextLong(preload), CATEGORIES);
+		entity.setAmount(ThreadLocalRandom.current().nextLong());
+		return repository.update(entity);
+	}
+
+	@Benchmark
+	public List<BenchmarkEntity> readList()
+	{
+		return repository.readList(randomIds());
+	}
+
+	@Benchmark
+	public Set<Identifier> existsAll()
+	{
+		return repository.existsAll(randomIds());
+	}
+
+	@Benchmark
+	public void delete(DeletePool pool)
+	{
+		repository.delete(pool.next());
+	}
+
+	private List<Identifier> randomIds()
+	{
+		List<Identifier> ids = new ArrayList<>(listSize);
+
+		for (int i = 0; i < listSize; i++)
+		{
+			ids.add(randomId());
+		}
+
+		return ids;
+	}
+
+	private Identifier randomId()
+	{
+		return new Identifier(ThreadLocalRandom.current().nextLong(preload));
+	}
+
+	/**
+	 * Per-thread pool of entities created before each iteration so that the delete benchmark
+	 * measures only the delete itself. When a pool runs dry mid-iteration, it falls back to
+	 * creating the next victim inline.
+	 */
+	@State(Scope.Thread)
+	public static class DeletePool
+	{
+		@Param("20000")
+		public int deletePoolSize;
+
+		private RepositoryBenchmark benchmark;
+		private long[] ids;
+		private int next;
+
+		@Setup(Level.Iteration)
+		public void fill(RepositoryBenchmark benchmark)
+		{
+			this.benchmark = benchmark;
+			this.ids = new long[deletePoolSize];
+			this.next = 0;
+
+			for (int i = 0; i < ids.length; i++)
+			{
+				ids[i] = createVictim();
+			}
+		}
+
+		Identifier next()
+		{
+			long id = (next < ids.length ? ids[next++] : createVictim());
+			return new Identifier(id);
+		}
+
+		private long createVictim()
+		{
+			long id = benchmark.nextId.getAndIncrement();
+			benchmark.repository.create(new BenchmarkEntity(id, CATEGORIES), false);
+			return id;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+
+/**
+ * A local stand-in for the network-backed stores (MongoDB, Cassandra, Redis). It mirrors the
+ * round-trip pattern those repositories use today (e.g. a conditional write for create() and
+ * update(), a single multi-get for readList()) and charges a fixed latency for each round trip, so benchmark results
+ * reflect the number of server calls an operation makes without requiring a live server.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class SimulatedRemoteRepository
+extends InMemoryBenchmarkRepository
+{
+	private final long roundTripNanos;
+	private final LongAdder roundTrips = new LongAdder();
+
+	public SimulatedRemoteRepository(long roundTripMicros)
+	{
+		super();
+		this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+	}
+
+	/**
+	 * @return the number of simulated server calls made so far.
+	 */
+	public long getRoundTrips()
+	{
+		return roundTrips.sum();
+	}
+
+	@Override
+	public boolean exists(Identifier id)
+	{
+		roundTrip();
+		return super.exists(id);
+	}
+
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		roundTrip();
+		Set<Identifier> results = new LinkedHashSet<Identifier>();
+
+		for (Identifier id : ids)
+		{
+			if (items.containsKey(id))
+			{
+				results.add(id);
+			}
+		}
+
+		return results;
+	}
+
+	@Override
+	public BenchmarkEntity doCreate(BenchmarkEntity item, boolean ifUnique)
+	{
+		roundTrip();
+
+		if (!ifUnique)
+		{
+			items.put(item.getIdentifier(), item);
+		}
+		else if (items.putIfAbsent(item.getIdentifier(), item) != null)
+		{
+			throw new DuplicateItemException("ID already exists: " + item.getIdentifier());
+		}
+
+		return item;
+	}
+
+	@Override
+	public BenchmarkEntity doRead(Identifier id)
+	{
+		roundTrip();
+		return super.doRead(id);
+	}
+
+	@Override
+	public List<BenchmarkEntity> readList(Collection<Identifier> ids)
+	{
+		roundTrip();
+		List<BenchmarkEntity> results = new ArrayList<BenchmarkEntity>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			BenchmarkEntity item = items.get(id);
+
+			if (item != null)
+			{
+				results.add(item);
+			}
+		}
+
+		return results;
+	}
+
+	@Override
+	public BenchmarkEntity doUpdate(BenchmarkEntity item, boolean ifExists)
+	{
+		roundTrip();
+
+		if (!ifExists)
+		{
+			items.put(item.getIdentifier(), item);
+		}
+		else if (items.replace(item.getIdentifier(), item) == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + item.getIdentifier());
+		}
+
+		return item;
+	}
+
+	@Override
+	public void doDelete(BenchmarkEntity object)
+	{
+		roundTrip();
+		super.doDelete(object);
+	}
+
+	protected void roundTrip()
+	{
+		roundTrips.increment();
+
+		if (roundTripNanos > 0)
+		{
+			LockSupport.parkNanos(roundTripNanos);
+		}
+	}
+}
@@ -15,12 +15,33 @@
  */
 package com.strategicgains.repoexpress.cassandra;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
 import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.AsyncRepository;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
 import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
 import com.strategicgains.repoexpress.exception.ItemNotFoundException;
@@ -34,6 +55,19 @@ import com.strategicgains.repoexpress.exception.ItemNotFoundException;
  * <p/>
  * The bindIdentifier(BoundStatement, Identifier) method will bind the components in the
  * Identifier instance to a prepared statement, if desired.
+ * <p/>
+ * The batch operations (createAll(), updateAll() and deleteAll()) group the statements returned
+ * by bindCreate(), bindUpdate() and bindDelete() by partition, sending one UNLOGGED batch per
+ * partition, concurrently. Sub-classes that don't override those methods are written one entity
+ * at a time.
+ * <p/>
+ * Sub-classes that return an INSERT ... IF NOT EXISTS from bindCreateIfNotExists(), or an
+ * UPDATE ... IF EXISTS from bindUpdateIfExists(), get atomic, single-request uniqueness or
+ * existence checking instead of a read before write.
+ * <p/>
+ * async() returns a view that uses CqlSession.executeAsync() for the statements returned by
+ * bindCreate(), bindUpdate(), bindDelete(), existsAsync() and readEntityByIdAsync(). Operations
+ * without a native statement run on the given executor instead.
  * 
  * @author toddf
  * @since Apr 12, 2013
@@ -41,6 +75,17 @@ import com.strategicgains.repoexpress.exception.ItemNotFoundException;
 public abstract class AbstractCassandraRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
 {
+	/**
+	 * The maximum number of asynchronous requests in flight during a batch operation.
+	 */
+	protected static final int MAX_IN_FLIGHT = 128;
+
+	/**
+	 * The maximum number of statements in a single UNLOGGED batch, keeping batches well
+	 * under the server's batch_size_fail_threshold.
+	 */
+	protected static final int BATCH_SIZE = 100;
+
 	private CqlSession session;
 	private String table;
 
@@ -65,18 +110,95 @@ extends AbstractObservableRepository<T>
     	return table;
     }
 
+	/**
+	 * If ifUnique is true and bindCreateIfNotExists() provides a conditional (lightweight
+	 * transaction) insert, uniqueness is enforced atomically by Cassandra in a single request.
+	 * Otherwise, exists() is called before createEntity().
+	 */
 	@Override
 	public T doCreate(T entity, boolean ifUnique)
 	{
-		if (ifUnique && exists(entity.getIdentifier()))
+		if (ifUnique)
 		{
-			throw new DuplicateItemException(entity.getClass().getSimpleName()
-			    + " ID already exists: " + entity.getIdentifier().toString());
+			BoundStatement bs = bindCreateIfNotExists(entity);
+
+			if (bs != null)
+			{
+				if (!session.execute(bs).wasApplied())
+				{
+					throw duplicate(entity);
+				}
+
+				return entity;
+			}
+
+			if (exists(entity.getIdentifier()))
+			{
+				throw duplicate(entity);
+			}
 		}
 
 		return createEntity(entity);
 	}
 
+	@Override
+	public List<T> doCreateAll(Collection<T> entities, boolean ifUnique)
+	{
+		List<T> results = new ArrayList<T>(entities);
+
+		if (ifUnique)
+		{
+			List<BoundStatement> conditional = bindAll(results, this::bindCreateIfNotExists);
+
+			if (conditional != null)
+			{
+				List<AsyncResultSet> applied = executeConcurrently(conditional);
+
+				for (int i = 0; i < applied.size(); ++i)
+				{
+					if (!applied.get(i).wasApplied())
+					{
+						throw duplicate(results.get(i));
+					}
+				}
+
+				return results;
+			}
+
+			List<Boolean> found = existsEach(identifiers(results));
+
+			for (int i = 0; i < found.size(); ++i)
+			{
+				if (found.get(i))
+				{
+					throw duplicate(results.get(i));
+				}
+			}
+		}
+
+		List<BoundStatement> statements = new ArrayList<BoundStatement>(results.size());
+
+		for (T entity : results)
+		{
+			BoundStatement bs = bindCreate(entity);
+
+			if (bs == null)
+			{
+				for (T e : results)
+				{
+					createEntity(e);
+				}
+
+				return results;
+			}
+
+			statements.add(bs);
+		}
+
+		executeByPartition(statements);
+		return results;
+	}
+
 	@Override
 	public T doRead(Identifier id)
 	{
@@ -90,18 +212,95 @@ extends AbstractObservableRepository<T>
 		return item;
 	}
 
+	/**
+	 * If ifExists is true and bindUpdateIfExists() provides a conditional (lightweight
+	 * transaction) update, existence is enforced atomically by Cassandra in a single request.
+	 * Otherwise, exists() is called before updateEntity().
+	 */
 	@Override
 	public T doUpdate(T entity, boolean ifExists)
 	{
-		if (ifExists && !exists(entity.getIdentifier()))
+		if (ifExists)
 		{
-			throw new ItemNotFoundException(entity.getClass().getSimpleName()
-			    + " ID not found: " + entity.getIdentifier().toString());
+			BoundStatement bs = bindUpdateIfExists(entity);
+
+			if (bs != null)
+			{
+				if (!session.execute(bs).wasApplied())
+				{
+					throw notFound(entity);
+				}
+
+				return entity;
+			}
+
+			if (!exists(entity.getIdentifier()))
+			{
+				throw notFound(entity);
+			}
 		}
 
 		return updateEntity(entity);
 	}
 
+	@Override
+	public List<T> doUpdateAll(Collection<T> entities, boolean ifExists)
+	{
+		List<T> results = new ArrayList<T>(entities);
+
+		if (ifExists)
+		{
+			List<BoundStatement> conditional = bindAll(results, this::bindUpdateIfExists);
+
+			if (conditional != null)
+			{
+				List<AsyncResultSet> applied = executeConcurrently(conditional);
+
+				for (int i = 0; i < applied.size(); ++i)
+				{
+					if (!applied.get(i).wasApplied())
+					{
+						throw notFound(results.get(i));
+					}
+				}
+
+				return results;
+			}
+
+			List<Boolean> found = existsEach(identifiers(results));
+
+			for (int i = 0; i < found.size(); ++i)
+			{
+				if (!found.get(i))
+				{
+					throw notFound(results.get(i));
+				}
+			}
+		}
+
+		List<BoundStatement> statements = new ArrayList<BoundStatement>(results.size());
+
+		for (T entity : results)
+		{
+			BoundStatement bs = bindUpdate(entity);
+
+			if (bs == null)
+			{
+				for (T e : results)
+				{
+					updateEntity(e);
+				}
+
+				return results;
+			}
+
+			statements.add(bs);
+		}
+
+		executeByPartition(statements);
+		return results;
+	}
+
 	@Override
 	public void doDelete(T entity)
 	{
@@ -115,11 +314,291 @@ extends AbstractObservableRepository<T>
 		}
 	}
 
+	@Override
+	public void doDeleteAll(Collection<T> entities)
+	{
+		List<BoundStatement> statements = new ArrayList<BoundStatement>(entities.size());
+
+		for (T entity : entities)
+		{
+			BoundStatement bs = bindDelete(entity);
+
+			if (bs == null)
+			{
+				super.doDeleteAll(entities);
+				return;
+			}
+
+			statements.add(bs);
+		}
+
+		executeByPartition(statements);
+	}
+
+	/**
+	 * Returns a non-blocking view of this repository that executes statements with
+	 * CqlSession.executeAsync() where the sub-class provides them, falling back to running
+	 * the blocking call on the given executor where it does not.
+	 * <p/>
+	 * Observers are still notified: before-events on the calling thread and after-events on
+	 * the thread that completes the operation (usually a driver I/O thread).
+	 */
+	@Override
+	public AsyncRepository<T> async(Executor executor)
+	{
+		return new AsyncView(executor);
+	}
+
 	protected BoundStatement bindIdentifier(PreparedStatement ps, Identifier identifier)
 	{
 		return ps.bind(identifier.components().toArray());
 	}
 
+	/**
+	 * Checks the identifiers via existsEach(). Cassandra has no efficient multi-partition
+	 * probe, so sub-classes that override existsEach() to send the checks concurrently
+	 * (e.g. CassandraEntityRepository) answer in roughly one round trip.
+	 */
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> identifiers)
+	{
+		List<Identifier> valid = new ArrayList<Identifier>(identifiers.size());
+
+		for (Identifier identifier : identifiers)
+		{
+			if (identifier != null && !identifier.isEmpty()) valid.add(identifier);
+		}
+
+		List<Boolean> found = existsEach(valid);
+		Set<Identifier> results = new LinkedHashSet<Identifier>();
+
+		for (int i = 0; i < valid.size(); ++i)
+		{
+			if (found.get(i))
+			{
+				results.add(valid.get(i));
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Determines existence of each of the given identifiers, returning the answers in the same
+	 * order. This default implementation calls exists() for each. Sub-classes should choose to
+	 * optimize by overriding this behavior.
+	 */
+	protected List<Boolean> existsEach(List<Identifier> identifiers)
+	{
+		List<Boolean> results = new ArrayList<Boolean>(identifiers.size());
+
+		for (Identifier identifier : identifiers)
+		{
+			results.add(exists(identifier));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Groups the statements by routing key (partition) and sends each group as UNLOGGED
+	 * batches of up to BATCH_SIZE statements, with up to MAX_IN_FLIGHT batches executing
+	 * concurrently. Statements without a routing key are sent individually.
+	 */
+	protected void executeByPartition(List<? extends BatchableStatement<?>> statements)
+	{
+		Map<Object, List<BatchableStatement<?>>> byPartition = new LinkedHashMap<Object, List<BatchableStatement<?>>>();
+
+		for (BatchableStatement<?> statement : statements)
+		{
+			Object key = statement.getRoutingKey();
+			byPartition.computeIfAbsent((key != null ? key : new Object()), k -> new ArrayList<BatchableStatement<?>>())
+				.add(statement);
+		}
+
+		List<Statement<?>> requests = new ArrayList<Statement<?>>(byPartition.size());
+
+		for (List<BatchableStatement<?>> partition : byPartition.values())
+		{
+			for (int i = 0; i < partition.size(); i += BATCH_SIZE)
+			{
+				List<BatchableStatement<?>> chunk = partition.subList(i, Math.min(i + BATCH_SIZE, partition.size()));
+				requests.add(chunk.size() == 1
+					? chunk.get(0)
+					: BatchStatement.newInstance(BatchType.UNLOGGED, chunk));
+			}
+		}
+
+		executeConcurrently(requests);
+	}
+
+	/**
+	 * Executes the statements asynchronously, with up to MAX_IN_FLIGHT in flight at once,
+	 * returning the first page of each result in the order given.
+	 */
+	protected List<AsyncResultSet> executeConcurrently(List<? extends Statement<?>> statements)
+	{
+		List<AsyncResultSet> results = new ArrayList<AsyncResultSet>(statements.size());
+
+		for (int i = 0; i < statements.size(); i += MAX_IN_FLIGHT)
+		{
+			List<CompletableFuture<AsyncResultSet>> window = new ArrayList<CompletableFuture<AsyncResultSet>>(MAX_IN_FLIGHT);
+
+			for (Statement<?> statement : statements.subList(i, Math.min(i + MAX_IN_FLIGHT, statements.size())))
+			{
+				window.add(session.executeAsync(statement).toCompletableFuture());
+			}
+
+			try
+			{
+				for (CompletableFuture<AsyncResultSet> future : window)
+				{
+					results.add(future.join());
+				}
+			}
+			catch (CompletionException e)
+			{
+				if (e.getCause() instanceof RuntimeException)
+				{
+					throw (RuntimeException) e.getCause();
+				}
+
+				throw e;
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Bind a statement that creates the entity, for use in createAll(). Return null (the default)
+	 * to have createAll() call createEntity() for each entity instead.
+	 * 
+	 * @param entity a domain model to persist.
+	 * @return a bound statement, or null.
+	 */
+	protected BoundStatement bindCreate(T entity)
+	{
+		return null;
+	}
+
+	/**
+	 * Bind a conditional insert (INSERT ... IF NOT EXISTS) for the entity, used by create(),
+	 * createAll() and async() when uniqueness is required. Return null (the default) to check
+	 * uniqueness with exists() before createEntity() instead.
+	 * <p/>
+	 * Note that Cassandra does not support mixing lightweight transactions with regular writes
+	 * to the same rows, so only use this if all writes to the table can tolerate that.
+	 * 
+	 * @param entity a domain model to persist.
+	 * @return a bound conditional insert, or null.
+	 */
+	protected BoundStatement bindCreateIfNotExists(T entity)
+	{
+		return null;
+	}
+
+	/**
+	 * Bind a statement that updates the entity, for use in updateAll(). Return null (the default)
+	 * to have updateAll() call updateEntity() for each entity instead.
+	 * 
+	 * @param entity a domain model to persist.
+	 * @return a bound statement, or null.
+	 */
+	protected BoundStatement bindUpdate(T entity)
+	{
+		return null;
+	}
+
+	/**
+	 * Bind a conditional update (UPDATE ... IF EXISTS) for the entity, used by update(),
+	 * updateAll() and async() when existence is required. Return null (the default) to check
+	 * existence with exists() before updateEntity() instead.
+	 * <p/>
+	 * The same caveat about mixing lightweight transactions with regular writes applies as for
+	 * bindCreateIfNotExists().
+	 * 
+	 * @param entity a domain model to persist.
+	 * @return a bound conditional update, or null.
+	 */
+	protected BoundStatement bindUpdateIfExists(T entity)
+	{
+		return null;
+	}
+
+	/**
+	 * Bind a statement that deletes the entity, for use in deleteAll(). Return null (the default)
+	 * to have deleteAll() call deleteEntity() for each entity instead.
+	 * 
+	 * @param entity a domain model to delete.
+	 * @return a bound statement, or null.
+	 */
+	protected BoundStatement bindDelete(T entity)
+	{
+		return null;
+	}
+
+	/**
+	 * Asynchronously determine existence of the identifier, for use by async(). Return null
+	 * (the default) to have async() call exists() on its executor instead.
+	 */
+	protected CompletionStage<Boolean> existsAsync(Identifier identifier)
+	{
+		return null;
+	}
+
+	/**
+	 * Asynchronously read the entity, completing with null if not found, for use by async().
+	 * Return null (the default) to have async() call readEntityById() on its executor instead.
+	 */
+	protected CompletionStage<T> readEntityByIdAsync(Identifier identifier)
+	{
+		return null;
+	}
+
+	/**
+	 * Binds a statement for each entity, returning null if the binder returns null for any.
+	 */
+	private List<BoundStatement> bindAll(List<T> entities, Function<T, BoundStatement> binder)
+	{
+		List<BoundStatement> statements = new ArrayList<BoundStatement>(entities.size());
+
+		for (T entity : entities)
+		{
+			BoundStatement bs = binder.apply(entity);
+
+			if (bs == null) return null;
+
+			statements.add(bs);
+		}
+
+		return statements;
+	}
+
+	private ItemNotFoundException notFound(T entity)
+	{
+		return new ItemNotFoundException(entity.getClass().getSimpleName()
+		    + " ID not found: " + entity.getIdentifier().toString());
+	}
+
+	private DuplicateItemException duplicate(T entity)
+	{
+		return new DuplicateItemException(entity.getClass().getSimpleName()
+		    + " ID already exists: " + entity.getIdentifier().toString());
+	}
+
+	private List<Identifier> identifiers(List<T> entities)
+	{
+		List<Identifier> ids = new ArrayList<Identifier>(entities.size());
+
+		for (T entity : entities)
+		{
+			ids.add(entity.getIdentifier());
+		}
+
+		return ids;
+	}
+
 	/**
 	 * Read a Cassandra table, using the Identifier instance and marshal the return row to
 	 * a domain object.
@@ -160,4 +639,220 @@ extends AbstractObservableRepository<T>
 	 * @return the newly-updated domain model entity.
 	 */
 	protected abstract void deleteEntity(T entity);
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * The AsyncRepository returned by async().
+	 * 
+	 * @author toddf
+	 * @since Oct 17, 2026
+	 */
+	protected class AsyncView
+	implements AsyncRepository<T>
+	{
+		private Executor executor;
+
+		public AsyncView(Executor executor)
+		{
+			super();
+
+			if (executor == null) throw new IllegalArgumentException("executor is required");
+
+			this.executor = executor;
+		}
+
+		@Override
+		public CompletionStage<T> create(T entity)
+		{
+			return create(entity, true);
+		}
+
+		@Override
+		public CompletionStage<T> create(T entity, boolean ifUnique)
+		{
+			return observe(() -> notifyBeforeCreate(entity), () -> {
+				BoundStatement conditional = (ifUnique ? bindCreateIfNotExists(entity) : null);
+
+				if (conditional != null)
+				{
+					return getSession().executeAsync(conditional).thenApply(rs -> {
+						if (!rs.wasApplied())
+						{
+							throw duplicate(entity);
+						}
+
+						return entity;
+					});
+				}
+
+				BoundStatement bs = bindCreate(entity);
+
+				if (bs == null)
+				{
+					return CompletableFuture.supplyAsync(() -> doCreate(entity, ifUnique), executor);
+				}
+
+				CompletionStage<Boolean> unique = (ifUnique
+					? exists(entity.getIdentifier()).thenApply(found -> !found)
+					: CompletableFuture.completedFuture(true));
+
+				return unique.thenCompose(isUnique -> {
+					if (!isUnique)
+					{
+						throw duplicate(entity);
+					}
+
+					return getSession().executeAsync(bs).thenApply(rs -> entity);
+				});
+			}, created -> notifyAfterCreate(created));
+		}
+
+		@Override
+		public CompletionStage<Void> delete(Identifier id)
+		{
+			return read(id).thenCompose(this::delete);
+		}
+
+		@Override
+		public CompletionStage<Void> delete(T entity)
+		{
+			return observe(() -> notifyBeforeDelete(entity), () -> {
+				BoundStatement bs = bindDelete(entity);
+
+				if (bs == null)
+				{
+					return CompletableFuture.runAsync(() -> doDelete(entity), executor);
+				}
+
+				return getSession().executeAsync(bs).thenApply(rs -> (Void) null);
+			}, v -> notifyAfterDelete(entity));
+		}
+
+		@Override
+		public CompletionStage<Boolean> exists(Identifier id)
+		{
+			CompletionStage<Boolean> exists = existsAsync(id);
+			return (exists != null ? exists : CompletableFuture.supplyAsync(() -> AbstractCassandraRepository.this.exists(id), executor));
+		}
+
+		@Override
+		public CompletionStage<T> read(Identifier id)
+		{
+			return observe(() -> notifyBeforeRead(id), () -> {
+				CompletionStage<T> read = readEntityByIdAsync(id);
+
+				if (read == null)
+				{
+					return CompletableFuture.supplyAsync(() -> doRead(id), executor);
+				}
+
+				return read.thenApply(item -> {
+					if (item == null)
+					{
+						throw new ItemNotFoundException("ID not found: " + id.toString());
+					}
+
+					return item;
+				});
+			}, item -> notifyAfterRead(item));
+		}
+
+		/**
+		 * Reads all the IDs concurrently. IDs that are invalid or not found are simply ignored.
+		 */
+		@Override
+		public CompletionStage<List<T>> readList(Collection<Identifier> ids)
+		{
+			List<CompletableFuture<T>> reads = new ArrayList<CompletableFuture<T>>(ids.size());
+
+			for (Identifier id : ids)
+			{
+				reads.add(read(id).toCompletableFuture().exceptionally(t -> null));
+			}
+
+			return CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+				List<T> results = new ArrayList<T>(reads.size());
+
+				for (CompletableFuture<T> read : reads)
+				{
+					T item = read.join();
+
+					if (item != null)
+					{
+						results.add(item);
+					}
+				}
+
+				return results;
+			});
+		}
+
+		@Override
+		public CompletionStage<T> update(T entity)
+		{
+			return update(entity, true);
+		}
+
+		@Override
+		public CompletionStage<T> update(T entity, boolean ifExists)
+		{
+			return observe(() -> notifyBeforeUpdate(entity), () -> {
+				BoundStatement conditional = (ifExists ? bindUpdateIfExists(entity) : null);
+
+				if (conditional != null)
+				{
+					return getSession().executeAsync(conditional).thenApply(rs -> {
+						if (!rs.wasApplied())
+						{
+							throw notFound(entity);
+						}
+
+						return entity;
+					});
+				}
+
+				BoundStatement bs = bindUpdate(entity);
+
+				if (bs == null)
+				{
+					return CompletableFuture.supplyAsync(() -> doUpdate(entity, ifExists), executor);
+				}
+
+				CompletionStage<Boolean> found = (ifExists
+					? exists(entity.getIdentifier())
+					: CompletableFuture.completedFuture(true));
+
+				return found.thenCompose(isFound -> {
+					if (!isFound)
+					{
+						throw notFound(entity);
+					}
+
+					return getSession().executeAsync(bs).thenApply(rs -> entity);
+				});
+			}, updated -> notifyAfterUpdate(entity));
+		}
+
+		/**
+		 * Runs the before-event, then the operation, then the after-event on completion. Any
+		 * exception, including from a before-event observer, completes the stage exceptionally.
+		 */
+		private <R> CompletionStage<R> observe(Runnable before, Supplier<CompletionStage<R>> operation, Consumer<R> after)
+		{
+			try
+			{
+				before.run();
+				return operation.get().thenApply(result -> {
+					after.accept(result);
+					return result;
+				});
+			}
+			catch (RuntimeException e)
+			{
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+	}
 }
@@ -15,10 +15,28 @@
 */
 package com.strategicgains.repoexpress.cassandra;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PagingState;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
 
@@ -29,6 +47,12 @@ import com.strategicgains.noschema.Identifier;
  * Extend this repository to persist Identifiable instances that have a single, unique
  * identifier, that is not a UUID and you don't need the createdAt and updatedAt
  * time stamps (of TimestampedIdentifiable) automatically applied.
+ * <p/>
+ * deleteAll() deletes via the prepared delete statement, so sub-classes that override
+ * deleteEntity() should also override bindDelete() (or return null from it).
+ * <p/>
+ * scanAll() reads the whole table in parallel by token range. It assumes the cluster uses the
+ * (default) Murmur3Partitioner.
  * 
  * @author toddf
  * @since Apr 12, 2013
@@ -36,13 +60,35 @@ import com.strategicgains.noschema.Identifier;
 public abstract class CassandraEntityRepository<T extends Identifiable>
 extends AbstractCassandraRepository<T>
 {
-	private static final String EXISTENCE_CQL = "select count(*) from %s where %s = ?";
+	private static final String EXISTENCE_CQL = "select %2$s from %1$s where %2$s = ? limit 1";
 	private static final String READ_CQL = "select * from %s where %s = ?";
 	private static final String DELETE_CQL = "delete from %s where %s = ?";
+	private static final String READ_ALL_CQL = "select * from %s";
+	private static final String READ_RANGE_CQL = "select * from %1$s where token(%2$s) > ? and token(%2$s) <= ?";
+	private static final BigInteger RING_SIZE = BigInteger.ONE.shiftLeft(64);
+	private static final Executor SCAN_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+	/**
+	 * The default number of rows fetched per page when streaming.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 1000;
+
+	/**
+	 * The default number of token ranges scanAll() divides the ring into.
+	 */
+	public static final int DEFAULT_SCAN_SPLITS = 256;
+
+	/**
+	 * The default number of token ranges scanAll() reads concurrently.
+	 */
+	public static final int DEFAULT_SCAN_CONCURRENCY = 16;
 
 	private String identifierColumn;
 	private PreparedStatement existStmt;
 	private PreparedStatement readStmt;
+	private PreparedStatement readAllStmt;
+	private PreparedStatement readRangeStmt;
+	private int pageSize = DEFAULT_PAGE_SIZE;
 	protected PreparedStatement deleteStmt;
 
 	/**
@@ -62,6 +108,8 @@ extends AbstractCassandraRepository<T>
 		existStmt = getSession().prepare(String.format(EXISTENCE_CQL, getTable(), identifierColumn));
 		readStmt = getSession().prepare(String.format(READ_CQL, getTable(), identifierColumn));
 		deleteStmt = getSession().prepare(String.format(DELETE_CQL, getTable(), identifierColumn));
+		readAllStmt = getSession().prepare(String.format(READ_ALL_CQL, getTable()));
+		readRangeStmt = getSession().prepare(String.format(READ_RANGE_CQL, getTable(), identifierColumn));
     }
 
 	public String getIdentifierColumn()
@@ -69,13 +117,246 @@ extends AbstractCassandraRepository<T>
 		return identifierColumn;
 	}
 
+	public int getPageSize()
+	{
+		return pageSize;
+	}
+
+	/**
+	 * Sets the page size used by stream() and streamAll(). Zero or less uses the driver's default.
+	 */
+	public void setPageSize(int pageSize)
+	{
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Lazily reads every row in the table, one page at a time. Later pages are requested
+	 * only as the stream is consumed, so only a page of rows is held in memory at once.
+	 */
+	public Stream<T> streamAll()
+	{
+		return stream(readAllStmt.bind());
+	}
+
+	/**
+	 * Executes the statement with this repository's page size and lazily marshals the
+	 * resulting rows, fetching subsequent pages as the stream is consumed.
+	 */
+	protected Stream<T> stream(Statement<?> statement)
+	{
+		ResultSet rs = getSession().execute(pageSize > 0 ? statement.setPageSize(pageSize) : statement);
+		return StreamSupport.stream(rs.spliterator(), false).map(this::marshalRow);
+	}
+
+	/**
+	 * Reads every row in the table with the default number of splits and concurrency, passing
+	 * each to the consumer. See scanAll(ScanCheckpoint, int, Consumer).
+	 */
+	public void scanAll(Consumer<? super T> consumer)
+	{
+		scanAll(new ScanCheckpoint(DEFAULT_SCAN_SPLITS), DEFAULT_SCAN_CONCURRENCY, consumer);
+	}
+
+	/**
+	 * Reads every row in the table, passing each to the consumer. The token ring is divided into
+	 * checkpoint.getSplits() equal ranges, and up to 'concurrency' of them are read at once, each
+	 * with one page in flight while the previous page is consumed. So at most 2 * concurrency
+	 * requests are outstanding, however large the table.
+	 * <p/>
+	 * The consumer is called concurrently, from several threads, and rows arrive in no particular
+	 * order. The checkpoint is updated as each page is consumed; splits it records as complete are
+	 * skipped and started splits resume from their last page. If the scan fails, the first error is
+	 * thrown once the other in-progress splits stop, and the checkpoint can be used to resume.
+	 * 
+	 * @param checkpoint a new checkpoint, or one from an earlier, interrupted scan.
+	 * @param concurrency the maximum number of token ranges read at once.
+	 * @param consumer receives each row, marshalled by marshalRow().
+	 */
+	public void scanAll(ScanCheckpoint checkpoint, int concurrency, Consumer<? super T> consumer)
+	{
+		if (concurrency < 1) throw new IllegalArgumentException("concurrency must be at least one");
+
+		AtomicInteger nextSplit = new AtomicInteger();
+		List<CompletableFuture<Void>> workers = new ArrayList<CompletableFuture<Void>>(concurrency);
+		CompletableFuture<Void> failed = new CompletableFuture<Void>();
+
+		for (int i = 0; i < Math.min(concurrency, checkpoint.getSplits()); ++i)
+		{
+			workers.add(CompletableFuture.runAsync(() -> {
+				int split;
+
+				while (!failed.isDone() && (split = nextSplit.getAndIncrement()) < checkpoint.getSplits())
+				{
+					try
+					{
+						scanSplit(split, checkpoint, failed, consumer);
+					}
+					catch (RuntimeException e)
+					{
+						failed.completeExceptionally(e);
+						throw e;
+					}
+				}
+			}, SCAN_THREADS));
+		}
+
+		try
+		{
+			CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+		}
+		catch (CompletionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Reads one token range, requesting the next page before consuming the current one.
+	 */
+	private void scanSplit(int split, ScanCheckpoint checkpoint, CompletableFuture<Void> failed, Consumer<? super T> consumer)
+	{
+		if (checkpoint.isComplete(split)) return;
+
+		BoundStatement bs = readRangeStmt.bind(splitStart(split, checkpoint.getSplits()), splitStart(split + 1, checkpoint.getSplits()));
+
+		if (pageSize > 0)
+		{
+			bs = bs.setPageSize(pageSize);
+		}
+
+		String resume = checkpoint.getPagingState(split);
+
+		if (resume != null)
+		{
+			bs = bs.setPagingState(PagingState.fromString(resume));
+		}
+
+		AsyncResultSet rs = getSession().executeAsync(bs).toCompletableFuture().join();
+
+		while (true)
+		{
+			CompletableFuture<AsyncResultSet> next = (rs.hasMorePages() ? rs.fetchNextPage().toCompletableFuture() : null);
+
+			for (Row row : rs.currentPage())
+			{
+				consumer.accept(marshalRow(row));
+			}
+
+			if (next == null)
+			{
+				checkpoint.complete(split);
+				return;
+			}
+
+			checkpoint.advance(split, rs.getExecutionInfo().getSafePagingState().toString());
+
+			if (failed.isDone())
+			{
+				next.cancel(false);
+				return;
+			}
+
+			rs = next.join();
+		}
+	}
+
+	/**
+	 * @return the exclusive lower bound of the split, which is also the inclusive upper bound
+	 * of the one before it. Murmur3 never produces Long.MIN_VALUE, so (MIN_VALUE, MAX_VALUE]
+	 * covers the whole ring.
+	 */
+	static long splitStart(int split, int splits)
+	{
+		if (split >= splits) return Long.MAX_VALUE;
+
+		return RING_SIZE.multiply(BigInteger.valueOf(split))
+			.divide(BigInteger.valueOf(splits))
+			.add(BigInteger.valueOf(Long.MIN_VALUE))
+			.longValue();
+	}
+
 	@Override
 	public boolean exists(Identifier identifier)
 	{
 		if (identifier == null || identifier.isEmpty()) return false;
 
 		BoundStatement bs = bindIdentifier(existStmt, identifier);
-		return (getSession().execute(bs).one().getLong(0) > 0);
+		return (getSession().execute(bs).one() != null);
+	}
+
+	/**
+	 * Sends the existence queries concurrently rather than one round trip at a time.
+	 */
+	@Override
+	protected List<Boolean> existsEach(List<Identifier> identifiers)
+	{
+		List<BoundStatement> statements = new ArrayList<BoundStatement>(identifiers.size());
+
+		for (Identifier identifier : identifiers)
+		{
+			statements.add(bindIdentifier(existStmt, identifier));
+		}
+
+		List<Boolean> results = new ArrayList<Boolean>(identifiers.size());
+
+		for (AsyncResultSet rs : executeConcurrently(statements))
+		{
+			results.add(rs.one() != null);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Sends one read per ID (each ID is its own partition) concurrently, with at most
+	 * MAX_IN_FLIGHT outstanding, rather than one round trip at a time. Results are returned
+	 * in the order of the given IDs; invalid or missing IDs are omitted. Read observers are
+	 * notified for each ID before the reads are sent and each entity once they complete.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> identifiers)
+	{
+		List<BoundStatement> statements = new ArrayList<BoundStatement>(identifiers.size());
+
+		for (Identifier identifier : identifiers)
+		{
+			notifyBeforeRead(identifier);
+
+			if (identifier == null || identifier.isEmpty()) continue;
+
+			statements.add(bindIdentifier(readStmt, identifier));
+		}
+
+		List<T> results = new ArrayList<T>(statements.size());
+
+		for (AsyncResultSet rs : executeConcurrently(statements))
+		{
+			Row row = rs.one();
+
+			if (row != null)
+			{
+				T item = marshalRow(row);
+				results.add(item);
+				notifyAfterRead(item);
+			}
+		}
+
+		return results;
+	}
+
+	@Override
+	protected CompletionStage<Boolean> existsAsync(Identifier identifier)
+	{
+		if (identifier == null || identifier.isEmpty()) return CompletableFuture.completedFuture(false);
+
+		BoundStatement bs = bindIdentifier(existStmt, identifier);
+		return getSession().executeAsync(bs).thenApply(rs -> rs.one() != null);
 	}
 
 	@Override
@@ -87,6 +368,15 @@ extends AbstractCassandraRepository<T>
 		return marshalRow(getSession().execute(bs).one());
 	}
 
+	@Override
+	protected CompletionStage<T> readEntityByIdAsync(Identifier identifier)
+	{
+		if (identifier == null || identifier.isEmpty()) return CompletableFuture.completedFuture(null);
+
+		BoundStatement bs = bindIdentifier(readStmt, identifier);
+		return getSession().executeAsync(bs).thenApply(rs -> marshalRow(rs.one()));
+	}
+
 	@Override
 	protected void deleteEntity(T entity)
 	{
@@ -96,5 +386,11 @@ extends AbstractCassandraRepository<T>
 		getSession().execute(bs);
 	}
 
+	@Override
+	protected BoundStatement bindDelete(T entity)
+	{
+		return bindIdentifier(deleteStmt, entity.getIdentifier());
+	}
+
 	protected abstract T marshalRow(Row row);
 }
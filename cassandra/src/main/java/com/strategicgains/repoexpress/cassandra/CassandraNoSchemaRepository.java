@@ -1,7 +1,5 @@
 package com.strategicgains.repoexpress.cassandra;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -11,6 +9,8 @@ import com.strategicgains.noschema.cassandra.CassandraRepository;
 import com.strategicgains.noschema.cassandra.PrimaryTable;
 import com.strategicgains.noschema.document.ObjectCodec;
 import com.strategicgains.repoexpress.event.Observable;
+import com.strategicgains.repoexpress.event.ObserverRegistry;
+import com.strategicgains.repoexpress.event.ObserverRegistry.Event;
 import com.strategicgains.repoexpress.event.RepositoryObserver;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
 import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
@@ -21,7 +21,7 @@ public abstract class CassandraNoSchemaRepository<T extends Identifiable>
 extends CassandraRepository<T>
 implements Observable<T>
 {
-	private List<RepositoryObserver<T>> observers = new ArrayList<>();
+	private final ObserverRegistry<T> observers = new ObserverRegistry<T>();
 
 	protected CassandraNoSchemaRepository(CqlSession session, PrimaryTable table, ObjectCodec<T> codec)
 	{
@@ -43,13 +43,13 @@ implements Observable<T>
 	}
 	
 	/**
-	 * Returns the observers for this AbstractRepository as an unmodifiable list.
+	 * Returns a snapshot of the observers for this AbstractRepository as an unmodifiable list.
 	 * 
 	 * @return the repository's observers.
 	 */
 	public List<RepositoryObserver<T>> getObservers()
 	{
-		return Collections.unmodifiableList(observers);
+		return observers.getAll();
 	}
 	
 	public boolean removeObserver(RepositoryObserver<T> observer)
@@ -62,9 +62,18 @@ implements Observable<T>
 	{
 		try
 		{
-			observers.stream().forEach(o -> o.beforeCreate(entity));
+			for (RepositoryObserver<T> o : observers.get(Event.BEFORE_CREATE))
+			{
+				o.beforeCreate(entity);
+			}
+
 			T created = super.create(entity);
-			observers.stream().forEach(o -> o.afterCreate(entity));
+
+			for (RepositoryObserver<T> o : observers.get(Event.AFTER_CREATE))
+			{
+				o.afterCreate(entity);
+			}
+
 			return created;
 		}
 		catch (Exception e)
@@ -81,9 +90,18 @@ implements Observable<T>
 		try
 		{
 			T entity = read(id);
-			observers.stream().forEach(o -> o.beforeDelete(entity));
+
+			for (RepositoryObserver<T> o : observers.get(Event.BEFORE_DELETE))
+			{
+				o.beforeDelete(entity);
+			}
+
 			super.delete(id);
-			observers.stream().forEach(o -> o.afterDelete(entity));
+
+			for (RepositoryObserver<T> o : observers.get(Event.AFTER_DELETE))
+			{
+				o.afterDelete(entity);
+			}
 		}
 		catch (Exception e)
 		{
@@ -96,9 +114,18 @@ implements Observable<T>
 	{
 		try
 		{
-			observers.stream().forEach(o -> o.beforeUpdate(original));
+			for (RepositoryObserver<T> o : observers.get(Event.BEFORE_UPDATE))
+			{
+				o.beforeUpdate(original);
+			}
+
 			T updated = super.update(entity, original);
-			observers.stream().forEach(o -> o.afterUpdate(updated));
+
+			for (RepositoryObserver<T> o : observers.get(Event.AFTER_UPDATE))
+			{
+				o.afterUpdate(updated);
+			}
+
 			return updated;
 		}
 		catch (Exception e)
@@ -114,9 +141,18 @@ implements Observable<T>
 	{
 		try
 		{
-			observers.stream().forEach(o -> o.beforeUpdate(entity));
+			for (RepositoryObserver<T> o : observers.get(Event.BEFORE_UPDATE))
+			{
+				o.beforeUpdate(entity);
+			}
+
 			T updated = super.upsert(entity);
-			observers.stream().forEach(o -> o.afterUpdate(updated));
+
+			for (RepositoryObserver<T> o : observers.get(Event.AFTER_UPDATE))
+			{
+				o.afterUpdate(updated);
+			}
+
 			return updated;
 		}
 		catch (Exception e)
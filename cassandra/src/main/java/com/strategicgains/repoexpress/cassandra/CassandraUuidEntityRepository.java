@@ -1,8 +1,11 @@
 package com.strategicgains.repoexpress.cassandra;
 
+import java.util.UUID;
+
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.strategicgains.repoexpress.domain.UuidEntity;
 import com.strategicgains.repoexpress.event.UuidEntityRepositoryObserver;
+import com.strategicgains.repoexpress.util.IdGenerator;
 
 /**
  * A Cassandra repository that manages types of UuidIdentifiable, which are identified by a single
@@ -12,6 +15,10 @@ import com.strategicgains.repoexpress.event.UuidEntityRepositoryObserver;
  * <p/>
  * Extend this repository to persist entities identified by a UUID but do not implement Timestamped, so do not
  * need the createdAt and updatedAt time stamps applied.
+ * <p/>
+ * New IDs are random by default. IdGenerator.timeOrderedUuid() assigns time-ordered (version 7)
+ * UUIDs, which sort by creation time when the ID is a clustering column. They belong in a uuid
+ * column, not a timeuuid (which requires version 1).
  * 
  * @author toddf
  * @since Jan 28, 2014
@@ -20,14 +27,22 @@ import com.strategicgains.repoexpress.event.UuidEntityRepositoryObserver;
 public abstract class CassandraUuidEntityRepository<T extends UuidEntity>
 extends CassandraEntityRepository<T>
 {
+	private final IdGenerator<UUID> ids;
+
 	public CassandraUuidEntityRepository(CqlSession session, String tableName, String identifierColumn)
+    {
+	    this(session, tableName, identifierColumn, IdGenerator.randomUuid());
+    }
+
+	public CassandraUuidEntityRepository(CqlSession session, String tableName, String identifierColumn, IdGenerator<UUID> ids)
     {
 	    super(session, tableName, identifierColumn);
+	    this.ids = ids;
 	    initializeObservers();
     }
 
     protected void initializeObservers()
     {
-		addObserver(new UuidEntityRepositoryObserver<>());
+		addObserver(new UuidEntityRepositoryObserver<>(ids));
     }
 }
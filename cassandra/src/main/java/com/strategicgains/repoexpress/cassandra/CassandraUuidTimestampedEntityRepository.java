@@ -1,10 +1,13 @@
 package com.strategicgains.repoexpress.cassandra;
 
+import java.util.UUID;
+
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.strategicgains.repoexpress.domain.TimestampedIdentifiable;
 import com.strategicgains.repoexpress.domain.UuidEntity;
 import com.strategicgains.repoexpress.event.DefaultTimestampedIdentifiableRepositoryObserver;
 import com.strategicgains.repoexpress.event.UuidEntityRepositoryObserver;
+import com.strategicgains.repoexpress.util.IdGenerator;
 
 /**
  * A Cassandra repository that manages types of Timestamped UuidIdentifiable instances, which are
@@ -27,6 +30,11 @@ extends CassandraUuidEntityRepository<T>
 	    super(session, tableName, identifierColumn);
     }
 
+	public CassandraUuidTimestampedEntityRepository(CqlSession session, String tableName, String identifierColumn, IdGenerator<UUID> ids)
+    {
+	    super(session, tableName, identifierColumn, ids);
+    }
+
 	@Override
     protected void initializeObservers()
     {
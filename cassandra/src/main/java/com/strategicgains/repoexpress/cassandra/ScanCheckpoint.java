@@ -0,0 +1,155 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cassandra;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the progress of a token-range scan (see CassandraEntityRepository.scanAll()) so an
+ * interrupted scan can resume where it left off. For each split of the token ring it holds
+ * either the paging state of the next page to read, or that the split is complete.
+ * <p/>
+ * A checkpoint is updated by the scan after each page has been passed to the consumer, so
+ * resuming may re-deliver at most the rows of the pages that were in flight. Persist it via
+ * toString() and restore it with parse(). It is safe to read while a scan is running.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class ScanCheckpoint
+{
+	private static final String COMPLETE = "done";
+
+	private final int splits;
+	private final Map<Integer, String> progress = new ConcurrentHashMap<Integer, String>();
+
+	/**
+	 * @param splits the number of token ranges the ring is divided into.
+	 */
+	public ScanCheckpoint(int splits)
+	{
+		super();
+
+		if (splits < 1) throw new IllegalArgumentException("splits must be at least one");
+
+		this.splits = splits;
+	}
+
+	public int getSplits()
+	{
+		return splits;
+	}
+
+	/**
+	 * @return true if every split has been scanned.
+	 */
+	public boolean isComplete()
+	{
+		return (completed() == splits);
+	}
+
+	public boolean isComplete(int split)
+	{
+		return COMPLETE.equals(progress.get(split));
+	}
+
+	/**
+	 * @return the number of splits scanned so far.
+	 */
+	public int completed()
+	{
+		int count = 0;
+
+		for (String state : progress.values())
+		{
+			if (COMPLETE.equals(state)) ++count;
+		}
+
+		return count;
+	}
+
+	/**
+	 * @return the paging state to resume the split from, or null to start at its beginning.
+	 */
+	String getPagingState(int split)
+	{
+		String state = progress.get(split);
+		return (COMPLETE.equals(state) ? null : state);
+	}
+
+	void advance(int split, String pagingState)
+	{
+		progress.put(split, pagingState);
+	}
+
+	void complete(int split)
+	{
+		progress.put(split, COMPLETE);
+	}
+
+	/**
+	 * Restores a checkpoint from the output of toString().
+	 * 
+	 * @throws IllegalArgumentException if the checkpoint is malformed.
+	 */
+	public static ScanCheckpoint parse(String checkpoint)
+	{
+		try
+		{
+			String[] parts = checkpoint.split(";", -1);
+			ScanCheckpoint result = new ScanCheckpoint(Integer.parseInt(parts[0]));
+
+			for (int i = 1; i < parts.length; ++i)
+			{
+				if (parts[i].isEmpty()) continue;
+
+				int colon = parts[i].indexOf(':');
+				int split = Integer.parseInt(parts[i].substring(0, colon));
+
+				if (split < 0 || split >= result.splits)
+				{
+					throw new IllegalArgumentException("Split out of range: " + split);
+				}
+
+				result.progress.put(split, parts[i].substring(colon + 1));
+			}
+
+			return result;
+		}
+		catch (RuntimeException e)
+		{
+			throw new IllegalArgumentException("Invalid scan checkpoint: " + checkpoint, e);
+		}
+	}
+
+	/**
+	 * @return a compact, parseable form: the split count followed by ";split:state" for each
+	 * split that has been started.
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder().append(splits);
+
+		for (Map.Entry<Integer, String> entry : progress.entrySet())
+		{
+			sb.append(';').append(entry.getKey()).append(':').append(entry.getValue());
+		}
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cassandra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class CassandraEntityRepositorySplitTest
+{
+	private static final int[] SPLIT_COUNTS = {1, 2, 3, 7, 64, 1000};
+
+	@Test
+	public void shouldSpanTheWholeRing()
+	{
+		for (int splits : SPLIT_COUNTS)
+		{
+			assertEquals(Long.MIN_VALUE, CassandraEntityRepository.splitStart(0, splits));
+			assertEquals(Long.MAX_VALUE, CassandraEntityRepository.splitStart(splits, splits));
+		}
+	}
+
+	@Test
+	public void shouldSplitIntoNearlyEqualNonEmptyRanges()
+	{
+		BigInteger ring = BigInteger.valueOf(Long.MAX_VALUE).subtract(BigInteger.valueOf(Long.MIN_VALUE));
+
+		for (int splits : SPLIT_COUNTS)
+		{
+			BigInteger total = BigInteger.ZERO;
+			BigInteger smallest = null;
+			BigInteger largest = null;
+
+			for (int i = 0; i < splits; ++i)
+			{
+				BigInteger width = BigInteger.valueOf(CassandraEntityRepository.splitStart(i + 1, splits))
+					.subtract(BigInteger.valueOf(CassandraEntityRepository.splitStart(i, splits)));
+				assertTrue(width.signum() > 0);
+				total = total.add(width);
+				smallest = (smallest == null ? width : smallest.min(width));
+				largest = (largest == null ? width : largest.max(width));
+			}
+
+			assertEquals(ring, total);
+			assertTrue(largest.subtract(smallest).compareTo(BigInteger.ONE) <= 0);
+		}
+	}
+
+	@Test
+	public void shouldPlaceEachTokenInExactlyOneSplit()
+	{
+		for (int splits : SPLIT_COUNTS)
+		{
+			assertEquals(1, owners(Long.MIN_VALUE + 1, splits));
+			assertEquals(1, owners(Long.MAX_VALUE, splits));
+			assertEquals(1, owners(0L, splits));
+
+			for (int i = 1; i < splits; ++i)
+			{
+				long boundary = CassandraEntityRepository.splitStart(i, splits);
+				assertEquals(1, owners(boundary, splits));
+				assertEquals(1, owners(boundary + 1, splits));
+			}
+		}
+	}
+
+	/**
+	 * Counts the splits whose range (start, end], as read by scanAll(), contains the token.
+	 */
+	private static int owners(long token, int splits)
+	{
+		int count = 0;
+
+		for (int i = 0; i < splits; ++i)
+		{
+			if (CassandraEntityRepository.splitStart(i, splits) < token
+				&& token <= CassandraEntityRepository.splitStart(i + 1, splits))
+			{
+				++count;
+			}
+		}
+
+		return count;
+	}
+}
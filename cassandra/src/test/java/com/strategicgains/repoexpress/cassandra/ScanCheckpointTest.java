@@ -0,0 +1,96 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cassandra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ScanCheckpointTest
+{
+	@Test
+	public void shouldRoundTripProgress()
+	{
+		ScanCheckpoint checkpoint = new ScanCheckpoint(4);
+		checkpoint.advance(0, "0a1b2c");
+		checkpoint.complete(2);
+
+		ScanCheckpoint parsed = ScanCheckpoint.parse(checkpoint.toString());
+
+		assertEquals(4, parsed.getSplits());
+		assertEquals("0a1b2c", parsed.getPagingState(0));
+		assertFalse(parsed.isComplete(0));
+		assertNull(parsed.getPagingState(1));
+		assertFalse(parsed.isComplete(1));
+		assertTrue(parsed.isComplete(2));
+		assertNull(parsed.getPagingState(2));
+		assertEquals(1, parsed.completed());
+		assertFalse(parsed.isComplete());
+		assertEquals(checkpoint.toString(), parsed.toString());
+	}
+
+	@Test
+	public void shouldRoundTripEmptyCheckpoint()
+	{
+		ScanCheckpoint checkpoint = new ScanCheckpoint(3);
+		assertEquals("3", checkpoint.toString());
+
+		ScanCheckpoint parsed = ScanCheckpoint.parse(checkpoint.toString());
+
+		assertEquals(3, parsed.getSplits());
+		assertEquals(0, parsed.completed());
+
+		for (int i = 0; i < 3; ++i)
+		{
+			assertNull(parsed.getPagingState(i));
+		}
+	}
+
+	@Test
+	public void shouldRoundTripCompletedCheckpoint()
+	{
+		ScanCheckpoint checkpoint = new ScanCheckpoint(2);
+		checkpoint.complete(0);
+		checkpoint.complete(1);
+		assertTrue(checkpoint.isComplete());
+
+		ScanCheckpoint parsed = ScanCheckpoint.parse(checkpoint.toString());
+
+		assertTrue(parsed.isComplete());
+		assertEquals(2, parsed.completed());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectSplitOutOfRange()
+	{
+		ScanCheckpoint.parse("2;2:done");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectMalformedCheckpoint()
+	{
+		ScanCheckpoint.parse("2;done");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectZeroSplits()
+	{
+		ScanCheckpoint.parse("0");
+	}
+}
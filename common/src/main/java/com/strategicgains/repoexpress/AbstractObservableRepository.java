@@ -16,16 +16,29 @@
 package com.strategicgains.repoexpress;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.event.ObserverRegistry;
+import com.strategicgains.repoexpress.event.ObserverRegistry.Event;
 import com.strategicgains.repoexpress.event.RepositoryObserver;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
 
 /**
  * A base, abstract repository implementation that supports observation.
+ * <p/>
+ * Observers are held in an ObserverRegistry, so they may be added or removed while the
+ * repository is in use, and events no observer handles cost nothing to notify.
  * 
  * @author toddf
  * @since Oct 12, 2010
@@ -36,7 +49,7 @@ implements ObservableRepository<T>
 {
 	// SECTION: INSTANCE VARIABLES
 
-	private List<RepositoryObserver<T>> observers = new ArrayList<RepositoryObserver<T>>();
+	private final ObserverRegistry<T> observers = new ObserverRegistry<T>();
 
 	
 	// SECTION: CONSTRUCTORS
@@ -51,7 +64,7 @@ implements ObservableRepository<T>
 
 	public ObservableRepository<T> addObserver(RepositoryObserver<T> observer)
 	{
-		getObserversInternal().add(observer);
+		observers.add(observer);
 		return this;
 	}
 	
@@ -60,27 +73,22 @@ implements ObservableRepository<T>
 	 */
 	public void clearObservers()
 	{
-		getObserversInternal().clear();
-	}
-	
-	private List<RepositoryObserver<T>> getObserversInternal()
-	{
-		return observers;
+		observers.clear();
 	}
 	
 	/**
-	 * Returns the observers for this AbstractRepository as an unmodifiable list.
+	 * Returns a snapshot of the observers for this AbstractRepository as an unmodifiable list.
 	 * 
 	 * @return the repository's observers.
 	 */
 	public List<RepositoryObserver<T>> getObservers()
 	{
-		return Collections.unmodifiableList(getObserversInternal());
+		return observers.getAll();
 	}
 	
 	public boolean removeObserver(RepositoryObserver<T> observer)
 	{
-		return getObserversInternal().remove(observer);
+		return observers.remove(observer);
 	}
 
 	
@@ -101,6 +109,41 @@ implements ObservableRepository<T>
     	return created;
     }
 
+	@Override
+	public final List<T> createAll(Collection<T> objects)
+	{
+		return createAll(objects, true);
+	}
+
+	/**
+	 * If ifUnique is true, fails before notifying observers or writing anything if an ID is
+	 * given more than once, so every store treats such a batch the same way.
+	 * 
+	 * @throws DuplicateItemException if ifUnique is true and an ID is given twice.
+	 */
+	@Override
+	public final List<T> createAll(Collection<T> objects, boolean ifUnique)
+	{
+		if (ifUnique)
+		{
+			requireDistinct(objects);
+		}
+
+		for (T object : objects)
+		{
+			notifyBeforeCreate(object);
+		}
+
+		List<T> created = doCreateAll(objects, ifUnique);
+
+		for (T object : created)
+		{
+			notifyAfterCreate(object);
+		}
+
+		return created;
+	}
+
 	@Override
     public final void delete(T object)
     {
@@ -109,6 +152,85 @@ implements ObservableRepository<T>
 		notifyAfterDelete(object);
     }
 
+	/**
+	 * Reads all the given IDs via readList() before deleting them as a batch. This
+	 * ensures existence before calling doDeleteAll(). No entities are deleted if any
+	 * of the IDs are not found.
+	 * <p/>
+	 * Decorators whose wrapped repository checks existence itself may override this
+	 * with deleteAllWith() to skip the read.
+	 * 
+	 * @throws ItemNotFoundException if one of the given IDs doesn't exist.
+	 */
+	@Override
+	public void deleteAll(Collection<Identifier> ids)
+	{
+		Set<Identifier> distinct = new LinkedHashSet<Identifier>(ids);
+		List<T> objects = readList(distinct);
+		requireFound(distinct, objects);
+
+		for (T object : objects)
+		{
+			notifyBeforeDelete(object);
+		}
+
+		doDeleteAll(objects);
+
+		for (T object : objects)
+		{
+			notifyAfterDelete(object);
+		}
+	}
+
+	/**
+	 * Deletes the IDs with the deleter (e.g. a wrapped repository's deleteAll()), which must
+	 * check their existence, rather than reading them first as deleteAll() does. The entities
+	 * are only read, with the reader, if this repository has delete observers to notify.
+	 */
+	protected void deleteAllWith(Collection<Identifier> ids, Function<Collection<Identifier>, List<T>> reader, Consumer<Collection<Identifier>> deleter)
+	{
+		Set<Identifier> distinct = new LinkedHashSet<Identifier>(ids);
+		List<T> objects = Collections.emptyList();
+
+		if (isObserved(Event.BEFORE_DELETE) || isObserved(Event.AFTER_DELETE))
+		{
+			objects = reader.apply(distinct);
+			requireFound(distinct, objects);
+		}
+
+		for (T object : objects)
+		{
+			notifyBeforeDelete(object);
+		}
+
+		deleter.accept(distinct);
+
+		for (T object : objects)
+		{
+			notifyAfterDelete(object);
+		}
+	}
+
+	private void requireFound(Set<Identifier> ids, List<T> objects)
+	{
+		if (objects.size() >= ids.size()) return;
+
+		Set<Identifier> found = new HashSet<Identifier>(objects.size());
+
+		for (T object : objects)
+		{
+			found.add(object.getIdentifier());
+		}
+
+		for (Identifier id : ids)
+		{
+			if (!found.contains(id))
+			{
+				throw new ItemNotFoundException("ID not found: " + id);
+			}
+		}
+	}
+
 	@Override
     public final T read(Identifier id)
     {
@@ -132,13 +254,145 @@ implements ObservableRepository<T>
 		notifyAfterUpdate(object);
 		return result;
     }
+
+	@Override
+	public final List<T> updateAll(Collection<T> objects)
+	{
+		return updateAll(objects, true);
+	}
+
+	@Override
+	public final List<T> updateAll(Collection<T> objects, boolean ifExists)
+	{
+		for (T object : objects)
+		{
+			notifyBeforeUpdate(object);
+		}
+
+		List<T> results = doUpdateAll(objects, ifExists);
+
+		for (T object : results)
+		{
+			notifyAfterUpdate(object);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Creates each of the given objects in turn, calling doCreate(). Observers have
+	 * already been notified, and the IDs checked for repeats, at this point. If ifUnique
+	 * is true, all the IDs are checked with one existsAll() first, so a duplicate fails
+	 * the call before anything is written. Sub-classes should override this to write the
+	 * collection in as few round trips as the store allows.
+	 * 
+	 * @return the created objects, in the order given. Never null.
+	 * @throws DuplicateItemException if ifUnique is true and an ID already exists.
+	 */
+	@Override
+	public List<T> doCreateAll(Collection<T> objects, boolean ifUnique)
+	{
+		if (ifUnique)
+		{
+			requireUnique(objects);
+		}
+
+		List<T> results = new ArrayList<T>(objects.size());
+
+		for (T object : objects)
+		{
+			results.add(doCreate(object, ifUnique));
+		}
+
+		return results;
+	}
+
+	private void requireUnique(Collection<T> objects)
+	{
+		Set<Identifier> ids = requireDistinct(objects);
+
+		if (ids.isEmpty()) return;
+
+		Set<Identifier> existing = existsAll(ids);
+
+		if (!existing.isEmpty())
+		{
+			throw new DuplicateItemException("ID already exists: " + existing.iterator().next().toString());
+		}
+	}
+
+	/**
+	 * @return the IDs of the objects, skipping any not yet assigned.
+	 * @throws DuplicateItemException if an ID is given more than once.
+	 */
+	private Set<Identifier> requireDistinct(Collection<T> objects)
+	{
+		Set<Identifier> ids = new LinkedHashSet<Identifier>(objects.size());
+
+		for (T object : objects)
+		{
+			Identifier id = object.getIdentifier();
+
+			if (id == null || id.isEmpty()) continue;
+
+			if (!ids.add(id))
+			{
+				throw new DuplicateItemException("ID given more than once: " + id.toString());
+			}
+		}
+
+		return ids;
+	}
+
+	/**
+	 * Deletes each of the given objects in turn, calling doDelete(). Existence has
+	 * already been checked and observers notified at this point. Sub-classes should
+	 * override this to delete the collection in as few round trips as the store allows.
+	 */
+	@Override
+	public void doDeleteAll(Collection<T> objects)
+	{
+		for (T object : objects)
+		{
+			doDelete(object);
+		}
+	}
+
+	/**
+	 * Updates each of the given objects in turn, calling doUpdate(). Observers have
+	 * already been notified at this point. Sub-classes should override this to write
+	 * the collection in as few round trips as the store allows.
+	 * 
+	 * @return the updated objects, in the order given. Never null.
+	 */
+	@Override
+	public List<T> doUpdateAll(Collection<T> objects, boolean ifExists)
+	{
+		List<T> results = new ArrayList<T>(objects.size());
+
+		for (T object : objects)
+		{
+			results.add(doUpdate(object, ifExists));
+		}
+
+		return results;
+	}
 	
 	
 	// SECTION: EVENT OBSERVATION
+
+	/**
+	 * @return true if any observer handles the event. Lets sub-classes skip work that only
+	 * exists to notify observers.
+	 */
+	protected boolean isObserved(Event event)
+	{
+		return observers.isObserved(event);
+	}
 	
 	protected void notifyAfterCreate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.AFTER_CREATE))
 		{
 			observer.afterCreate(object);
 		}
@@ -146,7 +400,7 @@ implements ObservableRepository<T>
 	
 	protected void notifyAfterDelete(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.AFTER_DELETE))
 		{
 			observer.afterDelete(object);
 		}
@@ -154,7 +408,7 @@ implements ObservableRepository<T>
 	
 	protected void notifyAfterRead(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.AFTER_READ))
 		{
 			observer.afterRead(object);
 		}
@@ -162,7 +416,7 @@ implements ObservableRepository<T>
 	
 	protected void notifyAfterUpdate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.AFTER_UPDATE))
 		{
 			observer.afterUpdate(object);
 		}
@@ -170,7 +424,7 @@ implements ObservableRepository<T>
 
 	protected void notifyBeforeCreate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.BEFORE_CREATE))
 		{
 			observer.beforeCreate(object);
 		}
@@ -178,7 +432,7 @@ implements ObservableRepository<T>
 	
 	protected void notifyBeforeDelete(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.BEFORE_DELETE))
 		{
 			observer.beforeDelete(object);
 		}
@@ -186,7 +440,7 @@ implements ObservableRepository<T>
 	
 	protected void notifyBeforeRead(Identifier id)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.BEFORE_READ))
 		{
 			observer.beforeRead(id);
 		}
@@ -194,7 +448,7 @@ implements ObservableRepository<T>
 	
 	protected void notifyBeforeUpdate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		for (RepositoryObserver<T> observer : observers.get(Event.BEFORE_UPDATE))
 		{
 			observer.beforeUpdate(object);
 		}
@@ -17,7 +17,10 @@ package com.strategicgains.repoexpress;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
@@ -47,6 +50,94 @@ implements Repository<T>
 		delete(object);
 	}
 
+	/**
+	 * Returns a non-blocking view of this repository, using the default executor for any
+	 * blocking calls.
+	 * 
+	 * @see ExecutorAsyncRepository#defaultExecutor()
+	 */
+	public AsyncRepository<T> async()
+	{
+		return async(ExecutorAsyncRepository.defaultExecutor());
+	}
+
+	/**
+	 * Returns a non-blocking view of this repository. This default implementation runs each
+	 * call on the given executor. Sub-classes whose drivers support non-blocking I/O should
+	 * override this behavior.
+	 * 
+	 * @param executor runs the blocking calls.
+	 */
+	public AsyncRepository<T> async(Executor executor)
+	{
+		return new ExecutorAsyncRepository<T>(this, executor);
+	}
+
+	@Override
+	public List<T> createAll(Collection<T> objects)
+	{
+		return createAll(objects, true);
+	}
+
+	/**
+	 * Creates each of the given objects in turn, calling create(object, ifUnique).
+	 * Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @return the created objects, in the order given. Never null.
+	 */
+	@Override
+	public List<T> createAll(Collection<T> objects, boolean ifUnique)
+	{
+		List<T> results = new ArrayList<T>(objects.size());
+
+		for (T object : objects)
+		{
+			results.add(create(object, ifUnique));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Deletes each of the given IDs in turn, calling delete(id).
+	 * Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @throws ItemNotFoundException if one of the given IDs doesn't exist.
+	 */
+	@Override
+	public void deleteAll(Collection<Identifier> ids)
+	{
+		for (Identifier id : ids)
+		{
+			delete(id);
+		}
+	}
+
+	@Override
+	public List<T> updateAll(Collection<T> objects)
+	{
+		return updateAll(objects, true);
+	}
+
+	/**
+	 * Updates each of the given objects in turn, calling update(object, ifExists).
+	 * Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @return the updated objects, in the order given. Never null.
+	 */
+	@Override
+	public List<T> updateAll(Collection<T> objects, boolean ifExists)
+	{
+		List<T> results = new ArrayList<T>(objects.size());
+
+		for (T object : objects)
+		{
+			results.add(update(object, ifExists));
+		}
+
+		return results;
+	}
+
 	/**
 	 * Read all the items in a given collection of IDs.  IDs in the collection
 	 * that are invalid or not found are simply ignored.
@@ -98,6 +189,26 @@ implements Repository<T>
 		}
 	}
 
+	/**
+	 * This default implementation simply calls exists(id) for each of the given IDs.
+	 * Sub-classes should optimize this, if applicable, by overriding the behavior.
+	 */
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		Set<Identifier> results = new LinkedHashSet<Identifier>();
+
+		for (Identifier id : ids)
+		{
+			if (id != null && exists(id))
+			{
+				results.add(id);
+			}
+		}
+
+		return results;
+	}
+
 
 	// SECTION: UTILITY - PROTECTED
 
@@ -0,0 +1,48 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * The non-blocking counterpart of {@link Repository}. Each operation returns immediately with a
+ * CompletionStage that completes with the result, or exceptionally with the RepositoryException
+ * the blocking method would have thrown.
+ * <p/>
+ * Obtain one from AbstractRepository.async(), which uses the store's native asynchronous API
+ * where one is available and otherwise runs the blocking calls on an Executor.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ * @see Repository
+ */
+public interface AsyncRepository<T extends Identifiable>
+{
+	public CompletionStage<T> create(T object);
+	public CompletionStage<T> create(T object, boolean ifUnique);
+	public CompletionStage<Void> delete(Identifier id);
+	public CompletionStage<Void> delete(T object);
+	public CompletionStage<Boolean> exists(Identifier id);
+	public CompletionStage<T> read(Identifier id);
+	public CompletionStage<List<T>> readList(Collection<Identifier> ids);
+	public CompletionStage<T> update(T object);
+	public CompletionStage<T> update(T object, boolean ifExists);
+}
@@ -0,0 +1,124 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * An AsyncRepository that runs the calls of a blocking Repository on an Executor. This is the
+ * fallback for stores whose drivers only offer blocking I/O (e.g. JDBC, Jedis), moving that
+ * blocking off the caller's thread.
+ * <p/>
+ * Unless otherwise configured, calls run on virtual threads, so a blocked call does not tie
+ * up a platform thread.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class ExecutorAsyncRepository<T extends Identifiable>
+implements AsyncRepository<T>
+{
+	private static final Executor VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final Repository<T> repository;
+	private final Executor executor;
+
+	public ExecutorAsyncRepository(Repository<T> repository)
+	{
+		this(repository, defaultExecutor());
+	}
+
+	public ExecutorAsyncRepository(Repository<T> repository, Executor executor)
+	{
+		super();
+
+		if (repository == null) throw new IllegalArgumentException("repository is required");
+		if (executor == null) throw new IllegalArgumentException("executor is required");
+
+		this.repository = repository;
+		this.executor = executor;
+	}
+
+	/**
+	 * The executor used when none is given: a new virtual thread per call.
+	 */
+	public static Executor defaultExecutor()
+	{
+		return VIRTUAL_THREADS;
+	}
+
+	@Override
+	public CompletionStage<T> create(T object)
+	{
+		return CompletableFuture.supplyAsync(() -> repository.create(object), executor);
+	}
+
+	@Override
+	public CompletionStage<T> create(T object, boolean ifUnique)
+	{
+		return CompletableFuture.supplyAsync(() -> repository.create(object, ifUnique), executor);
+	}
+
+	@Override
+	public CompletionStage<Void> delete(Identifier id)
+	{
+		return CompletableFuture.runAsync(() -> repository.delete(id), executor);
+	}
+
+	@Override
+	public CompletionStage<Void> delete(T object)
+	{
+		return CompletableFuture.runAsync(() -> repository.delete(object), executor);
+	}
+
+	@Override
+	public CompletionStage<Boolean> exists(Identifier id)
+	{
+		return CompletableFuture.supplyAsync(() -> repository.exists(id), executor);
+	}
+
+	@Override
+	public CompletionStage<T> read(Identifier id)
+	{
+		return CompletableFuture.supplyAsync(() -> repository.read(id), executor);
+	}
+
+	@Override
+	public CompletionStage<List<T>> readList(Collection<Identifier> ids)
+	{
+		return CompletableFuture.supplyAsync(() -> repository.readList(ids), executor);
+	}
+
+	@Override
+	public CompletionStage<T> update(T object)
+	{
+		return CompletableFuture.supplyAsync(() -> repository.update(object), executor);
+	}
+
+	@Override
+	public CompletionStage<T> update(T object, boolean ifExists)
+	{
+		return CompletableFuture.supplyAsync(() -> repository.update(object, ifExists), executor);
+	}
+}
@@ -0,0 +1,58 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of results from {@link Queryable#readPage(org.restexpress.common.query.QueryFilter,
+ * org.restexpress.common.query.QueryOrder, int, String)}, along with the opaque token used to
+ * request the page that follows it.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class KeysetPage<T>
+{
+	private final List<T> items;
+	private final String continuation;
+
+	public KeysetPage(List<T> items, String continuation)
+	{
+		super();
+		this.items = (items == null ? Collections.<T>emptyList() : Collections.unmodifiableList(items));
+		this.continuation = continuation;
+	}
+
+	public List<T> getItems()
+	{
+		return items;
+	}
+
+	/**
+	 * @return the token to pass to readPage() for the next page, or null if this is the last page.
+	 */
+	public String getContinuation()
+	{
+		return continuation;
+	}
+
+	public boolean hasMore()
+	{
+		return (continuation != null);
+	}
+}
@@ -15,6 +15,9 @@
 */
 package com.strategicgains.repoexpress;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
 import com.strategicgains.repoexpress.event.Observable;
@@ -27,7 +30,10 @@ public interface ObservableRepository<T extends Identifiable>
 extends Repository<T>, Observable<T>
 {
 	public T doCreate(T object, boolean ifUnique);
+	public List<T> doCreateAll(Collection<T> objects, boolean ifUnique);
 	public void doDelete(T object);
+	public void doDeleteAll(Collection<T> objects);
 	public T doRead(Identifier id);
 	public T doUpdate(T object, boolean ifExists);
+	public List<T> doUpdateAll(Collection<T> objects, boolean ifExists);
 }
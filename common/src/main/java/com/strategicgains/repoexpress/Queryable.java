@@ -16,12 +16,14 @@
 package com.strategicgains.repoexpress;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.restexpress.common.query.QueryFilter;
 import org.restexpress.common.query.QueryOrder;
 import org.restexpress.common.query.QueryRange;
 
 import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
 
 /**
  * Defines the interface for a repository implementation that supports dynamic query
@@ -34,4 +36,44 @@ public interface Queryable<T extends Identifiable>
 {
 	public long count(QueryFilter filter);
 	public List<T> readAll(QueryFilter filter, QueryRange range, QueryOrder order);
+
+	/**
+	 * Lazily reads every instance matching the filter, in the given order, fetching from the
+	 * underlying store in batches as the stream is consumed. The returned stream holds database
+	 * resources (a cursor and, possibly, a connection) until it is closed, so use it in a
+	 * try-with-resources block.
+	 * <p/>
+	 * This default implementation reads every match at once with readAll(), so existing
+	 * implementations keep compiling. Implementations should override it to stream lazily.
+	 * 
+	 * @param filter query criteria. May be null.
+	 * @param order sort order. May be null.
+	 * @return a sequential, closeable Stream of the matching instances.
+	 */
+	public default Stream<T> stream(QueryFilter filter, QueryOrder order)
+	{
+		return readAll(filter, null, order).stream();
+	}
+
+	/**
+	 * Reads a page of instances matching the filter using keyset (seek) pagination: rather than
+	 * skipping an offset, the query continues after the sort-key values of the previous page's
+	 * last row. The instance identifier is appended to the sort as a tie-breaker, so pages are
+	 * stable even when the requested sort keys are not unique. Sort keys should not be null.
+	 * <p/>
+	 * This default implementation throws UnsupportedOperationException, so existing
+	 * implementations keep compiling. Implementations that can seek should override it.
+	 * 
+	 * @param filter query criteria. May be null.
+	 * @param order sort order. May be null, in which case pages are ordered by identifier.
+	 * @param limit the maximum number of instances to return.
+	 * @param continuation the token from the previous page, or null for the first page.
+	 * @return a page of results and the token for the next page.
+	 * @throws InvalidContinuationException if the token is malformed or was issued for a different order.
+	 * @throws UnsupportedOperationException if the implementation doesn't support keyset pagination.
+	 */
+	public default KeysetPage<T> readPage(QueryFilter filter, QueryOrder order, int limit, String continuation)
+	{
+		throw new UnsupportedOperationException("Keyset pagination is not supported by " + getClass().getName());
+	}
 }
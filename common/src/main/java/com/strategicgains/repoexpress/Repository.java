@@ -18,6 +18,7 @@ package com.strategicgains.repoexpress;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
@@ -48,6 +49,27 @@ public interface Repository<T extends Identifiable>
 	 */
 	public T create(T object, boolean ifUnique);
 
+	/**
+	 * Stores each of the objects, checking uniqueness of all of them before writing.
+	 * Implementations are encouraged to write the collection in as few round trips
+	 * as the underlying store allows. Unless the store writes the collection atomically,
+	 * a write that fails part way (e.g. a concurrent create of the same ID) leaves the
+	 * earlier entities written.
+	 * 
+	 * @param objects the entities to store.
+	 * @return the new entities, in the order given.
+	 */
+	public List<T> createAll(Collection<T> objects);
+
+	/**
+	 * Stores each of the objects, optionally checking uniqueness before writing.
+	 * 
+	 * @param objects the entities to store.
+	 * @param ifUnique if true, existence is checked before writing. Otherwise, the entities are simply written.
+	 * @return the new entities, in the order given.
+	 */
+	public List<T> createAll(Collection<T> objects, boolean ifUnique);
+
 	/**
 	 * Removes an entity by its identifier.
 	 * 
@@ -61,9 +83,41 @@ public interface Repository<T extends Identifiable>
 	 * @param object
 	 */
 	public void delete(T object);
+
+	/**
+	 * Removes each of the entities identified by the given identifiers.
+	 * 
+	 * @param ids the identifiers of the entities to remove.
+	 */
+	public void deleteAll(Collection<Identifier> ids);
 	public boolean exists(Identifier id);
+
+	/**
+	 * Determines which of the given identifiers exist, in as few round trips as the store allows.
+	 * 
+	 * @param ids the identifiers to check.
+	 * @return the given identifiers that exist, in the order given. Never null.
+	 */
+	public Set<Identifier> existsAll(Collection<Identifier> ids);
 	public T read(Identifier id);
 	public List<T> readList(Collection<Identifier> ids);
 	public T update(T object);
 	public T update(T object, boolean ifExists);
+
+	/**
+	 * Updates each of the objects, ensuring all of them exist before writing.
+	 * 
+	 * @param objects the entities to update.
+	 * @return the updated entities, in the order given.
+	 */
+	public List<T> updateAll(Collection<T> objects);
+
+	/**
+	 * Updates each of the objects, optionally ensuring existence before writing.
+	 * 
+	 * @param objects the entities to update.
+	 * @param ifExists if true, existence is checked before writing. Otherwise, the entities are simply written.
+	 * @return the updated entities, in the order given.
+	 */
+	public List<T> updateAll(Collection<T> objects, boolean ifExists);
 }
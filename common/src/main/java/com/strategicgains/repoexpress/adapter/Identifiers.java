@@ -15,12 +15,8 @@
 */
 package com.strategicgains.repoexpress.adapter;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
-import org.restexpress.common.util.StringUtils;
-
 import com.strategicgains.noschema.Identifier;
 
 /**
@@ -44,14 +40,35 @@ public interface Identifiers
 
 	public static String format(Identifier id, String separator)
 	{
-		List<String> components = new ArrayList<>(id.size());
+		return format(id, separator, new StringBuilder(id.size() * 24)).toString();
+	}
+
+	/**
+	 * Appends the formatted Identifier to the StringBuilder, without creating intermediate
+	 * Strings for its components.
+	 * 
+	 * @return the StringBuilder.
+	 */
+	public static StringBuilder format(Identifier id, StringBuilder sb)
+	{
+		return format(id, SEPARATOR, sb);
+	}
+
+	public static StringBuilder format(Identifier id, String separator, StringBuilder sb)
+	{
+		for (int i = 0; i < id.size(); i++)
+		{
+			if (i > 0) sb.append(separator);
+
+			Object c = id.getComponent(i);
 
-		id.components().stream().forEach(c -> {
-			if (c instanceof UUID) components.add(UUID.format((UUID) c));
-			else components.add(c.toString());
-		});
+			if (c instanceof UUID) UUID.format((UUID) c, sb);
+			else if (c instanceof Long) sb.append(((Long) c).longValue());
+			else if (c instanceof Integer) sb.append(((Integer) c).intValue());
+			else sb.append(c);
+		}
 
-		return StringUtils.join(separator, components);
+		return sb;
 	}
 
 	public static void useShortUUID()
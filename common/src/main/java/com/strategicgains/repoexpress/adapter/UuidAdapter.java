@@ -69,6 +69,31 @@ implements IdentifierAdapter
 		}
     }
 
+	/**
+	 * Parse a UUID (short or long form) from a range of characters without first copying
+	 * them to a String.
+	 * 
+	 * @param s the characters.
+	 * @param start the index of the first character of the UUID.
+	 * @param end the index after the last character of the UUID.
+	 * @return an Identifier containing the UUID.
+	 * @throws InvalidObjectIdException if the range is empty or not a valid UUID.
+	 */
+	public Identifier parse(CharSequence s, int start, int end)
+	throws InvalidObjectIdException
+	{
+		if (s == null || start >= end) throw new InvalidObjectIdException("Identifier must not be null");
+
+		try
+		{
+			return new Identifier(UuidConverter.parse(s, start, end));
+		}
+		catch(IllegalArgumentException | IndexOutOfBoundsException e)
+		{
+			throw new InvalidObjectIdException(e);
+		}
+	}
+
 	/**
 	 * Convert the Identifier into a string representation.
 	 * 
@@ -128,4 +153,34 @@ implements IdentifierAdapter
     		return (uuid == null ? null : uuid.toString());
     	}
     }
+
+	/**
+	 * Append the Identifier's UUID to the StringBuilder, using the current setting of
+	 * useShortUUID(boolean). Nothing is appended if the Identifier is null.
+	 * 
+	 * @param id an Identifier containing a UUID.
+	 * @param sb the StringBuilder to append to.
+	 * @return the StringBuilder.
+	 */
+	public StringBuilder format(Identifier id, StringBuilder sb)
+	{
+		if (id == null) return sb;
+
+		return format((UUID) id.firstComponent(), sb);
+	}
+
+	/**
+	 * Append the UUID to the StringBuilder, using the current setting of useShortUUID(boolean).
+	 * Nothing is appended if the UUID is null.
+	 * 
+	 * @param uuid the UUID to format.
+	 * @param sb the StringBuilder to append to.
+	 * @return the StringBuilder.
+	 */
+	public StringBuilder format(UUID uuid, StringBuilder sb)
+	{
+		if (uuid == null) return sb;
+
+		return (shouldShorten ? UuidConverter.format(uuid, sb) : UuidConverter.formatLong(uuid, sb));
+	}
 }
@@ -0,0 +1,172 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrent, size- and time-bounded cache. Reads are lock-free. When the cache grows past
+ * its maximum size, the oldest entries (by insertion) are evicted first. Entries older than the
+ * time-to-live are treated as absent and removed lazily on access.
+ * <p/>
+ * To keep a slow load from re-populating a value that was invalidated while the load was in
+ * flight, callers take a {@link #stamp()} before loading and pass it to
+ * {@link #put(Object, Object, long)}. The value is discarded if any invalidation occurred
+ * since the stamp was taken.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class BoundedCache<K, V>
+{
+	private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+	private final Queue<Node<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicLong invalidations = new AtomicLong();
+	private final int maxSize;
+	private final long ttlNanos;
+
+	/**
+	 * @param maxSize the maximum number of entries to hold. Must be positive.
+	 * @param ttl how long an entry remains valid after it is cached. Zero or less means entries never expire.
+	 * @param unit the unit of ttl.
+	 */
+	public BoundedCache(int maxSize, long ttl, TimeUnit unit)
+	{
+		super();
+
+		if (maxSize < 1) throw new IllegalArgumentException("maxSize must be positive");
+
+		this.maxSize = maxSize;
+		this.ttlNanos = (ttl > 0 ? unit.toNanos(ttl) : 0L);
+	}
+
+	/**
+	 * @param key
+	 * @return the cached value or null, if not cached (or expired).
+	 */
+	public V get(K key)
+	{
+		Node<K, V> node = map.get(key);
+
+		if (node == null) return null;
+
+		if (isExpired(node))
+		{
+			map.remove(key, node);
+			return null;
+		}
+
+		return node.value;
+	}
+
+	/**
+	 * @return a value to pass to put() so that loads racing with an invalidation are discarded.
+	 */
+	public long stamp()
+	{
+		return invalidations.get();
+	}
+
+	/**
+	 * Cache the value, unless an invalidation has occurred since the stamp was taken.
+	 * 
+	 * @param key
+	 * @param value
+	 * @param stamp the result of stamp(), taken before the value was loaded.
+	 */
+	public void put(K key, V value, long stamp)
+	{
+		if (value == null) return;
+
+		Node<K, V> node = new Node<>(key, value, (ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0L));
+		map.put(key, node);
+
+		// An invalidation raced with this load, it may have run before our put.
+		if (invalidations.get() != stamp)
+		{
+			map.remove(key, node);
+			return;
+		}
+
+		insertionOrder.offer(node);
+		queued.incrementAndGet();
+		evictIfNecessary();
+	}
+
+	public void invalidate(K key)
+	{
+		invalidations.incrementAndGet();
+		map.remove(key);
+	}
+
+	public void invalidateAll()
+	{
+		invalidations.incrementAndGet();
+		map.clear();
+
+		while (insertionOrder.poll() != null)
+		{
+			queued.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @return the number of entries currently held, including any that have expired but not yet been removed.
+	 */
+	public int size()
+	{
+		return map.size();
+	}
+
+	private boolean isExpired(Node<K, V> node)
+	{
+		return (node.expiresAt != 0L && System.nanoTime() - node.expiresAt > 0);
+	}
+
+	private void evictIfNecessary()
+	{
+		// Replaced and invalidated nodes linger in the queue until polled, so bound the queue too.
+		while (map.size() > maxSize || queued.get() > (maxSize * 2))
+		{
+			Node<K, V> oldest = insertionOrder.poll();
+
+			if (oldest == null) return;
+
+			queued.decrementAndGet();
+			map.remove(oldest.key, oldest);
+		}
+	}
+
+	private static final class Node<K, V>
+	{
+		private final K key;
+		private final V value;
+		private final long expiresAt;
+
+		private Node(K key, V value, long expiresAt)
+		{
+			this.key = key;
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
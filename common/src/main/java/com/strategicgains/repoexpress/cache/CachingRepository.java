@@ -0,0 +1,395 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.ObservableRepository;
+
+/**
+ * A read-through caching decorator for any ObservableRepository. read(), exists() and readList()
+ * are served from a bounded, in-process cache when possible, falling back to the wrapped
+ * repository on a miss. Creates, updates and deletes are passed through to the wrapped repository
+ * (so its observers still fire) and invalidate the cached entry.
+ * <p/>
+ * Cached entities are shared between callers. Treat entities returned from this repository as
+ * read-only, or modify a copy, or the cache will serve the modified instance.
+ * <p/>
+ * Observers added to this repository are notified in addition to those on the wrapped repository.
+ * Note that a cache hit does not reach the wrapped repository, so its read observers only fire on
+ * a miss.
+ * <p/>
+ * Usage:
+ * <pre>
+ * ObservableRepository<Order> orders = new CachingRepository<Order>(mongoOrders, 10000, 30, TimeUnit.SECONDS);
+ * </pre>
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class CachingRepository<T extends Identifiable>
+extends AbstractObservableRepository<T>
+{
+	private final ObservableRepository<T> delegate;
+	private final BoundedCache<Identifier, T> cache;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param delegate the repository to cache.
+	 * @param maxSize the maximum number of entities to cache.
+	 * @param ttl how long an entity may be served from the cache. Zero or less to never expire.
+	 * @param unit the unit of ttl.
+	 */
+	public CachingRepository(ObservableRepository<T> delegate, int maxSize, long ttl, TimeUnit unit)
+	{
+		super();
+
+		if (delegate == null) throw new IllegalArgumentException("delegate repository is required");
+
+		this.delegate = delegate;
+		this.cache = new BoundedCache<Identifier, T>(maxSize, ttl, unit);
+	}
+
+	/**
+	 * @return the wrapped repository.
+	 */
+	public ObservableRepository<T> getDelegate()
+	{
+		return delegate;
+	}
+
+	@Override
+	public T doCreate(T object, boolean ifUnique)
+	{
+		try
+		{
+			return delegate.create(object, ifUnique);
+		}
+		finally
+		{
+			invalidate(object.getIdentifier());
+		}
+	}
+
+	@Override
+	public List<T> doCreateAll(Collection<T> objects, boolean ifUnique)
+	{
+		try
+		{
+			return delegate.createAll(objects, ifUnique);
+		}
+		finally
+		{
+			invalidateAll(objects);
+		}
+	}
+
+	@Override
+	public T doRead(Identifier id)
+	{
+		T cached = cached(id);
+
+		if (cached != null)
+		{
+			hits.increment();
+			return cached;
+		}
+
+		misses.increment();
+		long stamp = cache.stamp();
+		T item = delegate.read(id);
+		cache.put(id, item, stamp);
+		return item;
+	}
+
+	@Override
+	public T doUpdate(T object, boolean ifExists)
+	{
+		invalidate(object.getIdentifier());
+
+		try
+		{
+			return delegate.update(object, ifExists);
+		}
+		finally
+		{
+			invalidate(object.getIdentifier());
+		}
+	}
+
+	@Override
+	public List<T> doUpdateAll(Collection<T> objects, boolean ifExists)
+	{
+		invalidateAll(objects);
+
+		try
+		{
+			return delegate.updateAll(objects, ifExists);
+		}
+		finally
+		{
+			invalidateAll(objects);
+		}
+	}
+
+	@Override
+	public void doDelete(T object)
+	{
+		invalidate(object.getIdentifier());
+
+		try
+		{
+			delegate.delete(object);
+		}
+		finally
+		{
+			invalidate(object.getIdentifier());
+		}
+	}
+
+	/**
+	 * Passes the IDs to the wrapped repository's deleteAll(), which checks their existence,
+	 * without reading them here first. They are only read if this repository has delete
+	 * observers.
+	 */
+	@Override
+	public void deleteAll(Collection<Identifier> ids)
+	{
+		deleteAllWith(ids, this::readList, this::deleteIds);
+	}
+
+	@Override
+	public void doDeleteAll(Collection<T> objects)
+	{
+		List<Identifier> ids = new ArrayList<>(objects.size());
+
+		for (T object : objects)
+		{
+			ids.add(object.getIdentifier());
+		}
+
+		deleteIds(ids);
+	}
+
+	private void deleteIds(Collection<Identifier> ids)
+	{
+		invalidateIds(ids);
+
+		try
+		{
+			delegate.deleteAll(ids);
+		}
+		finally
+		{
+			invalidateIds(ids);
+		}
+	}
+
+	/**
+	 * Returns true if the ID is cached. Otherwise, asks the wrapped repository. Absence is not
+	 * cached.
+	 */
+	@Override
+	public boolean exists(Identifier id)
+	{
+		if (id == null) return false;
+
+		if (cached(id) != null)
+		{
+			hits.increment();
+			return true;
+		}
+
+		misses.increment();
+		return delegate.exists(id);
+	}
+
+	/**
+	 * Answers the cached IDs from the cache and checks the remainder with a single call to the
+	 * wrapped repository's existsAll().
+	 */
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		Set<Identifier> cached = new HashSet<>();
+		List<Identifier> missing = new ArrayList<>();
+
+		for (Identifier id : ids)
+		{
+			if (id == null) continue;
+
+			if (cached(id) != null)
+			{
+				cached.add(id);
+			}
+			else
+			{
+				missing.add(id);
+			}
+		}
+
+		hits.add(cached.size());
+		Set<Identifier> present = Collections.emptySet();
+
+		if (!missing.isEmpty())
+		{
+			misses.add(missing.size());
+			present = delegate.existsAll(missing);
+		}
+
+		Set<Identifier> results = new LinkedHashSet<>();
+
+		for (Identifier id : ids)
+		{
+			if (id != null && (cached.contains(id) || present.contains(id)))
+			{
+				results.add(id);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Serves the cached IDs from the cache and reads the remainder with a single call to the
+	 * wrapped repository's readList(). Results are returned in the order of the given IDs, with
+	 * null and missing IDs omitted. This repository's read observers are notified for each ID
+	 * and each entity returned, hit or miss, as read() does.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		Map<Identifier, T> found = new HashMap<>(ids.size());
+		List<Identifier> missing = new ArrayList<>();
+
+		for (Identifier id : ids)
+		{
+			notifyBeforeRead(id);
+
+			if (id == null) continue;
+
+			T cached = cached(id);
+
+			if (cached != null)
+			{
+				found.put(id, cached);
+			}
+			else
+			{
+				missing.add(id);
+			}
+		}
+
+		hits.add(found.size());
+
+		if (!missing.isEmpty())
+		{
+			misses.add(missing.size());
+			long stamp = cache.stamp();
+
+			for (T item : delegate.readList(missing))
+			{
+				found.put(item.getIdentifier(), item);
+				cache.put(item.getIdentifier(), item, stamp);
+			}
+		}
+
+		List<T> results = new ArrayList<>(found.size());
+
+		for (Identifier id : ids)
+		{
+			T item = found.get(id);
+
+			if (item != null)
+			{
+				results.add(item);
+				notifyAfterRead(item);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Remove an entity from the cache, forcing the next read to go to the wrapped repository.
+	 * 
+	 * @param id
+	 */
+	public void invalidate(Identifier id)
+	{
+		if (id == null) return;
+
+		cache.invalidate(id);
+	}
+
+	/**
+	 * Empty the cache.
+	 */
+	public void invalidateAll()
+	{
+		cache.invalidateAll();
+	}
+
+	private void invalidateAll(Collection<T> objects)
+	{
+		for (T object : objects)
+		{
+			invalidate(object.getIdentifier());
+		}
+	}
+
+	private T cached(Identifier id)
+	{
+		return (id != null ? cache.get(id) : null);
+	}
+
+	private void invalidateIds(Collection<Identifier> ids)
+	{
+		for (Identifier id : ids)
+		{
+			invalidate(id);
+		}
+	}
+
+	public int getCacheSize()
+	{
+		return cache.size();
+	}
+
+	public long getHitCount()
+	{
+		return hits.sum();
+	}
+
+	public long getMissCount()
+	{
+		return misses.sum();
+	}
+}
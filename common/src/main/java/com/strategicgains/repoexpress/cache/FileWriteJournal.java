@@ -0,0 +1,355 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import com.strategicgains.noschema.document.ObjectCodec;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * A WriteJournal kept as numbered segment files in a local directory. Each entry is written as
+ * its length, the bytes from the ObjectCodec and a CRC32 of those bytes. On replay, a segment
+ * is read up to its first incomplete or corrupt entry (e.g. one torn by a crash mid-write).
+ * <p/>
+ * If sync is true, append() waits until its entry is forced to the storage device before
+ * returning, so acknowledged updates survive power loss as well as a process crash. Concurrent
+ * appends share a single force (group commit), as in MappedJournal. Otherwise entries are left
+ * to the operating system to write, which is faster but only survives a process crash.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class FileWriteJournal<T>
+implements WriteJournal<T>
+{
+	private static final String SUFFIX = ".journal";
+
+	private final Path directory;
+	private final ObjectCodec<T> codec;
+	private final Class<T> type;
+	private final boolean sync;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition forced = lock.newCondition();
+	private long segment;
+	private FileChannel channel;
+	private long written;
+	private long durable;
+	private boolean forcing;
+
+	public FileWriteJournal(Path directory, ObjectCodec<T> codec, Class<T> type)
+	{
+		this(directory, codec, type, true);
+	}
+
+	/**
+	 * @param directory where segments are kept. Created if necessary.
+	 * @param codec serializes the entities.
+	 * @param type the entity type, for deserialization.
+	 * @param sync true to wait for each entry to be forced to disk before append() returns.
+	 */
+	public FileWriteJournal(Path directory, ObjectCodec<T> codec, Class<T> type, boolean sync)
+	{
+		super();
+		this.directory = directory;
+		this.codec = codec;
+		this.type = type;
+		this.sync = sync;
+
+		try
+		{
+			Files.createDirectories(directory);
+			List<Long> existing = segments();
+			segment = (existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1);
+			channel = open(segment);
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to open journal in " + directory, e);
+		}
+	}
+
+	@Override
+	public void append(T entity)
+	{
+		byte[] bytes = codec.serialize(entity);
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 8);
+		buffer.putInt(bytes.length).put(bytes).putInt((int) crc.getValue()).flip();
+		long position;
+		lock.lock();
+
+		try
+		{
+			while (buffer.hasRemaining())
+			{
+				channel.write(buffer);
+			}
+
+			written += bytes.length + 8;
+			position = written;
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to write journal entry", e);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+
+		if (sync)
+		{
+			commit(position);
+		}
+	}
+
+	@Override
+	public long rotate()
+	{
+		lock.lock();
+
+		try
+		{
+			quiesce();
+			channel.close();
+			channel = open(++segment);
+			return segment;
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to rotate journal in " + directory, e);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void release(long marker)
+	{
+		try
+		{
+			for (long s : segments())
+			{
+				if (s < marker)
+				{
+					Files.deleteIfExists(pathOf(s));
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to release journal segments in " + directory, e);
+		}
+	}
+
+	@Override
+	public void replay(Consumer<T> consumer)
+	{
+		try
+		{
+			for (long s : segments())
+			{
+				try (InputStream in = Files.newInputStream(pathOf(s)))
+				{
+					replay(new DataInputStream(in), consumer);
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to replay journal in " + directory, e);
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		lock.lock();
+
+		try
+		{
+			quiesce();
+			channel.close();
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to close journal in " + directory, e);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until the entry at the position is on the storage device. The first waiter forces
+	 * every entry written so far while later ones wait for it, then the next waiter (if any)
+	 * forces the entries appended in the meantime.
+	 */
+	private void commit(long position)
+	{
+		lock.lock();
+
+		try
+		{
+			while (durable < position)
+			{
+				if (forcing)
+				{
+					forced.awaitUninterruptibly();
+					continue;
+				}
+
+				forcing = true;
+				long target = written;
+				FileChannel current = channel;
+				lock.unlock();
+
+				try
+				{
+					current.force(false);
+				}
+				catch (IOException e)
+				{
+					throw new RepositoryException("Unable to write journal entry", e);
+				}
+				finally
+				{
+					lock.lock();
+					forcing = false;
+					forced.signalAll();
+				}
+
+				durable = Math.max(durable, target);
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits for any force in progress, then forces everything written to the current segment
+	 * so it can be closed. Called with the lock held.
+	 */
+	private void quiesce()
+	throws IOException
+	{
+		while (forcing)
+		{
+			forced.awaitUninterruptibly();
+		}
+
+		channel.force(false);
+		durable = written;
+		forced.signalAll();
+	}
+
+	private void replay(DataInputStream in, Consumer<T> consumer)
+	throws IOException
+	{
+		while (true)
+		{
+			byte[] bytes;
+			int checksum;
+
+			try
+			{
+				int length = in.readInt();
+
+				if (length < 0) return;
+
+				bytes = in.readNBytes(length);
+
+				if (bytes.length < length) return;
+
+				checksum = in.readInt();
+			}
+			catch (EOFException e)
+			{
+				return;
+			}
+
+			CRC32 crc = new CRC32();
+			crc.update(bytes);
+
+			if ((int) crc.getValue() != checksum) return;
+
+			consumer.accept(codec.deserialize(bytes, type));
+		}
+	}
+
+	private FileChannel open(long s)
+	throws IOException
+	{
+		return FileChannel.open(pathOf(s), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+
+	private Path pathOf(long s)
+	{
+		return directory.resolve(String.format("%020d%s", s, SUFFIX));
+	}
+
+	/**
+	 * @return the numbers of the segment files in the directory, in ascending order.
+	 */
+	private List<Long> segments()
+	throws IOException
+	{
+		List<Long> results = new ArrayList<Long>();
+
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX))
+		{
+			for (Path file : files)
+			{
+				String name = file.getFileName().toString();
+
+				try
+				{
+					results.add(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+				}
+				catch (NumberFormatException e)
+				{
+					// not a segment.
+				}
+			}
+		}
+
+		Collections.sort(results);
+		return results;
+	}
+}
@@ -0,0 +1,635 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.ObservableRepository;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+
+/**
+ * A write-behind decorator for any ObservableRepository. update() is acknowledged as soon as the
+ * entity is queued (and, if a WriteJournal is given, journaled), and the queue is written to the
+ * wrapped repository every flush interval with updateAll(), in batches. Repeated updates to the
+ * same ID within an interval are coalesced, so only the latest is written.
+ * <p/>
+ * At most maxPending distinct IDs are queued. An update for a new ID beyond that flushes on the
+ * caller's thread first. Reads (read(), readList(), exists() and existsAll()) see queued and
+ * in-flight updates. create() is passed straight through. delete() and deleteAll() flush first,
+ * so a queued update can't re-create a deleted entity.
+ * <p/>
+ * If a flush fails, its updates are re-queued (unless superseded) and retried on the next one.
+ * With a journal, updates not yet written when the process dies are replayed into the queue when
+ * the next WriteBehindRepository is constructed over it. close() flushes and stops the writer.
+ * <p/>
+ * Observers added to this repository are notified when an update is accepted. Those on the
+ * wrapped repository are notified when it is written. A conditional update(entity, true) checks
+ * existence with the wrapped repository unless the ID is already queued, and is checked again
+ * when flushed: if the entity has since been deleted from the wrapped repository, the update is
+ * discarded rather than re-creating it. Updates replayed from a journal are written
+ * unconditionally.
+ * <p/>
+ * Usage:
+ * <pre>
+ * WriteBehindRepository<Session> sessions = new WriteBehindRepository<Session>(mongoSessions, 500, TimeUnit.MILLISECONDS, 100000,
+ *     new FileWriteJournal<Session>(Paths.get("/var/lib/app/sessions"), codec, Session.class));
+ * </pre>
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class WriteBehindRepository<T extends Identifiable>
+extends AbstractObservableRepository<T>
+implements AutoCloseable
+{
+	/**
+	 * The default maximum number of entities per updateAll() call when flushing.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	private final ObservableRepository<T> delegate;
+	private final WriteJournal<T> journal;
+	private final int maxPending;
+	private final ScheduledExecutorService writer;
+	private final Map<Identifier, Pending<T>> pending = new ConcurrentHashMap<Identifier, Pending<T>>();
+	private volatile Map<Identifier, Pending<T>> flushing = Collections.emptyMap();
+	private final ReentrantReadWriteLock acceptLock = new ReentrantReadWriteLock();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final LongAdder accepted = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder written = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder discarded = new LongAdder();
+	private volatile int batchSize = DEFAULT_BATCH_SIZE;
+	private volatile boolean closed;
+
+	public WriteBehindRepository(ObservableRepository<T> delegate, long flushInterval, TimeUnit unit, int maxPending)
+	{
+		this(delegate, flushInterval, unit, maxPending, null);
+	}
+
+	/**
+	 * @param delegate the repository to write to.
+	 * @param flushInterval how often queued updates are written.
+	 * @param unit the unit of flushInterval.
+	 * @param maxPending the maximum number of distinct IDs queued.
+	 * @param journal a journal to make accepted updates durable, or null.
+	 */
+	public WriteBehindRepository(ObservableRepository<T> delegate, long flushInterval, TimeUnit unit, int maxPending, WriteJournal<T> journal)
+	{
+		super();
+
+		if (delegate == null) throw new IllegalArgumentException("delegate repository is required");
+		if (flushInterval <= 0) throw new IllegalArgumentException("flushInterval must be greater than zero");
+		if (maxPending < 1) throw new IllegalArgumentException("maxPending must be at least one");
+
+		this.delegate = delegate;
+		this.journal = journal;
+		this.maxPending = maxPending;
+
+		if (journal != null)
+		{
+			journal.replay(entity -> pending.put(entity.getIdentifier(), new Pending<T>(entity, false)));
+		}
+
+		this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "repoexpress-write-behind");
+			t.setDaemon(true);
+			return t;
+		});
+		writer.scheduleWithFixedDelay(this::scheduledFlush, flushInterval, flushInterval, unit);
+	}
+
+	/**
+	 * @return the wrapped repository.
+	 */
+	public ObservableRepository<T> getDelegate()
+	{
+		return delegate;
+	}
+
+	public void setBatchSize(int batchSize)
+	{
+		if (batchSize < 1) throw new IllegalArgumentException("batchSize must be at least one");
+
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return the number of IDs with an update waiting to be written.
+	 */
+	public int getPendingCount()
+	{
+		return pending.size();
+	}
+
+	public long getAcceptedCount()
+	{
+		return accepted.sum();
+	}
+
+	/**
+	 * @return the number of accepted updates superseded by a later one before being written.
+	 */
+	public long getCoalescedCount()
+	{
+		return coalesced.sum();
+	}
+
+	public long getWrittenCount()
+	{
+		return written.sum();
+	}
+
+	public long getFailedFlushCount()
+	{
+		return failures.sum();
+	}
+
+	/**
+	 * @return the number of conditional updates dropped at flush because the entity no longer existed.
+	 */
+	public long getDiscardedCount()
+	{
+		return discarded.sum();
+	}
+
+	/**
+	 * Queues the update, replacing any queued update for the same ID. Once closed, updates are
+	 * written straight through.
+	 */
+	@Override
+	public T doUpdate(T item, boolean ifExists)
+	{
+		Identifier id = item.getIdentifier();
+
+		while (!closed && pending.size() >= maxPending && !pending.containsKey(id))
+		{
+			flush();
+		}
+
+		acceptLock.readLock().lock();
+
+		try
+		{
+			// Checked under the lock, so neither close() nor delete() can flush in between.
+			if (!closed)
+			{
+				if (ifExists && !isQueued(id) && !delegate.exists(id))
+				{
+					throw new ItemNotFoundException("ID not found: " + id.toString());
+				}
+
+				if (journal != null)
+				{
+					journal.append(item);
+				}
+
+				pending.merge(id, new Pending<T>(item, ifExists), (older, newer) -> {
+					coalesced.increment();
+					return newer.after(older);
+				});
+
+				accepted.increment();
+				return item;
+			}
+		}
+		finally
+		{
+			acceptLock.readLock().unlock();
+		}
+
+		return delegate.update(item, ifExists);
+	}
+
+	@Override
+	public List<T> doUpdateAll(Collection<T> objects, boolean ifExists)
+	{
+		List<T> results = new ArrayList<T>(objects.size());
+
+		for (T object : objects)
+		{
+			results.add(doUpdate(object, ifExists));
+		}
+
+		return results;
+	}
+
+	@Override
+	public T doCreate(T object, boolean ifUnique)
+	{
+		return delegate.create(object, ifUnique);
+	}
+
+	@Override
+	public List<T> doCreateAll(Collection<T> objects, boolean ifUnique)
+	{
+		return delegate.createAll(objects, ifUnique);
+	}
+
+	@Override
+	public void doDelete(T object)
+	{
+		lockAll();
+
+		try
+		{
+			flush();
+			delegate.delete(object);
+		}
+		finally
+		{
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Flushes, then passes the IDs to the wrapped repository's deleteAll(), which checks their
+	 * existence, without reading them here first. They are only read if this repository has
+	 * delete observers.
+	 */
+	@Override
+	public void deleteAll(Collection<Identifier> ids)
+	{
+		deleteAllWith(ids, this::readList, this::deleteIds);
+	}
+
+	@Override
+	public void doDeleteAll(Collection<T> objects)
+	{
+		List<Identifier> ids = new ArrayList<Identifier>(objects.size());
+
+		for (T object : objects)
+		{
+			ids.add(object.getIdentifier());
+		}
+
+		deleteIds(ids);
+	}
+
+	private void deleteIds(Collection<Identifier> ids)
+	{
+		lockAll();
+
+		try
+		{
+			flush();
+			delegate.deleteAll(ids);
+		}
+		finally
+		{
+			unlockAll();
+		}
+	}
+
+	@Override
+	public T doRead(Identifier id)
+	{
+		T queued = queued(id);
+		return (queued != null ? queued : delegate.read(id));
+	}
+
+	@Override
+	public boolean exists(Identifier id)
+	{
+		if (id == null) return false;
+
+		return (isQueued(id) || delegate.exists(id));
+	}
+
+	/**
+	 * Answers queued IDs locally and checks the remainder with a single call to the wrapped
+	 * repository's existsAll().
+	 */
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		List<Identifier> missing = new ArrayList<Identifier>();
+
+		for (Identifier id : ids)
+		{
+			if (id != null && !isQueued(id)) missing.add(id);
+		}
+
+		Set<Identifier> present = (missing.isEmpty() ? Collections.<Identifier>emptySet() : delegate.existsAll(missing));
+		Set<Identifier> results = new LinkedHashSet<Identifier>();
+
+		for (Identifier id : ids)
+		{
+			if (id != null && (present.contains(id) || isQueued(id)))
+			{
+				results.add(id);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Serves queued entities locally and reads the remainder with a single call to the wrapped
+	 * repository's readList(). Results are returned in the order of the given IDs, with missing
+	 * IDs omitted.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		Map<Identifier, T> found = new HashMap<Identifier, T>(ids.size());
+		List<Identifier> missing = new ArrayList<Identifier>();
+
+		for (Identifier id : ids)
+		{
+			T queued = queued(id);
+
+			if (queued != null)
+			{
+				found.put(id, queued);
+			}
+			else
+			{
+				missing.add(id);
+			}
+		}
+
+		if (!missing.isEmpty())
+		{
+			for (T item : delegate.readList(missing))
+			{
+				found.putIfAbsent(item.getIdentifier(), item);
+			}
+		}
+
+		List<T> results = new ArrayList<T>(found.size());
+
+		for (Identifier id : ids)
+		{
+			T item = found.get(id);
+
+			if (item != null)
+			{
+				results.add(item);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Writes the queued updates to the wrapped repository now, in batches of batchSize. If a
+	 * batch fails, the unwritten updates are re-queued and the exception is thrown.
+	 * 
+	 * @return the number of entities written.
+	 */
+	public int flush()
+	{
+		flushLock.lock();
+
+		try
+		{
+			long marker = 0;
+			Map<Identifier, Pending<T>> batch;
+			acceptLock.writeLock().lock();
+
+			try
+			{
+				if (pending.isEmpty()) return 0;
+
+				if (journal != null)
+				{
+					marker = journal.rotate();
+				}
+
+				batch = new LinkedHashMap<Identifier, Pending<T>>(pending);
+				flushing = batch;
+				pending.clear();
+			}
+			finally
+			{
+				acceptLock.writeLock().unlock();
+			}
+
+			List<Pending<T>> items = new ArrayList<Pending<T>>(batch.values());
+			int done = 0;
+			int count = 0;
+
+			try
+			{
+				while (done < items.size())
+				{
+					List<Pending<T>> chunk = items.subList(done, Math.min(done + batchSize, items.size()));
+					List<T> writes = writable(chunk);
+
+					if (!writes.isEmpty())
+					{
+						delegate.updateAll(writes, false);
+					}
+
+					done += chunk.size();
+					count += writes.size();
+					written.add(writes.size());
+				}
+			}
+			catch (RuntimeException e)
+			{
+				failures.increment();
+
+				for (Pending<T> item : items.subList(done, items.size()))
+				{
+					// a newer update supersedes the failed one, but stays unconditional if it was.
+					pending.merge(item.item.getIdentifier(), item, (newer, older) -> newer.after(older));
+				}
+
+				throw e;
+			}
+			finally
+			{
+				flushing = Collections.emptyMap();
+			}
+
+			if (journal != null)
+			{
+				journal.release(marker);
+			}
+
+			return count;
+		}
+		finally
+		{
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the background writer, writes any queued updates and closes the journal. Later
+	 * updates are written straight through, once the queued ones have been written.
+	 */
+	@Override
+	public void close()
+	{
+		writer.shutdown();
+
+		try
+		{
+			writer.awaitTermination(30, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+
+		lockAll();
+
+		try
+		{
+			if (closed) return;
+
+			closed = true;
+
+			try
+			{
+				flush();
+			}
+			finally
+			{
+				if (journal != null)
+				{
+					journal.close();
+				}
+			}
+		}
+		finally
+		{
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Blocks new updates from being accepted (or, once closed, written through) and any other
+	 * flush. Taken in the same order as flush() takes them.
+	 */
+	private void lockAll()
+	{
+		flushLock.lock();
+		acceptLock.writeLock().lock();
+	}
+
+	private void unlockAll()
+	{
+		acceptLock.writeLock().unlock();
+		flushLock.unlock();
+	}
+
+	/**
+	 * @return the entities in the chunk to write, dropping conditional updates whose entity
+	 * has been deleted from the wrapped repository since they were accepted.
+	 */
+	private List<T> writable(List<Pending<T>> chunk)
+	{
+		List<Identifier> conditional = new ArrayList<Identifier>();
+
+		for (Pending<T> item : chunk)
+		{
+			if (item.ifExists) conditional.add(item.item.getIdentifier());
+		}
+
+		Set<Identifier> present = (conditional.isEmpty() ? Collections.<Identifier>emptySet() : delegate.existsAll(conditional));
+		List<T> writes = new ArrayList<T>(chunk.size());
+
+		for (Pending<T> item : chunk)
+		{
+			if (!item.ifExists || present.contains(item.item.getIdentifier()))
+			{
+				writes.add(item.item);
+			}
+			else
+			{
+				discarded.increment();
+			}
+		}
+
+		return writes;
+	}
+
+	private void scheduledFlush()
+	{
+		try
+		{
+			flush();
+		}
+		catch (RuntimeException e)
+		{
+			// counted in failures; the updates are retried on the next flush.
+		}
+	}
+
+	private T queued(Identifier id)
+	{
+		if (id == null) return null;
+
+		Pending<T> item = pending.get(id);
+
+		if (item == null) item = flushing.get(id);
+
+		return (item != null ? item.item : null);
+	}
+
+	private boolean isQueued(Identifier id)
+	{
+		return (pending.containsKey(id) || flushing.containsKey(id));
+	}
+
+	/**
+	 * A queued update and whether it was conditional on the entity existing.
+	 */
+	private static final class Pending<T>
+	{
+		private final T item;
+		private final boolean ifExists;
+
+		private Pending(T item, boolean ifExists)
+		{
+			super();
+			this.item = item;
+			this.ifExists = ifExists;
+		}
+
+		/**
+		 * @return this update in place of the older one. It is conditional only if both were,
+		 * since an unconditional older update would create the entity.
+		 */
+		private Pending<T> after(Pending<T> older)
+		{
+			return (ifExists && !older.ifExists ? new Pending<T>(item, false) : this);
+		}
+	}
+}
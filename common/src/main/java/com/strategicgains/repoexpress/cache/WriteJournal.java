@@ -0,0 +1,55 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * A durable, append-only log of the updates a WriteBehindRepository has accepted but not yet
+ * applied, so they survive a crash. The journal is divided into segments: rotate() starts a new
+ * one, and release() discards those whose updates have since been applied.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public interface WriteJournal<T>
+extends AutoCloseable
+{
+	/**
+	 * Durably records an accepted update before it is acknowledged.
+	 */
+	public void append(T entity);
+
+	/**
+	 * Starts a new segment for subsequent appends.
+	 * 
+	 * @return a marker identifying the segments written before this call, for release().
+	 */
+	public long rotate();
+
+	/**
+	 * Discards the segments written before the marker was returned by rotate().
+	 */
+	public void release(long marker);
+
+	/**
+	 * Passes every unreleased entry to the consumer, in the order they were appended.
+	 */
+	public void replay(Consumer<T> consumer);
+
+	@Override
+	public void close();
+}
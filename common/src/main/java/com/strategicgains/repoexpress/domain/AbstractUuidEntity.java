@@ -28,6 +28,7 @@ import com.strategicgains.noschema.entity.AbstractEntity;
  */
 public abstract class AbstractUuidEntity
 extends AbstractEntity<UUID>
+implements UuidEntity
 {
 	private UUID id;
 
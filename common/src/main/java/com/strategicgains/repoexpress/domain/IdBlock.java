@@ -0,0 +1,71 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.domain;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * Records that a block of numeric identifiers in a named sequence has been claimed by a
+ * HiLoIdGenerator. Identified by (sequence, hi).
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class IdBlock
+implements Identifiable
+{
+	private String sequence;
+	private long hi;
+
+	public IdBlock()
+	{
+		super();
+	}
+
+	public IdBlock(String sequence, long hi)
+	{
+		this();
+		setSequence(sequence);
+		setHi(hi);
+	}
+
+	@Override
+	public Identifier getIdentifier()
+	{
+		return new Identifier(sequence, hi);
+	}
+
+	public String getSequence()
+	{
+		return sequence;
+	}
+
+	public void setSequence(String sequence)
+	{
+		this.sequence = sequence;
+	}
+
+	public long getHi()
+	{
+		return hi;
+	}
+
+	public void setHi(long hi)
+	{
+		this.hi = hi;
+	}
+}
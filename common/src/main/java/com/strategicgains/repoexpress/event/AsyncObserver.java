@@ -0,0 +1,539 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.event.ObserverRegistry.Event;
+
+/**
+ * Wraps a RepositoryObserver so its after-events (afterCreate, afterRead, afterUpdate and
+ * afterDelete) are delivered on background threads instead of the request thread. Before-events
+ * are still delivered synchronously, so they can validate or modify the entity as usual.
+ * <p/>
+ * Events are spread across a number of lanes by entity identifier. Each lane is a bounded queue
+ * drained by its own (virtual) thread, so events for the same entity are delivered in the order
+ * they occurred. When a lane's queue is full the Backpressure setting decides what happens. If the
+ * wrapped observer implements BatchRepositoryObserver, it receives up to batchSize queued events
+ * per call to afterEvents() instead.
+ * <p/>
+ * Exceptions thrown by the wrapped observer's after-events are counted and passed to the error
+ * handler, if one is set; they can no longer fail the repository call. Call close() to deliver
+ * the queued events and stop the lanes.
+ * <p/>
+ * Usage: repository.addObserver(new AsyncObserver&lt;Order&gt;(new OrderIndexingObserver()));
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class AsyncObserver<T extends Identifiable>
+implements RepositoryObserver<T>, AutoCloseable
+{
+	/**
+	 * What to do with an after-event when its lane's queue is full.
+	 */
+	public enum Backpressure
+	{
+		/**
+		 * Wait for room in the queue, slowing the request thread to the observer's pace.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard the event, counting it in getDroppedCount().
+		 */
+		DROP,
+
+		/**
+		 * Deliver the event on the request thread. It may overtake events for the same
+		 * entity that are still queued.
+		 */
+		CALLER_RUNS
+	}
+
+	public static final int DEFAULT_LANES = 4;
+	public static final int DEFAULT_CAPACITY = 1024;
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private static final Object STOP = new Object();
+
+	private final RepositoryObserver<T> delegate;
+	private final Backpressure backpressure;
+	private final int batchSize;
+	private final List<Lane> lanes;
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private volatile Consumer<? super RuntimeException> errorHandler;
+	private volatile boolean closed;
+
+	public AsyncObserver(RepositoryObserver<T> delegate)
+	{
+		this(delegate, DEFAULT_LANES, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, Backpressure.BLOCK);
+	}
+
+	/**
+	 * @param delegate the observer to deliver events to.
+	 * @param lanes the number of queues (and delivery threads). Events are ordered per entity.
+	 * @param capacity the maximum number of events queued in each lane.
+	 * @param batchSize the maximum number of events per afterEvents() call, if the delegate is a BatchRepositoryObserver.
+	 * @param backpressure what to do when a lane is full.
+	 */
+	public AsyncObserver(RepositoryObserver<T> delegate, int lanes, int capacity, int batchSize, Backpressure backpressure)
+	{
+		super();
+
+		if (delegate == null) throw new IllegalArgumentException("delegate is required");
+		if (backpressure == null) throw new IllegalArgumentException("backpressure is required");
+		if (lanes < 1 || capacity < 1 || batchSize < 1) throw new IllegalArgumentException("lanes, capacity and batchSize must be at least one");
+
+		this.delegate = delegate;
+		this.backpressure = backpressure;
+		this.batchSize = batchSize;
+		this.lanes = new ArrayList<Lane>(lanes);
+
+		for (int i = 0; i < lanes; ++i)
+		{
+			this.lanes.add(new Lane(capacity, i));
+		}
+	}
+
+	public RepositoryObserver<T> getDelegate()
+	{
+		return delegate;
+	}
+
+	/**
+	 * Sets a handler for exceptions thrown by the delegate's after-events. It is called on the
+	 * delivery thread.
+	 */
+	public void setErrorHandler(Consumer<? super RuntimeException> errorHandler)
+	{
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * @return the number of events discarded under Backpressure.DROP.
+	 */
+	public long getDroppedCount()
+	{
+		return dropped.sum();
+	}
+
+	/**
+	 * @return the number of after-events (or batches) the delegate failed to handle.
+	 */
+	public long getFailureCount()
+	{
+		return failures.sum();
+	}
+
+	/**
+	 * Waits until every event queued before this call has been delivered.
+	 * 
+	 * @return false if the timeout elapsed first.
+	 */
+	public boolean flush(long timeout, TimeUnit unit)
+	throws InterruptedException
+	{
+		if (closed) return true;
+
+		CountDownLatch latch = new CountDownLatch(lanes.size());
+
+		for (Lane lane : lanes)
+		{
+			lane.queue.put(latch);
+			lane.recheck(latch);
+		}
+
+		return latch.await(timeout, unit);
+	}
+
+	/**
+	 * Delivers the events already queued, then stops the delivery threads. After-events that
+	 * occur after close() are delivered synchronously. Every lane is stopped even if the calling
+	 * thread is interrupted; its interrupt status is restored afterwards.
+	 */
+	@Override
+	public synchronized void close()
+	{
+		if (closed) return;
+
+		closed = true;
+		boolean interrupted = false;
+
+		for (Lane lane : lanes)
+		{
+			interrupted |= lane.stop();
+		}
+
+		for (Lane lane : lanes)
+		{
+			interrupted |= lane.join();
+		}
+
+		// Events enqueued by threads that hadn't yet seen closed.
+		for (Lane lane : lanes)
+		{
+			lane.drain();
+		}
+
+		if (interrupted)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	// SECTION: BEFORE-EVENTS
+
+	@Override
+	public void beforeCreate(T object)
+	{
+		delegate.beforeCreate(object);
+	}
+
+	@Override
+	public void beforeDelete(T object)
+	{
+		delegate.beforeDelete(object);
+	}
+
+	@Override
+	public void beforeRead(Identifier id)
+	{
+		delegate.beforeRead(id);
+	}
+
+	@Override
+	public void beforeUpdate(T object)
+	{
+		delegate.beforeUpdate(object);
+	}
+
+
+	// SECTION: AFTER-EVENTS
+
+	@Override
+	public void afterCreate(T object)
+	{
+		enqueue(new RepositoryEvent<T>(Event.AFTER_CREATE, object));
+	}
+
+	@Override
+	public void afterDelete(T object)
+	{
+		enqueue(new RepositoryEvent<T>(Event.AFTER_DELETE, object));
+	}
+
+	@Override
+	public void afterRead(T object)
+	{
+		enqueue(new RepositoryEvent<T>(Event.AFTER_READ, object));
+	}
+
+	@Override
+	public void afterUpdate(T object)
+	{
+		enqueue(new RepositoryEvent<T>(Event.AFTER_UPDATE, object));
+	}
+
+	private void enqueue(RepositoryEvent<T> event)
+	{
+		if (closed)
+		{
+			deliver(event);
+			return;
+		}
+
+		Lane lane = laneFor(event.getEntity());
+
+		if (lane.queue.offer(event))
+		{
+			lane.recheck(event);
+			return;
+		}
+
+		switch (backpressure)
+		{
+			case DROP:
+				dropped.increment();
+				break;
+
+			case CALLER_RUNS:
+				deliver(event);
+				break;
+
+			default:
+				try
+				{
+					lane.queue.put(event);
+					lane.recheck(event);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					deliver(event);
+				}
+		}
+	}
+
+	private Lane laneFor(T entity)
+	{
+		Identifier id = (entity != null ? entity.getIdentifier() : null);
+		return lanes.get(id == null ? 0 : Math.floorMod(id.hashCode(), lanes.size()));
+	}
+
+	private void deliver(RepositoryEvent<T> event)
+	{
+		List<RepositoryEvent<T>> batch = new ArrayList<RepositoryEvent<T>>(1);
+		batch.add(event);
+		deliver(batch);
+	}
+
+	/**
+	 * Delivers an event, or releases a flush() latch, taken from a lane's queue by a thread
+	 * other than the lane's own.
+	 */
+	@SuppressWarnings("unchecked")
+	private void release(Object item)
+	{
+		if (item instanceof RepositoryEvent)
+		{
+			deliver((RepositoryEvent<T>) item);
+		}
+		else if (item instanceof CountDownLatch)
+		{
+			((CountDownLatch) item).countDown();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void deliver(List<RepositoryEvent<T>> batch)
+	{
+		if (delegate instanceof BatchRepositoryObserver)
+		{
+			try
+			{
+				((BatchRepositoryObserver<T>) delegate).afterEvents(batch);
+			}
+			catch (RuntimeException e)
+			{
+				failed(e);
+			}
+
+			return;
+		}
+
+		for (RepositoryEvent<T> event : batch)
+		{
+			try
+			{
+				switch (event.getEvent())
+				{
+					case AFTER_CREATE:
+						delegate.afterCreate(event.getEntity());
+						break;
+
+					case AFTER_DELETE:
+						delegate.afterDelete(event.getEntity());
+						break;
+
+					case AFTER_READ:
+						delegate.afterRead(event.getEntity());
+						break;
+
+					case AFTER_UPDATE:
+						delegate.afterUpdate(event.getEntity());
+						break;
+
+					default:
+						break;
+				}
+			}
+			catch (RuntimeException e)
+			{
+				failed(e);
+			}
+		}
+	}
+
+	private void failed(RuntimeException e)
+	{
+		failures.increment();
+		Consumer<? super RuntimeException> handler = errorHandler;
+
+		if (handler != null)
+		{
+			handler.accept(e);
+		}
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * A bounded queue and the thread that drains it, in batches.
+	 */
+	private class Lane
+	implements Runnable
+	{
+		final BlockingQueue<Object> queue;
+		final Thread thread;
+
+		Lane(int capacity, int index)
+		{
+			this.queue = new ArrayBlockingQueue<Object>(capacity);
+			this.thread = Thread.ofVirtual().name("repoexpress-observer-" + index).start(this);
+		}
+
+		/**
+		 * Called after queueing an item. If close() began in the meantime, the lane thread
+		 * may already have stopped and close() may already have drained the queue, so the
+		 * item is taken back and released here. Whichever thread removes it releases it.
+		 */
+		void recheck(Object item)
+		{
+			if (closed && queue.remove(item))
+			{
+				release(item);
+			}
+		}
+
+		/**
+		 * Queues STOP, retrying if interrupted.
+		 * 
+		 * @return true if the calling thread was interrupted.
+		 */
+		boolean stop()
+		{
+			boolean interrupted = false;
+
+			while (true)
+			{
+				try
+				{
+					queue.put(STOP);
+					return interrupted;
+				}
+				catch (InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+		}
+
+		/**
+		 * Waits for the lane thread to finish, retrying if interrupted.
+		 * 
+		 * @return true if the calling thread was interrupted.
+		 */
+		boolean join()
+		{
+			boolean interrupted = false;
+
+			while (true)
+			{
+				try
+				{
+					thread.join();
+					return interrupted;
+				}
+				catch (InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+		}
+
+		/**
+		 * Releases whatever was queued behind STOP.
+		 */
+		void drain()
+		{
+			Object item;
+
+			while ((item = queue.poll()) != null)
+			{
+				release(item);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void run()
+		{
+			List<Object> drained = new ArrayList<Object>(batchSize);
+			List<RepositoryEvent<T>> batch = new ArrayList<RepositoryEvent<T>>(batchSize);
+			boolean stopped = false;
+
+			while (!stopped)
+			{
+				try
+				{
+					drained.add(queue.take());
+				}
+				catch (InterruptedException e)
+				{
+					return;
+				}
+
+				queue.drainTo(drained, batchSize - 1);
+
+				for (Object item : drained)
+				{
+					if (item instanceof RepositoryEvent)
+					{
+						batch.add((RepositoryEvent<T>) item);
+						continue;
+					}
+
+					if (!batch.isEmpty())
+					{
+						deliver(batch);
+						batch.clear();
+					}
+
+					if (item == STOP)
+					{
+						// Anything drained along with STOP is still delivered here.
+						stopped = true;
+					}
+					else
+					{
+						((CountDownLatch) item).countDown();
+					}
+				}
+
+				if (!batch.isEmpty())
+				{
+					deliver(batch);
+					batch.clear();
+				}
+
+				drained.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import java.util.List;
+
+import com.strategicgains.noschema.Identifiable;
+
+/**
+ * Implemented by observers wrapped in an AsyncObserver that would rather receive queued
+ * after-events in batches (e.g. for a bulk index request) than one call at a time.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public interface BatchRepositoryObserver<T extends Identifiable>
+{
+	/**
+	 * Handles a batch of after-events, in the order they occurred for each entity.
+	 * 
+	 * @param events one or more events. Never empty.
+	 */
+	public void afterEvents(List<RepositoryEvent<T>> events);
+
+	/**
+	 * By default a batch observer receives only afterCreate, afterUpdate and afterDelete events,
+	 * so reads don't queue an event each (or, under Backpressure.BLOCK, wait on the observer).
+	 * 
+	 * @return true to also receive afterRead events.
+	 */
+	default boolean observesReads()
+	{
+		return false;
+	}
+}
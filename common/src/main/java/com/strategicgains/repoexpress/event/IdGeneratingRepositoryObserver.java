@@ -0,0 +1,64 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import com.strategicgains.noschema.entity.Entity;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.util.IdGenerator;
+
+/**
+ * Assigns an ID from an {@link IdGenerator} to an entity before create, unless it already has
+ * one. Ensures one is present on update.
+ * <p/>
+ * With an in-process generator (e.g. SnowflakeGenerator or HiLoIdGenerator) this takes ID
+ * assignment off the datastore, saving a round trip per create.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class IdGeneratingRepositoryObserver<T extends Entity<K>, K>
+extends AbstractRepositoryObserver<T>
+{
+	private final IdGenerator<? extends K> ids;
+
+	public IdGeneratingRepositoryObserver(IdGenerator<? extends K> ids)
+	{
+		super();
+		if (ids == null) throw new IllegalArgumentException("ID generator required");
+
+		this.ids = ids;
+	}
+
+	@Override
+	public void beforeCreate(T entity)
+	{
+		super.beforeCreate(entity);
+
+		if (entity.getId() == null)
+		{
+			entity.setId(ids.next());
+		}
+	}
+
+	@Override
+	public void beforeUpdate(T entity)
+	{
+		if (!entity.hasId())
+		{
+			throw new InvalidObjectIdException("ID required on update");
+		}
+	}
+}
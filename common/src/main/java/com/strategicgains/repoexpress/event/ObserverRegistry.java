@@ -0,0 +1,247 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * A thread-safe, copy-on-write set of RepositoryObservers. Registration builds a new snapshot
+ * holding, for each Event, an array of only the observers that handle it, so notification is a
+ * single volatile read and a plain array loop: no locking, no iterator and no
+ * ConcurrentModificationException when observers are added while events are flowing.
+ * <p/>
+ * Sub-classes of AbstractRepositoryObserver are only included for the events they override,
+ * so an event no observer overrides costs an empty loop. An AsyncObserver is included for the
+ * events its delegate handles; for a BatchRepositoryObserver, that is afterCreate, afterUpdate
+ * and afterDelete, plus afterRead if it observesReads(). Other RepositoryObserver
+ * implementations are included for every event.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class ObserverRegistry<T extends Identifiable>
+{
+	/**
+	 * The repository events an observer may handle.
+	 */
+	public enum Event
+	{
+		AFTER_CREATE("afterCreate", Identifiable.class),
+		AFTER_DELETE("afterDelete", Identifiable.class),
+		AFTER_READ("afterRead", Identifiable.class),
+		AFTER_UPDATE("afterUpdate", Identifiable.class),
+		BEFORE_CREATE("beforeCreate", Identifiable.class),
+		BEFORE_DELETE("beforeDelete", Identifiable.class),
+		BEFORE_READ("beforeRead", Identifier.class),
+		BEFORE_UPDATE("beforeUpdate", Identifiable.class);
+
+		private final String method;
+		private final Class<?> parameter;
+
+		private Event(String method, Class<?> parameter)
+		{
+			this.method = method;
+			this.parameter = parameter;
+		}
+
+		/**
+		 * @return true if the observer class handles this event (i.e. doesn't inherit the
+		 * do-nothing implementation from AbstractRepositoryObserver).
+		 */
+		boolean isHandledBy(Class<?> observerType)
+		{
+			if (!AbstractRepositoryObserver.class.isAssignableFrom(observerType)) return true;
+
+			try
+			{
+				return (observerType.getMethod(method, parameter).getDeclaringClass() != AbstractRepositoryObserver.class);
+			}
+			catch (NoSuchMethodException e)
+			{
+				return true;
+			}
+		}
+	}
+
+	private static final Event[] EVENTS = Event.values();
+	private static final int AFTER_WRITE_EVENTS = (1 << Event.AFTER_CREATE.ordinal()) | (1 << Event.AFTER_DELETE.ordinal())
+		| (1 << Event.AFTER_UPDATE.ordinal());
+	private static final int AFTER_EVENTS = AFTER_WRITE_EVENTS | (1 << Event.AFTER_READ.ordinal());
+	private static final RepositoryObserver<?>[] NONE = new RepositoryObserver<?>[0];
+
+	/**
+	 * The events each observer class handles, as a bit mask of Event ordinals. Computed once per class.
+	 */
+	private static final ClassValue<Integer> HANDLED_EVENTS = new ClassValue<Integer>()
+	{
+		@Override
+		protected Integer computeValue(Class<?> type)
+		{
+			int mask = 0;
+
+			for (Event event : EVENTS)
+			{
+				if (event.isHandledBy(type)) mask |= (1 << event.ordinal());
+			}
+
+			return mask;
+		}
+	};
+
+	private volatile Snapshot snapshot = new Snapshot(NONE);
+
+	public void add(RepositoryObserver<T> observer)
+	{
+		if (observer == null) throw new IllegalArgumentException("observer is required");
+
+		synchronized (this)
+		{
+			RepositoryObserver<?>[] all = snapshot.all;
+			RepositoryObserver<?>[] updated = Arrays.copyOf(all, all.length + 1);
+			updated[all.length] = observer;
+			snapshot = new Snapshot(updated);
+		}
+	}
+
+	/**
+	 * Removes the first occurrence of the observer.
+	 * 
+	 * @return true if the observer was registered.
+	 */
+	public synchronized boolean remove(RepositoryObserver<T> observer)
+	{
+		RepositoryObserver<?>[] all = snapshot.all;
+
+		for (int i = 0; i < all.length; ++i)
+		{
+			if (all[i].equals(observer))
+			{
+				RepositoryObserver<?>[] updated = new RepositoryObserver<?>[all.length - 1];
+				System.arraycopy(all, 0, updated, 0, i);
+				System.arraycopy(all, i + 1, updated, i, all.length - i - 1);
+				snapshot = new Snapshot(updated);
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public synchronized void clear()
+	{
+		snapshot = new Snapshot(NONE);
+	}
+
+	public boolean isEmpty()
+	{
+		return (snapshot.all.length == 0);
+	}
+
+	/**
+	 * @return an unmodifiable snapshot of all the registered observers, in registration order.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<RepositoryObserver<T>> getAll()
+	{
+		return Collections.unmodifiableList(Arrays.asList((RepositoryObserver<T>[]) snapshot.all));
+	}
+
+	/**
+	 * Returns the observers that handle the event, in registration order. The array is
+	 * shared and must not be modified.
+	 */
+	@SuppressWarnings("unchecked")
+	public RepositoryObserver<T>[] get(Event event)
+	{
+		return (RepositoryObserver<T>[]) snapshot.byEvent[event.ordinal()];
+	}
+
+	/**
+	 * @return true if any registered observer handles the event.
+	 */
+	public boolean isObserved(Event event)
+	{
+		return (snapshot.byEvent[event.ordinal()].length > 0);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * An immutable view of the registered observers.
+	 */
+	private static class Snapshot
+	{
+		final RepositoryObserver<?>[] all;
+		final RepositoryObserver<?>[][] byEvent = new RepositoryObserver<?>[EVENTS.length][];
+
+		Snapshot(RepositoryObserver<?>[] all)
+		{
+			this.all = all;
+
+			for (Event event : EVENTS)
+			{
+				byEvent[event.ordinal()] = filter(all, 1 << event.ordinal());
+			}
+		}
+
+		private static RepositoryObserver<?>[] filter(RepositoryObserver<?>[] observers, int bit)
+		{
+			int count = 0;
+
+			for (RepositoryObserver<?> observer : observers)
+			{
+				if ((handledEvents(observer) & bit) != 0) ++count;
+			}
+
+			if (count == 0) return NONE;
+
+			RepositoryObserver<?>[] matching = new RepositoryObserver<?>[count];
+			int i = 0;
+
+			for (RepositoryObserver<?> observer : observers)
+			{
+				if ((handledEvents(observer) & bit) != 0) matching[i++] = observer;
+			}
+
+			return matching;
+		}
+
+		private static int handledEvents(RepositoryObserver<?> observer)
+		{
+			if (observer instanceof AsyncObserver)
+			{
+				RepositoryObserver<?> delegate = ((AsyncObserver<?>) observer).getDelegate();
+
+				if (delegate instanceof BatchRepositoryObserver)
+				{
+					// After-events reach a batch observer through afterEvents(), whatever it overrides.
+					int after = (((BatchRepositoryObserver<?>) delegate).observesReads() ? AFTER_EVENTS : AFTER_WRITE_EVENTS);
+					return (handledEvents(delegate) & ~AFTER_EVENTS) | after;
+				}
+
+				return handledEvents(delegate);
+			}
+
+			return HANDLED_EVENTS.get(observer.getClass());
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.repoexpress.event.ObserverRegistry.Event;
+
+/**
+ * An after-event queued by an AsyncObserver: which event occurred and the entity it occurred on.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class RepositoryEvent<T extends Identifiable>
+{
+	private final Event event;
+	private final T entity;
+
+	public RepositoryEvent(Event event, T entity)
+	{
+		super();
+		this.event = event;
+		this.entity = entity;
+	}
+
+	public Event getEvent()
+	{
+		return event;
+	}
+
+	public T getEntity()
+	{
+		return entity;
+	}
+
+	@Override
+	public String toString()
+	{
+		return event + " " + (entity != null ? entity.getIdentifier() : null);
+	}
+}
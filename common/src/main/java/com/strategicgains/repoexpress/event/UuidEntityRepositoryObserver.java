@@ -19,25 +19,28 @@ import java.util.UUID;
 
 import com.strategicgains.repoexpress.domain.UuidEntity;
 import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.util.IdGenerator;
 
 /**
  * Assigns a UUID to an entity before create. Ensures one is present on update.
+ * <p/>
+ * By default, assigns random (version 4) UUIDs. Pass IdGenerator.timeOrderedUuid() to assign
+ * time-ordered (version 7) UUIDs instead, which keep inserts into B-tree indexes sequential.
  * 
  * @author toddf
  * @since Mar 11, 2013
  */
 public class UuidEntityRepositoryObserver<T extends UuidEntity>
-extends AbstractRepositoryObserver<T>
+extends IdGeneratingRepositoryObserver<T, UUID>
 {
-	@Override
-	public void beforeCreate(T entity)
+	public UuidEntityRepositoryObserver()
 	{
-		super.beforeCreate(entity);
+		this(IdGenerator.randomUuid());
+	}
 
-		if (entity.getId() == null)
-		{
-			entity.setId(UUID.randomUUID());
-		}
+	public UuidEntityRepositoryObserver(IdGenerator<UUID> ids)
+	{
+		super(ids);
 	}
 
 	@Override
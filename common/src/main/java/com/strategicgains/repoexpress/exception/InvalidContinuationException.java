@@ -0,0 +1,58 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.exception;
+
+/**
+ * Thrown when a keyset-pagination continuation token is malformed or was issued for a
+ * different sort order.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class InvalidContinuationException
+extends RepositoryException
+{
+	private static final long serialVersionUID = 3207739441570815427L;
+
+	public InvalidContinuationException()
+	{
+	}
+
+	/**
+	 * @param message
+	 */
+	public InvalidContinuationException(String message)
+	{
+		super(message);
+	}
+
+	/**
+	 * @param cause
+	 */
+	public InvalidContinuationException(Throwable cause)
+	{
+		super(cause);
+	}
+
+	/**
+	 * @param message
+	 * @param cause
+	 */
+	public InvalidContinuationException(String message, Throwable cause)
+	{
+		super(message, cause);
+	}
+}
@@ -0,0 +1,400 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * A concurrent map from primitive long keys to objects, without boxing the keys or allocating a
+ * node per entry. The key space is divided between lock-striped segments, each an open-addressing
+ * (linear probing) table of parallel key and value arrays. Removal shifts later entries back
+ * rather than leaving tombstones.
+ * <p/>
+ * get() reads optimistically, without locking or allocating, and falls back to a read lock only
+ * if a write to the same segment intervened. Writes lock their segment.
+ * <p/>
+ * Null values are not permitted (a null value marks an empty slot).
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+final class ConcurrentLongMap<V>
+{
+	private static final int MIN_SEGMENT_CAPACITY = 16;
+
+	private final Segment<V>[] segments;
+	private final int segmentShift;
+
+	/**
+	 * @param segmentCount the number of lock stripes. Rounded up to a power of two.
+	 * @param initialCapacity the expected number of entries.
+	 */
+	@SuppressWarnings("unchecked")
+	ConcurrentLongMap(int segmentCount, int initialCapacity)
+	{
+		super();
+		int count = Integer.highestOneBit(Math.max(1, segmentCount - 1) << 1);
+		int perSegment = Math.max(MIN_SEGMENT_CAPACITY, tableSizeFor((int) Math.min(1 << 30, ((long) initialCapacity / count) * 3 / 2 + 1)));
+		this.segments = new Segment[count];
+		this.segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+
+		for (int i = 0; i < count; i++)
+		{
+			segments[i] = new Segment<V>(perSegment);
+		}
+	}
+
+	V get(long key)
+	{
+		long hash = hash(key);
+		return segmentFor(hash).get(key, (int) hash);
+	}
+
+	boolean containsKey(long key)
+	{
+		return (get(key) != null);
+	}
+
+	/**
+	 * @return the previous value, or null.
+	 */
+	V put(long key, V value)
+	{
+		long hash = hash(key);
+		return segmentFor(hash).put(key, (int) hash, value, true, false);
+	}
+
+	/**
+	 * @return the existing value (and the map is unchanged), or null if the value was added.
+	 */
+	V putIfAbsent(long key, V value)
+	{
+		long hash = hash(key);
+		return segmentFor(hash).put(key, (int) hash, value, false, false);
+	}
+
+	/**
+	 * @return the previous value, or null (and the map is unchanged) if the key was absent.
+	 */
+	V replace(long key, V value)
+	{
+		long hash = hash(key);
+		return segmentFor(hash).put(key, (int) hash, value, true, true);
+	}
+
+	/**
+	 * @return the removed value, or null.
+	 */
+	V remove(long key)
+	{
+		long hash = hash(key);
+		return segmentFor(hash).remove(key, (int) hash);
+	}
+
+	int size()
+	{
+		int size = 0;
+
+		for (Segment<V> segment : segments)
+		{
+			size += segment.size;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Passes each value to the consumer, a segment at a time. Each segment is copied under its
+	 * read lock, so the consumer may modify the map.
+	 */
+	void forEach(Consumer<? super V> consumer)
+	{
+		for (Segment<V> segment : segments)
+		{
+			for (V value : segment.values())
+			{
+				consumer.accept(value);
+			}
+		}
+	}
+
+	void clear()
+	{
+		for (Segment<V> segment : segments)
+		{
+			segment.clear();
+		}
+	}
+
+	private Segment<V> segmentFor(long hash)
+	{
+		return segments[(int) (hash >>> segmentShift) & (segments.length - 1)];
+	}
+
+	/**
+	 * The MurmurHash3 64-bit finalizer, so sequential keys spread across segments and slots.
+	 */
+	static long hash(long key)
+	{
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static int tableSizeFor(int n)
+	{
+		return Integer.highestOneBit(Math.max(1, n - 1) << 1);
+	}
+
+	@SuppressWarnings("serial")
+	private static final class Segment<V>
+	extends StampedLock
+	{
+		private long[] keys;
+		private Object[] values;
+		private volatile int size;
+
+		Segment(int capacity)
+		{
+			super();
+			this.keys = new long[capacity];
+			this.values = new Object[capacity];
+		}
+
+		@SuppressWarnings("unchecked")
+		V get(long key, int hash)
+		{
+			long stamp = tryOptimisticRead();
+
+			if (stamp != 0)
+			{
+				Object value = find(keys, values, key, hash);
+
+				if (validate(stamp)) return (V) value;
+			}
+
+			stamp = readLock();
+
+			try
+			{
+				return (V) find(keys, values, key, hash);
+			}
+			finally
+			{
+				unlockRead(stamp);
+			}
+		}
+
+		/**
+		 * Probes at most one full cycle, so a read that races with a write still terminates
+		 * (and is then discarded by validate()).
+		 */
+		private static Object find(long[] keys, Object[] values, long key, int hash)
+		{
+			// a racing resize may have replaced one array but not the other.
+			if (keys.length != values.length) return null;
+
+			int mask = values.length - 1;
+
+			for (int i = hash & mask, n = 0; n <= mask; i = (i + 1) & mask, n++)
+			{
+				Object value = values[i];
+
+				if (value == null) return null;
+				if (keys[i] == key) return value;
+			}
+
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		V put(long key, int hash, V value, boolean ifPresent, boolean onlyIfPresent)
+		{
+			long stamp = writeLock();
+
+			try
+			{
+				int mask = values.length - 1;
+				int i = hash & mask;
+
+				while (values[i] != null)
+				{
+					if (keys[i] == key)
+					{
+						V previous = (V) values[i];
+
+						if (ifPresent) values[i] = value;
+
+						return previous;
+					}
+
+					i = (i + 1) & mask;
+				}
+
+				if (onlyIfPresent) return null;
+
+				keys[i] = key;
+				values[i] = value;
+
+				if (++size * 4 > values.length * 3)
+				{
+					resize();
+				}
+
+				return null;
+			}
+			finally
+			{
+				unlockWrite(stamp);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		V remove(long key, int hash)
+		{
+			long stamp = writeLock();
+
+			try
+			{
+				int mask = values.length - 1;
+				int i = hash & mask;
+
+				while (values[i] != null)
+				{
+					if (keys[i] == key)
+					{
+						V previous = (V) values[i];
+						shiftBack(i, mask);
+						--size;
+						return previous;
+					}
+
+					i = (i + 1) & mask;
+				}
+
+				return null;
+			}
+			finally
+			{
+				unlockWrite(stamp);
+			}
+		}
+
+		/**
+		 * Empties slot i, moving back any later entry in the run that would otherwise become
+		 * unreachable from its home slot.
+		 */
+		private void shiftBack(int i, int mask)
+		{
+			int hole = i;
+			int j = i;
+
+			while (true)
+			{
+				j = (j + 1) & mask;
+
+				if (values[j] == null) break;
+
+				int home = (int) hash(keys[j]) & mask;
+
+				// move the entry unless its home lies cyclically within (hole, j].
+				boolean stays = (hole <= j ? (hole < home && home <= j) : (hole < home || home <= j));
+
+				if (!stays)
+				{
+					keys[hole] = keys[j];
+					values[hole] = values[j];
+					hole = j;
+				}
+			}
+
+			values[hole] = null;
+		}
+
+		private void resize()
+		{
+			long[] oldKeys = keys;
+			Object[] oldValues = values;
+			int capacity = oldValues.length << 1;
+			int mask = capacity - 1;
+			long[] newKeys = new long[capacity];
+			Object[] newValues = new Object[capacity];
+
+			for (int i = 0; i < oldValues.length; i++)
+			{
+				if (oldValues[i] == null) continue;
+
+				int j = (int) hash(oldKeys[i]) & mask;
+
+				while (newValues[j] != null)
+				{
+					j = (j + 1) & mask;
+				}
+
+				newKeys[j] = oldKeys[i];
+				newValues[j] = oldValues[i];
+			}
+
+			values = newValues;
+			keys = newKeys;
+		}
+
+		@SuppressWarnings("unchecked")
+		List<V> values()
+		{
+			long stamp = readLock();
+
+			try
+			{
+				List<V> results = new ArrayList<V>(size);
+
+				for (Object value : values)
+				{
+					if (value != null) results.add((V) value);
+				}
+
+				return results;
+			}
+			finally
+			{
+				unlockRead(stamp);
+			}
+		}
+
+		void clear()
+		{
+			long stamp = writeLock();
+
+			try
+			{
+				Arrays.fill(values, null);
+				size = 0;
+			}
+			finally
+			{
+				unlockWrite(stamp);
+			}
+		}
+	}
+}
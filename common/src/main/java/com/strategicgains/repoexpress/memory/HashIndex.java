@@ -0,0 +1,97 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.restexpress.common.query.FilterOperator;
+
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * Maps each distinct property value to the identifiers having it.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+class HashIndex
+extends PropertyIndex
+{
+	private final Map<Object, Set<Identifier>> entries = new HashMap<>();
+	private Class<?> valueType;
+
+	HashIndex(String property)
+	{
+		super(property);
+	}
+
+	@Override
+	protected void add(Identifier id, Object value)
+	{
+		if (value != null && valueType == null) valueType = value.getClass();
+
+		entries.computeIfAbsent(value, v -> new HashSet<>()).add(id);
+	}
+
+	@Override
+	protected void remove(Identifier id, Object value)
+	{
+		Set<Identifier> ids = entries.get(value);
+
+		if (ids != null && ids.remove(id) && ids.isEmpty())
+		{
+			entries.remove(value);
+		}
+	}
+
+	@Override
+	void clear()
+	{
+		super.clear();
+		entries.clear();
+	}
+
+	@Override
+	Set<Identifier> candidates(FilterOperator operator, Object value)
+	{
+		switch (operator)
+		{
+			case EQUALS:
+				return lookup(value);
+			case IN:
+				Set<Identifier> ids = new HashSet<>();
+
+				for (Object v : QueryValues.toCollection(value))
+				{
+					ids.addAll(lookup(v));
+				}
+
+				return ids;
+			default:
+				return null;
+		}
+	}
+
+	private Set<Identifier> lookup(Object value)
+	{
+		Set<Identifier> ids = entries.get(QueryValues.coerce(value, valueType));
+		return (ids == null ? Collections.<Identifier>emptySet() : Collections.unmodifiableSet(ids));
+	}
+}
@@ -16,19 +16,59 @@
  */
 package com.strategicgains.repoexpress.memory;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.restexpress.common.query.FilterComponent;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
 
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
 import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.KeysetPage;
+import com.strategicgains.repoexpress.Queryable;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
 import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
 import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.util.ContinuationToken;
 
 /**
- * An extremely basic in-memory repository backed by a Map implementation.  Filtering, sorting, etc.
- * are not supported, so methods operate over the entire collection.
+ * A basic in-memory repository backed by a Map implementation.
+ * <p/>
+ * Queries filter, sort and page on entity properties, named by field or by a name registered
+ * with addProperty(). Filter values are converted to the property's type, and CONTAINS and
+ * STARTS_WITH are case-insensitive. A query scans the entire collection unless an index answers
+ * one of its criteria, so declare secondary indexes with addIndex() for properties that are
+ * queried often. Indexes are maintained on create, update and delete. A write locks only its
+ * entity's stripe and each index in turn, so writers wait on each other only while updating the
+ * same index. Declare indexes before the repository is shared between threads (e.g. in the
+ * subclass constructor).
+ * <p/>
+ * By default the contents are lost when the process exits. persist() makes the repository
+ * durable by journaling every write to a {@link MappedJournal} and restoring from it on startup.
  * 
  * Also, entities are assumed to have repository-unique identifiers, otherwise ID clashes will occur.
  * 
@@ -37,9 +77,154 @@ import com.strategicgains.repoexpress.exception.ItemNotFoundException;
  */
 public abstract class InMemoryRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
+implements Queryable<T>
 {
+	private static final PropertyIndex[] NO_INDEXES = new PropertyIndex[0];
+	private static final int STRIPES = 64;
+
 	protected Map<Identifier, T> items = new ConcurrentHashMap<Identifier, T>();
-	
+
+	private final Map<String, Function<? super T, ?>> properties = new ConcurrentHashMap<>();
+	private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+	private volatile PropertyIndex[] indexes = NO_INDEXES;
+	private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+	private volatile MappedJournal<T> journal;
+	private final Lock[] stripes = new Lock[STRIPES];
+
+	{
+		for (int i = 0; i < stripes.length; i++)
+		{
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Register how to read a query property, rather than reading the field of the same name.
+	 * 
+	 * @param name the property name used in filters and sorts.
+	 * @param accessor reads the property value from an entity.
+	 */
+	public void addProperty(String name, Function<? super T, ?> accessor)
+	{
+		if (name == null) throw new IllegalArgumentException("property name is required");
+		if (accessor == null) throw new IllegalArgumentException("accessor is required");
+
+		properties.put(name, accessor);
+	}
+
+	/**
+	 * Declare a secondary index on a property, indexing any entities already stored.
+	 * 
+	 * @param property the property name used in filters and sorts.
+	 * @param type the kind of index.
+	 */
+	public void addIndex(String property, IndexType type)
+	{
+		if (property == null) throw new IllegalArgumentException("property name is required");
+		if (type == null) throw new IllegalArgumentException("index type is required");
+
+		PropertyIndex index = PropertyIndex.create(property, type);
+		Function<? super T, ?> accessor = property(property);
+		indexLock.writeLock().lock();
+
+		try
+		{
+			for (T item : items.values())
+			{
+				index.index(item.getIdentifier(), accessor.apply(item));
+			}
+
+			PropertyIndex[] updated = Arrays.copyOf(indexes, indexes.length + 1);
+			updated[indexes.length] = index;
+			indexes = updated;
+		}
+		finally
+		{
+			indexLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Makes this repository durable. Its contents are restored from the journal, then every
+	 * subsequent create, update and delete is journaled before it is acknowledged. Entities
+	 * already in the repository are kept and included in an initial snapshot. Call before the
+	 * repository is shared between threads, and close the journal at shutdown.
+	 * 
+	 * @param journal
+	 */
+	public void persist(MappedJournal<T> journal)
+	{
+		if (journal == null) throw new IllegalArgumentException("journal is required");
+		if (this.journal != null) throw new IllegalStateException("Repository is already persisted");
+
+		indexLock.writeLock().lock();
+
+		try
+		{
+			journal.restore(this::restorePut, this::restoreRemove);
+		}
+		finally
+		{
+			indexLock.writeLock().unlock();
+		}
+
+		this.journal = journal;
+		snapshot();
+		journal.schedule(this::scheduledSnapshot);
+	}
+
+	/**
+	 * Writes a snapshot of the repository contents and discards the journal entries it
+	 * replaces. Writes continue while the snapshot is written. Does nothing unless the
+	 * repository is persisted.
+	 */
+	public void snapshot()
+	{
+		MappedJournal<T> current = journal;
+
+		if (current == null) return;
+
+		long marker;
+		journalLock.writeLock().lock();
+
+		try
+		{
+			// No write is between its journal entry and its map update here, so every entry
+			// before the marker is reflected in the map.
+			marker = current.rotate();
+		}
+		finally
+		{
+			journalLock.writeLock().unlock();
+		}
+
+		current.snapshot(marker, items.values());
+	}
+
+	private void scheduledSnapshot()
+	{
+		try
+		{
+			snapshot();
+		}
+		catch (RuntimeException e)
+		{
+			// the journal still holds every entry; retried at the next interval.
+		}
+	}
+
+	private void restorePut(T item)
+	{
+		items.put(item.getIdentifier(), item);
+		index(item);
+	}
+
+	private void restoreRemove(T item)
+	{
+		items.remove(item.getIdentifier());
+		unindex(item.getIdentifier());
+	}
+
 	@Override
 	public boolean exists(Identifier id)
 	{
@@ -49,19 +234,34 @@ extends AbstractObservableRepository<T>
 	@Override
 	public T doCreate(T item, boolean isUnique)
 	{
-		if (hasId(item))
+		if (!hasId(item))
 		{
-			if (isUnique && exists(item.getIdentifier()))
-			{
-				throw new DuplicateItemException(item.getClass().getSimpleName() + " ID already exists: " + item.getIdentifier().toString());
-			}
+			throw new InvalidObjectIdException("Identifier required for " + item.getClass().getSimpleName());
 		}
-		else
+
+		return store(item, isUnique);
+	}
+
+	private T store(T item, boolean isUnique)
+	{
+		if (journal != null || indexes.length > 0)
 		{
-			throw new InvalidObjectIdException("Identifier required for " + item.getClass().getSimpleName());
+			locked(item, false, current -> {
+				if (isUnique && current != null)
+				{
+					throw new DuplicateItemException(item.getClass().getSimpleName() + " ID already exists: " + item.getIdentifier().toString());
+				}
+			});
+		}
+		else if (!isUnique)
+		{
+			items.put(item.getIdentifier(), item);
+		}
+		else if (items.putIfAbsent(item.getIdentifier(), item) != null)
+		{
+			throw new DuplicateItemException(item.getClass().getSimpleName() + " ID already exists: " + item.getIdentifier().toString());
 		}
 
-		items.put(item.getIdentifier(), item);
 		return item;
 	}
 
@@ -78,26 +278,666 @@ extends AbstractObservableRepository<T>
     	return b;
     }
 
-    @Override
-    public T doUpdate(T item, boolean ifExists)
-    {
-    	if (ifExists)
-    	{
-    		read(item.getIdentifier());
-    	}
+	@Override
+	public T doUpdate(T item, boolean ifExists)
+	{
+		return replace(item, ifExists);
+	}
 
-    	items.put(item.getIdentifier(), item);
-    	return item;
-    }
+	private T replace(T item, boolean ifExists)
+	{
+		if (journal != null || indexes.length > 0)
+		{
+			locked(item, false, current -> {
+				if (ifExists && current == null)
+				{
+					throw new ItemNotFoundException("ID not found: " + item.getIdentifier().toString());
+				}
+			});
+		}
+		else if (!ifExists)
+		{
+			items.put(item.getIdentifier(), item);
+		}
+		else if (items.replace(item.getIdentifier(), item) == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + item.getIdentifier().toString());
+		}
 
-    @Override
-    public void doDelete(T object)
-    {
-    	T item = items.remove(object.getIdentifier());
+		return item;
+	}
 
-    	if (item == null)
-    	{
-    		throw new ItemNotFoundException("ID not found: " + object.getIdentifier().toString());
-    	}
-    }
+	@Override
+	public void doDelete(T object)
+	{
+		remove(object);
+	}
+
+	private void remove(T object)
+	{
+		Consumer<T> mustExist = current -> {
+			if (current == null)
+			{
+				throw new ItemNotFoundException("ID not found: " + object.getIdentifier().toString());
+			}
+		};
+
+		if (journal != null || indexes.length > 0)
+		{
+			locked(object, true, mustExist);
+		}
+		else
+		{
+			mustExist.accept(items.remove(object.getIdentifier()));
+		}
+	}
+
+	/**
+	 * Applies a write to the map, the journal (if persisted) and the indexes under a per-ID lock,
+	 * so journal entries and index entries for an ID are in the same order as its map updates.
+	 * Then waits for the journal entry to be committed. (ReentrantLock stripes rather than
+	 * ConcurrentHashMap.compute(), so virtual threads waiting on the journal are not pinned.)
+	 * 
+	 * @param item the entity to store or remove.
+	 * @param removal true to remove.
+	 * @param precondition given the current entity (or null), throws if the write must not proceed.
+	 */
+	private void locked(T item, boolean removal, Consumer<T> precondition)
+	{
+		MappedJournal<T> current = journal;
+		Identifier id = item.getIdentifier();
+		Lock stripe = stripes[Math.floorMod(id.hashCode(), stripes.length)];
+		long position = -1L;
+		journalLock.readLock().lock();
+		indexLock.readLock().lock();
+
+		try
+		{
+			stripe.lock();
+
+			try
+			{
+				precondition.accept(items.get(id));
+
+				if (removal)
+				{
+					if (current != null) position = current.remove(item);
+
+					items.remove(id);
+					unindex(id);
+				}
+				else
+				{
+					if (current != null) position = current.put(item);
+
+					items.put(id, item);
+					index(item);
+				}
+			}
+			finally
+			{
+				stripe.unlock();
+			}
+		}
+		finally
+		{
+			indexLock.readLock().unlock();
+			journalLock.readLock().unlock();
+		}
+
+		if (current != null) current.commit(position);
+	}
+
+	@Override
+	public long count(QueryFilter filter)
+	{
+		List<FilterComponent> criteria = criteria(filter);
+		PropertyIndex[] locked = lockIndexes();
+
+		try
+		{
+			if (criteria.isEmpty()) return items.size();
+
+			Predicate<T> matcher = matcher(criteria);
+			long count = 0;
+
+			for (T item : candidates(indexed(criteria)))
+			{
+				if (matcher.test(item)) ++count;
+			}
+
+			return count;
+		}
+		finally
+		{
+			unlockIndexes(locked);
+		}
+	}
+
+	@Override
+	public List<T> readAll(QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		List<FilterComponent> criteria = criteria(filter);
+		List<Sort> sorts = sorts(order);
+		long start = (range != null && range.hasStart() ? range.getStart() : 0L);
+		long limit = (range != null && range.hasLimit() ? range.getLimit() : Long.MAX_VALUE);
+		PropertyIndex[] locked = lockIndexes();
+
+		try
+		{
+			Set<Identifier> ids = indexed(criteria);
+			SortedIndex sortedIndex = (ids == null ? sortedIndex(sorts) : null);
+
+			if (sortedIndex != null)
+			{
+				return walk(sortedIndex, sorts, matcher(criteria), null, start, limit);
+			}
+
+			List<T> results = select(ids, criteria, (sorts.isEmpty() ? null : comparator(sorts)));
+
+			if (start == 0 && limit >= results.size()) return results;
+
+			int from = (int) Math.min(start, results.size());
+			int to = (int) (from + Math.min(limit, results.size() - from));
+			return new ArrayList<T>(results.subList(from, to));
+		}
+		finally
+		{
+			unlockIndexes(locked);
+		}
+	}
+
+	/**
+	 * Streams a snapshot of the query results, taken when this method is called.
+	 */
+	@Override
+	public Stream<T> stream(QueryFilter filter, QueryOrder order)
+	{
+		return readAll(filter, null, order).stream();
+	}
+
+	@Override
+	public KeysetPage<T> readPage(QueryFilter filter, QueryOrder order, int limit, String continuation)
+	{
+		if (limit < 1) throw new IllegalArgumentException("limit must be > 0");
+
+		List<FilterComponent> criteria = criteria(filter);
+		List<Sort> sorts = sorts(order);
+		String signature = signature(sorts);
+		List<String> seek = (continuation == null ? null : ContinuationToken.decode(signature, continuation));
+
+		if (seek != null && seek.size() <= sorts.size())
+		{
+			throw new InvalidContinuationException("Invalid continuation token");
+		}
+
+		PropertyIndex[] locked = lockIndexes();
+
+		try
+		{
+			Set<Identifier> ids = indexed(criteria);
+			SortedIndex sortedIndex = (ids == null ? sortedIndex(sorts) : null);
+			List<T> results;
+
+			if (sortedIndex != null)
+			{
+				results = walk(sortedIndex, sorts, matcher(criteria), seek, 0L, limit + 1L);
+			}
+			else
+			{
+				List<T> all = select(ids, criteria, comparator(sorts));
+				int from = (seek == null ? 0 : after(all, sorts, seek));
+				results = all.subList(from, Math.min(all.size(), from + limit + 1));
+			}
+
+			String next = (results.size() > limit ? ContinuationToken.encode(signature, keyValues(sorts, results.get(limit - 1))) : null);
+			return new KeysetPage<T>(new ArrayList<T>(results.subList(0, Math.min(limit, results.size()))), next);
+		}
+		finally
+		{
+			unlockIndexes(locked);
+		}
+	}
+
+	/**
+	 * Locks the index set and then each index for reading, so a query sees no partial writes to
+	 * the indexes it uses. Writers hold at most one index lock at a time, so this cannot deadlock.
+	 */
+	private PropertyIndex[] lockIndexes()
+	{
+		indexLock.readLock().lock();
+		PropertyIndex[] locked = indexes;
+
+		for (PropertyIndex index : locked)
+		{
+			index.getLock().readLock().lock();
+		}
+
+		return locked;
+	}
+
+	private void unlockIndexes(PropertyIndex[] locked)
+	{
+		for (PropertyIndex index : locked)
+		{
+			index.getLock().readLock().unlock();
+		}
+
+		indexLock.readLock().unlock();
+	}
+
+	private void index(T item)
+	{
+		for (PropertyIndex index : indexes)
+		{
+			Object value = property(index.getProperty()).apply(item);
+			index.getLock().writeLock().lock();
+
+			try
+			{
+				index.index(item.getIdentifier(), value);
+			}
+			finally
+			{
+				index.getLock().writeLock().unlock();
+			}
+		}
+	}
+
+	private void unindex(Identifier id)
+	{
+		for (PropertyIndex index : indexes)
+		{
+			index.getLock().writeLock().lock();
+
+			try
+			{
+				index.unindex(id);
+			}
+			finally
+			{
+				index.getLock().writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * @return the smallest set of candidate identifiers any index offers for the criteria, or
+	 * null if no index can answer any of them.
+	 */
+	private Set<Identifier> indexed(List<FilterComponent> criteria)
+	{
+		Set<Identifier> smallest = null;
+
+		for (FilterComponent criterion : criteria)
+		{
+			for (PropertyIndex index : indexes)
+			{
+				if (!index.getProperty().equals(criterion.getField())) continue;
+
+				Set<Identifier> ids = index.candidates(criterion.getOperator(), criterion.getValue());
+
+				if (ids != null && (smallest == null || ids.size() < smallest.size()))
+				{
+					smallest = ids;
+				}
+			}
+		}
+
+		return smallest;
+	}
+
+	private Collection<T> candidates(Set<Identifier> ids)
+	{
+		if (ids == null) return items.values();
+
+		List<T> results = new ArrayList<T>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			T item = items.get(id);
+
+			if (item != null) results.add(item);
+		}
+
+		return results;
+	}
+
+	private List<T> select(Set<Identifier> ids, List<FilterComponent> criteria, Comparator<T> comparator)
+	{
+		Predicate<T> matcher = matcher(criteria);
+		List<T> results = new ArrayList<T>();
+
+		for (T item : candidates(ids))
+		{
+			if (matcher.test(item)) results.add(item);
+		}
+
+		if (comparator != null) results.sort(comparator);
+
+		return results;
+	}
+
+	/**
+	 * @return a sorted index that yields results in the requested order, if the order is on a
+	 * single property. Otherwise, null.
+	 */
+	private SortedIndex sortedIndex(List<Sort> sorts)
+	{
+		if (sorts.size() != 1) return null;
+
+		for (PropertyIndex index : indexes)
+		{
+			if (index instanceof SortedIndex && index.getProperty().equals(sorts.get(0).name))
+			{
+				return (SortedIndex) index;
+			}
+		}
+
+		return null;
+	}
+
+	private List<T> walk(SortedIndex index, List<Sort> sorts, Predicate<T> matcher, List<String> seek, long skip, long limit)
+	{
+		Iterator<Identifier> ids = index.ordered(sorts.get(0).descending, seek != null, (seek == null ? null : seek.get(0)));
+		List<T> results = new ArrayList<T>();
+		long skipped = 0;
+
+		while (ids.hasNext() && results.size() < limit)
+		{
+			T item = items.get(ids.next());
+
+			if (item == null || !matcher.test(item)) continue;
+			if (seek != null && compareToKey(item, sorts, seek) <= 0) continue;
+
+			if (skipped < skip)
+			{
+				++skipped;
+				continue;
+			}
+
+			results.add(item);
+		}
+
+		return results;
+	}
+
+	/**
+	 * @return the index of the first sorted item that comes after the key.
+	 */
+	private int after(List<T> sorted, List<Sort> sorts, List<String> key)
+	{
+		int low = 0;
+		int high = sorted.size();
+
+		while (low < high)
+		{
+			int mid = (low + high) >>> 1;
+
+			if (compareToKey(sorted.get(mid), sorts, key) <= 0)
+			{
+				low = mid + 1;
+			}
+			else
+			{
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+
+	private static List<FilterComponent> criteria(QueryFilter filter)
+	{
+		List<FilterComponent> criteria = new ArrayList<>();
+
+		if (filter != null)
+		{
+			filter.iterate(c -> criteria.add(c));
+		}
+
+		return criteria;
+	}
+
+	private Predicate<T> matcher(List<FilterComponent> criteria)
+	{
+		Predicate<T> matcher = item -> true;
+
+		for (FilterComponent criterion : criteria)
+		{
+			matcher = matcher.and(predicate(criterion));
+		}
+
+		return matcher;
+	}
+
+	private Predicate<T> predicate(FilterComponent criterion)
+	{
+		Function<? super T, ?> accessor = property(criterion.getField());
+		Object value = criterion.getValue();
+
+		switch (criterion.getOperator())
+		{
+			case EQUALS:
+				return item -> QueryValues.equal(accessor.apply(item), value);
+			case NOT_EQUALS:
+				return item -> !QueryValues.equal(accessor.apply(item), value);
+			case GREATER_THAN:
+				return compares(accessor, value, c -> c > 0);
+			case GREATER_THAN_OR_EQUAL_TO:
+				return compares(accessor, value, c -> c >= 0);
+			case LESS_THAN:
+				return compares(accessor, value, c -> c < 0);
+			case LESS_THAN_OR_EQUAL_TO:
+				return compares(accessor, value, c -> c <= 0);
+			case STARTS_WITH:
+				return matches(accessor, value, (actual, term) -> actual.startsWith(term));
+			case CONTAINS:
+				return matches(accessor, value, (actual, term) -> actual.contains(term));
+			case IN:
+				Collection<?> values = QueryValues.toCollection(value);
+				return item -> {
+					Object actual = accessor.apply(item);
+
+					for (Object v : values)
+					{
+						if (QueryValues.equal(actual, v)) return true;
+					}
+
+					return false;
+				};
+			default:
+				throw new RepositoryException("Unsupported filter operator: " + criterion.getOperator());
+		}
+	}
+
+	private Predicate<T> compares(Function<? super T, ?> accessor, Object value, IntPredicate test)
+	{
+		if (value == null) return item -> false;
+
+		return item -> {
+			Object actual = accessor.apply(item);
+			return (actual != null && test.test(QueryValues.compare(actual, QueryValues.coerce(value, actual.getClass()))));
+		};
+	}
+
+	private Predicate<T> matches(Function<? super T, ?> accessor, Object value, BiPredicate<String, String> test)
+	{
+		if (value == null) return item -> false;
+
+		String term = QueryValues.lower(value);
+
+		return item -> {
+			Object actual = accessor.apply(item);
+			return (actual != null && test.test(QueryValues.lower(actual), term));
+		};
+	}
+
+	private List<Sort> sorts(QueryOrder order)
+	{
+		List<Sort> sorts = new ArrayList<>();
+
+		if (order != null && order.isSorted())
+		{
+			order.iterate(c -> sorts.add(new Sort(c.getFieldName(), property(c.getFieldName()), c.isDescending())));
+		}
+
+		return sorts;
+	}
+
+	/**
+	 * Orders by the sort properties (nulls first), then by identifier.
+	 */
+	private Comparator<T> comparator(List<Sort> sorts)
+	{
+		return (a, b) -> {
+			for (Sort sort : sorts)
+			{
+				int c = QueryValues.compareNullable(sort.accessor.apply(a), sort.accessor.apply(b));
+
+				if (c != 0) return (sort.descending ? -c : c);
+			}
+
+			return QueryValues.compareIds(a.getIdentifier(), b.getIdentifier());
+		};
+	}
+
+	/**
+	 * Compares an item to a continuation key, in the same order as comparator().
+	 */
+	private int compareToKey(T item, List<Sort> sorts, List<String> key)
+	{
+		for (int i = 0; i < sorts.size(); i++)
+		{
+			Sort sort = sorts.get(i);
+			int c = compareToKeyValue(sort.accessor.apply(item), key.get(i));
+
+			if (c != 0) return (sort.descending ? -c : c);
+		}
+
+		List<Object> components = item.getIdentifier().components();
+
+		for (int i = 0; i < components.size() && sorts.size() + i < key.size(); i++)
+		{
+			int c = compareToKeyValue(components.get(i), key.get(sorts.size() + i));
+
+			if (c != 0) return c;
+		}
+
+		return 0;
+	}
+
+	private static int compareToKeyValue(Object value, String key)
+	{
+		if (value == null) return (key == null ? 0 : -1);
+		if (key == null) return 1;
+
+		return QueryValues.compare(value, QueryValues.coerce(key, value.getClass()));
+	}
+
+	private List<String> keyValues(List<Sort> sorts, T item)
+	{
+		List<String> values = new ArrayList<>();
+
+		for (Sort sort : sorts)
+		{
+			values.add(keyValue(sort.accessor.apply(item)));
+		}
+
+		for (Object component : item.getIdentifier().components())
+		{
+			values.add(keyValue(component));
+		}
+
+		return values;
+	}
+
+	private static String keyValue(Object value)
+	{
+		if (value == null) return null;
+		if (value instanceof Date) return String.valueOf(((Date) value).getTime());
+		if (value instanceof Enum) return ((Enum<?>) value).name();
+		return value.toString();
+	}
+
+	private String signature(List<Sort> sorts)
+	{
+		StringBuilder signature = new StringBuilder();
+
+		for (Sort sort : sorts)
+		{
+			signature.append(sort.name).append(sort.descending ? ":desc," : ":asc,");
+		}
+
+		return signature.append("id:asc").toString();
+	}
+
+	private Function<? super T, ?> property(String name)
+	{
+		return properties.computeIfAbsent(name, FieldAccessor::new);
+	}
+
+	/**
+	 * Reads a field by name from whatever class of entity it is given, for properties that
+	 * were not registered with addProperty().
+	 */
+	private static class FieldAccessor
+	implements Function<Object, Object>
+	{
+		private final String name;
+		private final Map<Class<?>, Field> fields = new ConcurrentHashMap<>();
+
+		FieldAccessor(String name)
+		{
+			super();
+			this.name = name;
+		}
+
+		@Override
+		public Object apply(Object entity)
+		{
+			try
+			{
+				return fields.computeIfAbsent(entity.getClass(), this::find).get(entity);
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new RepositoryException("Unable to read query field: " + name, e);
+			}
+		}
+
+		private Field find(Class<?> type)
+		{
+			for (Class<?> c = type; c != null; c = c.getSuperclass())
+			{
+				try
+				{
+					Field field = c.getDeclaredField(name);
+					field.setAccessible(true);
+					return field;
+				}
+				catch (NoSuchFieldException e)
+				{
+					// try the superclass.
+				}
+			}
+
+			throw new RepositoryException("Unsupported query field: " + name);
+		}
+	}
+
+	private class Sort
+	{
+		private final String name;
+		private final Function<? super T, ?> accessor;
+		private final boolean descending;
+
+		Sort(String name, Function<? super T, ?> accessor, boolean descending)
+		{
+			super();
+			this.name = name;
+			this.accessor = accessor;
+			this.descending = descending;
+		}
+	}
 }
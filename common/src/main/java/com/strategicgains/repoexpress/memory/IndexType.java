@@ -0,0 +1,34 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+/**
+ * The kinds of secondary index an {@link InMemoryRepository} can maintain on a property.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public enum IndexType
+{
+	/** Answers EQUALS and IN. */
+	HASH,
+
+	/** Answers EQUALS, IN and the range operators, and lets single-property sorts avoid a full sort. */
+	SORTED,
+
+	/** A case-insensitive trigram index that answers CONTAINS and STARTS_WITH for terms of three or more characters. */
+	NGRAM
+}
@@ -0,0 +1,238 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.event.ObserverRegistry.Event;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+
+/**
+ * An in-memory repository for entities identified by a single long (or int) value, such as
+ * those using StringToLongIdAdapter. Entities are kept in a lock-striped, open-addressing map
+ * keyed by the primitive value, so each entry costs a slot in a long[] and an Object[] instead of
+ * an Identifier, its component list, a boxed Long and a ConcurrentHashMap node.
+ * <p/>
+ * read(long) and exists(long) look up an entity without allocating, and read(Identifier) only
+ * unwraps the identifier. Reads are lock-free unless they race with a write to the same stripe.
+ * <p/>
+ * By default an entity's key is taken from getIdentifier(). Pass a key function (e.g.
+ * Order::getId) to avoid building an Identifier on every write.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class LongKeyedRepository<T extends Identifiable>
+extends AbstractObservableRepository<T>
+{
+	public static final int DEFAULT_STRIPES = 64;
+	public static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+	private final ConcurrentLongMap<T> items;
+	private final ToLongFunction<? super T> keyOf;
+
+	public LongKeyedRepository()
+	{
+		this(null);
+	}
+
+	/**
+	 * @param keyOf returns an entity's key. Null to use the entity's Identifier.
+	 */
+	public LongKeyedRepository(ToLongFunction<? super T> keyOf)
+	{
+		this(keyOf, DEFAULT_INITIAL_CAPACITY, DEFAULT_STRIPES);
+	}
+
+	/**
+	 * @param keyOf returns an entity's key. Null to use the entity's Identifier.
+	 * @param initialCapacity the expected number of entities.
+	 * @param stripes the number of independently locked segments. Rounded up to a power of two.
+	 */
+	public LongKeyedRepository(ToLongFunction<? super T> keyOf, int initialCapacity, int stripes)
+	{
+		super();
+
+		if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity must be >= 0");
+		if (stripes < 1) throw new IllegalArgumentException("stripes must be > 0");
+
+		this.keyOf = (keyOf != null ? keyOf : entity -> keyOf(entity.getIdentifier()));
+		this.items = new ConcurrentLongMap<T>(stripes, initialCapacity);
+	}
+
+	/**
+	 * Reads an entity by its primitive key. Does not allocate unless beforeRead observers are
+	 * registered, which are passed an Identifier.
+	 * 
+	 * @throws ItemNotFoundException if the key is not found.
+	 */
+	public T read(long id)
+	{
+		if (isObserved(Event.BEFORE_READ))
+		{
+			notifyBeforeRead(new Identifier(id));
+		}
+
+		T item = items.get(id);
+
+		if (item == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + id);
+		}
+
+		notifyAfterRead(item);
+		return item;
+	}
+
+	public boolean exists(long id)
+	{
+		return items.containsKey(id);
+	}
+
+	@Override
+	public boolean exists(Identifier id)
+	{
+		return (id != null && items.containsKey(keyOf(id)));
+	}
+
+	/**
+	 * @return the number of entities in the repository.
+	 */
+	public int size()
+	{
+		return items.size();
+	}
+
+	@Override
+	public T doCreate(T item, boolean ifUnique)
+	{
+		long key = key(item);
+
+		if (!ifUnique)
+		{
+			items.put(key, item);
+		}
+		else if (items.putIfAbsent(key, item) != null)
+		{
+			throw new DuplicateItemException(item.getClass().getSimpleName() + " ID already exists: " + key);
+		}
+
+		return item;
+	}
+
+	@Override
+	public T doRead(Identifier id)
+	{
+		T item = items.get(keyOf(id));
+
+		if (item == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + id.toString());
+		}
+
+		return item;
+	}
+
+	@Override
+	public T doUpdate(T item, boolean ifExists)
+	{
+		long key = key(item);
+
+		if (!ifExists)
+		{
+			items.put(key, item);
+		}
+		else if (items.replace(key, item) == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + key);
+		}
+
+		return item;
+	}
+
+	@Override
+	public void doDelete(T object)
+	{
+		long key = key(object);
+
+		if (items.remove(key) == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + key);
+		}
+	}
+
+	/**
+	 * Reads directly from the map, without an exception per missing ID. Read observers are
+	 * notified for each ID and each entity found.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		List<T> results = new ArrayList<T>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			notifyBeforeRead(id);
+
+			if (id == null) continue;
+
+			T item = items.get(keyOf(id));
+
+			if (item != null)
+			{
+				results.add(item);
+				notifyAfterRead(item);
+			}
+		}
+
+		return results;
+	}
+
+	private long key(T item)
+	{
+		if (item == null) throw new IllegalArgumentException("entity is required");
+
+		return keyOf.applyAsLong(item);
+	}
+
+	/**
+	 * @throws InvalidObjectIdException unless the identifier is a single integral number.
+	 */
+	private static long keyOf(Identifier id)
+	{
+		if (id == null || id.size() != 1)
+		{
+			throw new InvalidObjectIdException("A single numeric identifier component is required: " + id);
+		}
+
+		Object component = id.firstComponent();
+
+		if (component instanceof Long || component instanceof Integer || component instanceof Short || component instanceof Byte)
+		{
+			return ((Number) component).longValue();
+		}
+
+		throw new InvalidObjectIdException("A single numeric identifier component is required: " + id);
+	}
+}
@@ -0,0 +1,530 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.document.ObjectCodec;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * The persistence log for an {@link InMemoryRepository}, set with its persist() method. Every
+ * create, update and delete is appended to a memory-mapped segment file in a local directory
+ * as its length, an operation byte, the entity bytes from the ObjectCodec and a CRC32. A
+ * snapshot of the repository contents is written in the background every snapshot interval,
+ * after which the segments it covers are deleted. On restart the repository is restored from
+ * the latest snapshot plus the segments written since.
+ * <p/>
+ * If sync is true, a write waits until its entry is forced to the storage device before it is
+ * acknowledged. Concurrent writers share a single force (group commit), so the cost of the
+ * force is spread across every write waiting on it. Otherwise entries are left to the
+ * operating system to write back, which survives a process crash but not a power loss.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class MappedJournal<T extends Identifiable>
+implements AutoCloseable
+{
+	/**
+	 * The default size of each memory-mapped segment file.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	public static final long DEFAULT_SNAPSHOT_MINUTES = 5;
+
+	static final byte PUT = 1;
+	static final byte REMOVE = 2;
+
+	private static final String LOG_SUFFIX = ".log";
+	private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+	private final Path directory;
+	private final ObjectCodec<T> codec;
+	private final Class<T> type;
+	private final int segmentSize;
+	private final boolean sync;
+	private final long snapshotInterval;
+	private final TimeUnit unit;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition forced = lock.newCondition();
+	private final Object snapshotLock = new Object();
+	private long segment;
+	private MappedByteBuffer buffer;
+	private long written;
+	private long durable;
+	private boolean forcing;
+	private boolean closed;
+	private ScheduledExecutorService snapshots;
+
+	/**
+	 * Creates a synchronous journal with the default segment size and snapshot interval.
+	 */
+	public MappedJournal(Path directory, ObjectCodec<T> codec, Class<T> type)
+	{
+		this(directory, codec, type, DEFAULT_SEGMENT_SIZE, true, DEFAULT_SNAPSHOT_MINUTES, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * @param directory where segments and snapshots are kept. Created if necessary.
+	 * @param codec serializes the entities.
+	 * @param type the entity type, for deserialization.
+	 * @param segmentSize the size of each memory-mapped segment file.
+	 * @param sync true to force each entry to disk before the write is acknowledged.
+	 * @param snapshotInterval how often to write a snapshot. Zero or less for none, except those taken by InMemoryRepository.snapshot().
+	 * @param unit the unit of snapshotInterval.
+	 */
+	public MappedJournal(Path directory, ObjectCodec<T> codec, Class<T> type, int segmentSize, boolean sync, long snapshotInterval, TimeUnit unit)
+	{
+		super();
+
+		if (directory == null) throw new IllegalArgumentException("directory is required");
+		if (codec == null) throw new IllegalArgumentException("codec is required");
+		if (type == null) throw new IllegalArgumentException("type is required");
+		if (segmentSize < 1024) throw new IllegalArgumentException("segmentSize must be >= 1024");
+
+		this.directory = directory;
+		this.codec = codec;
+		this.type = type;
+		this.segmentSize = segmentSize;
+		this.sync = sync;
+		this.snapshotInterval = snapshotInterval;
+		this.unit = unit;
+
+		try
+		{
+			Files.createDirectories(directory);
+			long last = 0;
+
+			for (long s : numbers(LOG_SUFFIX)) last = Math.max(last, s);
+			for (long s : numbers(SNAPSHOT_SUFFIX)) last = Math.max(last, s);
+
+			segment = last + 1;
+			buffer = map(segment, segmentSize);
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to open journal in " + directory, e);
+		}
+	}
+
+	public Path getDirectory()
+	{
+		return directory;
+	}
+
+	public boolean isSync()
+	{
+		return sync;
+	}
+
+	/**
+	 * Appends a create or update.
+	 * 
+	 * @return the position to pass to commit().
+	 */
+	long put(T entity)
+	{
+		return append(PUT, entity);
+	}
+
+	/**
+	 * Appends a delete.
+	 * 
+	 * @return the position to pass to commit().
+	 */
+	long remove(T entity)
+	{
+		return append(REMOVE, entity);
+	}
+
+	private long append(byte operation, T entity)
+	{
+		byte[] bytes = codec.serialize(entity);
+		CRC32 crc = new CRC32();
+		crc.update(operation);
+		crc.update(bytes);
+		int length = bytes.length + 1;
+		lock.lock();
+
+		try
+		{
+			if (closed) throw new RepositoryException("Journal is closed: " + directory);
+
+			if (buffer.remaining() < length + 8)
+			{
+				next(length + 12);
+			}
+
+			buffer.putInt(length).put(operation).put(bytes).putInt((int) crc.getValue());
+			written += length + 8;
+			return written;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until the entry at the position is on the storage device, if this journal is
+	 * synchronous. The first waiter forces every entry written so far while later ones wait
+	 * for it, then the next waiter (if any) forces the entries appended in the meantime.
+	 */
+	void commit(long position)
+	{
+		if (!sync) return;
+
+		lock.lock();
+
+		try
+		{
+			while (durable < position)
+			{
+				if (forcing)
+				{
+					forced.awaitUninterruptibly();
+					continue;
+				}
+
+				forcing = true;
+				long target = written;
+				MappedByteBuffer current = buffer;
+				lock.unlock();
+
+				try
+				{
+					current.force();
+				}
+				catch (UncheckedIOException e)
+				{
+					throw new RepositoryException("Unable to write journal in " + directory, e);
+				}
+				finally
+				{
+					lock.lock();
+					forcing = false;
+					forced.signalAll();
+				}
+
+				durable = Math.max(durable, target);
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts a new segment for subsequent entries.
+	 * 
+	 * @return the new segment number, for snapshot().
+	 */
+	long rotate()
+	{
+		lock.lock();
+
+		try
+		{
+			if (closed) throw new RepositoryException("Journal is closed: " + directory);
+
+			next(0);
+			return segment;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes a snapshot holding the entities, which must include every entry written to the
+	 * segments before the marker, then deletes those segments and any older snapshot.
+	 * 
+	 * @param marker a segment number returned by rotate().
+	 */
+	void snapshot(long marker, Collection<T> entities)
+	{
+		synchronized (snapshotLock)
+		{
+			Path tmp = directory.resolve(String.format("%020d%s.tmp", marker, SNAPSHOT_SUFFIX));
+
+			try
+			{
+				try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024)))
+				{
+					for (T entity : entities)
+					{
+						byte[] bytes = codec.serialize(entity);
+						CRC32 crc = new CRC32();
+						crc.update(PUT);
+						crc.update(bytes);
+						out.writeInt(bytes.length + 1);
+						out.writeByte(PUT);
+						out.write(bytes);
+						out.writeInt((int) crc.getValue());
+					}
+
+					out.writeInt(0);
+					out.flush();
+					channel.force(true);
+				}
+
+				Files.move(tmp, pathOf(marker, SNAPSHOT_SUFFIX), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+				for (long s : numbers(LOG_SUFFIX))
+				{
+					if (s < marker) Files.deleteIfExists(pathOf(s, LOG_SUFFIX));
+				}
+
+				for (long s : numbers(SNAPSHOT_SUFFIX))
+				{
+					if (s < marker) Files.deleteIfExists(pathOf(s, SNAPSHOT_SUFFIX));
+				}
+			}
+			catch (IOException e)
+			{
+				throw new RepositoryException("Unable to write snapshot in " + directory, e);
+			}
+		}
+	}
+
+	/**
+	 * Passes the entities in the latest snapshot, then every entry written since, to the
+	 * consumers in the order they were written.
+	 */
+	void restore(Consumer<T> put, Consumer<T> remove)
+	{
+		try
+		{
+			List<Long> snapshotNumbers = numbers(SNAPSHOT_SUFFIX);
+			long from = 0;
+
+			if (!snapshotNumbers.isEmpty())
+			{
+				from = snapshotNumbers.get(snapshotNumbers.size() - 1);
+				read(pathOf(from, SNAPSHOT_SUFFIX), put, remove);
+			}
+
+			for (long s : numbers(LOG_SUFFIX))
+			{
+				if (s >= from && s < segment)
+				{
+					read(pathOf(s, LOG_SUFFIX), put, remove);
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Unable to restore journal in " + directory, e);
+		}
+	}
+
+	/**
+	 * Runs the task every snapshot interval, on a background thread, until close().
+	 */
+	void schedule(Runnable task)
+	{
+		if (snapshotInterval <= 0) return;
+
+		lock.lock();
+
+		try
+		{
+			if (closed || snapshots != null) return;
+
+			snapshots = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "repoexpress-journal-snapshot");
+				t.setDaemon(true);
+				return t;
+			});
+			snapshots.scheduleWithFixedDelay(task, snapshotInterval, snapshotInterval, unit);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops background snapshots and forces any unwritten entries to disk. Later writes to the
+	 * repository fail.
+	 */
+	@Override
+	public void close()
+	{
+		ScheduledExecutorService executor;
+		lock.lock();
+
+		try
+		{
+			if (closed) return;
+
+			closed = true;
+			executor = snapshots;
+			buffer.force();
+			durable = written;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+
+		if (executor != null)
+		{
+			executor.shutdown();
+
+			try
+			{
+				executor.awaitTermination(30, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Forces the current segment and maps the next one. Called with the lock held.
+	 */
+	private void next(int minimum)
+	{
+		try
+		{
+			buffer.force();
+			durable = written;
+			forced.signalAll();
+			buffer = map(segment + 1, Math.max(segmentSize, minimum));
+			++segment;
+		}
+		catch (IOException | UncheckedIOException e)
+		{
+			throw new RepositoryException("Unable to start journal segment in " + directory, e);
+		}
+	}
+
+	private MappedByteBuffer map(long s, int size)
+	throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(pathOf(s, LOG_SUFFIX), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			return channel.map(MapMode.READ_WRITE, 0, size);
+		}
+	}
+
+	/**
+	 * Reads entries up to the end marker or the first incomplete or corrupt entry (e.g. one
+	 * torn by a crash mid-write).
+	 */
+	private void read(Path file, Consumer<T> put, Consumer<T> remove)
+	throws IOException
+	{
+		MappedByteBuffer in;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			in = channel.map(MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		while (in.remaining() >= 4)
+		{
+			int length = in.getInt();
+
+			if (length <= 0 || length + 4 > in.remaining()) return;
+
+			byte operation = in.get();
+			byte[] bytes = new byte[length - 1];
+			in.get(bytes);
+			CRC32 crc = new CRC32();
+			crc.update(operation);
+			crc.update(bytes);
+
+			if ((int) crc.getValue() != in.getInt()) return;
+
+			T entity = codec.deserialize(bytes, type);
+
+			if (operation == PUT)
+			{
+				put.accept(entity);
+			}
+			else if (operation == REMOVE)
+			{
+				remove.accept(entity);
+			}
+		}
+	}
+
+	private Path pathOf(long s, String suffix)
+	{
+		return directory.resolve(String.format("%020d%s", s, suffix));
+	}
+
+	/**
+	 * @return the numbers of the files with the suffix, in ascending order.
+	 */
+	private List<Long> numbers(String suffix)
+	throws IOException
+	{
+		List<Long> results = new ArrayList<Long>();
+
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + suffix))
+		{
+			for (Path file : files)
+			{
+				String name = file.getFileName().toString();
+
+				try
+				{
+					results.add(Long.parseLong(name.substring(0, name.length() - suffix.length())));
+				}
+				catch (NumberFormatException e)
+				{
+					// not one of ours.
+				}
+			}
+		}
+
+		Collections.sort(results);
+		return results;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.restexpress.common.query.FilterOperator;
+
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * A case-insensitive trigram index. Each value is broken into its overlapping three-character
+ * substrings, each mapped to the identifiers whose value contains it. A CONTAINS or STARTS_WITH
+ * term of three or more characters is looked up by intersecting the identifiers for its
+ * trigrams. That yields candidates only, so the repository verifies each one.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+class NgramIndex
+extends PropertyIndex
+{
+	static final int GRAM_SIZE = 3;
+
+	private final Map<String, Set<Identifier>> grams = new HashMap<>();
+
+	NgramIndex(String property)
+	{
+		super(property);
+	}
+
+	@Override
+	protected void add(Identifier id, Object value)
+	{
+		if (value == null) return;
+
+		for (String gram : grams(QueryValues.lower(value)))
+		{
+			grams.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+		}
+	}
+
+	@Override
+	protected void remove(Identifier id, Object value)
+	{
+		if (value == null) return;
+
+		for (String gram : grams(QueryValues.lower(value)))
+		{
+			Set<Identifier> ids = grams.get(gram);
+
+			if (ids != null && ids.remove(id) && ids.isEmpty())
+			{
+				grams.remove(gram);
+			}
+		}
+	}
+
+	@Override
+	void clear()
+	{
+		super.clear();
+		grams.clear();
+	}
+
+	@Override
+	Set<Identifier> candidates(FilterOperator operator, Object value)
+	{
+		if (value == null) return null;
+
+		switch (operator)
+		{
+			case CONTAINS:
+			case STARTS_WITH:
+				String term = QueryValues.lower(value);
+
+				if (term.length() < GRAM_SIZE) return null;
+
+				return intersect(grams(term));
+			default:
+				return null;
+		}
+	}
+
+	private Set<Identifier> intersect(Set<String> terms)
+	{
+		Set<Identifier> smallest = null;
+
+		for (String gram : terms)
+		{
+			Set<Identifier> ids = grams.get(gram);
+
+			if (ids == null) return Collections.emptySet();
+
+			if (smallest == null || ids.size() < smallest.size()) smallest = ids;
+		}
+
+		Set<Identifier> results = new HashSet<>(smallest);
+
+		for (String gram : terms)
+		{
+			Set<Identifier> ids = grams.get(gram);
+
+			if (ids != smallest) results.retainAll(ids);
+
+			if (results.isEmpty()) break;
+		}
+
+		return results;
+	}
+
+	private static Set<String> grams(String value)
+	{
+		Set<String> results = new HashSet<>();
+
+		for (int i = 0; i + GRAM_SIZE <= value.length(); i++)
+		{
+			results.add(value.substring(i, i + GRAM_SIZE));
+		}
+
+		return results;
+	}
+}
@@ -0,0 +1,567 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.noschema.document.ObjectCodec;
+import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * An in-memory repository that keeps entities serialized outside the Java heap, so very large
+ * data sets don't add to garbage collection work. Entities are encoded with the given
+ * ObjectCodec into direct ByteBuffer slabs and decoded on every read, so each read returns a
+ * new instance.
+ * <p/>
+ * Records are appended to the current slab. An update or delete leaves the old record as
+ * garbage, which is reclaimed by compaction once it outweighs the live data. The index is an
+ * open-addressing (linear probing) hash table of primitive arrays mapping the identifier's
+ * hash to the record's address, with the identifier's encoded bytes stored in the record to
+ * resolve collisions. Identifier components are encoded exactly for UUID, String, Long and
+ * Integer, and by class name and toString() otherwise.
+ * <p/>
+ * Reads run concurrently; writes are serialized by a read-write lock.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class OffHeapRepository<T extends Identifiable>
+extends AbstractObservableRepository<T>
+{
+	/**
+	 * The default size of each off-heap slab.
+	 */
+	public static final int DEFAULT_SLAB_SIZE = 64 * 1024 * 1024;
+
+	private static final int HEADER_SIZE = 8;
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final double MAX_LOAD = 0.7;
+
+	private final ObjectCodec<T> codec;
+	private final Class<T> type;
+	private final int slabSize;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final List<ByteBuffer> slabs = new ArrayList<ByteBuffer>();
+	private int position;
+
+	// The index: addresses[i] is zero for an empty slot, otherwise the record address plus one.
+	private long[] addresses = new long[INITIAL_CAPACITY];
+	private int[] hashes = new int[INITIAL_CAPACITY];
+	private int size;
+	private long liveBytes;
+	private long garbageBytes;
+
+	public OffHeapRepository(ObjectCodec<T> codec, Class<T> type)
+	{
+		this(codec, type, DEFAULT_SLAB_SIZE);
+	}
+
+	/**
+	 * @param codec serializes entities to and from bytes.
+	 * @param type the entity type, for deserialization.
+	 * @param slabSize the size of each off-heap buffer. No single entity may be larger.
+	 */
+	public OffHeapRepository(ObjectCodec<T> codec, Class<T> type, int slabSize)
+	{
+		super();
+
+		if (codec == null) throw new IllegalArgumentException("codec is required");
+		if (slabSize < 1024) throw new IllegalArgumentException("slabSize must be at least 1024");
+
+		this.codec = codec;
+		this.type = type;
+		this.slabSize = slabSize;
+	}
+
+	@Override
+	public boolean exists(Identifier id)
+	{
+		if (id == null) return false;
+
+		byte[] key = keyBytes(id);
+		lock.readLock().lock();
+
+		try
+		{
+			return (find(key, hash(key)) >= 0);
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public T doCreate(T item, boolean ifUnique)
+	{
+		if (!hasId(item))
+		{
+			throw new InvalidObjectIdException("Identifier required for " + item.getClass().getSimpleName());
+		}
+
+		if (!put(item, ifUnique, false))
+		{
+			throw new DuplicateItemException(item.getClass().getSimpleName() + " ID already exists: " + item.getIdentifier().toString());
+		}
+
+		return item;
+	}
+
+	@Override
+	public T doRead(Identifier id)
+	{
+		byte[] key = keyBytes(id);
+		byte[] value;
+		lock.readLock().lock();
+
+		try
+		{
+			int slot = find(key, hash(key));
+
+			if (slot < 0)
+			{
+				throw new ItemNotFoundException("ID not found: " + id.toString());
+			}
+
+			value = readValue(addresses[slot] - 1);
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+
+		return codec.deserialize(value, type);
+	}
+
+	@Override
+	public T doUpdate(T item, boolean ifExists)
+	{
+		if (!put(item, false, ifExists))
+		{
+			throw new ItemNotFoundException("ID not found: " + item.getIdentifier().toString());
+		}
+
+		return item;
+	}
+
+	@Override
+	public void doDelete(T object)
+	{
+		byte[] key = keyBytes(object.getIdentifier());
+		lock.writeLock().lock();
+
+		try
+		{
+			int slot = find(key, hash(key));
+
+			if (slot < 0)
+			{
+				throw new ItemNotFoundException("ID not found: " + object.getIdentifier().toString());
+			}
+
+			long bytes = recordSize(addresses[slot] - 1);
+			liveBytes -= bytes;
+			garbageBytes += bytes;
+			remove(slot);
+			compactIfWorthwhile();
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return the number of entities stored.
+	 */
+	public int size()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return size;
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return the total size of the off-heap slabs.
+	 */
+	public long getAllocatedBytes()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return (long) slabs.size() * slabSize;
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return the bytes used by current records.
+	 */
+	public long getLiveBytes()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return liveBytes;
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copies the live records into new slabs, releasing the space held by updated and deleted
+	 * ones. This happens automatically once garbage outweighs live data.
+	 */
+	public void compact()
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			List<ByteBuffer> old = new ArrayList<ByteBuffer>(slabs);
+			slabs.clear();
+			position = 0;
+
+			for (int slot = 0; slot < addresses.length; ++slot)
+			{
+				if (addresses[slot] == 0) continue;
+
+				long address = addresses[slot] - 1;
+				ByteBuffer slab = old.get(slabOf(address));
+				int offset = offsetOf(address);
+				int length = HEADER_SIZE + slab.getInt(offset) + slab.getInt(offset + 4);
+				byte[] record = new byte[length];
+				slab.get(offset, record);
+				addresses[slot] = append(record) + 1;
+			}
+
+			garbageBytes = 0;
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Stores the entity, unless ifAbsent and it exists or ifPresent and it doesn't.
+	 * 
+	 * @return false if the entity was not stored.
+	 */
+	private boolean put(T item, boolean ifAbsent, boolean ifPresent)
+	{
+		byte[] key = keyBytes(item.getIdentifier());
+		byte[] value = codec.serialize(item);
+		int h = hash(key);
+
+		if (HEADER_SIZE + key.length + value.length > slabSize)
+		{
+			throw new RepositoryException("Entity is larger than the slab size (" + slabSize + " bytes): " + item.getIdentifier());
+		}
+
+		ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + key.length + value.length);
+		record.putInt(key.length).putInt(value.length).put(key).put(value);
+		lock.writeLock().lock();
+
+		try
+		{
+			int slot = find(key, h);
+
+			if ((slot >= 0 && ifAbsent) || (slot < 0 && ifPresent)) return false;
+
+			long address = append(record.array());
+			liveBytes += record.capacity();
+
+			if (slot >= 0)
+			{
+				long bytes = recordSize(addresses[slot] - 1);
+				liveBytes -= bytes;
+				garbageBytes += bytes;
+				addresses[slot] = address + 1;
+				compactIfWorthwhile();
+			}
+			else
+			{
+				insert(h, address);
+			}
+
+			return true;
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return the slot holding the key, or -1 if absent.
+	 */
+	private int find(byte[] key, int h)
+	{
+		int mask = addresses.length - 1;
+
+		for (int slot = h & mask; addresses[slot] != 0; slot = (slot + 1) & mask)
+		{
+			if (hashes[slot] == h && keyEquals(addresses[slot] - 1, key))
+			{
+				return slot;
+			}
+		}
+
+		return -1;
+	}
+
+	private void insert(int h, long address)
+	{
+		if (size + 1 > addresses.length * MAX_LOAD)
+		{
+			resize(addresses.length * 2);
+		}
+
+		int mask = addresses.length - 1;
+		int slot = h & mask;
+
+		while (addresses[slot] != 0)
+		{
+			slot = (slot + 1) & mask;
+		}
+
+		addresses[slot] = address + 1;
+		hashes[slot] = h;
+		++size;
+	}
+
+	/**
+	 * Empties the slot, shifting later entries of the probe sequence back so no tombstone is needed.
+	 */
+	private void remove(int slot)
+	{
+		int mask = addresses.length - 1;
+		int hole = slot;
+
+		for (int next = (hole + 1) & mask; addresses[next] != 0; next = (next + 1) & mask)
+		{
+			int home = hashes[next] & mask;
+
+			// Move the entry into the hole unless its home lies cyclically in (hole, next].
+			if (((next - home) & mask) >= ((next - hole) & mask))
+			{
+				addresses[hole] = addresses[next];
+				hashes[hole] = hashes[next];
+				hole = next;
+			}
+		}
+
+		addresses[hole] = 0;
+		hashes[hole] = 0;
+		--size;
+	}
+
+	private void resize(int capacity)
+	{
+		long[] oldAddresses = addresses;
+		int[] oldHashes = hashes;
+		addresses = new long[capacity];
+		hashes = new int[capacity];
+		int mask = capacity - 1;
+
+		for (int i = 0; i < oldAddresses.length; ++i)
+		{
+			if (oldAddresses[i] == 0) continue;
+
+			int slot = oldHashes[i] & mask;
+
+			while (addresses[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+
+			addresses[slot] = oldAddresses[i];
+			hashes[slot] = oldHashes[i];
+		}
+	}
+
+	private void compactIfWorthwhile()
+	{
+		if (garbageBytes > slabSize && garbageBytes > liveBytes)
+		{
+			compact();
+		}
+	}
+
+	/**
+	 * Copies the record into the current slab, starting a new one if it doesn't fit.
+	 * 
+	 * @return the record's address.
+	 */
+	private long append(byte[] record)
+	{
+		if (slabs.isEmpty() || position + record.length > slabSize)
+		{
+			slabs.add(ByteBuffer.allocateDirect(slabSize));
+			position = 0;
+		}
+
+		int slab = slabs.size() - 1;
+		slabs.get(slab).put(position, record);
+		long address = ((long) slab << 32) | position;
+		position += record.length;
+		return address;
+	}
+
+	private boolean keyEquals(long address, byte[] key)
+	{
+		ByteBuffer slab = slabs.get(slabOf(address));
+		int offset = offsetOf(address);
+
+		if (slab.getInt(offset) != key.length) return false;
+
+		return (slab.slice(offset + HEADER_SIZE, key.length).equals(ByteBuffer.wrap(key)));
+	}
+
+	private byte[] readValue(long address)
+	{
+		ByteBuffer slab = slabs.get(slabOf(address));
+		int offset = offsetOf(address);
+		byte[] value = new byte[slab.getInt(offset + 4)];
+		slab.get(offset + HEADER_SIZE + slab.getInt(offset), value);
+		return value;
+	}
+
+	private long recordSize(long address)
+	{
+		ByteBuffer slab = slabs.get(slabOf(address));
+		int offset = offsetOf(address);
+		return HEADER_SIZE + slab.getInt(offset) + slab.getInt(offset + 4);
+	}
+
+	private static int slabOf(long address)
+	{
+		return (int) (address >>> 32);
+	}
+
+	private static int offsetOf(long address)
+	{
+		return (int) address;
+	}
+
+	/**
+	 * FNV-1a with a final avalanche. Arrays.hashCode() collides heavily on encoded numeric keys.
+	 */
+	private static int hash(byte[] key)
+	{
+		long h = 0xcbf29ce484222325L;
+
+		for (byte b : key)
+		{
+			h = (h ^ (b & 0xff)) * 0x100000001b3L;
+		}
+
+		h ^= (h >>> 33);
+		h *= 0xff51afd7ed558ccdL;
+		h ^= (h >>> 33);
+		return (int) h;
+	}
+
+	/**
+	 * Encodes the identifier's components with a type tag each, so equal identifiers (and
+	 * only those) have equal bytes.
+	 */
+	static byte[] keyBytes(Identifier id)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+
+		try (DataOutputStream out = new DataOutputStream(bytes))
+		{
+			for (Object component : id.components())
+			{
+				if (component instanceof UUID)
+				{
+					out.writeByte('U');
+					out.writeLong(((UUID) component).getMostSignificantBits());
+					out.writeLong(((UUID) component).getLeastSignificantBits());
+				}
+				else if (component instanceof Long)
+				{
+					out.writeByte('J');
+					out.writeLong((Long) component);
+				}
+				else if (component instanceof Integer)
+				{
+					out.writeByte('I');
+					out.writeInt((Integer) component);
+				}
+				else if (component instanceof String)
+				{
+					out.writeByte('S');
+					writeString(out, (String) component);
+				}
+				else if (component == null)
+				{
+					out.writeByte('N');
+				}
+				else
+				{
+					out.writeByte('O');
+					writeString(out, component.getClass().getName());
+					writeString(out, component.toString());
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException(e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	private static void writeString(DataOutputStream out, String value)
+	throws IOException
+	{
+		byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(utf8.length);
+		out.write(utf8);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.restexpress.common.query.FilterOperator;
+
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * A secondary index over one property of the entities in an {@link InMemoryRepository}. The
+ * indexed value is remembered per identifier so an entry can be removed even if the entity was
+ * modified in place before being updated.
+ * <p/>
+ * Not thread-safe. The repository holds the index's lock while using it.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+abstract class PropertyIndex
+{
+	private final String property;
+	private final Map<Identifier, Object> values = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	protected PropertyIndex(String property)
+	{
+		super();
+		this.property = property;
+	}
+
+	static PropertyIndex create(String property, IndexType type)
+	{
+		switch (type)
+		{
+			case HASH: return new HashIndex(property);
+			case SORTED: return new SortedIndex(property);
+			case NGRAM: return new NgramIndex(property);
+			default: throw new IllegalArgumentException("Unsupported index type: " + type);
+		}
+	}
+
+	String getProperty()
+	{
+		return property;
+	}
+
+	ReadWriteLock getLock()
+	{
+		return lock;
+	}
+
+	void index(Identifier id, Object value)
+	{
+		unindex(id);
+		values.put(id, value);
+		add(id, value);
+	}
+
+	void unindex(Identifier id)
+	{
+		if (values.containsKey(id))
+		{
+			remove(id, values.remove(id));
+		}
+	}
+
+	void clear()
+	{
+		values.clear();
+	}
+
+	protected abstract void add(Identifier id, Object value);
+	protected abstract void remove(Identifier id, Object value);
+
+	/**
+	 * @return a superset of the identifiers whose property satisfies the operator and value, or
+	 * null if this index cannot answer the operator. The result must not be modified.
+	 */
+	abstract Set<Identifier> candidates(FilterOperator operator, Object value);
+}
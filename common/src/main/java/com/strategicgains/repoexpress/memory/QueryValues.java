@@ -0,0 +1,195 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * Value handling for in-memory queries. Filter values usually arrive as strings (e.g. from a
+ * query string), so they are coerced to the type of the property they are compared with before
+ * comparing.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+final class QueryValues
+{
+	private QueryValues()
+	{
+		// prevents instantiation.
+	}
+
+	/**
+	 * Convert a filter value to the given property type where possible. Values that cannot be
+	 * converted are returned unchanged (and so will not match).
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Object coerce(Object value, Class<?> type)
+	{
+		if (value == null || type == null || type.isInstance(value)) return value;
+
+		try
+		{
+			if (value instanceof Number && Number.class.isAssignableFrom(type))
+			{
+				return fromString(value.toString(), type);
+			}
+
+			if (value instanceof Number && Date.class.equals(type))
+			{
+				return new Date(((Number) value).longValue());
+			}
+
+			if (value instanceof String)
+			{
+				if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, (String) value);
+
+				return fromString((String) value, type);
+			}
+		}
+		catch (IllegalArgumentException e)
+		{
+			// fall through to returning the value unchanged.
+		}
+
+		return value;
+	}
+
+	private static Object fromString(String value, Class<?> type)
+	{
+		if (type == String.class) return value;
+		if (type == Integer.class) return Integer.valueOf(value);
+		if (type == Long.class) return Long.valueOf(value);
+		if (type == Double.class) return Double.valueOf(value);
+		if (type == Float.class) return Float.valueOf(value);
+		if (type == Short.class) return Short.valueOf(value);
+		if (type == Byte.class) return Byte.valueOf(value);
+		if (type == BigDecimal.class) return new BigDecimal(value);
+		if (type == BigInteger.class) return new BigInteger(value);
+		if (type == Boolean.class) return Boolean.valueOf(value);
+		if (type == UUID.class) return UUID.fromString(value);
+		if (type == Date.class) return new Date(Long.parseLong(value));
+		if (type == Character.class && value.length() == 1) return value.charAt(0);
+		return value;
+	}
+
+	static boolean equal(Object actual, Object value)
+	{
+		if (actual == null) return (value == null);
+
+		return actual.equals(coerce(value, actual.getClass()));
+	}
+
+	/**
+	 * Compares two non-null values. Values of the same Comparable type use their natural order,
+	 * mixed numbers are compared numerically and anything else by its string form.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static int compare(Object a, Object b)
+	{
+		if (a.getClass().equals(b.getClass()) && a instanceof Comparable)
+		{
+			return ((Comparable) a).compareTo(b);
+		}
+
+		if (a instanceof Number && b instanceof Number)
+		{
+			return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+		}
+
+		return a.toString().compareTo(b.toString());
+	}
+
+	/**
+	 * Orders nulls first.
+	 */
+	static int compareNullable(Object a, Object b)
+	{
+		if (a == b) return 0;
+		if (a == null) return -1;
+		if (b == null) return 1;
+		return compare(a, b);
+	}
+
+	/**
+	 * Orders identifiers component by component, using compare() for each component.
+	 */
+	static int compareIds(Identifier a, Identifier b)
+	{
+		int size = Math.min(a.size(), b.size());
+
+		for (int i = 0; i < size; i++)
+		{
+			int c = compareNullable(a.getComponent(i), b.getComponent(i));
+
+			if (c != 0) return c;
+		}
+
+		return Integer.compare(a.size(), b.size());
+	}
+
+	static String lower(Object value)
+	{
+		return value.toString().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Accept an IN value as a Collection, Iterable or array. Anything else is a single value.
+	 */
+	static Collection<?> toCollection(Object value)
+	{
+		if (value == null) return Collections.singletonList(null);
+		if (value instanceof Collection) return (Collection<?>) value;
+
+		List<Object> values = new ArrayList<>();
+
+		if (value instanceof Iterable)
+		{
+			for (Object v : (Iterable<?>) value)
+			{
+				values.add(v);
+			}
+
+			return values;
+		}
+
+		if (value.getClass().isArray())
+		{
+			int length = Array.getLength(value);
+
+			for (int i = 0; i < length; ++i)
+			{
+				values.add(Array.get(value, i));
+			}
+
+			return values;
+		}
+
+		values.add(value);
+		return values;
+	}
+}
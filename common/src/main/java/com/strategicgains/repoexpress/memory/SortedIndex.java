@@ -0,0 +1,228 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.restexpress.common.query.FilterOperator;
+
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * Keeps property values in sorted order, each mapped to its identifiers (also sorted). Answers
+ * equality and range lookups, and can walk the identifiers in property order so a query sorted
+ * on this property alone does not need to sort its results.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+class SortedIndex
+extends PropertyIndex
+{
+	private final NavigableMap<Object, Set<Identifier>> entries = new TreeMap<>(QueryValues::compare);
+	private final Set<Identifier> nulls = new TreeSet<>(QueryValues::compareIds);
+	private Class<?> valueType;
+
+	SortedIndex(String property)
+	{
+		super(property);
+	}
+
+	@Override
+	protected void add(Identifier id, Object value)
+	{
+		if (value == null)
+		{
+			nulls.add(id);
+			return;
+		}
+
+		if (valueType == null) valueType = value.getClass();
+
+		entries.computeIfAbsent(value, v -> new TreeSet<>(QueryValues::compareIds)).add(id);
+	}
+
+	@Override
+	protected void remove(Identifier id, Object value)
+	{
+		if (value == null)
+		{
+			nulls.remove(id);
+			return;
+		}
+
+		Set<Identifier> ids = entries.get(value);
+
+		if (ids != null && ids.remove(id) && ids.isEmpty())
+		{
+			entries.remove(value);
+		}
+	}
+
+	@Override
+	void clear()
+	{
+		super.clear();
+		entries.clear();
+		nulls.clear();
+	}
+
+	@Override
+	Set<Identifier> candidates(FilterOperator operator, Object value)
+	{
+		switch (operator)
+		{
+			case EQUALS:
+				return lookup(value);
+			case IN:
+				Set<Identifier> ids = new HashSet<>();
+
+				for (Object v : QueryValues.toCollection(value))
+				{
+					ids.addAll(lookup(v));
+				}
+
+				return ids;
+			case GREATER_THAN:
+				return (value == null ? null : union(entries.tailMap(coerce(value), false).values()));
+			case GREATER_THAN_OR_EQUAL_TO:
+				return (value == null ? null : union(entries.tailMap(coerce(value), true).values()));
+			case LESS_THAN:
+				return (value == null ? null : union(entries.headMap(coerce(value), false).values()));
+			case LESS_THAN_OR_EQUAL_TO:
+				return (value == null ? null : union(entries.headMap(coerce(value), true).values()));
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Walk the identifiers in property order. Null values sort first (so last when descending)
+	 * and identifiers with equal values are in ascending order either way.
+	 * 
+	 * @param descending
+	 * @param seek true to start at the value given by 'from' rather than at the beginning.
+	 * @param from the (inclusive) value to start at when seeking. May be null.
+	 */
+	Iterator<Identifier> ordered(boolean descending, boolean seek, Object from)
+	{
+		List<Iterator<Set<Identifier>>> groups = new ArrayList<>(2);
+
+		if (!descending)
+		{
+			if (seek && from != null)
+			{
+				groups.add(entries.tailMap(coerce(from), true).values().iterator());
+			}
+			else
+			{
+				groups.add(Collections.singleton(nulls).iterator());
+				groups.add(entries.values().iterator());
+			}
+		}
+		else
+		{
+			if (!seek || from != null)
+			{
+				NavigableMap<Object, Set<Identifier>> values = entries.descendingMap();
+				groups.add((seek ? values.tailMap(coerce(from), true) : values).values().iterator());
+			}
+
+			groups.add(Collections.singleton(nulls).iterator());
+		}
+
+		return new Flattener(groups.iterator());
+	}
+
+	private Object coerce(Object value)
+	{
+		return QueryValues.coerce(value, valueType);
+	}
+
+	private Set<Identifier> lookup(Object value)
+	{
+		if (value == null) return Collections.unmodifiableSet(nulls);
+
+		Set<Identifier> ids = entries.get(coerce(value));
+		return (ids == null ? Collections.<Identifier>emptySet() : Collections.unmodifiableSet(ids));
+	}
+
+	private static Set<Identifier> union(Collection<Set<Identifier>> groups)
+	{
+		Set<Identifier> ids = new HashSet<>();
+
+		for (Set<Identifier> group : groups)
+		{
+			ids.addAll(group);
+		}
+
+		return ids;
+	}
+
+	/**
+	 * Iterates the identifiers of each group in turn. Sub-map streams would size the whole
+	 * sub-map first, so this walks the iterators lazily instead.
+	 */
+	private static class Flattener
+	implements Iterator<Identifier>
+	{
+		private final Iterator<Iterator<Set<Identifier>>> sources;
+		private Iterator<Set<Identifier>> groups = Collections.emptyIterator();
+		private Iterator<Identifier> current = Collections.emptyIterator();
+
+		Flattener(Iterator<Iterator<Set<Identifier>>> sources)
+		{
+			super();
+			this.sources = sources;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			while (!current.hasNext())
+			{
+				while (!groups.hasNext())
+				{
+					if (!sources.hasNext()) return false;
+
+					groups = sources.next();
+				}
+
+				current = groups.next().iterator();
+			}
+
+			return true;
+		}
+
+		@Override
+		public Identifier next()
+		{
+			if (!hasNext()) throw new NoSuchElementException();
+
+			return current.next();
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent, log-linear histogram of non-negative long values (e.g. latencies in nanoseconds).
+ * Each power of two is divided into 16 buckets, so reported percentiles are within about 6% of
+ * the true value, over the whole range of long.
+ * <p/>
+ * Each bucket is a LongAdder, created on first use, so recording is lock-free, spreads contended
+ * updates across cells and, once a bucket exists, allocates nothing.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public final class Histogram
+{
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<LongAdder>(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Records a value. Negative values are recorded as zero.
+	 */
+	public void record(long value)
+	{
+		if (value < 0) value = 0;
+
+		int index = indexOf(value);
+		LongAdder bucket = buckets.get(index);
+
+		if (bucket == null)
+		{
+			buckets.compareAndSet(index, null, new LongAdder());
+			bucket = buckets.get(index);
+		}
+
+		bucket.increment();
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	public long getMax()
+	{
+		return max.get();
+	}
+
+	public double getMean()
+	{
+		long n = count.sum();
+		return (n == 0 ? 0.0 : (double) sum.sum() / n);
+	}
+
+	/**
+	 * Returns the value at the given percentile (e.g. 99.9). The answer is the upper bound of the
+	 * bucket holding that value, capped at the maximum recorded. Zero if nothing is recorded.
+	 * 
+	 * @param percentile from 0 to 100.
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			LongAdder bucket = buckets.get(i);
+
+			if (bucket != null)
+			{
+				counts[i] = bucket.sum();
+				total += counts[i];
+			}
+		}
+
+		if (total == 0) return 0;
+
+		long target = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			seen += counts[i];
+
+			if (seen >= target)
+			{
+				return Math.min(upperBoundOf(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * Clears the histogram. Values recorded concurrently with reset() may or may not be kept.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			LongAdder bucket = buckets.get(i);
+
+			if (bucket != null) bucket.reset();
+		}
+
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	static int indexOf(long value)
+	{
+		if (value < SUB_BUCKETS) return (int) value;
+
+		int msb = 63 - Long.numberOfLeadingZeros(value);
+		int shift = msb - SUB_BUCKET_BITS;
+		return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	static long lowerBoundOf(int index)
+	{
+		if (index < SUB_BUCKETS) return index;
+
+		int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		return ((long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1)))) << shift;
+	}
+
+	static long upperBoundOf(int index)
+	{
+		if (index == BUCKETS - 1) return Long.MAX_VALUE;
+
+		return lowerBoundOf(index + 1) - 1;
+	}
+}
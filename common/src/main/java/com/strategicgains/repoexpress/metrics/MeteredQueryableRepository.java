@@ -0,0 +1,140 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.repoexpress.KeysetPage;
+import com.strategicgains.repoexpress.Queryable;
+import com.strategicgains.repoexpress.Repository;
+import com.strategicgains.repoexpress.metrics.RepositoryMetrics.Operation;
+
+/**
+ * A MeteredRepository for a Queryable repository, which also records the latency, throughput
+ * and errors of count(), readAll(), stream() and readPage(), and the number of results returned
+ * by readAll() and readPage(). stream() measures the time to open the stream only.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ * @see MeteredRepository#of(Repository, String)
+ */
+public class MeteredQueryableRepository<T extends Identifiable>
+extends MeteredRepository<T>
+implements Queryable<T>
+{
+	private final Queryable<T> queryable;
+
+	public MeteredQueryableRepository(Repository<T> delegate, String name)
+	{
+		this(delegate, new RepositoryMetrics(name));
+	}
+
+	/**
+	 * @param delegate a Repository that is also Queryable.
+	 * @param metrics where to record the calls.
+	 */
+	@SuppressWarnings("unchecked")
+	public MeteredQueryableRepository(Repository<T> delegate, RepositoryMetrics metrics)
+	{
+		super(delegate, metrics);
+
+		if (!(delegate instanceof Queryable)) throw new IllegalArgumentException("delegate repository must be Queryable");
+
+		this.queryable = (Queryable<T>) delegate;
+	}
+
+	@Override
+	public long count(QueryFilter filter)
+	{
+		OperationMetrics m = getMetrics().get(Operation.COUNT);
+		long start = System.nanoTime();
+
+		try
+		{
+			long result = queryable.count(filter);
+			m.success(start);
+			return result;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public List<T> readAll(QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		OperationMetrics m = getMetrics().get(Operation.READ_ALL);
+		long start = System.nanoTime();
+
+		try
+		{
+			List<T> results = queryable.readAll(filter, range, order);
+			m.success(start, results.size());
+			return results;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public Stream<T> stream(QueryFilter filter, QueryOrder order)
+	{
+		OperationMetrics m = getMetrics().get(Operation.STREAM);
+		long start = System.nanoTime();
+
+		try
+		{
+			Stream<T> results = queryable.stream(filter, order);
+			m.success(start);
+			return results;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public KeysetPage<T> readPage(QueryFilter filter, QueryOrder order, int limit, String continuation)
+	{
+		OperationMetrics m = getMetrics().get(Operation.READ_PAGE);
+		long start = System.nanoTime();
+
+		try
+		{
+			KeysetPage<T> page = queryable.readPage(filter, order, limit, continuation);
+			m.success(start, page.getItems().size());
+			return page;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+}
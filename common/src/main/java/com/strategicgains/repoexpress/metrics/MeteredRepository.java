@@ -0,0 +1,319 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.strategicgains.noschema.Identifiable;
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.Queryable;
+import com.strategicgains.repoexpress.Repository;
+import com.strategicgains.repoexpress.metrics.RepositoryMetrics.Operation;
+
+/**
+ * An instrumenting decorator for any Repository (JDBC, MongoDB, Redis, Cassandra or in-memory)
+ * that records the latency, throughput and errors of every Repository call, plus the number of
+ * results returned by readList() and existsAll(), into a RepositoryMetrics. Call
+ * getMetrics().register() to publish them over JMX.
+ * <p/>
+ * Latency is measured around the wrapped repository's call, so it includes that repository's
+ * observers but not this one's.
+ * <p/>
+ * To also meter the Queryable methods of a Queryable repository, use a
+ * MeteredQueryableRepository. of() picks the right one for the wrapped repository.
+ * <p/>
+ * Usage:
+ * <pre>
+ * MeteredRepository<Order> orders = MeteredRepository.of(mongoOrders, "orders");
+ * orders.getMetrics().register();
+ * </pre>
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class MeteredRepository<T extends Identifiable>
+extends AbstractObservableRepository<T>
+{
+	private final Repository<T> delegate;
+	private final RepositoryMetrics metrics;
+
+	public MeteredRepository(Repository<T> delegate, String name)
+	{
+		this(delegate, new RepositoryMetrics(name));
+	}
+
+	public MeteredRepository(Repository<T> delegate, RepositoryMetrics metrics)
+	{
+		super();
+
+		if (delegate == null) throw new IllegalArgumentException("delegate repository is required");
+		if (metrics == null) throw new IllegalArgumentException("metrics are required");
+
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Returns a MeteredQueryableRepository if the delegate is Queryable. Otherwise, a
+	 * MeteredRepository.
+	 */
+	public static <T extends Identifiable> MeteredRepository<T> of(Repository<T> delegate, String name)
+	{
+		return of(delegate, new RepositoryMetrics(name));
+	}
+
+	/**
+	 * Returns a MeteredQueryableRepository if the delegate is Queryable. Otherwise, a
+	 * MeteredRepository.
+	 */
+	public static <T extends Identifiable> MeteredRepository<T> of(Repository<T> delegate, RepositoryMetrics metrics)
+	{
+		if (delegate instanceof Queryable)
+		{
+			return new MeteredQueryableRepository<T>(delegate, metrics);
+		}
+
+		return new MeteredRepository<T>(delegate, metrics);
+	}
+
+	/**
+	 * @return the wrapped repository.
+	 */
+	public Repository<T> getDelegate()
+	{
+		return delegate;
+	}
+
+	public RepositoryMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	@Override
+	public T doCreate(T object, boolean ifUnique)
+	{
+		OperationMetrics m = metrics.get(Operation.CREATE);
+		long start = System.nanoTime();
+
+		try
+		{
+			T result = delegate.create(object, ifUnique);
+			m.success(start);
+			return result;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public List<T> doCreateAll(Collection<T> objects, boolean ifUnique)
+	{
+		OperationMetrics m = metrics.get(Operation.CREATE_ALL);
+		long start = System.nanoTime();
+
+		try
+		{
+			List<T> results = delegate.createAll(objects, ifUnique);
+			m.success(start, results.size());
+			return results;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public T doRead(Identifier id)
+	{
+		OperationMetrics m = metrics.get(Operation.READ);
+		long start = System.nanoTime();
+
+		try
+		{
+			T result = delegate.read(id);
+			m.success(start);
+			return result;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		OperationMetrics m = metrics.get(Operation.READ_LIST);
+		long start = System.nanoTime();
+
+		try
+		{
+			List<T> results = delegate.readList(ids);
+			m.success(start, results.size());
+			return results;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public T doUpdate(T object, boolean ifExists)
+	{
+		OperationMetrics m = metrics.get(Operation.UPDATE);
+		long start = System.nanoTime();
+
+		try
+		{
+			T result = delegate.update(object, ifExists);
+			m.success(start);
+			return result;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public List<T> doUpdateAll(Collection<T> objects, boolean ifExists)
+	{
+		OperationMetrics m = metrics.get(Operation.UPDATE_ALL);
+		long start = System.nanoTime();
+
+		try
+		{
+			List<T> results = delegate.updateAll(objects, ifExists);
+			m.success(start, results.size());
+			return results;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public void doDelete(T object)
+	{
+		OperationMetrics m = metrics.get(Operation.DELETE);
+		long start = System.nanoTime();
+
+		try
+		{
+			delegate.delete(object);
+			m.success(start);
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Passes the IDs to the wrapped repository's deleteAll(), which checks their existence,
+	 * without reading them here first (and recording a READ_LIST). They are only read, from the
+	 * wrapped repository, if this repository has delete observers.
+	 */
+	@Override
+	public void deleteAll(Collection<Identifier> ids)
+	{
+		deleteAllWith(ids, delegate::readList, this::deleteIds);
+	}
+
+	@Override
+	public void doDeleteAll(Collection<T> objects)
+	{
+		List<Identifier> ids = new ArrayList<Identifier>(objects.size());
+
+		for (T object : objects)
+		{
+			ids.add(object.getIdentifier());
+		}
+
+		deleteIds(ids);
+	}
+
+	private void deleteIds(Collection<Identifier> ids)
+	{
+		OperationMetrics m = metrics.get(Operation.DELETE_ALL);
+		long start = System.nanoTime();
+
+		try
+		{
+			delegate.deleteAll(ids);
+			m.success(start, ids.size());
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean exists(Identifier id)
+	{
+		OperationMetrics m = metrics.get(Operation.EXISTS);
+		long start = System.nanoTime();
+
+		try
+		{
+			boolean result = delegate.exists(id);
+			m.success(start);
+			return result;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		OperationMetrics m = metrics.get(Operation.EXISTS_ALL);
+		long start = System.nanoTime();
+
+		try
+		{
+			Set<Identifier> results = delegate.existsAll(ids);
+			m.success(start, results.size());
+			return results;
+		}
+		catch (RuntimeException e)
+		{
+			m.failure(start, e);
+			throw e;
+		}
+	}
+}
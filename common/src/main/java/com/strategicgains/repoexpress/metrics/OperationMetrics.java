@@ -0,0 +1,177 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, throughput, error and result-size metrics for a single repository operation.
+ * Recording a success allocates nothing; an error only allocates the first time its exception
+ * type is seen.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class OperationMetrics
+implements OperationMetricsMXBean
+{
+	private final Histogram latency = new Histogram();
+	private final Histogram resultSizes = new Histogram();
+	private final LongAdder errorCount = new LongAdder();
+	private final Map<Class<?>, LongAdder> errors = new ConcurrentHashMap<Class<?>, LongAdder>();
+	private volatile long startedAt = System.nanoTime();
+
+	/**
+	 * Records a successful call that began at the given System.nanoTime().
+	 */
+	public void success(long startNanos)
+	{
+		latency.record(System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * Records a successful call that began at the given System.nanoTime() and returned
+	 * the given number of results.
+	 */
+	public void success(long startNanos, int resultSize)
+	{
+		success(startNanos);
+		resultSizes.record(resultSize);
+	}
+
+	/**
+	 * Records a call that began at the given System.nanoTime() and failed. Its latency is
+	 * included in the histogram.
+	 */
+	public void failure(long startNanos, Throwable t)
+	{
+		latency.record(System.nanoTime() - startNanos);
+		errorCount.increment();
+		errors.computeIfAbsent(t.getClass(), c -> new LongAdder()).increment();
+	}
+
+	/**
+	 * @return the latency histogram, in nanoseconds.
+	 */
+	public Histogram getLatency()
+	{
+		return latency;
+	}
+
+	public Histogram getResultSizes()
+	{
+		return resultSizes;
+	}
+
+	/**
+	 * @return the number of calls, including failures.
+	 */
+	@Override
+	public long getCount()
+	{
+		return latency.getCount();
+	}
+
+	@Override
+	public long getErrorCount()
+	{
+		return errorCount.sum();
+	}
+
+	/**
+	 * @return the number of errors of the given exception type (not including sub-classes).
+	 */
+	public long getErrorCount(Class<? extends Throwable> type)
+	{
+		LongAdder count = errors.get(type);
+		return (count == null ? 0 : count.sum());
+	}
+
+	@Override
+	public Map<String, Long> getErrors()
+	{
+		Map<String, Long> results = new TreeMap<String, Long>();
+
+		for (Map.Entry<Class<?>, LongAdder> entry : errors.entrySet())
+		{
+			results.put(entry.getKey().getName(), entry.getValue().sum());
+		}
+
+		return results;
+	}
+
+	@Override
+	public double getThroughput()
+	{
+		long elapsed = System.nanoTime() - startedAt;
+		return (elapsed <= 0 ? 0.0 : getCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed);
+	}
+
+	@Override
+	public double getMeanMicros()
+	{
+		return latency.getMean() / 1000.0;
+	}
+
+	@Override
+	public long getP50Micros()
+	{
+		return micros(latency.getValueAtPercentile(50.0));
+	}
+
+	@Override
+	public long getP99Micros()
+	{
+		return micros(latency.getValueAtPercentile(99.0));
+	}
+
+	@Override
+	public long getP999Micros()
+	{
+		return micros(latency.getValueAtPercentile(99.9));
+	}
+
+	@Override
+	public long getMaxMicros()
+	{
+		return micros(latency.getMax());
+	}
+
+	@Override
+	public double getMeanResultSize()
+	{
+		return resultSizes.getMean();
+	}
+
+	@Override
+	public void reset()
+	{
+		latency.reset();
+		resultSizes.reset();
+		errorCount.reset();
+		errors.clear();
+		startedAt = System.nanoTime();
+	}
+
+	private static long micros(long nanos)
+	{
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+}
@@ -0,0 +1,51 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of one repository operation's OperationMetrics. Latencies are in microseconds.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public interface OperationMetricsMXBean
+{
+	public long getCount();
+	public long getErrorCount();
+
+	/**
+	 * @return error counts keyed by exception class name.
+	 */
+	public Map<String, Long> getErrors();
+
+	/**
+	 * @return operations per second since the metrics were created or last reset.
+	 */
+	public double getThroughput();
+	public double getMeanMicros();
+	public long getP50Micros();
+	public long getP99Micros();
+	public long getP999Micros();
+	public long getMaxMicros();
+
+	/**
+	 * @return the mean number of results returned, for operations that return collections.
+	 */
+	public double getMeanResultSize();
+	public void reset();
+}
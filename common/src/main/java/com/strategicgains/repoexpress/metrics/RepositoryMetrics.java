@@ -0,0 +1,164 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * The OperationMetrics for each Repository and Queryable method of one repository, readable
+ * directly (the pull API) or, once register() is called, over JMX as one MXBean per operation:
+ * com.strategicgains.repoexpress:type=RepositoryMetrics,name=&lt;name&gt;,operation=&lt;operation&gt;
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class RepositoryMetrics
+{
+	public static final String JMX_DOMAIN = "com.strategicgains.repoexpress";
+
+	/**
+	 * The measured repository operations.
+	 */
+	public enum Operation
+	{
+		CREATE("create"),
+		CREATE_ALL("createAll"),
+		READ("read"),
+		READ_LIST("readList"),
+		UPDATE("update"),
+		UPDATE_ALL("updateAll"),
+		DELETE("delete"),
+		DELETE_ALL("deleteAll"),
+		EXISTS("exists"),
+		EXISTS_ALL("existsAll"),
+		COUNT("count"),
+		READ_ALL("readAll"),
+		STREAM("stream"),
+		READ_PAGE("readPage");
+
+		private final String methodName;
+
+		private Operation(String methodName)
+		{
+			this.methodName = methodName;
+		}
+
+		public String getMethodName()
+		{
+			return methodName;
+		}
+	}
+
+	private final String name;
+	private final OperationMetrics[] operations = new OperationMetrics[Operation.values().length];
+
+	/**
+	 * @param name identifies the repository, e.g. in JMX object names.
+	 */
+	public RepositoryMetrics(String name)
+	{
+		super();
+
+		if (name == null || name.isEmpty()) throw new IllegalArgumentException("name is required");
+
+		this.name = name;
+
+		for (int i = 0; i < operations.length; ++i)
+		{
+			operations[i] = new OperationMetrics();
+		}
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public OperationMetrics get(Operation operation)
+	{
+		return operations[operation.ordinal()];
+	}
+
+	public void reset()
+	{
+		for (OperationMetrics metrics : operations)
+		{
+			metrics.reset();
+		}
+	}
+
+	/**
+	 * Registers an MXBean for each operation with the platform MBeanServer.
+	 * 
+	 * @throws RepositoryException if they are already registered.
+	 */
+	public RepositoryMetrics register()
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		try
+		{
+			for (Operation operation : Operation.values())
+			{
+				server.registerMBean(get(operation), objectName(operation));
+			}
+		}
+		catch (JMException e)
+		{
+			throw new RepositoryException("Unable to register metrics for " + name, e);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes any of this repository's MXBeans from the platform MBeanServer.
+	 */
+	public void unregister()
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		try
+		{
+			for (Operation operation : Operation.values())
+			{
+				ObjectName objectName = objectName(operation);
+
+				if (server.isRegistered(objectName))
+				{
+					server.unregisterMBean(objectName);
+				}
+			}
+		}
+		catch (JMException e)
+		{
+			throw new RepositoryException("Unable to unregister metrics for " + name, e);
+		}
+	}
+
+	public ObjectName objectName(Operation operation)
+	throws JMException
+	{
+		return new ObjectName(JMX_DOMAIN + ":type=RepositoryMetrics,name=" + ObjectName.quote(name)
+			+ ",operation=" + operation.getMethodName());
+	}
+}
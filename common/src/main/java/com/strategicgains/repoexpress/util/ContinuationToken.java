@@ -0,0 +1,110 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
+
+/**
+ * Encodes the sort-key values of the last row in a keyset page as an opaque, URL-safe token
+ * and decodes them again. The token also carries a signature of the sort order it was issued
+ * for (e.g. "name:asc,id:asc") so that it cannot be replayed against a different ordering.
+ * <p/>
+ * Values are carried as strings (or null); converting them back to the key's type is left to the
+ * repository, which knows the column or field types.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public abstract class ContinuationToken
+{
+	private static final int VERSION = 1;
+
+	/**
+	 * @param signature a description of the sort order the values belong to.
+	 * @param values the sort-key values of the last row on the page, in sort order.
+	 * @return a URL-safe token.
+	 */
+	public static String encode(String signature, List<String> values)
+	{
+		try
+		{
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(VERSION);
+			out.writeUTF(signature);
+			out.writeShort(values.size());
+
+			for (String value : values)
+			{
+				out.writeBoolean(value != null);
+
+				if (value != null)
+				{
+					out.writeUTF(value);
+				}
+			}
+
+			out.flush();
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param signature the sort order the caller is about to query with.
+	 * @param token a token produced by encode().
+	 * @return the sort-key values carried by the token.
+	 * @throws InvalidContinuationException if the token is malformed or was issued for a different signature.
+	 */
+	public static List<String> decode(String signature, String token)
+	{
+		try
+		{
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)));
+
+			if (in.readByte() != VERSION || !signature.equals(in.readUTF()))
+			{
+				throw new InvalidContinuationException("Continuation token does not match the requested sort order");
+			}
+
+			int size = in.readShort();
+			List<String> values = new ArrayList<String>(size);
+
+			for (int i = 0; i < size; i++)
+			{
+				values.add(in.readBoolean() ? in.readUTF() : null);
+			}
+
+			return values;
+		}
+		catch (IOException | IllegalArgumentException e)
+		{
+			throw new InvalidContinuationException("Invalid continuation token", e);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.Repository;
+import com.strategicgains.repoexpress.domain.IdBlock;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+
+/**
+ * Hands out numeric identifiers from blocks claimed in a repository, so that only one in
+ * blockSize IDs costs a round trip. Block hi covers the IDs (hi * blockSize) + 1 through
+ * (hi + 1) * blockSize.
+ * <p/>
+ * A block is claimed by creating an {@link IdBlock} for it. Any number of processes may share a
+ * sequence, provided the repository's create() rejects an existing ID atomically (e.g. a
+ * primary key or unique _id), because that is what keeps two processes from claiming the same
+ * block. Blocks are claimed in order from zero, so on first use the next free block is
+ * found with a logarithmic number of exists() calls.
+ * <p/>
+ * IDs from one generator increase but, when shared, are not ordered across processes. The
+ * unused remainder of a block is lost when its process stops.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class HiLoIdGenerator
+implements LongIdGenerator
+{
+	public static final int DEFAULT_BLOCK_SIZE = 1000;
+
+	private final Repository<IdBlock> blocks;
+	private final String sequence;
+	private final int blockSize;
+	private final ReentrantLock lock = new ReentrantLock();
+	private volatile Block current = new Block(0, 0);
+
+	// The next block to try to claim, or -1 until located. Guarded by lock.
+	private long nextHi = -1;
+
+	public HiLoIdGenerator(Repository<IdBlock> blocks, String sequence)
+	{
+		this(blocks, sequence, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * @param blocks the repository in which claimed blocks are recorded.
+	 * @param sequence the name of the sequence (e.g. the entity type), allowing one repository to serve several.
+	 * @param blockSize the number of IDs claimed per round trip.
+	 */
+	public HiLoIdGenerator(Repository<IdBlock> blocks, String sequence, int blockSize)
+	{
+		super();
+		if (blocks == null) throw new IllegalArgumentException("block repository required");
+		if (sequence == null) throw new IllegalArgumentException("sequence required");
+		if (blockSize < 1) throw new IllegalArgumentException("blockSize must be positive");
+
+		this.blocks = blocks;
+		this.sequence = sequence;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public long nextLong()
+	{
+		while (true)
+		{
+			Block block = current;
+			long id = block.next.getAndIncrement();
+
+			if (id < block.limit) return id;
+
+			refill(block);
+		}
+	}
+
+	private void refill(Block exhausted)
+	{
+		lock.lock();
+
+		try
+		{
+			// another thread may have claimed one already.
+			if (current == exhausted)
+			{
+				current = claim();
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	private Block claim()
+	{
+		if (nextHi < 0) nextHi = firstUnclaimed();
+
+		while (true)
+		{
+			long hi = nextHi;
+
+			try
+			{
+				blocks.create(new IdBlock(sequence, hi));
+				nextHi = hi + 1;
+				return new Block(hi * blockSize + 1, (hi + 1) * blockSize + 1);
+			}
+			catch (DuplicateItemException e)
+			{
+				// claimed by another process; try the next one.
+				nextHi = hi + 1;
+			}
+		}
+	}
+
+	/**
+	 * Gallops, then binary searches, for the first block without an IdBlock.
+	 */
+	private long firstUnclaimed()
+	{
+		if (!isClaimed(0)) return 0;
+
+		long claimed = 0;
+		long unclaimed = 1;
+
+		while (isClaimed(unclaimed))
+		{
+			claimed = unclaimed;
+			unclaimed <<= 1;
+		}
+
+		while (unclaimed - claimed > 1)
+		{
+			long mid = (claimed + unclaimed) >>> 1;
+
+			if (isClaimed(mid)) claimed = mid;
+			else unclaimed = mid;
+		}
+
+		return unclaimed;
+	}
+
+	private boolean isClaimed(long hi)
+	{
+		return blocks.exists(new Identifier(sequence, hi));
+	}
+
+	private static final class Block
+	{
+		private final AtomicLong next;
+		private final long limit;
+
+		private Block(long first, long limit)
+		{
+			this.next = new AtomicLong(first);
+			this.limit = limit;
+		}
+	}
+}
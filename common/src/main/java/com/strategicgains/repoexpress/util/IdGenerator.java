@@ -0,0 +1,51 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import java.util.UUID;
+
+/**
+ * A strategy for generating new entity identifiers (e.g. in a beforeCreate() observer).
+ * Implementations must be thread safe.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ * @see UuidV7Generator
+ */
+@FunctionalInterface
+public interface IdGenerator<T>
+{
+	/**
+	 * @return a new, unique identifier.
+	 */
+	T next();
+
+	/**
+	 * @return a generator of random (version 4) UUIDs, via UUID.randomUUID().
+	 */
+	static IdGenerator<UUID> randomUuid()
+	{
+		return UUID::randomUUID;
+	}
+
+	/**
+	 * @return a shared generator of time-ordered (version 7) UUIDs, monotonic across all its users.
+	 */
+	static IdGenerator<UUID> timeOrderedUuid()
+	{
+		return UuidV7Generator.DEFAULT;
+	}
+}
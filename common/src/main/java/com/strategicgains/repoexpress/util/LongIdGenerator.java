@@ -0,0 +1,56 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+/**
+ * An {@link IdGenerator} of numeric identifiers, for entities keyed by a Long (or, via asInteger(),
+ * an Integer), such as those parsed by StringToLongIdAdapter and StringToIntegerIdAdapter.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ * @see SnowflakeGenerator
+ * @see HiLoIdGenerator
+ */
+@FunctionalInterface
+public interface LongIdGenerator
+extends IdGenerator<Long>
+{
+	/**
+	 * @return a new, unique identifier, without boxing it.
+	 */
+	long nextLong();
+
+	@Override
+	default Long next()
+	{
+		return nextLong();
+	}
+
+	/**
+	 * @return a generator of the same identifiers as Integers.
+	 * @throws IllegalStateException from next() once an identifier no longer fits in an int.
+	 */
+	default IdGenerator<Integer> asInteger()
+	{
+		return () -> {
+			long id = nextLong();
+
+			if (id > Integer.MAX_VALUE || id < Integer.MIN_VALUE) throw new IllegalStateException("ID exceeds integer range: " + id);
+
+			return (int) id;
+		};
+	}
+}
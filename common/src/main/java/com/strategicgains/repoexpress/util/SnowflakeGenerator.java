@@ -0,0 +1,140 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates Snowflake-style 63-bit identifiers without coordination: 41 bits of milliseconds
+ * since an epoch (about 69 years), a 10-bit node number and a 12-bit per-millisecond sequence.
+ * IDs from one generator are strictly increasing, and roughly time-ordered across nodes.
+ * <p/>
+ * Uniqueness across processes relies on each concurrently running generator having a different
+ * node number (0-1023), e.g. from configuration or a pod ordinal. More than 4096 IDs in a
+ * millisecond borrow from the next one, and if the clock moves backwards the generator counts on
+ * from the last timestamp. Either way the timestamp runs ahead of the clock by at most
+ * MAX_LEAD_MILLIS; beyond that, next() parks until the clock catches up. The last timestamp is
+ * only held in memory, so this bound is what keeps a restarted generator with the same node
+ * number from re-issuing IDs, provided the restart takes longer than MAX_LEAD_MILLIS.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class SnowflakeGenerator
+implements LongIdGenerator
+{
+	/**
+	 * 2026-01-01T00:00:00Z.
+	 */
+	public static final long DEFAULT_EPOCH = 1_767_225_600_000L;
+	public static final int MAX_NODE = 1023;
+
+	/**
+	 * The most milliseconds the generator's timestamp may run ahead of the clock.
+	 */
+	public static final int MAX_LEAD_MILLIS = 5;
+
+	private static final int SEQUENCE_BITS = 12;
+	private static final int NODE_BITS = 10;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+	private final long node;
+	private final long epoch;
+	private final LongSupplier clock;
+
+	// The last timestamp (upper bits) and sequence (lower 12 bits) issued.
+	private final AtomicLong last = new AtomicLong();
+
+	public SnowflakeGenerator(int node)
+	{
+		this(node, DEFAULT_EPOCH, System::currentTimeMillis);
+	}
+
+	/**
+	 * @param node this generator's node number, unique among running generators (0-1023).
+	 * @param epoch the milliseconds since the Unix epoch from which timestamps are counted.
+	 * @param clock supplies the current time in milliseconds since the Unix epoch.
+	 */
+	public SnowflakeGenerator(int node, long epoch, LongSupplier clock)
+	{
+		super();
+		if (node < 0 || node > MAX_NODE) throw new IllegalArgumentException("node must be 0-" + MAX_NODE + ": " + node);
+		if (clock == null) throw new IllegalArgumentException("clock required");
+
+		this.node = node;
+		this.epoch = epoch;
+		this.clock = clock;
+	}
+
+	@Override
+	public long nextLong()
+	{
+		long prev;
+		long stamp;
+
+		do
+		{
+			prev = last.get();
+			long elapsed = elapsed();
+			long now = elapsed << SEQUENCE_BITS;
+
+			// when the sequence is spent, this carries into the next millisecond.
+			stamp = (now > prev ? now : prev + 1);
+			long lead = (stamp >>> SEQUENCE_BITS) - elapsed;
+
+			if (lead > MAX_LEAD_MILLIS)
+			{
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(lead - MAX_LEAD_MILLIS));
+				continue;
+			}
+
+			if ((stamp >>> SEQUENCE_BITS) > MAX_TIMESTAMP) throw new IllegalStateException("Timestamp beyond the generator's range");
+			if (last.compareAndSet(prev, stamp)) break;
+		}
+		while (true);
+
+		return (stamp >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | node << SEQUENCE_BITS | (stamp & SEQUENCE_MASK);
+	}
+
+	/**
+	 * @return the milliseconds since the Unix epoch at which the ID was generated.
+	 */
+	public long timestamp(long id)
+	{
+		return epoch + (id >>> (NODE_BITS + SEQUENCE_BITS));
+	}
+
+	/**
+	 * @return the node number of the generator that issued the ID.
+	 */
+	public static int node(long id)
+	{
+		return (int) (id >>> SEQUENCE_BITS) & MAX_NODE;
+	}
+
+	private long elapsed()
+	{
+		long elapsed = clock.getAsLong() - epoch;
+
+		if (elapsed < 0 || elapsed > MAX_TIMESTAMP) throw new IllegalStateException("Clock outside of the generator's range: " + (elapsed + epoch));
+
+		return elapsed;
+	}
+}
@@ -15,13 +15,21 @@
  */
 package com.strategicgains.repoexpress.util;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
  * Utility class to convert between a UUID and a short (22-character) string
  * representation of it (and back). Implements a very efficient URL-safe Base64
  * encoding/decoding algorithm to format/parse the UUID.
+ * <p/>
+ * The String-returning methods allocate only their result. For hot paths (e.g. rendering
+ * many IDs into a response), the format() variants that write into a caller-supplied char[],
+ * StringBuilder or ByteBuffer, and parse(CharSequence, int, int), don't allocate at all. They
+ * work directly on the UUID's two longs through lookup tables. The canonical 36-character form
+ * has equivalent formatLong() and parse() variants.
  * 
  * NOTE: There is NO WAY for this algorithm to detect an invalid short-form 
  *       UUID if it is 22 characters in length and composed of alpha-numeric
@@ -33,6 +41,16 @@ import java.util.UUID;
  */
 public abstract class UuidConverter
 {
+	/**
+	 * The length of the short, URL-safe Base64 form.
+	 */
+	public static final int SHORT_LENGTH = 22;
+
+	/**
+	 * The length of the canonical (8-4-4-4-12 hexadecimal) form.
+	 */
+	public static final int LONG_LENGTH = 36;
+
 	private UuidConverter()
 	{
 		// prevents instantiation.
@@ -41,16 +59,34 @@ public abstract class UuidConverter
 	// Varies from standard Base64 by the last two characters in this string ("-" and "_").
 	// The standard characters are "+" and "/" respectively, but are not URL safe.
 	private static final char[] C64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
-	private static final int[] I256 = new int[256];
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	// Character to value, with -1 for characters outside the alphabet. Indexed by char & 0x7f
+	// once the char is known to be ASCII.
+	private static final byte[] B64_VALUES = new byte[128];
+	private static final byte[] HEX_VALUES = new byte[128];
 
 	static
 	{
+		Arrays.fill(B64_VALUES, (byte) -1);
+		Arrays.fill(HEX_VALUES, (byte) -1);
+
 		for (int i = 0; i < C64.length; i++)
 		{
-			I256[C64[i]] = i;
+			B64_VALUES[C64[i]] = (byte) i;
+		}
+
+		for (int i = 0; i < 16; i++)
+		{
+			HEX_VALUES[HEX[i]] = (byte) i;
+			HEX_VALUES[Character.toUpperCase(HEX[i])] = (byte) i;
 		}
 	}
-	private static final UUID ZERO_UUID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+
+	// Appending a whole array to a StringBuilder is far cheaper than appending char by char.
+	private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[LONG_LENGTH]);
+
+	private static final UUID ZERO_UUID = new UUID(0L, 0L);
 	private static final String ZERO_SHORT_ID = "0000000000000000000000";
 
 	/**
@@ -60,16 +96,144 @@ public abstract class UuidConverter
 	 * @param uuid a UUID instance.
 	 * @return a short string representation of the UUID.
 	 * @throws NullPointerException if the UUID instance is null.
-	 * @throws IllegalArgumentException if the underlying UUID implementation is not 16 bytes.
 	 */
 	public static String format(UUID uuid)
 	{
 		if (uuid == null) throw new NullPointerException("Null UUID");
 
-		if (ZERO_UUID.equals(uuid)) return ZERO_SHORT_ID;
+		if (isZero(uuid)) return ZERO_SHORT_ID;
+
+		char[] chars = new char[SHORT_LENGTH];
+		encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * Writes the short (22-character) form of the UUID into the array.
+	 * 
+	 * @param uuid a UUID instance.
+	 * @param dest the array to write to.
+	 * @param offset where in the array to start writing.
+	 * @return the offset after the last character written.
+	 * @throws NullPointerException if the UUID instance is null.
+	 * @throws IndexOutOfBoundsException if there is not room for 22 characters.
+	 */
+	public static int format(UUID uuid, char[] dest, int offset)
+	{
+		if (uuid == null) throw new NullPointerException("Null UUID");
+
+		if (offset < 0 || offset > dest.length - SHORT_LENGTH) throw new IndexOutOfBoundsException("No room for a short UUID at offset " + offset);
+
+		if (isZero(uuid))
+		{
+			Arrays.fill(dest, offset, offset + SHORT_LENGTH, '0');
+		}
+		else
+		{
+			encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), dest, offset);
+		}
+
+		return offset + SHORT_LENGTH;
+	}
+
+	/**
+	 * Appends the short (22-character) form of the UUID.
+	 * 
+	 * @return the StringBuilder.
+	 * @throws NullPointerException if the UUID instance is null.
+	 */
+	public static StringBuilder format(UUID uuid, StringBuilder sb)
+	{
+		if (uuid == null) throw new NullPointerException("Null UUID");
+
+		if (isZero(uuid)) return sb.append(ZERO_SHORT_ID);
+
+		char[] chars = SCRATCH.get();
+		encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 0);
+		return sb.append(chars, 0, SHORT_LENGTH);
+	}
+
+	/**
+	 * Writes the short (22-character) form of the UUID as US-ASCII bytes at the buffer's
+	 * position, advancing it.
+	 * 
+	 * @return the buffer.
+	 * @throws NullPointerException if the UUID instance is null.
+	 * @throws BufferOverflowException if fewer than 22 bytes remain.
+	 */
+	public static ByteBuffer format(UUID uuid, ByteBuffer dest)
+	{
+		if (uuid == null) throw new NullPointerException("Null UUID");
+
+		if (dest.remaining() < SHORT_LENGTH) throw new BufferOverflowException();
+
+		if (isZero(uuid))
+		{
+			for (int i = 0; i < SHORT_LENGTH; i++)
+			{
+				dest.put((byte) '0');
+			}
+
+			return dest;
+		}
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		for (int i = 0; i < 10; i++)
+		{
+			dest.put((byte) C64[(int) (msb >>> (58 - 6 * i)) & 0x3f]);
+		}
+
+		dest.put((byte) C64[(int) ((msb & 0xf) << 2 | lsb >>> 62)]);
+
+		for (int i = 0; i < 10; i++)
+		{
+			dest.put((byte) C64[(int) (lsb >>> (56 - 6 * i)) & 0x3f]);
+		}
+
+		return dest.put((byte) C64[(int) (lsb & 0x3) << 4]);
+	}
+
+	/**
+	 * Writes the canonical 36-character form of the UUID (as UUID.toString() produces) into
+	 * the array.
+	 * 
+	 * @return the offset after the last character written.
+	 * @throws IndexOutOfBoundsException if there is not room for 36 characters.
+	 */
+	public static int formatLong(UUID uuid, char[] dest, int offset)
+	{
+		if (uuid == null) throw new NullPointerException("Null UUID");
+
+		if (offset < 0 || offset > dest.length - LONG_LENGTH) throw new IndexOutOfBoundsException("No room for a UUID at offset " + offset);
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+		hex(msb >>> 32, 8, dest, offset);
+		dest[offset + 8] = '-';
+		hex(msb >>> 16, 4, dest, offset + 9);
+		dest[offset + 13] = '-';
+		hex(msb, 4, dest, offset + 14);
+		dest[offset + 18] = '-';
+		hex(lsb >>> 48, 4, dest, offset + 19);
+		dest[offset + 23] = '-';
+		hex(lsb, 12, dest, offset + 24);
+		return offset + LONG_LENGTH;
+	}
 
-		byte[] bytes = toByteArray(uuid);
-		return encodeBase64(bytes);
+	/**
+	 * Appends the canonical 36-character form of the UUID.
+	 * 
+	 * @return the StringBuilder.
+	 */
+	public static StringBuilder formatLong(UUID uuid, StringBuilder sb)
+	{
+		if (uuid == null) throw new NullPointerException("Null UUID");
+
+		char[] chars = SCRATCH.get();
+		formatLong(uuid, chars, 0);
+		return sb.append(chars, 0, LONG_LENGTH);
 	}
 
 	/**
@@ -88,132 +252,178 @@ public abstract class UuidConverter
 	{
 		if (uuidString == null) throw new NullPointerException("Null UUID string");
 
-		if (uuidString.length() > 24)
+		return parse(uuidString, 0, uuidString.length());
+	}
+
+	/**
+	 * Parses the short or long form of a UUID from a range of characters (e.g. a path segment
+	 * within a request URL), without copying it to a String first.
+	 * 
+	 * @param s the characters.
+	 * @param start the index of the first character of the UUID.
+	 * @param end the index after the last character of the UUID.
+	 * @return a UUID instance
+	 * @throws IllegalArgumentException if the range is not a valid UUID representation.
+	 * @throws NullPointerException if s is null.
+	 */
+	public static UUID parse(CharSequence s, int start, int end)
+	{
+		if (s == null) throw new NullPointerException("Null UUID string");
+
+		if (start < 0 || end > s.length() || start > end) throw new IndexOutOfBoundsException("Invalid range: " + start + ".." + end);
+
+		int length = end - start;
+
+		if (length > 24)
+		{
+			// The JDK is already fast for a whole String. Otherwise, parse the canonical form
+			// in place and let the JDK handle the rare non-canonical ones (e.g. without leading zeros).
+			if (length == LONG_LENGTH && !(s instanceof String && length == s.length())) return parseLong(s, start);
+
+			return UUID.fromString(s.subSequence(start, end).toString());
+		}
+
+		if (length < SHORT_LENGTH)
+		{
+			throw new IllegalArgumentException("Short UUID must be 22 characters: " + s.subSequence(start, end));
+		}
+
+		if (length > SHORT_LENGTH && (length != 24 || s.charAt(start + 22) != '=' || s.charAt(start + 23) != '='))
+		{
+			throw new IllegalArgumentException("Invalid short UUID: " + s.subSequence(start, end));
+		}
+
+		if (isZeroShortId(s, start)) return ZERO_UUID;
+
+		long msb = 0;
+		long lsb = 0;
+		int invalid = 0;
+
+		// characters 0-9 hold the top 60 bits of msb.
+		for (int i = 0; i < 10; i++)
 		{
-			return UUID.fromString(uuidString);
+			int v = b64(s.charAt(start + i));
+			invalid |= v;
+			msb = msb << 6 | (v & 0x3f);
 		}
-		
-		if (uuidString.length() < 22)
+
+		// character 10 straddles the two longs.
+		int straddle = b64(s.charAt(start + 10));
+		invalid |= straddle;
+		msb = msb << 4 | (straddle & 0x3f) >>> 2;
+		lsb = straddle & 0x3;
+
+		// characters 11-20 hold the next 60 bits of lsb, and character 21 the last two.
+		for (int i = 11; i < 21; i++)
+		{
+			int v = b64(s.charAt(start + i));
+			invalid |= v;
+			lsb = lsb << 6 | (v & 0x3f);
+		}
+
+		int last = b64(s.charAt(start + 21));
+		invalid |= last;
+		lsb = lsb << 2 | (last & 0x3f) >>> 4;
+
+		if (invalid < 0) throw new IllegalArgumentException("Invalid character in short UUID: " + s.subSequence(start, end));
+
+		if (msb == 0 && lsb == 0) throw new IllegalArgumentException("Invalid short UUID: " + s.subSequence(start, end));
+
+		return new UUID(msb, lsb);
+	}
+
+	private static UUID parseLong(CharSequence s, int start)
+	{
+		if (s.charAt(start + 8) != '-' || s.charAt(start + 13) != '-' || s.charAt(start + 18) != '-' || s.charAt(start + 23) != '-')
 		{
-			throw new IllegalArgumentException("Short UUID must be 22 characters: " + uuidString);
+			throw new IllegalArgumentException("Invalid UUID string: " + s.subSequence(start, start + LONG_LENGTH));
 		}
 
-		if (uuidString.length() > 22 && !"==".equals(uuidString.substring(22)))
+		long msb = 0;
+		long lsb = 0;
+		int invalid = 0;
+
+		for (int i = 0; i < 18; i++)
 		{
-			throw new IllegalArgumentException("Invalid short UUID: " + uuidString);
+			if (i == 8 || i == 13) continue;
+
+			int v = hex(s.charAt(start + i));
+			invalid |= v;
+			msb = msb << 4 | (v & 0xf);
 		}
 
-		if (ZERO_SHORT_ID.equals(uuidString)) return ZERO_UUID;
+		for (int i = 19; i < LONG_LENGTH; i++)
+		{
+			if (i == 23) continue;
 
-		byte[] bytes = decodeBase64(uuidString);
-		ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
-		bb.put(bytes, 0, 16);
-		bb.clear();
-		UUID result = new UUID(bb.getLong(), bb.getLong());
+			int v = hex(s.charAt(start + i));
+			invalid |= v;
+			lsb = lsb << 4 | (v & 0xf);
+		}
 
-		if (ZERO_UUID.equals(result)) throw new IllegalArgumentException("Invalid short UUID: " + uuidString);
+		if (invalid < 0) throw new IllegalArgumentException("Invalid UUID string: " + s.subSequence(start, start + LONG_LENGTH));
 
-		return result;
+		return new UUID(msb, lsb);
 	}
 
 	/**
-	 * Extracts the bytes from a UUID instance in MSB, LSB order.
-	 * 
-	 * @param uuid a UUID instance.
-	 * @return the bytes from the UUID instance.
+	 * Encodes the 128 bits six at a time, most significant first, into 22 characters. The
+	 * last character carries the final two bits (followed by four zero bits).
 	 */
-	private static byte[] toByteArray(UUID uuid)
+	private static void encode(long msb, long lsb, char[] dest, int offset)
+	{
+		for (int i = 0; i < 10; i++)
+		{
+			dest[offset + i] = C64[(int) (msb >>> (58 - 6 * i)) & 0x3f];
+		}
+
+		dest[offset + 10] = C64[(int) ((msb & 0xf) << 2 | lsb >>> 62)];
+
+		for (int i = 0; i < 10; i++)
+		{
+			dest[offset + 11 + i] = C64[(int) (lsb >>> (56 - 6 * i)) & 0x3f];
+		}
+
+		dest[offset + 21] = C64[(int) (lsb & 0x3) << 4];
+	}
+
+	private static void hex(long value, int digits, char[] dest, int offset)
 	{
-		ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
-		bb.putLong(uuid.getMostSignificantBits());
-		bb.putLong(uuid.getLeastSignificantBits());
-		return bb.array();
+		for (int i = digits - 1; i >= 0; i--)
+		{
+			dest[offset + i] = HEX[(int) value & 0xf];
+			value >>>= 4;
+		}
 	}
 
 	/**
-	 * Accepts a UUID byte array (of exactly 16 bytes) and base64 encodes it, using a URL-safe
-	 * encoding scheme.  The resulting string will be 22 characters in length with no extra
-	 * padding on the end (e.g. no "==" on the end).
-	 * <p/>
-	 * Base64 encoding essentially takes each three bytes from the array and converts them into
-	 * four characters.  This implementation, not using padding, converts the last byte into two
-	 * characters.
-	 * 
-	 * @param bytes a UUID byte array.
-	 * @return a URL-safe base64-encoded string.
+	 * @return the character's Base64 value, or -1 if it isn't in the URL-safe alphabet.
 	 */
-	private static String encodeBase64(byte[] bytes)
-	{
-		if (bytes == null) throw new NullPointerException("Null UUID byte array");
-		if (bytes.length != 16) throw new IllegalArgumentException("UUID must be 16 bytes");
-		
-		// Output is always 22 characters.
-		char[] chars = new char[22];
-		
-		int i = 0;
-		int j = 0;
-		
-		while(i < 15)
-		{
-			// Get the next three bytes.
-			int d = (bytes[i++] & 0xff) << 16 | (bytes[i++] & 0xff) << 8 | (bytes[i++] & 0xff);
-			
-			// Put them in these four characters
-			chars[j++] = C64[(d >>> 18) & 0x3f];
-			chars[j++] = C64[(d >>> 12) & 0x3f];
-			chars[j++] = C64[(d >>> 6) & 0x3f];
-			chars[j++] = C64[d & 0x3f];
-		}
-		
-		// The last byte of the input gets put into two characters at the end of the string.
-		int d = (bytes[i] & 0xff) << 10;
-		chars[j++] = C64[d >> 12];
-		chars[j] = C64[(d >>> 6) & 0x3f];
-		return new String(chars);
+	private static int b64(char c)
+	{
+		return (c < 128 ? B64_VALUES[c] : -1);
 	}
 
 	/**
-	 * Base64 decodes a short, 22-character UUID string (or 24-characters with padding)
-	 * into a byte array. The resulting byte array contains 16 bytes.
-	 * <p/>
-	 * Base64 decoding essentially takes each four characters from the string and converts
-	 * them into three bytes. This implementation, not using padding, converts the final
-	 * two characters into one byte.
-	 * 
-	 * @param s
-	 * @return
+	 * @return the character's hexadecimal value, or -1 if it isn't a hex digit.
 	 */
-	private static byte[] decodeBase64(String s)
+	private static int hex(char c)
 	{
-		if (s == null) throw new NullPointerException("Cannot decode null string");
-		if (s.isEmpty() || (s.length() > 24)) throw new IllegalArgumentException("Invalid short UUID");
+		return (c < 128 ? HEX_VALUES[c] : -1);
+	}
 
-		// Output is always 16 bytes (UUID).
-		byte[] bytes = new byte[16];
-		int i = 0;
-		int j = 0;
+	private static boolean isZero(UUID uuid)
+	{
+		return (uuid.getMostSignificantBits() == 0 && uuid.getLeastSignificantBits() == 0);
+	}
 
-		while (i < 15)
+	private static boolean isZeroShortId(CharSequence s, int start)
+	{
+		for (int i = 0; i < SHORT_LENGTH; i++)
 		{
-			// Get the next four characters.
-			int d = getChar(s, j++) << 18 | getChar(s, j++) << 12 | getChar(s, j++) << 6 | getChar(s, j++);
-
-			// Put them in these three bytes.
-			bytes[i++] = (byte) (d >> 16);
-			bytes[i++] = (byte) (d >> 8);
-			bytes[i++] = (byte) d;
+			if (s.charAt(start + i) != '0') return false;
 		}
 
-		// Add the last two characters from the string into the last byte.
-		bytes[i] = (byte) ((I256[s.charAt(j++)] << 18 | I256[s.charAt(j)] << 12) >> 16);
-		return bytes;
-	}
-
-	private static int getChar(String s, int j)
-	{
-		char c = s.charAt(j);
-		int v = I256[c];
-		if (v == 0 && c != 'A') throw new IllegalArgumentException("Invalid character in short UUID: " + c);
-		return v;
+		return true;
 	}
 }
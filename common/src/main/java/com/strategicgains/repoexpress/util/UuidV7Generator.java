@@ -0,0 +1,100 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered, version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp,
+ * a 12-bit sequence and 62 random bits. Consecutive IDs from one generator are strictly
+ * increasing (compared as unsigned 128-bit values, which is how most databases order them), so
+ * new rows land at the right-hand edge of a B-tree index instead of splitting random pages.
+ * <p/>
+ * The sequence restarts at zero each millisecond. More than 4096 IDs in a millisecond borrow
+ * from the next one, so the timestamp runs briefly ahead of the clock rather than repeating.
+ * Likewise, if the clock moves backwards the timestamp holds until it catches up.
+ * <p/>
+ * The random bits come from ThreadLocalRandom rather than the SecureRandom behind
+ * UUID.randomUUID(), so generation doesn't contend across threads. Uniqueness relies on the
+ * timestamp, sequence and 62 random bits together. The IDs are NOT unguessable; use
+ * random UUIDs where an ID doubles as a secret.
+ * 
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class UuidV7Generator
+implements IdGenerator<UUID>
+{
+	static final UuidV7Generator DEFAULT = new UuidV7Generator();
+
+	private static final int SEQUENCE_BITS = 12;
+	private static final long VERSION = 0x7000L;
+	private static final long VARIANT = 0x8000000000000000L;
+
+	private final LongSupplier clock;
+
+	// The last timestamp (upper 48 bits) and sequence (lower 12 bits) issued.
+	private final AtomicLong last = new AtomicLong();
+
+	public UuidV7Generator()
+	{
+		this(System::currentTimeMillis);
+	}
+
+	/**
+	 * @param clock supplies the current time in milliseconds since the Unix epoch.
+	 */
+	public UuidV7Generator(LongSupplier clock)
+	{
+		if (clock == null) throw new IllegalArgumentException("clock required");
+
+		this.clock = clock;
+	}
+
+	@Override
+	public UUID next()
+	{
+		long now = clock.getAsLong() << SEQUENCE_BITS;
+		long prev;
+		long stamp;
+
+		do
+		{
+			prev = last.get();
+			stamp = (now > prev ? now : prev + 1);
+		}
+		while (!last.compareAndSet(prev, stamp));
+
+		long msb = (stamp >>> SEQUENCE_BITS) << 16 | VERSION | (stamp & 0xfffL);
+		long lsb = VARIANT | (ThreadLocalRandom.current().nextLong() >>> 2);
+		return new UUID(msb, lsb);
+	}
+
+	/**
+	 * @param uuid a version 7 UUID.
+	 * @return the milliseconds since the Unix epoch embedded in the UUID.
+	 * @throws IllegalArgumentException if the UUID is not version 7.
+	 */
+	public static long timestamp(UUID uuid)
+	{
+		if (uuid.version() != 7) throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+}
@@ -0,0 +1,264 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+public class BatchOperationsTest
+{
+	private ThingRepository repository;
+	private CountingObserver observer;
+
+	@Before
+	public void setup()
+	{
+		repository = new ThingRepository();
+		observer = new CountingObserver();
+		repository.addObserver(observer);
+	}
+
+	@Test
+	public void shouldCreateAllAndNotifyEach()
+	{
+		Thing a = new Thing();
+		Thing b = new Thing();
+
+		List<Thing> created = repository.createAll(Arrays.asList(a, b));
+
+		assertEquals(Arrays.asList(a, b), created);
+		assertTrue(repository.exists(a.getIdentifier()));
+		assertTrue(repository.exists(b.getIdentifier()));
+		assertEquals(2, observer.creates);
+	}
+
+	@Test(expected=DuplicateItemException.class)
+	public void shouldRejectDuplicateOnCreateAll()
+	{
+		Thing a = repository.create(new Thing());
+		repository.createAll(Arrays.asList(new Thing(), a));
+	}
+
+	@Test
+	public void shouldWriteNothingWhenALaterIdExists()
+	{
+		Thing a = repository.create(new Thing());
+		Thing first = new Thing();
+
+		try
+		{
+			repository.createAll(Arrays.asList(first, a));
+			fail("Expected DuplicateItemException");
+		}
+		catch (DuplicateItemException e)
+		{
+			assertTrue(e.getMessage().contains(a.getIdentifier().toString()));
+		}
+
+		assertFalse(repository.exists(first.getIdentifier()));
+		assertEquals(1, repository.size());
+	}
+
+	@Test
+	public void shouldWriteNothingWhenAnIdIsRepeated()
+	{
+		Thing first = new Thing();
+
+		try
+		{
+			repository.createAll(Arrays.asList(first, first));
+			fail("Expected DuplicateItemException");
+		}
+		catch (DuplicateItemException e)
+		{
+			assertEquals(0, repository.size());
+		}
+	}
+
+	@Test
+	public void shouldRejectRepeatedIdBeforeANativeCreateAll()
+	{
+		ThingRepository unchecked = new ThingRepository()
+		{
+			@Override
+			public List<Thing> doCreateAll(Collection<Thing> objects, boolean ifUnique)
+			{
+				List<Thing> results = new ArrayList<Thing>(objects.size());
+
+				for (Thing object : objects)
+				{
+					results.add(doCreate(object, false));
+				}
+
+				return results;
+			}
+		};
+		unchecked.addObserver(observer);
+		Thing first = new Thing();
+
+		try
+		{
+			unchecked.createAll(Arrays.asList(first, first));
+			fail("Expected DuplicateItemException");
+		}
+		catch (DuplicateItemException e)
+		{
+			assertEquals(0, unchecked.size());
+			assertEquals(0, observer.creates);
+		}
+	}
+
+	@Test
+	public void shouldNotifyAfterUpdateWithResults()
+	{
+		Thing a = repository.create(new Thing());
+		Thing returned = new Thing();
+		List<Thing> notified = new ArrayList<Thing>();
+		ThingRepository copying = new ThingRepository()
+		{
+			@Override
+			public Thing doUpdate(Thing item, boolean ifExists)
+			{
+				return returned;
+			}
+		};
+		copying.addObserver(new AbstractRepositoryObserver<Thing>()
+		{
+			@Override
+			public void afterUpdate(Thing object)
+			{
+				notified.add(object);
+			}
+		});
+
+		copying.updateAll(Arrays.asList(a));
+
+		assertEquals(Arrays.asList(returned), notified);
+	}
+
+	@Test
+	public void shouldUpdateAllAndNotifyEach()
+	{
+		Thing a = repository.create(new Thing());
+		Thing b = repository.create(new Thing());
+
+		repository.updateAll(Arrays.asList(a, b));
+
+		assertEquals(2, observer.updates);
+	}
+
+	@Test(expected=ItemNotFoundException.class)
+	public void shouldRejectMissingOnUpdateAll()
+	{
+		Thing a = repository.create(new Thing());
+		repository.updateAll(Arrays.asList(a, new Thing()));
+	}
+
+	@Test
+	public void shouldDeleteAllAndNotifyEach()
+	{
+		Thing a = repository.create(new Thing());
+		Thing b = repository.create(new Thing());
+
+		repository.deleteAll(Arrays.asList(a.getIdentifier(), b.getIdentifier()));
+
+		assertEquals(0, repository.size());
+		assertEquals(2, observer.deletes);
+	}
+
+	@Test
+	public void shouldDeleteNothingWhenAnIdIsMissing()
+	{
+		Thing a = repository.create(new Thing());
+		Identifier missing = new Identifier(UUID.randomUUID());
+
+		try
+		{
+			repository.deleteAll(Arrays.asList(a.getIdentifier(), missing));
+			fail("Expected ItemNotFoundException");
+		}
+		catch (ItemNotFoundException e)
+		{
+			assertTrue(e.getMessage().contains(missing.toString()));
+		}
+
+		assertTrue(repository.exists(a.getIdentifier()));
+		assertEquals(0, observer.deletes);
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		public Thing()
+		{
+			super();
+			setId(UUID.randomUUID());
+		}
+	}
+
+	private static class ThingRepository
+	extends InMemoryRepository<Thing>
+	{
+		public int size()
+		{
+			return items.size();
+		}
+	}
+
+	private static class CountingObserver
+	extends AbstractRepositoryObserver<Thing>
+	{
+		private int creates;
+		private int updates;
+		private int deletes;
+
+		@Override
+		public void afterCreate(Thing object)
+		{
+			++creates;
+		}
+
+		@Override
+		public void afterUpdate(Thing object)
+		{
+			++updates;
+		}
+
+		@Override
+		public void afterDelete(Thing object)
+		{
+			++deletes;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+public class ExecutorAsyncRepositoryTest
+{
+	private ThingRepository repository;
+	private CountingExecutor executor;
+	private AsyncRepository<Thing> async;
+
+	@Before
+	public void setup()
+	{
+		repository = new ThingRepository();
+		executor = new CountingExecutor();
+		async = repository.async(executor);
+	}
+
+	@Test
+	public void shouldRunCallsOnExecutor()
+	{
+		Thing thing = async.create(new Thing()).toCompletableFuture().join();
+
+		assertSame(thing, async.read(thing.getIdentifier()).toCompletableFuture().join());
+		assertTrue(async.exists(thing.getIdentifier()).toCompletableFuture().join());
+		assertEquals(1, async.readList(Arrays.asList(thing.getIdentifier())).toCompletableFuture().join().size());
+		async.delete(thing.getIdentifier()).toCompletableFuture().join();
+		assertFalse(repository.exists(thing.getIdentifier()));
+		assertEquals(5, executor.calls.get());
+	}
+
+	@Test
+	public void shouldCompleteExceptionallyWhenNotFound()
+	{
+		try
+		{
+			async.read(new Identifier(UUID.randomUUID())).toCompletableFuture().join();
+			fail("Expected ItemNotFoundException");
+		}
+		catch (CompletionException e)
+		{
+			assertTrue(e.getCause() instanceof ItemNotFoundException);
+		}
+	}
+
+	@Test
+	public void shouldUseVirtualThreadsByDefault()
+	{
+		Thing thing = repository.create(new Thing());
+		Thread[] caller = new Thread[1];
+		repository.addObserver(new AbstractRepositoryObserver<Thing>()
+		{
+			@Override
+			public void afterRead(Thing object)
+			{
+				caller[0] = Thread.currentThread();
+			}
+		});
+
+		repository.async().read(thing.getIdentifier()).toCompletableFuture().join();
+
+		assertTrue(caller[0].isVirtual());
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		public Thing()
+		{
+			super();
+			setId(UUID.randomUUID());
+		}
+	}
+
+	private static class ThingRepository
+	extends InMemoryRepository<Thing>
+	{
+	}
+
+	private static class CountingExecutor
+	implements Executor
+	{
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command)
+		{
+			calls.incrementAndGet();
+			command.run();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+
+public class QueryableTest
+{
+	private final ListQueryable queryable = new ListQueryable(Arrays.asList(new Thing(), new Thing(), new Thing()));
+
+	@Test
+	public void shouldStreamReadAllByDefault()
+	{
+		try (Stream<Thing> stream = queryable.stream(null, null))
+		{
+			assertEquals(queryable.things, stream.collect(Collectors.toList()));
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void shouldNotSupportKeysetPagesByDefault()
+	{
+		queryable.readPage(null, null, 10, null);
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		public Thing()
+		{
+			super();
+			setId(UUID.randomUUID());
+		}
+	}
+
+	private static class ListQueryable
+	implements Queryable<Thing>
+	{
+		private final List<Thing> things;
+
+		public ListQueryable(List<Thing> things)
+		{
+			super();
+			this.things = things;
+		}
+
+		@Override
+		public long count(QueryFilter filter)
+		{
+			return things.size();
+		}
+
+		@Override
+		public List<Thing> readAll(QueryFilter filter, QueryRange range, QueryOrder order)
+		{
+			return things;
+		}
+	}
+}
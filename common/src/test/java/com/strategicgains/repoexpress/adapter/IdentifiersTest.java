@@ -0,0 +1,50 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.adapter;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class IdentifiersTest
+{
+	private UUID uuid = UUID.fromString("00993542-ba2f-4d9f-82bf-0000cd938f95");
+
+	@Test
+	public void shouldFormatCompoundIdentifier()
+	{
+		Identifier id = new Identifier(uuid, 42L, 7, "name");
+		assertEquals("00993542-ba2f-4d9f-82bf-0000cd938f95:42:7:name", Identifiers.format(id));
+		assertEquals("00993542-ba2f-4d9f-82bf-0000cd938f95/42/7/name", Identifiers.format(id, "/"));
+	}
+
+	@Test
+	public void shouldAppendIdentifier()
+	{
+		StringBuilder sb = new StringBuilder("[");
+		Identifiers.format(new Identifier(uuid, 42L), sb).append(']');
+		assertEquals("[00993542-ba2f-4d9f-82bf-0000cd938f95:42]", sb.toString());
+		assertEquals("-1|0", Identifiers.format(new Identifier(-1L, 0), "|", new StringBuilder()).toString());
+	}
+}
@@ -73,4 +73,27 @@ public class UuidAdapterTest
 		assertEquals(uuidEncoded, Identifiers.UUID.format(uuid));
 		Identifiers.UUID.useShortUUID(false);
 	}
+
+	@Test
+	public void shouldParseCharSequenceRange()
+	{
+		String path = "/things/" + uuidEncoded + "/";
+		assertEquals(uuidId, Identifiers.UUID.parse(path, 8, 30));
+	}
+
+	@Test(expected=InvalidObjectIdException.class)
+	public void shouldThrowOnInvalidCharSequenceRange()
+	{
+		Identifiers.UUID.parse("/things/abcde/", 8, 13);
+	}
+
+	@Test
+	public void shouldAppendUuid()
+	{
+		UuidAdapter adapter = new UuidAdapter();
+		StringBuilder sb = adapter.format(uuidId, new StringBuilder());
+		assertEquals(uuidString, sb.toString());
+		adapter.useShortUUID(true);
+		assertEquals(uuidEncoded, adapter.format(uuid, new StringBuilder()).toString());
+	}
 }
@@ -0,0 +1,223 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+public class CachingRepositoryTest
+{
+	private CountingRepository backing;
+	private CachingRepository<Thing> cached;
+
+	@Before
+	public void setup()
+	{
+		backing = new CountingRepository();
+		cached = new CachingRepository<Thing>(backing, 2, 0, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void shouldServeRepeatedReadsFromCache()
+	{
+		Thing thing = backing.create(new Thing());
+
+		assertSame(thing, cached.read(thing.getIdentifier()));
+		assertSame(thing, cached.read(thing.getIdentifier()));
+		assertTrue(cached.exists(thing.getIdentifier()));
+		assertEquals(1, backing.reads);
+		assertEquals(2, cached.getHitCount());
+	}
+
+	@Test
+	public void shouldInvalidateOnUpdate()
+	{
+		Thing thing = backing.create(new Thing());
+		cached.read(thing.getIdentifier());
+
+		Thing replacement = new Thing();
+		replacement.setId(thing.getId());
+		cached.update(replacement);
+
+		assertSame(replacement, cached.read(thing.getIdentifier()));
+	}
+
+	@Test(expected = ItemNotFoundException.class)
+	public void shouldInvalidateOnDelete()
+	{
+		Thing thing = backing.create(new Thing());
+		cached.read(thing.getIdentifier());
+		cached.delete(thing);
+		cached.read(thing.getIdentifier());
+	}
+
+	@Test
+	public void shouldReadListMissesInOneCall()
+	{
+		Thing a = backing.create(new Thing());
+		Thing b = backing.create(new Thing());
+		cached.read(a.getIdentifier());
+
+		List<Thing> results = cached.readList(Arrays.asList(b.getIdentifier(), new Identifier(UUID.randomUUID()), a.getIdentifier()));
+
+		assertEquals(Arrays.asList(b, a), results);
+		assertEquals(1, backing.readLists);
+		assertEquals(1, cached.getHitCount());
+		assertSame(b, cached.read(b.getIdentifier()));
+		assertEquals(2, cached.getHitCount());
+	}
+
+	@Test
+	public void shouldCheckExistsAllMissesInOneCall()
+	{
+		Thing a = backing.create(new Thing());
+		Thing b = backing.create(new Thing());
+		Identifier unknown = new Identifier(UUID.randomUUID());
+		cached.read(a.getIdentifier());
+
+		Set<Identifier> present = cached.existsAll(Arrays.asList(unknown, b.getIdentifier(), a.getIdentifier()));
+
+		assertEquals(Arrays.asList(b.getIdentifier(), a.getIdentifier()), new ArrayList<Identifier>(present));
+		assertEquals(1, backing.existsAlls);
+		assertEquals(1, cached.getHitCount());
+	}
+
+	@Test
+	public void shouldSkipNullIds()
+	{
+		Thing thing = backing.create(new Thing());
+		cached.read(thing.getIdentifier());
+
+		assertEquals(1, cached.readList(Arrays.asList(null, thing.getIdentifier())).size());
+		assertEquals(1, cached.existsAll(Arrays.asList(thing.getIdentifier(), null)).size());
+	}
+
+	@Test
+	public void shouldNotifyReadObserversOnCacheHitsInReadList()
+	{
+		Thing thing = backing.create(new Thing());
+		cached.read(thing.getIdentifier());
+		List<Identifier> requested = new ArrayList<Identifier>();
+		List<Thing> read = new ArrayList<Thing>();
+		cached.addObserver(new AbstractRepositoryObserver<Thing>()
+		{
+			@Override
+			public void beforeRead(Identifier id)
+			{
+				requested.add(id);
+			}
+
+			@Override
+			public void afterRead(Thing object)
+			{
+				read.add(object);
+			}
+		});
+
+		cached.readList(Arrays.asList(thing.getIdentifier()));
+
+		assertEquals(Arrays.asList(thing.getIdentifier()), requested);
+		assertEquals(Arrays.asList(thing), read);
+		assertEquals(1, backing.reads);
+	}
+
+	@Test
+	public void shouldEvictBeyondMaxSize()
+	{
+		Thing a = backing.create(new Thing());
+		Thing b = backing.create(new Thing());
+		Thing c = backing.create(new Thing());
+		cached.read(a.getIdentifier());
+		cached.read(b.getIdentifier());
+		cached.read(c.getIdentifier());
+
+		assertEquals(2, cached.getCacheSize());
+		cached.read(a.getIdentifier());
+		assertEquals(4, backing.reads);
+	}
+
+	@Test
+	public void shouldExpireAfterTtl()
+	throws InterruptedException
+	{
+		cached = new CachingRepository<Thing>(backing, 10, 1, TimeUnit.MILLISECONDS);
+		Thing thing = backing.create(new Thing());
+		cached.read(thing.getIdentifier());
+		Thread.sleep(5);
+
+		assertFalse(cached.getHitCount() > 0);
+		cached.read(thing.getIdentifier());
+		assertEquals(2, backing.reads);
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		public Thing()
+		{
+			super();
+			setId(UUID.randomUUID());
+		}
+	}
+
+	private static class CountingRepository
+	extends InMemoryRepository<Thing>
+	{
+		private int reads;
+		private int readLists;
+		private int existsAlls;
+
+		@Override
+		public Thing doRead(Identifier id)
+		{
+			++reads;
+			return super.doRead(id);
+		}
+
+		@Override
+		public List<Thing> readList(Collection<Identifier> ids)
+		{
+			++readLists;
+			return super.readList(ids);
+		}
+
+		@Override
+		public Set<Identifier> existsAll(Collection<Identifier> ids)
+		{
+			++existsAlls;
+			return super.existsAll(ids);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.strategicgains.noschema.document.ObjectCodec;
+
+public class FileWriteJournalTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldGroupCommitConcurrentAppends()
+	throws Exception
+	{
+		Path directory = folder.newFolder().toPath();
+		FileWriteJournal<String> journal = new FileWriteJournal<String>(directory, new StringCodec(), String.class);
+		List<Thread> threads = new ArrayList<Thread>();
+
+		for (int t = 0; t < 8; t++)
+		{
+			int thread = t;
+			threads.add(Thread.ofVirtual().start(() -> {
+				for (int i = 0; i < 100; i++)
+				{
+					journal.append("t" + thread + "-" + i);
+				}
+			}));
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		journal.close();
+		Set<String> replayed = new HashSet<String>();
+		FileWriteJournal<String> reopened = new FileWriteJournal<String>(directory, new StringCodec(), String.class);
+		reopened.replay(replayed::add);
+		reopened.close();
+		assertEquals(800, replayed.size());
+	}
+
+	@Test
+	public void shouldReplayOnlyUnreleasedSegments()
+	throws Exception
+	{
+		Path directory = folder.newFolder().toPath();
+		FileWriteJournal<String> journal = new FileWriteJournal<String>(directory, new StringCodec(), String.class);
+		journal.append("a");
+		long marker = journal.rotate();
+		journal.append("b");
+		journal.append("c");
+		journal.release(marker);
+		journal.close();
+
+		List<String> replayed = new ArrayList<String>();
+		FileWriteJournal<String> reopened = new FileWriteJournal<String>(directory, new StringCodec(), String.class);
+		reopened.replay(replayed::add);
+		reopened.close();
+		assertEquals(Arrays.asList("b", "c"), replayed);
+	}
+
+	private static class StringCodec
+	implements ObjectCodec<String>
+	{
+		@Override
+		public byte[] serialize(String value)
+		{
+			return value.getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public String deserialize(byte[] bytes, Class<String> type)
+		{
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,317 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.noschema.document.ObjectCodec;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+public class WriteBehindRepositoryTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private CountingRepository backing;
+	private WriteBehindRepository<Counter> repository;
+
+	@Before
+	public void setup()
+	{
+		backing = new CountingRepository();
+		repository = new WriteBehindRepository<Counter>(backing, 1, TimeUnit.HOURS, 100);
+	}
+
+	@After
+	public void teardown()
+	{
+		repository.close();
+	}
+
+	@Test
+	public void shouldCoalesceUpdatesToTheSameId()
+	{
+		Counter counter = backing.create(new Counter(0));
+
+		for (int i = 1; i <= 50; ++i)
+		{
+			repository.update(new Counter(counter.getId(), i));
+		}
+
+		assertEquals(0, backing.updates);
+		assertEquals(50, repository.read(counter.getIdentifier()).value);
+		assertEquals(1, repository.flush());
+		assertEquals(1, backing.updates);
+		assertEquals(49, repository.getCoalescedCount());
+		assertEquals(50, backing.read(counter.getIdentifier()).value);
+	}
+
+	@Test
+	public void shouldServeQueuedUpdatesFromReadList()
+	{
+		Counter a = backing.create(new Counter(1));
+		Counter b = backing.create(new Counter(2));
+		Counter updated = repository.update(new Counter(b.getId(), 20));
+
+		List<Counter> results = repository.readList(Arrays.asList(b.getIdentifier(), a.getIdentifier()));
+		assertEquals(2, results.size());
+		assertSame(updated, results.get(0));
+		assertEquals(1, results.get(1).value);
+		assertEquals(2, repository.existsAll(Arrays.asList(a.getIdentifier(), b.getIdentifier())).size());
+	}
+
+	@Test(expected=ItemNotFoundException.class)
+	public void shouldCheckExistenceOfNewIds()
+	{
+		repository.update(new Counter(5));
+	}
+
+	@Test
+	public void shouldFlushWhenFull()
+	{
+		repository.close();
+		repository = new WriteBehindRepository<Counter>(backing, 1, TimeUnit.HOURS, 2);
+
+		for (int i = 0; i < 3; ++i)
+		{
+			repository.update(new Counter(i), false);
+		}
+
+		assertEquals(2, backing.updates);
+		assertEquals(1, repository.getPendingCount());
+	}
+
+	@Test
+	public void shouldFlushBeforeDelete()
+	{
+		Counter counter = backing.create(new Counter(0));
+		repository.update(new Counter(counter.getId(), 7));
+		repository.delete(counter.getIdentifier());
+
+		assertEquals(1, backing.updates);
+		assertFalse(backing.exists(counter.getIdentifier()));
+		assertEquals(0, repository.getPendingCount());
+	}
+
+	@Test
+	public void shouldFlushPeriodicallyAndOnClose()
+	throws InterruptedException
+	{
+		repository.close();
+		repository = new WriteBehindRepository<Counter>(backing, 10, TimeUnit.MILLISECONDS, 100);
+		Counter counter = repository.update(new Counter(1), false);
+
+		for (int i = 0; i < 200 && backing.updates == 0; ++i)
+		{
+			Thread.sleep(10);
+		}
+
+		assertEquals(1, backing.updates);
+		repository.update(new Counter(counter.getId(), 2), false);
+		repository.close();
+		assertEquals(2, backing.read(counter.getIdentifier()).value);
+	}
+
+	@Test
+	public void shouldReplayJournalAfterCrash()
+	throws Exception
+	{
+		Path directory = folder.newFolder("journal").toPath();
+		repository.close();
+		repository = new WriteBehindRepository<Counter>(backing, 1, TimeUnit.HOURS, 100,
+			new FileWriteJournal<Counter>(directory, new CounterCodec(), Counter.class));
+		Counter counter = repository.update(new Counter(1), false);
+		repository.update(new Counter(counter.getId(), 2), false);
+		Counter other = repository.update(new Counter(3), false);
+
+		// Simulate a crash: a new instance over the same journal, without closing the old one.
+		WriteBehindRepository<Counter> recovered = new WriteBehindRepository<Counter>(backing, 1, TimeUnit.HOURS, 100,
+			new FileWriteJournal<Counter>(directory, new CounterCodec(), Counter.class));
+
+		assertEquals(2, recovered.getPendingCount());
+		assertEquals(2, recovered.flush());
+		assertEquals(2, backing.read(counter.getIdentifier()).value);
+		assertEquals(3, backing.read(other.getIdentifier()).value);
+		recovered.close();
+
+		recovered = new WriteBehindRepository<Counter>(backing, 1, TimeUnit.HOURS, 100,
+			new FileWriteJournal<Counter>(directory, new CounterCodec(), Counter.class));
+		assertEquals(0, recovered.getPendingCount());
+		recovered.close();
+	}
+
+	@Test
+	public void shouldWriteUpdatesRacingClose()
+	throws Exception
+	{
+		BlockingRepository target = new BlockingRepository();
+		WriteBehindRepository<Counter> behind = new WriteBehindRepository<Counter>(target, 1, TimeUnit.HOURS, 100);
+		Counter counter = target.create(new Counter(0));
+		Thread updater = Thread.ofPlatform().start(() -> behind.update(new Counter(counter.getId(), 1), true));
+
+		assertTrue(target.checking.await(5, TimeUnit.SECONDS));
+		Thread closer = Thread.ofPlatform().start(behind::close);
+		closer.join(200);
+		target.proceed.countDown();
+		updater.join();
+		closer.join();
+
+		assertEquals(1, target.read(counter.getIdentifier()).value);
+	}
+
+	@Test
+	public void shouldNotRecreateEntityDeletedRacingUpdate()
+	throws Exception
+	{
+		BlockingRepository target = new BlockingRepository();
+		WriteBehindRepository<Counter> behind = new WriteBehindRepository<Counter>(target, 1, TimeUnit.HOURS, 100);
+		Counter counter = target.create(new Counter(0));
+		Thread updater = Thread.ofPlatform().start(() -> behind.update(new Counter(counter.getId(), 1), true));
+
+		assertTrue(target.checking.await(5, TimeUnit.SECONDS));
+		Thread deleter = Thread.ofPlatform().start(() -> behind.delete(counter));
+		deleter.join(200);
+		target.proceed.countDown();
+		updater.join();
+		deleter.join();
+		behind.close();
+
+		assertFalse(target.exists(counter.getIdentifier()));
+	}
+
+	@Test
+	public void shouldDiscardConditionalUpdateOfEntityDeletedBeforeFlush()
+	{
+		Counter counter = backing.create(new Counter(0));
+		Counter other = backing.create(new Counter(0));
+		repository.update(new Counter(counter.getId(), 1), true);
+		repository.update(new Counter(other.getId(), 1), true);
+		backing.delete(counter);
+
+		assertEquals(1, repository.flush());
+		assertFalse(backing.exists(counter.getIdentifier()));
+		assertEquals(1, backing.read(other.getIdentifier()).value);
+		assertEquals(1, repository.getDiscardedCount());
+	}
+
+	@Test
+	public void shouldKeepUnconditionalUpdateWhenCoalesced()
+	{
+		Counter counter = new Counter(0);
+		repository.update(counter, false);
+		repository.update(new Counter(counter.getId(), 1), true);
+
+		assertEquals(1, repository.flush());
+		assertEquals(1, backing.read(counter.getIdentifier()).value);
+	}
+
+	private static class Counter
+	extends AbstractUuidEntity
+	{
+		int value;
+
+		public Counter(int value)
+		{
+			this(UUID.randomUUID(), value);
+		}
+
+		public Counter(UUID id, int value)
+		{
+			super();
+			setId(id);
+			this.value = value;
+		}
+	}
+
+	private static class CounterCodec
+	implements ObjectCodec<Counter>
+	{
+		@Override
+		public byte[] serialize(Counter counter)
+		{
+			return (counter.getId() + ":" + counter.value).getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public Counter deserialize(byte[] bytes, Class<Counter> type)
+		{
+			String[] parts = new String(bytes, StandardCharsets.UTF_8).split(":");
+			return new Counter(UUID.fromString(parts[0]), Integer.parseInt(parts[1]));
+		}
+	}
+
+	private static class CountingRepository
+	extends InMemoryRepository<Counter>
+	{
+		private volatile int updates;
+
+		@Override
+		public Counter doUpdate(Counter item, boolean ifExists)
+		{
+			++updates;
+			return super.doUpdate(item, ifExists);
+		}
+	}
+
+	/**
+	 * Blocks exists() after checking until proceed is counted down, signalling checking once
+	 * it's called, so the answer can be stale by the time it's returned.
+	 */
+	private static class BlockingRepository
+	extends CountingRepository
+	{
+		private final CountDownLatch checking = new CountDownLatch(1);
+		private final CountDownLatch proceed = new CountDownLatch(1);
+
+		@Override
+		public boolean exists(Identifier id)
+		{
+			boolean exists = super.exists(id);
+			checking.countDown();
+
+			try
+			{
+				proceed.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			return exists;
+		}
+	}
+}
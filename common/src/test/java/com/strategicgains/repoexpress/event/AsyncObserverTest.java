@@ -0,0 +1,395 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.event.AsyncObserver.Backpressure;
+import com.strategicgains.repoexpress.event.ObserverRegistry.Event;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+public class AsyncObserverTest
+{
+	@Test
+	public void shouldDeliverAfterEventsOffTheCallingThread()
+	throws Exception
+	{
+		ThingRepository repository = new ThingRepository();
+		RecordingObserver recorder = new RecordingObserver();
+
+		try (AsyncObserver<Thing> observer = new AsyncObserver<Thing>(recorder))
+		{
+			repository.addObserver(observer);
+			Thing thing = repository.create(new Thing());
+			repository.update(thing);
+			repository.delete(thing);
+
+			assertTrue(observer.flush(5, TimeUnit.SECONDS));
+		}
+
+		assertEquals(Thread.currentThread(), recorder.beforeThread);
+		assertEquals(3, recorder.events.size());
+		assertEquals("[afterCreate, afterUpdate, afterDelete]", recorder.events.toString());
+		assertNotSame(Thread.currentThread(), recorder.afterThread);
+	}
+
+	@Test
+	public void shouldNotRegisterForEventsTheDelegateIgnores()
+	{
+		ObserverRegistry<Thing> registry = new ObserverRegistry<Thing>();
+
+		try (AsyncObserver<Thing> observer = new AsyncObserver<Thing>(new RecordingObserver()))
+		{
+			registry.add(observer);
+			assertTrue(registry.isObserved(Event.BEFORE_CREATE));
+			assertTrue(registry.isObserved(Event.AFTER_UPDATE));
+			assertFalse(registry.isObserved(Event.BEFORE_READ));
+			assertFalse(registry.isObserved(Event.AFTER_READ));
+		}
+	}
+
+	@Test
+	public void shouldNotRegisterBatchObserversForReadsUnlessAsked()
+	{
+		ObserverRegistry<Thing> registry = new ObserverRegistry<Thing>();
+
+		try (AsyncObserver<Thing> writes = new AsyncObserver<Thing>(new BatchObserver());
+			AsyncObserver<Thing> reads = new AsyncObserver<Thing>(new ReadingBatchObserver()))
+		{
+			registry.add(writes);
+			assertTrue(registry.isObserved(Event.AFTER_CREATE));
+			assertTrue(registry.isObserved(Event.AFTER_UPDATE));
+			assertTrue(registry.isObserved(Event.AFTER_DELETE));
+			assertFalse(registry.isObserved(Event.AFTER_READ));
+			assertFalse(registry.isObserved(Event.BEFORE_CREATE));
+
+			registry.add(reads);
+			assertTrue(registry.isObserved(Event.AFTER_READ));
+		}
+	}
+
+	@Test
+	public void shouldDeliverBatchesInOrderPerEntity()
+	throws Exception
+	{
+		BatchObserver batches = new BatchObserver();
+		Thing thing = new Thing();
+
+		try (AsyncObserver<Thing> observer = new AsyncObserver<Thing>(batches, 2, 1000, 50, Backpressure.BLOCK))
+		{
+			for (int i = 0; i < 500; ++i)
+			{
+				observer.afterUpdate(thing);
+				observer.afterCreate(new Thing());
+			}
+
+			assertTrue(observer.flush(5, TimeUnit.SECONDS));
+		}
+
+		int updates = 0;
+
+		for (List<RepositoryEvent<Thing>> batch : batches.batches)
+		{
+			assertTrue(batch.size() <= 50);
+
+			for (RepositoryEvent<Thing> event : batch)
+			{
+				if (event.getEntity() == thing) ++updates;
+			}
+		}
+
+		assertEquals(500, updates);
+		assertEquals(1000, batches.count());
+	}
+
+	@Test
+	public void shouldDropWhenFull()
+	throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		BlockingObserver blocking = new BlockingObserver(release);
+
+		try (AsyncObserver<Thing> observer = new AsyncObserver<Thing>(blocking, 1, 1, 1, Backpressure.DROP))
+		{
+			Thing thing = new Thing();
+			observer.afterCreate(thing);
+			blocking.started.await(5, TimeUnit.SECONDS);
+			observer.afterCreate(thing);
+			observer.afterCreate(thing);
+			observer.afterCreate(thing);
+
+			assertEquals(2, observer.getDroppedCount());
+			release.countDown();
+		}
+
+		assertEquals(2, blocking.delivered.get());
+	}
+
+	@Test
+	public void shouldRunOnCallerWhenFull()
+	throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		BlockingObserver blocking = new BlockingObserver(release);
+
+		try (AsyncObserver<Thing> observer = new AsyncObserver<Thing>(blocking, 1, 1, 1, Backpressure.CALLER_RUNS))
+		{
+			Thing thing = new Thing();
+			observer.afterCreate(thing);
+			blocking.started.await(5, TimeUnit.SECONDS);
+			observer.afterCreate(thing);
+			observer.afterCreate(thing);
+
+			assertTrue(blocking.callers.contains(Thread.currentThread()));
+			release.countDown();
+		}
+
+		assertEquals(0, blocking.failures.get());
+		assertEquals(3, blocking.delivered.get());
+	}
+
+	@Test
+	public void shouldCountObserverFailures()
+	throws Exception
+	{
+		List<RuntimeException> errors = Collections.synchronizedList(new ArrayList<RuntimeException>());
+
+		try (AsyncObserver<Thing> observer = new AsyncObserver<Thing>(new AbstractRepositoryObserver<Thing>()
+		{
+			@Override
+			public void afterCreate(Thing object)
+			{
+				throw new IllegalStateException("boom");
+			}
+		}))
+		{
+			observer.setErrorHandler(errors::add);
+			observer.afterCreate(new Thing());
+			assertTrue(observer.flush(5, TimeUnit.SECONDS));
+			assertEquals(1, observer.getFailureCount());
+		}
+
+		assertEquals(1, errors.size());
+	}
+
+	@Test
+	public void shouldDeliverEventsRacingClose()
+	throws Exception
+	{
+		CountingObserver counting = new CountingObserver();
+		AsyncObserver<Thing> observer = new AsyncObserver<Thing>(counting, 4, 8, 4, Backpressure.BLOCK);
+		int producers = 8;
+		int perProducer = 2000;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<Thread>();
+
+		for (int i = 0; i < producers; ++i)
+		{
+			threads.add(Thread.ofPlatform().start(() -> {
+				try
+				{
+					start.await();
+				}
+				catch (InterruptedException e)
+				{
+					return;
+				}
+
+				for (int j = 0; j < perProducer; ++j)
+				{
+					observer.afterCreate(new Thing());
+				}
+			}));
+		}
+
+		start.countDown();
+		Thread.sleep(5);
+		observer.close();
+
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		assertEquals(producers * perProducer, counting.delivered.get());
+	}
+
+	@Test
+	public void shouldStopEveryLaneWhenInterrupted()
+	throws Exception
+	{
+		CountingObserver counting = new CountingObserver();
+		AsyncObserver<Thing> observer = new AsyncObserver<Thing>(counting, 4, 16, 4, Backpressure.BLOCK);
+
+		for (int i = 0; i < 100; ++i)
+		{
+			observer.afterCreate(new Thing());
+		}
+
+		Thread.currentThread().interrupt();
+		observer.close();
+
+		assertTrue(Thread.interrupted());
+		assertEquals(100, counting.delivered.get());
+		observer.afterCreate(new Thing());
+		assertEquals(101, counting.delivered.get());
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		public Thing()
+		{
+			super();
+			setId(UUID.randomUUID());
+		}
+	}
+
+	private static class ThingRepository
+	extends InMemoryRepository<Thing>
+	{
+	}
+
+	private static class RecordingObserver
+	extends AbstractRepositoryObserver<Thing>
+	{
+		List<String> events = Collections.synchronizedList(new ArrayList<String>());
+		volatile Thread beforeThread;
+		volatile Thread afterThread;
+
+		@Override
+		public void beforeCreate(Thing object)
+		{
+			beforeThread = Thread.currentThread();
+		}
+
+		@Override
+		public void afterCreate(Thing object)
+		{
+			afterThread = Thread.currentThread();
+			events.add("afterCreate");
+		}
+
+		@Override
+		public void afterUpdate(Thing object)
+		{
+			events.add("afterUpdate");
+		}
+
+		@Override
+		public void afterDelete(Thing object)
+		{
+			events.add("afterDelete");
+		}
+	}
+
+	private static class BatchObserver
+	extends AbstractRepositoryObserver<Thing>
+	implements BatchRepositoryObserver<Thing>
+	{
+		List<List<RepositoryEvent<Thing>>> batches = Collections.synchronizedList(new ArrayList<List<RepositoryEvent<Thing>>>());
+
+		@Override
+		public void afterEvents(List<RepositoryEvent<Thing>> events)
+		{
+			batches.add(new ArrayList<RepositoryEvent<Thing>>(events));
+		}
+
+		int count()
+		{
+			int count = 0;
+
+			for (List<RepositoryEvent<Thing>> batch : batches)
+			{
+				count += batch.size();
+			}
+
+			return count;
+		}
+	}
+
+	private static class CountingObserver
+	extends AbstractRepositoryObserver<Thing>
+	{
+		final AtomicInteger delivered = new AtomicInteger();
+
+		@Override
+		public void afterCreate(Thing object)
+		{
+			delivered.incrementAndGet();
+		}
+	}
+
+	private static class ReadingBatchObserver
+	extends BatchObserver
+	{
+		@Override
+		public boolean observesReads()
+		{
+			return true;
+		}
+	}
+
+	private static class BlockingObserver
+	extends AbstractRepositoryObserver<Thing>
+	{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release;
+		final List<Thread> callers = Collections.synchronizedList(new ArrayList<Thread>());
+		final AtomicInteger delivered = new AtomicInteger();
+		final AtomicInteger failures = new AtomicInteger();
+
+		BlockingObserver(CountDownLatch release)
+		{
+			this.release = release;
+		}
+
+		@Override
+		public void afterCreate(Thing object)
+		{
+			callers.add(Thread.currentThread());
+			delivered.incrementAndGet();
+
+			if (started.getCount() > 0)
+			{
+				started.countDown();
+
+				try
+				{
+					if (!release.await(5, TimeUnit.SECONDS)) failures.incrementAndGet();
+				}
+				catch (InterruptedException e)
+				{
+					failures.incrementAndGet();
+				}
+			}
+		}
+	}
+}
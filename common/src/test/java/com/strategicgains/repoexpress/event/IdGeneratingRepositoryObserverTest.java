@@ -0,0 +1,63 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.strategicgains.noschema.entity.AbstractEntity;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.util.SnowflakeGenerator;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class IdGeneratingRepositoryObserverTest
+{
+	@Test
+	public void shouldAssignIdsOnCreate()
+	{
+		SnowflakeGenerator ids = new SnowflakeGenerator(3);
+		InMemoryRepository<Thing> repository = new InMemoryRepository<Thing>() {};
+		repository.addObserver(new IdGeneratingRepositoryObserver<Thing, Long>(ids));
+
+		Thing assigned = new Thing();
+		assigned.setId(42L);
+		List<Thing> created = repository.createAll(Arrays.asList(new Thing(), assigned, new Thing()));
+
+		assertEquals(3, SnowflakeGenerator.node(created.get(0).getId()));
+		assertEquals(Long.valueOf(42L), created.get(1).getId());
+		assertEquals(created.get(0).getId() + 1, created.get(2).getId().longValue());
+		assertEquals(created.get(2), repository.read(created.get(2).getIdentifier()));
+	}
+
+	@Test(expected = InvalidObjectIdException.class)
+	public void shouldRequireIdOnUpdate()
+	{
+		new IdGeneratingRepositoryObserver<Thing, Long>(new SnowflakeGenerator(0)).beforeUpdate(new Thing());
+	}
+
+	private static class Thing
+	extends AbstractEntity<Long>
+	{
+	}
+}
@@ -0,0 +1,198 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.event.ObserverRegistry.Event;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+public class ObserverRegistryTest
+{
+	@Test
+	public void shouldOnlyRegisterOverriddenEvents()
+	{
+		ObserverRegistry<Thing> registry = new ObserverRegistry<Thing>();
+		CreateObserver observer = new CreateObserver();
+		registry.add(observer);
+
+		assertArrayEquals(new Object[] {observer}, registry.get(Event.BEFORE_CREATE));
+		assertTrue(registry.isObserved(Event.BEFORE_CREATE));
+		assertFalse(registry.isObserved(Event.AFTER_CREATE));
+		assertFalse(registry.isObserved(Event.BEFORE_READ));
+		assertFalse(registry.isObserved(Event.AFTER_READ));
+		assertEquals(1, registry.getAll().size());
+	}
+
+	@Test
+	public void shouldRegisterInterfaceImplementationsForEveryEvent()
+	{
+		ObserverRegistry<Thing> registry = new ObserverRegistry<Thing>();
+		registry.add(new RecordingObserver());
+
+		for (Event event : Event.values())
+		{
+			assertTrue(event.name(), registry.isObserved(event));
+		}
+	}
+
+	@Test
+	public void shouldRemoveAndClear()
+	{
+		ObserverRegistry<Thing> registry = new ObserverRegistry<Thing>();
+		CreateObserver first = new CreateObserver();
+		CreateObserver second = new CreateObserver();
+		registry.add(first);
+		registry.add(second);
+
+		assertTrue(registry.remove(first));
+		assertFalse(registry.remove(first));
+		assertArrayEquals(new Object[] {second}, registry.get(Event.BEFORE_CREATE));
+
+		registry.clear();
+		assertTrue(registry.isEmpty());
+		assertEquals(0, registry.get(Event.BEFORE_CREATE).length);
+	}
+
+	@Test
+	public void shouldAllowObserversToBeAddedDuringNotification()
+	{
+		ThingRepository repository = new ThingRepository();
+		List<String> events = new ArrayList<String>();
+		repository.addObserver(new AbstractRepositoryObserver<Thing>()
+		{
+			@Override
+			public void beforeCreate(Thing object)
+			{
+				events.add("beforeCreate");
+				repository.addObserver(new CreateObserver());
+			}
+		});
+
+		repository.create(new Thing());
+		repository.create(new Thing());
+
+		assertEquals(2, events.size());
+		assertEquals(3, repository.getObservers().size());
+	}
+
+	@Test
+	public void shouldNotifyInRegistrationOrder()
+	{
+		ThingRepository repository = new ThingRepository();
+		RecordingObserver observer = new RecordingObserver();
+		repository.addObserver(new CreateObserver());
+		repository.addObserver(observer);
+
+		Thing thing = repository.create(new Thing());
+		repository.read(thing.getIdentifier());
+		repository.delete(thing);
+
+		assertEquals("[beforeCreate, afterCreate, beforeRead, afterRead, beforeDelete, afterDelete]", observer.events.toString());
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		public Thing()
+		{
+			super();
+			setId(UUID.randomUUID());
+		}
+	}
+
+	private static class ThingRepository
+	extends InMemoryRepository<Thing>
+	{
+	}
+
+	private static class CreateObserver
+	extends AbstractRepositoryObserver<Thing>
+	{
+		int creates;
+
+		@Override
+		public void beforeCreate(Thing object)
+		{
+			++creates;
+		}
+	}
+
+	private static class RecordingObserver
+	implements RepositoryObserver<Thing>
+	{
+		List<String> events = new ArrayList<String>();
+
+		@Override
+		public void afterCreate(Thing object)
+		{
+			events.add("afterCreate");
+		}
+
+		@Override
+		public void afterDelete(Thing object)
+		{
+			events.add("afterDelete");
+		}
+
+		@Override
+		public void afterRead(Thing object)
+		{
+			events.add("afterRead");
+		}
+
+		@Override
+		public void afterUpdate(Thing object)
+		{
+			events.add("afterUpdate");
+		}
+
+		@Override
+		public void beforeCreate(Thing object)
+		{
+			events.add("beforeCreate");
+		}
+
+		@Override
+		public void beforeDelete(Thing object)
+		{
+			events.add("beforeDelete");
+		}
+
+		@Override
+		public void beforeRead(Identifier id)
+		{
+			events.add("beforeRead");
+		}
+
+		@Override
+		public void beforeUpdate(Thing object)
+		{
+			events.add("beforeUpdate");
+		}
+	}
+}
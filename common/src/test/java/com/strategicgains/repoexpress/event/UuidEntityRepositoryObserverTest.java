@@ -0,0 +1,73 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.util.IdGenerator;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class UuidEntityRepositoryObserverTest
+{
+	@Test
+	public void shouldAssignRandomUuidByDefault()
+	{
+		Thing thing = new Thing();
+		new UuidEntityRepositoryObserver<Thing>().beforeCreate(thing);
+		assertNotNull(thing.getId());
+		assertEquals(4, thing.getId().version());
+	}
+
+	@Test
+	public void shouldAssignFromGenerator()
+	{
+		Thing thing = new Thing();
+		new UuidEntityRepositoryObserver<Thing>(IdGenerator.timeOrderedUuid()).beforeCreate(thing);
+		assertEquals(7, thing.getId().version());
+	}
+
+	@Test
+	public void shouldKeepExistingId()
+	{
+		UUID id = UUID.randomUUID();
+		Thing thing = new Thing();
+		thing.setId(id);
+		new UuidEntityRepositoryObserver<Thing>(IdGenerator.timeOrderedUuid()).beforeCreate(thing);
+		assertSame(id, thing.getId());
+	}
+
+	@Test(expected = InvalidObjectIdException.class)
+	public void shouldRequireIdOnUpdate()
+	{
+		new UuidEntityRepositoryObserver<Thing>().beforeUpdate(new Thing());
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+	}
+}
@@ -0,0 +1,119 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ConcurrentLongMapTest
+{
+	@Test
+	public void shouldMatchHashMapUnderRandomOperations()
+	{
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<String>(4, 0);
+		Map<Long, String> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 200000; i++)
+		{
+			// a small key range forces collisions, long probe runs and back-shifting removals.
+			long key = random.nextInt(5000) - 2500;
+			String value = "v" + i;
+
+			switch (random.nextInt(4))
+			{
+				case 0:
+					assertEquals(expected.put(key, value), map.put(key, value));
+					break;
+				case 1:
+					assertEquals(expected.putIfAbsent(key, value), map.putIfAbsent(key, value));
+					break;
+				case 2:
+					assertEquals(expected.replace(key, value), map.replace(key, value));
+					break;
+				default:
+					assertEquals(expected.remove(key), map.remove(key));
+			}
+		}
+
+		assertEquals(expected.size(), map.size());
+
+		for (long key = -2500; key < 2500; key++)
+		{
+			assertEquals(expected.get(key), map.get(key));
+		}
+
+		List<String> values = new ArrayList<>();
+		map.forEach(values::add);
+		assertEquals(expected.size(), values.size());
+	}
+
+	@Test
+	public void shouldHandleExtremeKeys()
+	{
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<String>(1, 0);
+		map.put(0L, "zero");
+		map.put(Long.MIN_VALUE, "min");
+		map.put(Long.MAX_VALUE, "max");
+
+		assertEquals("zero", map.get(0L));
+		assertEquals("min", map.get(Long.MIN_VALUE));
+		assertEquals("max", map.get(Long.MAX_VALUE));
+		assertEquals("zero", map.remove(0L));
+		assertNull(map.get(0L));
+		assertEquals(2, map.size());
+	}
+
+	@Test
+	public void shouldReadConsistentlyWhileWriting()
+	throws Exception
+	{
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<Long>(2, 0);
+
+		for (long key = 0; key < 1000; key++)
+		{
+			map.put(key, key);
+		}
+
+		Thread writer = new Thread(() -> {
+			for (long key = 1000; key < 200000; key++)
+			{
+				map.put(key, key);
+				map.remove(key - 500);
+			}
+		});
+		writer.start();
+
+		// keys 0..499 are never removed, so concurrent resizes and shifts must not hide them.
+		while (writer.isAlive())
+		{
+			for (long key = 0; key < 500; key++)
+			{
+				assertEquals(key + " missing", Long.valueOf(key), map.get(key));
+			}
+		}
+
+		writer.join();
+	}
+}
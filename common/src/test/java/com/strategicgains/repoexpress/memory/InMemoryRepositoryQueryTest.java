@@ -0,0 +1,259 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.KeysetPage;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+public class InMemoryRepositoryQueryTest
+{
+	private PersonRepository indexed;
+	private PersonRepository scanned;
+
+	@Before
+	public void setup()
+	{
+		indexed = new PersonRepository();
+		indexed.addIndex("city", IndexType.HASH);
+		indexed.addIndex("age", IndexType.SORTED);
+		indexed.addIndex("name", IndexType.SORTED);
+		indexed.addIndex("name", IndexType.NGRAM);
+		scanned = new PersonRepository();
+
+		for (PersonRepository repository : Arrays.asList(indexed, scanned))
+		{
+			repository.create(new Person("Alice Smith", "Denver", 34));
+			repository.create(new Person("Bob Jones", "Boulder", 27));
+			repository.create(new Person("Carol Smithers", "Denver", 45));
+			repository.create(new Person("Dave Brown", "Austin", 27));
+			repository.create(new Person("Eve Black", null, 61));
+		}
+	}
+
+	@Test
+	public void shouldFilterWithAndWithoutIndexes()
+	{
+		for (PersonRepository repository : Arrays.asList(indexed, scanned))
+		{
+			assertEquals(2, repository.count(filter("city", FilterOperator.EQUALS, "Denver")));
+			assertEquals(3, repository.count(filter("city", FilterOperator.IN, Arrays.asList("Denver", "Austin"))));
+			assertEquals(3, repository.count(filter("city", FilterOperator.NOT_EQUALS, "Denver")));
+			assertEquals(2, repository.count(filter("age", FilterOperator.EQUALS, "27")));
+			assertEquals(3, repository.count(filter("age", FilterOperator.GREATER_THAN_OR_EQUAL_TO, 34)));
+			assertEquals(2, repository.count(filter("age", FilterOperator.LESS_THAN, "34")));
+			assertEquals(2, repository.count(filter("name", FilterOperator.CONTAINS, "SMITH")));
+			assertEquals(3, repository.count(filter("name", FilterOperator.CONTAINS, "b")));
+			assertEquals(1, repository.count(filter("name", FilterOperator.STARTS_WITH, "car")));
+			assertEquals(0, repository.count(filter("name", FilterOperator.CONTAINS, "zzz")));
+			assertEquals(1, repository.count(filter("city", FilterOperator.EQUALS, "Denver").addCriteria("age", FilterOperator.GREATER_THAN, 40)));
+			assertEquals(5, repository.count(null));
+		}
+	}
+
+	@Test
+	public void shouldSortAndRange()
+	{
+		for (PersonRepository repository : Arrays.asList(indexed, scanned))
+		{
+			assertEquals(Arrays.asList("Eve Black", "Carol Smithers", "Alice Smith"), names(repository.readAll(null, new QueryRange(0, 3), order("-age"))));
+			assertEquals(Arrays.asList("Carol Smithers", "Dave Brown"), names(repository.readAll(null, new QueryRange(2, 2), order("name"))));
+			assertEquals(Arrays.asList("Eve Black", "Dave Brown", "Carol Smithers", "Bob Jones", "Alice Smith"), names(repository.readAll(null, null, order("-name"))));
+			assertEquals(Arrays.asList("Dave Brown", "Bob Jones"), names(repository.readAll(filter("age", FilterOperator.EQUALS, 27), null, order("-name"))));
+			assertEquals(Arrays.asList("Bob Jones", "Dave Brown", "Alice Smith"), names(repository.readAll(null, new QueryRange(0, 3), order("age", "name"))));
+		}
+	}
+
+	@Test
+	public void shouldMaintainIndexesOnUpdateAndDelete()
+	{
+		Person bob = indexed.readAll(filter("name", FilterOperator.EQUALS, "Bob Jones"), null, null).get(0);
+		bob.city = "Denver";
+		bob.name = "Robert Jones";
+		indexed.update(bob);
+
+		assertEquals(3, indexed.count(filter("city", FilterOperator.EQUALS, "Denver")));
+		assertEquals(0, indexed.count(filter("city", FilterOperator.EQUALS, "Boulder")));
+		assertEquals(0, indexed.count(filter("name", FilterOperator.CONTAINS, "bob")));
+		assertEquals(1, indexed.count(filter("name", FilterOperator.CONTAINS, "robert")));
+
+		indexed.delete(bob.getIdentifier());
+		assertEquals(2, indexed.count(filter("city", FilterOperator.EQUALS, "Denver")));
+		assertEquals(Arrays.asList("Alice Smith", "Carol Smithers", "Dave Brown", "Eve Black"), names(indexed.readAll(null, null, order("name"))));
+	}
+
+	@Test
+	public void shouldReadPagesInOrder()
+	{
+		for (PersonRepository repository : Arrays.asList(indexed, scanned))
+		{
+			List<String> names = new ArrayList<>();
+			String continuation = null;
+			int pages = 0;
+
+			do
+			{
+				KeysetPage<Person> page = repository.readPage(null, order("-age"), 2, continuation);
+				names.addAll(names(page.getItems()));
+				continuation = page.getContinuation();
+				++pages;
+			}
+			while (continuation != null);
+
+			assertEquals(3, pages);
+			assertEquals(names(repository.readAll(null, null, order("-age"))), names);
+		}
+	}
+
+	@Test
+	public void shouldReadPagesOnSortedIndex()
+	{
+		KeysetPage<Person> first = indexed.readPage(null, order("name"), 3, null);
+		assertEquals(Arrays.asList("Alice Smith", "Bob Jones", "Carol Smithers"), names(first.getItems()));
+		assertTrue(first.hasMore());
+
+		KeysetPage<Person> second = indexed.readPage(null, order("name"), 3, first.getContinuation());
+		assertEquals(Arrays.asList("Dave Brown", "Eve Black"), names(second.getItems()));
+		assertFalse(second.hasMore());
+		assertNull(second.getContinuation());
+	}
+
+	@Test
+	public void shouldKeepIndexesConsistentWithConcurrentWrites()
+	throws Exception
+	{
+		String[] cities = {"Denver", "Boulder", "Austin"};
+		Thread[] writers = new Thread[8];
+
+		for (int t = 0; t < writers.length; t++)
+		{
+			int writer = t;
+			writers[t] = new Thread(() -> {
+				for (int i = 0; i < 200; i++)
+				{
+					Person person = indexed.create(new Person("Writer " + writer + "-" + i, cities[i % 3], i % 50));
+					Person moved = new Person(person.name, cities[(i + 1) % 3], person.age + 1);
+					moved.setId(person.getId());
+					indexed.update(moved);
+
+					if (i % 4 == 0) indexed.delete(person.getIdentifier());
+
+					indexed.count(filter("city", FilterOperator.EQUALS, cities[i % 3]));
+				}
+			});
+			writers[t].start();
+		}
+
+		for (Thread writer : writers)
+		{
+			writer.join();
+		}
+
+		List<Person> all = indexed.readAll(null, null, null);
+		assertEquals(5 + 8 * 150, all.size());
+
+		for (String city : cities)
+		{
+			long expected = all.stream().filter(p -> city.equals(p.city)).count();
+			assertEquals(expected, indexed.count(filter("city", FilterOperator.EQUALS, city)));
+		}
+
+		assertEquals(all.stream().filter(p -> p.age > 30).count(), indexed.count(filter("age", FilterOperator.GREATER_THAN, 30)));
+		assertEquals(all.size(), indexed.readAll(null, null, order("age")).size());
+	}
+
+	@Test(expected = InvalidContinuationException.class)
+	public void shouldRejectContinuationForAnotherOrder()
+	{
+		String continuation = scanned.readPage(null, order("name"), 2, null).getContinuation();
+		scanned.readPage(null, order("age"), 2, continuation);
+	}
+
+	@Test
+	public void shouldUseRegisteredProperties()
+	{
+		scanned.addProperty("initial", p -> p.name.substring(0, 1));
+		assertEquals(1, scanned.count(filter("initial", FilterOperator.EQUALS, "C")));
+	}
+
+	@Test(expected = RepositoryException.class)
+	public void shouldRejectUnknownProperties()
+	{
+		scanned.count(filter("unknown", FilterOperator.EQUALS, "x"));
+	}
+
+	private static QueryFilter filter(String field, FilterOperator operator, Object value)
+	{
+		return new QueryFilter().addCriteria(field, operator, value);
+	}
+
+	private static QueryOrder order(String... fields)
+	{
+		return new QueryOrder().addSort(fields);
+	}
+
+	private static List<String> names(List<Person> people)
+	{
+		List<String> names = new ArrayList<>(people.size());
+
+		for (Person person : people)
+		{
+			names.add(person.name);
+		}
+
+		return names;
+	}
+
+	private static class Person
+	extends AbstractUuidEntity
+	{
+		private String name;
+		private String city;
+		private int age;
+
+		public Person(String name, String city, int age)
+		{
+			super();
+			setId(UUID.randomUUID());
+			this.name = name;
+			this.city = city;
+			this.age = age;
+		}
+	}
+
+	private static class PersonRepository
+	extends InMemoryRepository<Person>
+	{
+	}
+}
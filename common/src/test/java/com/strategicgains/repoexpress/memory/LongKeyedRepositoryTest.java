@@ -0,0 +1,157 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.noschema.entity.AbstractEntity;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+
+public class LongKeyedRepositoryTest
+{
+	private LongKeyedRepository<Account> repository;
+
+	@Before
+	public void setup()
+	{
+		repository = new LongKeyedRepository<Account>(Account::getId);
+	}
+
+	@Test
+	public void shouldCreateReadUpdateAndDelete()
+	{
+		Account a = repository.create(new Account(1L));
+		repository.create(new Account(2L));
+
+		assertSame(a, repository.read(1L));
+		assertSame(a, repository.read(new Identifier(1L)));
+		assertTrue(repository.exists(2L));
+		assertTrue(repository.exists(new Identifier(2L)));
+		assertEquals(2, repository.size());
+
+		Account replacement = new Account(1L);
+		repository.update(replacement);
+		assertSame(replacement, repository.read(1L));
+
+		repository.delete(new Identifier(2L));
+		assertFalse(repository.exists(2L));
+		assertEquals(Arrays.asList(replacement), repository.readList(Arrays.asList(new Identifier(1L), new Identifier(2L))));
+	}
+
+	@Test(expected = DuplicateItemException.class)
+	public void shouldRejectDuplicates()
+	{
+		repository.create(new Account(1L));
+		repository.create(new Account(1L));
+	}
+
+	@Test(expected = ItemNotFoundException.class)
+	public void shouldRequireExistenceForUpdate()
+	{
+		repository.update(new Account(1L));
+	}
+
+	@Test(expected = ItemNotFoundException.class)
+	public void shouldThrowOnMissingRead()
+	{
+		repository.read(99L);
+	}
+
+	@Test(expected = InvalidObjectIdException.class)
+	public void shouldRejectNonNumericIdentifiers()
+	{
+		repository.read(new Identifier(UUID.randomUUID()));
+	}
+
+	@Test
+	public void shouldKeyByIdentifierByDefault()
+	{
+		LongKeyedRepository<Account> byIdentifier = new LongKeyedRepository<Account>();
+		Account a = byIdentifier.create(new Account(7L));
+		assertSame(a, byIdentifier.read(7L));
+	}
+
+	@Test
+	public void shouldNotifyReadObservers()
+	{
+		AtomicInteger requests = new AtomicInteger();
+		AtomicInteger reads = new AtomicInteger();
+		repository.addObserver(new AbstractRepositoryObserver<Account>()
+		{
+			@Override
+			public void beforeRead(Identifier id)
+			{
+				requests.incrementAndGet();
+			}
+
+			@Override
+			public void afterRead(Account object)
+			{
+				reads.incrementAndGet();
+			}
+		});
+
+		repository.create(new Account(1L));
+		repository.read(1L);
+		repository.readList(Arrays.asList(new Identifier(1L), new Identifier(2L)));
+		assertEquals(3, requests.get());
+		assertEquals(2, reads.get());
+	}
+
+	private static class Account
+	extends AbstractEntity<Long>
+	{
+		private Long id;
+
+		public Account(Long id)
+		{
+			super();
+			this.id = id;
+		}
+
+		@Override
+		public Identifier getIdentifier()
+		{
+			return (id == null ? null : new Identifier(id));
+		}
+
+		@Override
+		public Long getId()
+		{
+			return id;
+		}
+
+		@Override
+		public void setId(Long id)
+		{
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+
+import com.strategicgains.noschema.document.ObjectCodec;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+
+public class MappedJournalTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldRestoreAfterRestart()
+	throws Exception
+	{
+		ThingRepository repository = open();
+		Thing a = repository.create(new Thing("alpha"));
+		Thing b = repository.create(new Thing("bravo"));
+		Thing c = repository.create(new Thing("charlie"));
+		b.name = "bravo-2";
+		repository.update(b);
+		repository.delete(a.getIdentifier());
+
+		try
+		{
+			repository.create(c);
+			fail("DuplicateItemException expected");
+		}
+		catch (DuplicateItemException e)
+		{
+			// expected
+		}
+
+		repository.journal.close();
+		ThingRepository restored = open();
+
+		assertFalse(restored.exists(a.getIdentifier()));
+		assertEquals("bravo-2", restored.read(b.getIdentifier()).name);
+		assertEquals("charlie", restored.read(c.getIdentifier()).name);
+		assertEquals(2, restored.count(null));
+		restored.journal.close();
+	}
+
+	@Test
+	public void shouldCompactWithSnapshots()
+	throws Exception
+	{
+		ThingRepository repository = open();
+		List<Thing> things = new ArrayList<>();
+
+		for (int i = 0; i < 200; i++)
+		{
+			things.add(repository.create(new Thing("thing-" + i)));
+		}
+
+		for (int i = 0; i < 100; i++)
+		{
+			repository.delete(things.get(i).getIdentifier());
+		}
+
+		assertTrue(files(".log") > 2);
+		repository.snapshot();
+		assertEquals(1, files(".log"));
+		assertEquals(1, files(".snapshot"));
+
+		Thing later = repository.create(new Thing("later"));
+		repository.journal.close();
+		ThingRepository restored = open();
+
+		assertEquals(101, restored.count(null));
+		assertTrue(restored.exists(later.getIdentifier()));
+		assertTrue(restored.exists(things.get(150).getIdentifier()));
+		assertFalse(restored.exists(things.get(50).getIdentifier()));
+		restored.journal.close();
+	}
+
+	@Test
+	public void shouldGroupCommitConcurrentWrites()
+	throws Exception
+	{
+		ThingRepository repository = open();
+		List<Thread> threads = new ArrayList<>();
+
+		for (int t = 0; t < 8; t++)
+		{
+			int thread = t;
+			threads.add(Thread.ofVirtual().start(() -> {
+				for (int i = 0; i < 100; i++)
+				{
+					repository.create(new Thing("t" + thread + "-" + i));
+				}
+			}));
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		repository.journal.close();
+		assertEquals(800, open().count(null));
+	}
+
+	@Test
+	public void shouldRebuildIndexesOnRestore()
+	throws Exception
+	{
+		ThingRepository repository = open();
+		repository.create(new Thing("alpha"));
+		repository.create(new Thing("bravo"));
+		repository.journal.close();
+
+		ThingRepository restored = new ThingRepository();
+		restored.addIndex("name", IndexType.HASH);
+		restored.persist(journal());
+
+		assertEquals(1, restored.count(new QueryFilter().addCriteria("name", FilterOperator.EQUALS, "bravo")));
+		restored.journal.close();
+	}
+
+	private ThingRepository open()
+	throws Exception
+	{
+		ThingRepository repository = new ThingRepository();
+		repository.persist(journal());
+		return repository;
+	}
+
+	private MappedJournal<Thing> journal()
+	throws Exception
+	{
+		return new MappedJournal<Thing>(folder.getRoot().toPath(), new ThingCodec(), Thing.class, 1024, true, 0, TimeUnit.SECONDS);
+	}
+
+	private int files(String suffix)
+	{
+		int count = 0;
+
+		for (File file : folder.getRoot().listFiles())
+		{
+			if (file.getName().endsWith(suffix)) ++count;
+		}
+
+		return count;
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		String name;
+
+		public Thing(String name)
+		{
+			this(UUID.randomUUID(), name);
+		}
+
+		public Thing(UUID id, String name)
+		{
+			super();
+			setId(id);
+			this.name = name;
+		}
+	}
+
+	private static class ThingRepository
+	extends InMemoryRepository<Thing>
+	{
+		private MappedJournal<Thing> journal;
+
+		@Override
+		public void persist(MappedJournal<Thing> journal)
+		{
+			super.persist(journal);
+			this.journal = journal;
+		}
+	}
+
+	private static class ThingCodec
+	implements ObjectCodec<Thing>
+	{
+		@Override
+		public byte[] serialize(Thing thing)
+		{
+			return (thing.getId() + ":" + thing.name).getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public Thing deserialize(byte[] bytes, Class<Thing> type)
+		{
+			String value = new String(bytes, StandardCharsets.UTF_8);
+			int colon = value.indexOf(':');
+			return new Thing(UUID.fromString(value.substring(0, colon)), value.substring(colon + 1));
+		}
+	}
+}
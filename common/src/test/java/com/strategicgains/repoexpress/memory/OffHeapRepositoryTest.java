@@ -0,0 +1,177 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.noschema.document.ObjectCodec;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+
+public class OffHeapRepositoryTest
+{
+	private OffHeapRepository<Thing> repository;
+
+	@Before
+	public void setup()
+	{
+		repository = new OffHeapRepository<Thing>(new ThingCodec(), Thing.class, 4096);
+	}
+
+	@Test
+	public void shouldStoreAndReadCopies()
+	{
+		Thing thing = repository.create(new Thing("alpha"));
+		Thing read = repository.read(thing.getIdentifier());
+
+		assertNotSame(thing, read);
+		assertEquals(thing.getId(), read.getId());
+		assertEquals("alpha", read.name);
+		assertTrue(repository.exists(thing.getIdentifier()));
+		assertEquals(1, repository.size());
+	}
+
+	@Test(expected=DuplicateItemException.class)
+	public void shouldRejectDuplicates()
+	{
+		Thing thing = repository.create(new Thing("alpha"));
+		repository.create(thing);
+	}
+
+	@Test(expected=ItemNotFoundException.class)
+	public void shouldRequireExistenceForUpdate()
+	{
+		repository.update(new Thing("alpha"));
+	}
+
+	@Test
+	public void shouldUpdateAndDelete()
+	{
+		Thing thing = repository.create(new Thing("alpha"));
+		thing.name = "beta";
+		repository.update(thing);
+		assertEquals("beta", repository.read(thing.getIdentifier()).name);
+
+		repository.delete(thing.getIdentifier());
+		assertFalse(repository.exists(thing.getIdentifier()));
+		assertEquals(0, repository.size());
+	}
+
+	@Test
+	public void shouldSurviveResizeRemovalAndCompaction()
+	{
+		List<Thing> things = new ArrayList<Thing>();
+
+		for (int i = 0; i < 5000; ++i)
+		{
+			things.add(repository.create(new Thing("thing-" + i)));
+		}
+
+		Random random = new Random(42);
+
+		for (int round = 0; round < 3; ++round)
+		{
+			for (Thing thing : things)
+			{
+				thing.name = thing.name + "!";
+				repository.update(thing);
+			}
+		}
+
+		List<Thing> deleted = new ArrayList<Thing>();
+
+		for (int i = 0; i < 2000; ++i)
+		{
+			Thing thing = things.remove(random.nextInt(things.size()));
+			repository.delete(thing);
+			deleted.add(thing);
+		}
+
+		assertEquals(3000, repository.size());
+		assertTrue(repository.getAllocatedBytes() < 4 * repository.getLiveBytes() + 2 * 4096);
+
+		for (Thing thing : things)
+		{
+			assertEquals(thing.name, repository.read(thing.getIdentifier()).name);
+		}
+
+		for (Thing thing : deleted)
+		{
+			assertFalse(repository.exists(thing.getIdentifier()));
+		}
+	}
+
+	@Test
+	public void shouldEncodeIdentifierComponentsExactly()
+	{
+		assertArrayEquals(OffHeapRepository.keyBytes(new Identifier(1L)), OffHeapRepository.keyBytes(new Identifier(1L)));
+		assertFalse(new String(OffHeapRepository.keyBytes(new Identifier(1L)), StandardCharsets.ISO_8859_1)
+			.equals(new String(OffHeapRepository.keyBytes(new Identifier("1")), StandardCharsets.ISO_8859_1)));
+		assertFalse(new String(OffHeapRepository.keyBytes(new Identifier(1)), StandardCharsets.ISO_8859_1)
+			.equals(new String(OffHeapRepository.keyBytes(new Identifier(1L)), StandardCharsets.ISO_8859_1)));
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		String name;
+
+		public Thing(String name)
+		{
+			this(UUID.randomUUID(), name);
+		}
+
+		public Thing(UUID id, String name)
+		{
+			super();
+			setId(id);
+			this.name = name;
+		}
+	}
+
+	private static class ThingCodec
+	implements ObjectCodec<Thing>
+	{
+		@Override
+		public byte[] serialize(Thing thing)
+		{
+			return (thing.getId() + ":" + thing.name).getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public Thing deserialize(byte[] bytes, Class<Thing> type)
+		{
+			String value = new String(bytes, StandardCharsets.UTF_8);
+			int colon = value.indexOf(':');
+			return new Thing(UUID.fromString(value.substring(0, colon)), value.substring(colon + 1));
+		}
+	}
+}
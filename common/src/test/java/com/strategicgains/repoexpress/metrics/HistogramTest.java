@@ -0,0 +1,83 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest
+{
+	@Test
+	public void shouldPlaceValuesWithinTheirBucketBounds()
+	{
+		long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123456789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+
+		for (long value : values)
+		{
+			int index = Histogram.indexOf(value);
+			assertTrue(index >= 0 && index < Histogram.BUCKETS);
+			assertTrue(value + " lower", Histogram.lowerBoundOf(index) <= value);
+			assertTrue(value + " upper", Histogram.upperBoundOf(index) >= value);
+		}
+	}
+
+	@Test
+	public void shouldHaveContiguousBuckets()
+	{
+		for (int i = 1; i < Histogram.BUCKETS; ++i)
+		{
+			assertEquals(Histogram.upperBoundOf(i - 1) + 1, Histogram.lowerBoundOf(i));
+		}
+	}
+
+	@Test
+	public void shouldReportPercentilesWithinBucketPrecision()
+	{
+		Histogram histogram = new Histogram();
+
+		for (long i = 1; i <= 100000; ++i)
+		{
+			histogram.record(i * 1000);
+		}
+
+		assertEquals(100000, histogram.getCount());
+		assertEquals(100000000, histogram.getMax());
+		assertEquals(50000500.0, histogram.getMean(), 0.1);
+		assertWithin(50000000, histogram.getValueAtPercentile(50.0));
+		assertWithin(99000000, histogram.getValueAtPercentile(99.0));
+		assertWithin(99900000, histogram.getValueAtPercentile(99.9));
+		assertEquals(100000000, histogram.getValueAtPercentile(100.0));
+	}
+
+	@Test
+	public void shouldReset()
+	{
+		Histogram histogram = new Histogram();
+		histogram.record(42);
+		histogram.reset();
+
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getValueAtPercentile(99.0));
+	}
+
+	private void assertWithin(long expected, long actual)
+	{
+		assertTrue(expected + " vs " + actual, actual >= expected && actual <= expected * 1.07);
+	}
+}
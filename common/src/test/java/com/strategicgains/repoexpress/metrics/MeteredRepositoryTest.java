@@ -0,0 +1,179 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.Queryable;
+import com.strategicgains.repoexpress.cache.CachingRepository;
+import com.strategicgains.repoexpress.domain.AbstractUuidEntity;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.metrics.RepositoryMetrics.Operation;
+
+public class MeteredRepositoryTest
+{
+	private MeteredQueryableRepository<Thing> repository;
+
+	@Before
+	public void setup()
+	{
+		repository = new MeteredQueryableRepository<Thing>(new ThingRepository(), "things");
+	}
+
+	@Test
+	public void shouldCountCallsAndResultSizes()
+	{
+		Thing a = repository.create(new Thing());
+		Thing b = repository.create(new Thing());
+		repository.read(a.getIdentifier());
+		repository.readList(Arrays.asList(a.getIdentifier(), b.getIdentifier(), new Identifier(UUID.randomUUID())));
+		repository.exists(a.getIdentifier());
+
+		RepositoryMetrics metrics = repository.getMetrics();
+		assertEquals(2, metrics.get(Operation.CREATE).getCount());
+		assertEquals(1, metrics.get(Operation.READ).getCount());
+		assertEquals(1, metrics.get(Operation.READ_LIST).getCount());
+		assertEquals(2.0, metrics.get(Operation.READ_LIST).getMeanResultSize(), 0.0);
+		assertEquals(1, metrics.get(Operation.EXISTS).getCount());
+		assertEquals(0, metrics.get(Operation.UPDATE).getCount());
+		assertTrue(metrics.get(Operation.CREATE).getLatency().getMax() > 0);
+	}
+
+	@Test
+	public void shouldDeleteAllWithoutReadingFirst()
+	{
+		Thing a = repository.create(new Thing());
+		Thing b = repository.create(new Thing());
+		repository.deleteAll(Arrays.asList(a.getIdentifier(), b.getIdentifier()));
+
+		RepositoryMetrics metrics = repository.getMetrics();
+		assertEquals(1, metrics.get(Operation.DELETE_ALL).getCount());
+		assertEquals(2.0, metrics.get(Operation.DELETE_ALL).getMeanResultSize(), 0.0);
+		assertEquals(0, metrics.get(Operation.READ_LIST).getCount());
+		assertFalse(repository.exists(a.getIdentifier()));
+		assertFalse(repository.exists(b.getIdentifier()));
+	}
+
+	@Test
+	public void shouldCountErrorsByType()
+	{
+		Thing a = repository.create(new Thing());
+
+		try
+		{
+			repository.create(a);
+			fail("DuplicateItemException expected");
+		}
+		catch (DuplicateItemException e)
+		{
+			// expected
+		}
+
+		try
+		{
+			repository.read(new Identifier(UUID.randomUUID()));
+			fail("ItemNotFoundException expected");
+		}
+		catch (ItemNotFoundException e)
+		{
+			// expected
+		}
+
+		OperationMetrics create = repository.getMetrics().get(Operation.CREATE);
+		assertEquals(2, create.getCount());
+		assertEquals(1, create.getErrorCount());
+		assertEquals(1, create.getErrorCount(DuplicateItemException.class));
+		assertEquals(Long.valueOf(1), create.getErrors().get(DuplicateItemException.class.getName()));
+		assertEquals(1, repository.getMetrics().get(Operation.READ).getErrorCount(ItemNotFoundException.class));
+	}
+
+	@Test
+	public void shouldMeterQueries()
+	{
+		repository.create(new Thing());
+		repository.create(new Thing());
+
+		assertEquals(2, repository.count(null));
+		assertEquals(1, repository.getMetrics().get(Operation.COUNT).getCount());
+	}
+
+	@Test
+	public void shouldBeQueryableOnlyIfTheDelegateIs()
+	{
+		assertTrue(MeteredRepository.of(new ThingRepository(), "things") instanceof Queryable);
+		assertFalse(MeteredRepository.of(new CachingRepository<Thing>(new ThingRepository(), 10, 0, TimeUnit.SECONDS), "cached") instanceof Queryable);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectNonQueryableDelegate()
+	{
+		new MeteredQueryableRepository<Thing>(new CachingRepository<Thing>(new ThingRepository(), 10, 0, TimeUnit.SECONDS), "cached");
+	}
+
+	@Test
+	public void shouldRegisterOverJmx()
+	throws Exception
+	{
+		RepositoryMetrics metrics = repository.getMetrics().register();
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = metrics.objectName(Operation.READ);
+
+		try
+		{
+			repository.read(repository.create(new Thing()).getIdentifier());
+			assertEquals(1L, server.getAttribute(name, "Count"));
+			assertTrue((Long) server.getAttribute(name, "P99Micros") >= 0);
+		}
+		finally
+		{
+			metrics.unregister();
+		}
+
+		assertFalse(server.isRegistered(name));
+	}
+
+	private static class Thing
+	extends AbstractUuidEntity
+	{
+		public Thing()
+		{
+			super();
+			setId(UUID.randomUUID());
+		}
+	}
+
+	private static class ThingRepository
+	extends InMemoryRepository<Thing>
+	{
+	}
+}
@@ -0,0 +1,55 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
+
+public class ContinuationTokenTest
+{
+	private static final String SIGNATURE = "name:asc,id:asc";
+
+	@Test
+	public void shouldRoundTripValues()
+	{
+		List<String> values = Arrays.asList("Ünïcødé, name", null, "42");
+		String token = ContinuationToken.encode(SIGNATURE, values);
+
+		assertTrue(token.matches("[A-Za-z0-9_-]+"));
+		assertEquals(values, ContinuationToken.decode(SIGNATURE, token));
+	}
+
+	@Test(expected = InvalidContinuationException.class)
+	public void shouldRejectDifferentSignature()
+	{
+		String token = ContinuationToken.encode(SIGNATURE, Arrays.asList("a", "1"));
+		ContinuationToken.decode("name:desc,id:asc", token);
+	}
+
+	@Test(expected = InvalidContinuationException.class)
+	public void shouldRejectTruncatedToken()
+	{
+		String token = ContinuationToken.encode(SIGNATURE, Arrays.asList("a", "1"));
+		ContinuationToken.decode(SIGNATURE, token.substring(0, token.length() - 4));
+	}
+}
@@ -0,0 +1,134 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.domain.IdBlock;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class HiLoIdGeneratorTest
+{
+	@Test
+	public void shouldAllocateFromBlocks()
+	{
+		BlockRepository blocks = new BlockRepository();
+		HiLoIdGenerator generator = new HiLoIdGenerator(blocks, "things", 10);
+
+		for (long expected = 1; expected <= 25; expected++)
+		{
+			assertEquals(expected, generator.nextLong());
+		}
+
+		assertEquals(3, blocks.creates.get());
+		assertTrue(blocks.exists(new Identifier("things", 2L)));
+	}
+
+	@Test
+	public void shouldResumeAfterClaimedBlocks()
+	{
+		BlockRepository blocks = new BlockRepository();
+		HiLoIdGenerator first = new HiLoIdGenerator(blocks, "things", 10);
+
+		for (int i = 0; i < 71; i++)
+		{
+			first.nextLong();
+		}
+
+		// blocks 0-7 are claimed, so a restarted generator begins at block 8.
+		assertEquals(81, new HiLoIdGenerator(blocks, "things", 10).nextLong());
+		assertEquals(1, new HiLoIdGenerator(blocks, "others", 10).nextLong());
+	}
+
+	@Test
+	public void shouldNotOverlapWhenShared()
+	throws Exception
+	{
+		BlockRepository blocks = new BlockRepository();
+		Set<Long> all = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try
+		{
+			// two "processes", each with four threads.
+			HiLoIdGenerator[] generators = {new HiLoIdGenerator(blocks, "things", 7), new HiLoIdGenerator(blocks, "things", 7)};
+			Future<?>[] futures = new Future<?>[8];
+
+			for (int t = 0; t < futures.length; t++)
+			{
+				HiLoIdGenerator generator = generators[t % 2];
+				futures[t] = executor.submit(() -> {
+					for (int i = 0; i < 5000; i++)
+					{
+						assertTrue(all.add(generator.nextLong()));
+					}
+				});
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertEquals(40_000, all.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidBlockSize()
+	{
+		new HiLoIdGenerator(new BlockRepository(), "things", 0);
+	}
+
+	private static class BlockRepository
+	extends InMemoryRepository<IdBlock>
+	{
+		private final AtomicInteger creates = new AtomicInteger();
+
+		public BlockRepository()
+		{
+			super();
+			addObserver(new AbstractRepositoryObserver<IdBlock>()
+			{
+				@Override
+				public void afterCreate(IdBlock block)
+				{
+					creates.incrementAndGet();
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class SnowflakeGeneratorTest
+{
+	private static final long NOW = 1_792_195_200_000L;
+
+	@Test
+	public void shouldEncodeTimestampNodeAndSequence()
+	{
+		SnowflakeGenerator generator = new SnowflakeGenerator(513, SnowflakeGenerator.DEFAULT_EPOCH, () -> NOW);
+		long first = generator.nextLong();
+		long second = generator.nextLong();
+
+		assertEquals(NOW, generator.timestamp(first));
+		assertEquals(513, SnowflakeGenerator.node(first));
+		assertEquals(513, SnowflakeGenerator.node(second));
+		assertEquals(first + 1, second);
+		assertTrue(first > 0);
+	}
+
+	@Test
+	public void shouldBorrowNextMillisecondWhenSequenceSpent()
+	{
+		SnowflakeGenerator generator = new SnowflakeGenerator(1, SnowflakeGenerator.DEFAULT_EPOCH, () -> NOW);
+		long previous = generator.nextLong();
+
+		for (int i = 1; i < 4097; i++)
+		{
+			long next = generator.nextLong();
+			assertTrue(next > previous);
+			previous = next;
+		}
+
+		assertEquals(NOW + 1, generator.timestamp(previous));
+		assertEquals(1, SnowflakeGenerator.node(previous));
+	}
+
+	@Test
+	public void shouldStayOrderedWhenClockMovesBackwards()
+	{
+		AtomicLong clock = new AtomicLong(NOW);
+		SnowflakeGenerator generator = new SnowflakeGenerator(7, SnowflakeGenerator.DEFAULT_EPOCH, clock::get);
+		long first = generator.nextLong();
+		clock.set(NOW - 2);
+		long second = generator.nextLong();
+
+		assertTrue(second > first);
+		assertEquals(NOW, generator.timestamp(second));
+	}
+
+	@Test
+	public void shouldWaitForClockAfterLargeStepBackwards()
+	throws Exception
+	{
+		AtomicLong clock = new AtomicLong(NOW);
+		SnowflakeGenerator generator = new SnowflakeGenerator(7, SnowflakeGenerator.DEFAULT_EPOCH, clock::get);
+		long first = generator.nextLong();
+		clock.set(NOW - 1000);
+		AtomicLong second = new AtomicLong();
+		Thread thread = Thread.ofPlatform().start(() -> second.set(generator.nextLong()));
+
+		awaitParked(thread);
+		clock.set(NOW);
+		thread.join(5000);
+
+		assertTrue(second.get() > first);
+		assertEquals(NOW, generator.timestamp(second.get()));
+	}
+
+	@Test
+	public void shouldNotReissueIdsAfterRestart()
+	throws Exception
+	{
+		AtomicLong clock = new AtomicLong(NOW);
+		SnowflakeGenerator generator = new SnowflakeGenerator(3, SnowflakeGenerator.DEFAULT_EPOCH, clock::get);
+		Set<Long> issued = new HashSet<Long>();
+
+		// spend the sequence of every millisecond it may borrow.
+		for (int i = 0; i < (SnowflakeGenerator.MAX_LEAD_MILLIS + 1) * 4096; i++)
+		{
+			assertTrue(issued.add(generator.nextLong()));
+		}
+
+		Thread blocked = Thread.ofPlatform().start(generator::nextLong);
+		awaitParked(blocked);
+		assertTrue(blocked.isAlive());
+
+		// the process dies, and restarts with the same node number once the lead has elapsed.
+		SnowflakeGenerator restarted = new SnowflakeGenerator(3, SnowflakeGenerator.DEFAULT_EPOCH, () -> NOW + SnowflakeGenerator.MAX_LEAD_MILLIS + 1);
+
+		for (int i = 0; i < 3 * 4096; i++)
+		{
+			assertFalse(issued.contains(restarted.nextLong()));
+		}
+
+		clock.set(NOW + SnowflakeGenerator.MAX_LEAD_MILLIS + 1);
+		blocked.join(5000);
+		assertFalse(blocked.isAlive());
+	}
+
+	@Test
+	public void shouldDifferAcrossNodes()
+	{
+		long a = new SnowflakeGenerator(1, SnowflakeGenerator.DEFAULT_EPOCH, () -> NOW).nextLong();
+		long b = new SnowflakeGenerator(2, SnowflakeGenerator.DEFAULT_EPOCH, () -> NOW).nextLong();
+		assertTrue(a != b);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidNode()
+	{
+		new SnowflakeGenerator(1024);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectClockBeforeEpoch()
+	{
+		new SnowflakeGenerator(0, NOW, () -> NOW - 1).nextLong();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectIdsBeyondIntegerRange()
+	{
+		new SnowflakeGenerator(0).asInteger().next();
+	}
+
+	private static void awaitParked(Thread thread)
+	throws InterruptedException
+	{
+		for (int i = 0; i < 500 && thread.getState() != Thread.State.TIMED_WAITING; i++)
+		{
+			Thread.sleep(10);
+		}
+
+		assertEquals(Thread.State.TIMED_WAITING, thread.getState());
+	}
+}
@@ -3,6 +3,10 @@ package com.strategicgains.repoexpress.util;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
 import java.util.UUID;
 
 import org.junit.Test;
@@ -114,4 +118,91 @@ public class UuidConverterTest
 	{
 		UuidConverter.parse("#StringThatIs22CharsL*");
 	}
+
+	@Test
+	public void shouldMatchUrlSafeBase64ForRandomUuids()
+	{
+		Random random = new Random(42);
+		ByteBuffer bytes = ByteBuffer.allocate(16);
+
+		for (int i = 0; i < 10_000; i++)
+		{
+			UUID expect = new UUID(random.nextLong(), random.nextLong());
+			bytes.clear();
+			bytes.putLong(expect.getMostSignificantBits()).putLong(expect.getLeastSignificantBits());
+			String reference = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+
+			assertEquals(reference, UuidConverter.format(expect));
+			assertEquals(expect, UuidConverter.parse(reference));
+			assertEquals(expect, UuidConverter.parse(expect.toString()));
+			assertEquals(expect, UuidConverter.parse(new StringBuilder(expect.toString()), 0, 36));
+			assertEquals(expect.toString(), UuidConverter.formatLong(expect, new StringBuilder()).toString());
+		}
+	}
+
+	@Test
+	public void shouldFormatIntoCharArray()
+	{
+		char[] chars = new char[30];
+		assertEquals(26, UuidConverter.format(uuid, chars, 4));
+		assertEquals(shortUuid, new String(chars, 4, 22));
+
+		chars = new char[40];
+		assertEquals(38, UuidConverter.formatLong(uuid, chars, 2));
+		assertEquals(longUuid, new String(chars, 2, 36));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowWhenCharArrayTooSmall()
+	{
+		UuidConverter.format(uuid, new char[30], 9);
+	}
+
+	@Test
+	public void shouldAppendToStringBuilder()
+	{
+		StringBuilder sb = new StringBuilder("id=");
+		UuidConverter.format(uuid, sb).append(',');
+		UuidConverter.formatLong(uuid, sb);
+		assertEquals("id=" + shortUuid + "," + longUuid, sb.toString());
+		assertEquals("0000000000000000000000", UuidConverter.format(new UUID(0L, 0L), new StringBuilder()).toString());
+	}
+
+	@Test
+	public void shouldWriteToByteBuffer()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(32);
+		buffer.put((byte) '/');
+		UuidConverter.format(uuid, buffer);
+		assertEquals(23, buffer.position());
+		assertEquals("/" + shortUuid, new String(buffer.array(), 0, 23, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void shouldParseCharSequenceRange()
+	{
+		String path = "/users/" + shortUuid + "/orders/" + longUuid + "?x";
+		int start = 7;
+		assertEquals(uuid, UuidConverter.parse(path, start, start + 22));
+		start = path.indexOf(longUuid);
+		assertEquals(uuid, UuidConverter.parse(new StringBuilder(path), start, start + 36));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowOnInvalidHexDigitInRange()
+	{
+		UuidConverter.parse(new StringBuilder("6fcb514b-b878-4c9d-95b7-8dc3a7ce6fdg"), 0, 36);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowOnMisplacedDashInRange()
+	{
+		UuidConverter.parse("/6fcb514bb-878-4c9d-95b7-8dc3a7ce6fd8/", 1, 37);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowOnInvalidLastCharacter()
+	{
+		UuidConverter.parse("b8tRS7h4TJ2Vt43Dp85v2*");
+	}
 }
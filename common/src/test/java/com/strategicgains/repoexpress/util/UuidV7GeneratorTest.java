@@ -0,0 +1,142 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class UuidV7GeneratorTest
+{
+	private static final long NOW = 1_792_195_200_000L;
+
+	@Test
+	public void shouldGenerateVersion7Uuid()
+	{
+		UUID uuid = new UuidV7Generator(() -> NOW).next();
+		assertEquals(7, uuid.version());
+		assertEquals(2, uuid.variant());
+		assertEquals(NOW, UuidV7Generator.timestamp(uuid));
+	}
+
+	@Test
+	public void shouldIncreaseWithinOneMillisecond()
+	{
+		UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+		UUID previous = generator.next();
+
+		// more than the 4096 sequence values in a millisecond.
+		for (int i = 0; i < 10_000; i++)
+		{
+			UUID next = generator.next();
+			assertTrue(compareUnsigned(previous, next) < 0);
+			previous = next;
+		}
+
+		assertEquals(NOW + 2, UuidV7Generator.timestamp(previous));
+	}
+
+	@Test
+	public void shouldHoldWhenClockMovesBackwards()
+	{
+		AtomicLong clock = new AtomicLong(NOW);
+		UuidV7Generator generator = new UuidV7Generator(clock::get);
+		UUID first = generator.next();
+		clock.set(NOW - 5000);
+		UUID second = generator.next();
+
+		assertTrue(compareUnsigned(first, second) < 0);
+		assertEquals(NOW, UuidV7Generator.timestamp(second));
+
+		clock.set(NOW + 1);
+		assertEquals(NOW + 1, UuidV7Generator.timestamp(generator.next()));
+	}
+
+	@Test
+	public void shouldFollowClock()
+	{
+		long before = System.currentTimeMillis();
+		UUID uuid = IdGenerator.timeOrderedUuid().next();
+		long timestamp = UuidV7Generator.timestamp(uuid);
+		assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+	}
+
+	@Test
+	public void shouldBeUniqueAndOrderedAcrossThreads()
+	throws Exception
+	{
+		UuidV7Generator generator = new UuidV7Generator();
+		Set<UUID> all = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try
+		{
+			Future<?>[] futures = new Future<?>[8];
+
+			for (int t = 0; t < futures.length; t++)
+			{
+				futures[t] = executor.submit(() -> {
+					UUID previous = generator.next();
+					all.add(previous);
+
+					for (int i = 0; i < 20_000; i++)
+					{
+						UUID next = generator.next();
+						assertTrue(compareUnsigned(previous, next) < 0);
+						all.add(next);
+						previous = next;
+					}
+				});
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertEquals(8 * 20_001, all.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectOtherVersions()
+	{
+		UuidV7Generator.timestamp(UUID.randomUUID());
+	}
+
+	private static int compareUnsigned(UUID a, UUID b)
+	{
+		int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+		return (result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits()));
+	}
+}
@@ -20,6 +20,8 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 
+import javax.sql.DataSource;
+
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
@@ -33,6 +35,18 @@ import org.restexpress.common.exception.ConfigurationException;
  * - jdbc.username / JDBC_USERNAME
  * - jdbc.password / JDBC_PASSWORD
  * - jdbc.driverClass / JDBC_DRIVER_CLASS (optional)
+ * - jdbc.dialect / JDBC_DIALECT (optional)
+ *
+ * Connection pooling (optional; enabled when jdbc.pool.maxSize is greater than zero):
+ * - jdbc.pool.maxSize / JDBC_POOL_MAX_SIZE
+ * - jdbc.pool.connectionTimeoutMillis / JDBC_POOL_CONNECTION_TIMEOUT_MILLIS (default 30000)
+ * - jdbc.pool.idleTimeoutMillis / JDBC_POOL_IDLE_TIMEOUT_MILLIS (default 600000)
+ * - jdbc.pool.maxLifetimeMillis / JDBC_POOL_MAX_LIFETIME_MILLIS (default 1800000)
+ * - jdbc.pool.validationQuery / JDBC_POOL_VALIDATION_QUERY (default: Connection.isValid())
+ * - jdbc.pool.validationTimeoutSeconds / JDBC_POOL_VALIDATION_TIMEOUT_SECONDS (default 5)
+ *
+ * Without pooling, each DSLContext wraps a single connection, serializing all of a repository's
+ * callers. When pooled, all DSLContexts created by this config share one DataSource.
  *
  * @author toddf
  * @since Feb 26, 2026
@@ -49,12 +63,31 @@ public class JdbcConfig
 	private static final String DRIVER_CLASS_ENVIRONMENT_PROPERTY = "JDBC_DRIVER_CLASS";
 	private static final String DIALECT_PROPERTY = "jdbc.dialect";
 	private static final String DIALECT_ENVIRONMENT_PROPERTY = "JDBC_DIALECT";
+	private static final String POOL_MAX_SIZE_PROPERTY = "jdbc.pool.maxSize";
+	private static final String POOL_MAX_SIZE_ENVIRONMENT_PROPERTY = "JDBC_POOL_MAX_SIZE";
+	private static final String POOL_CONNECTION_TIMEOUT_PROPERTY = "jdbc.pool.connectionTimeoutMillis";
+	private static final String POOL_CONNECTION_TIMEOUT_ENVIRONMENT_PROPERTY = "JDBC_POOL_CONNECTION_TIMEOUT_MILLIS";
+	private static final String POOL_IDLE_TIMEOUT_PROPERTY = "jdbc.pool.idleTimeoutMillis";
+	private static final String POOL_IDLE_TIMEOUT_ENVIRONMENT_PROPERTY = "JDBC_POOL_IDLE_TIMEOUT_MILLIS";
+	private static final String POOL_MAX_LIFETIME_PROPERTY = "jdbc.pool.maxLifetimeMillis";
+	private static final String POOL_MAX_LIFETIME_ENVIRONMENT_PROPERTY = "JDBC_POOL_MAX_LIFETIME_MILLIS";
+	private static final String POOL_VALIDATION_QUERY_PROPERTY = "jdbc.pool.validationQuery";
+	private static final String POOL_VALIDATION_QUERY_ENVIRONMENT_PROPERTY = "JDBC_POOL_VALIDATION_QUERY";
+	private static final String POOL_VALIDATION_TIMEOUT_PROPERTY = "jdbc.pool.validationTimeoutSeconds";
+	private static final String POOL_VALIDATION_TIMEOUT_ENVIRONMENT_PROPERTY = "JDBC_POOL_VALIDATION_TIMEOUT_SECONDS";
 
 	private String url;
 	private String username;
 	private String password;
 	private String driverClass;
 	private SQLDialect sqlDialect;
+	private int poolMaxSize;
+	private long poolConnectionTimeoutMillis;
+	private long poolIdleTimeoutMillis;
+	private long poolMaxLifetimeMillis;
+	private String poolValidationQuery;
+	private int poolValidationTimeoutSeconds;
+	private DataSource dataSource;
 
 	public JdbcConfig(Properties p)
 	{
@@ -63,6 +96,12 @@ public class JdbcConfig
 		password = p.getProperty(PASSWORD_ENVIRONMENT_PROPERTY, p.getProperty(PASSWORD_PROPERTY));
 		driverClass = p.getProperty(DRIVER_CLASS_ENVIRONMENT_PROPERTY, p.getProperty(DRIVER_CLASS_PROPERTY));
 		sqlDialect = parseDialect(p.getProperty(DIALECT_ENVIRONMENT_PROPERTY, p.getProperty(DIALECT_PROPERTY)));
+		poolMaxSize = (int) parseLong(p, POOL_MAX_SIZE_ENVIRONMENT_PROPERTY, POOL_MAX_SIZE_PROPERTY, 0);
+		poolConnectionTimeoutMillis = parseLong(p, POOL_CONNECTION_TIMEOUT_ENVIRONMENT_PROPERTY, POOL_CONNECTION_TIMEOUT_PROPERTY, 30000);
+		poolIdleTimeoutMillis = parseLong(p, POOL_IDLE_TIMEOUT_ENVIRONMENT_PROPERTY, POOL_IDLE_TIMEOUT_PROPERTY, 600000);
+		poolMaxLifetimeMillis = parseLong(p, POOL_MAX_LIFETIME_ENVIRONMENT_PROPERTY, POOL_MAX_LIFETIME_PROPERTY, 1800000);
+		poolValidationQuery = p.getProperty(POOL_VALIDATION_QUERY_ENVIRONMENT_PROPERTY, p.getProperty(POOL_VALIDATION_QUERY_PROPERTY));
+		poolValidationTimeoutSeconds = (int) parseLong(p, POOL_VALIDATION_TIMEOUT_ENVIRONMENT_PROPERTY, POOL_VALIDATION_TIMEOUT_PROPERTY, 5);
 
 		if (url == null || url.trim().isEmpty())
 		{
@@ -109,6 +148,101 @@ public class JdbcConfig
 		return sqlDialect;
 	}
 
+	public int getPoolMaxSize()
+	{
+		return poolMaxSize;
+	}
+
+	public long getPoolConnectionTimeoutMillis()
+	{
+		return poolConnectionTimeoutMillis;
+	}
+
+	public long getPoolIdleTimeoutMillis()
+	{
+		return poolIdleTimeoutMillis;
+	}
+
+	public long getPoolMaxLifetimeMillis()
+	{
+		return poolMaxLifetimeMillis;
+	}
+
+	public String getPoolValidationQuery()
+	{
+		return poolValidationQuery;
+	}
+
+	public int getPoolValidationTimeoutSeconds()
+	{
+		return poolValidationTimeoutSeconds;
+	}
+
+	/**
+	 * @return true if DSLContexts created by this config share a pooled DataSource.
+	 */
+	public boolean isPooled()
+	{
+		return (poolMaxSize > 0);
+	}
+
+	/**
+	 * Returns the pooled DataSource shared by all DSLContexts created by this config, creating
+	 * it on first use via createDataSource().
+	 *
+	 * @throws ConfigurationException if pooling is not configured.
+	 */
+	public synchronized DataSource getDataSource()
+	{
+		if (!isPooled())
+		{
+			throw new ConfigurationException(String.format(
+				"Connection pooling is not configured. Please set property: %s or %s", POOL_MAX_SIZE_PROPERTY, POOL_MAX_SIZE_ENVIRONMENT_PROPERTY));
+		}
+
+		if (dataSource == null)
+		{
+			dataSource = createDataSource();
+		}
+
+		return dataSource;
+	}
+
+	/**
+	 * Closes the pooled DataSource, if one was created and is closeable.
+	 */
+	public synchronized void close()
+	{
+		if (dataSource instanceof AutoCloseable)
+		{
+			try
+			{
+				((AutoCloseable) dataSource).close();
+			}
+			catch (Exception e)
+			{
+				throw new ConfigurationException("Unable to close JDBC connection pool", e);
+			}
+		}
+
+		dataSource = null;
+	}
+
+	/**
+	 * Creates the pooled DataSource from the jdbc.pool.* settings. Sub-classes can override
+	 * to plug in a different pool implementation.
+	 */
+	protected DataSource createDataSource()
+	{
+		PooledDataSource pool = new PooledDataSource(this::openConnection, poolMaxSize);
+		pool.setConnectionTimeoutMillis(poolConnectionTimeoutMillis);
+		pool.setIdleTimeoutMillis(poolIdleTimeoutMillis);
+		pool.setMaxLifetimeMillis(poolMaxLifetimeMillis);
+		pool.setValidationQuery(poolValidationQuery);
+		pool.setValidationTimeoutSeconds(poolValidationTimeoutSeconds);
+		return pool;
+	}
+
 	/**
 	 * Creates a new JDBC connection using the configured URL and credentials.
 	 * Returns a new connection on each invocation.
@@ -117,12 +251,7 @@ public class JdbcConfig
 	{
 		try
 		{
-			if (username == null)
-			{
-				return DriverManager.getConnection(url);
-			}
-
-			return DriverManager.getConnection(url, username, password);
+			return openConnection();
 		}
 		catch (SQLException e)
 		{
@@ -135,9 +264,50 @@ public class JdbcConfig
 		return createDslContext(sqlDialect);
 	}
 
+	/**
+	 * Creates a DSLContext for the given dialect. If pooled, the DSLContext borrows a connection
+	 * from the shared DataSource for each query. Otherwise, it wraps a single new connection.
+	 */
 	public DSLContext createDslContext(SQLDialect dialect)
 	{
-		return DSL.using(createConnection(), (dialect == null ? SQLDialect.DEFAULT : dialect));
+		SQLDialect d = (dialect == null ? SQLDialect.DEFAULT : dialect);
+
+		if (isPooled())
+		{
+			return DSL.using(getDataSource(), d);
+		}
+
+		return DSL.using(createConnection(), d);
+	}
+
+	private Connection openConnection()
+	throws SQLException
+	{
+		if (username == null)
+		{
+			return DriverManager.getConnection(url);
+		}
+
+		return DriverManager.getConnection(url, username, password);
+	}
+
+	private long parseLong(Properties p, String environmentProperty, String property, long defaultValue)
+	{
+		String value = p.getProperty(environmentProperty, p.getProperty(property));
+
+		if (value == null || value.trim().isEmpty())
+		{
+			return defaultValue;
+		}
+
+		try
+		{
+			return Long.parseLong(value.trim());
+		}
+		catch (NumberFormatException e)
+		{
+			throw new ConfigurationException("Invalid numeric value for " + property + ": " + value, e);
+		}
 	}
 
 	private void loadDriverIfConfigured(String configuredDriverClass)
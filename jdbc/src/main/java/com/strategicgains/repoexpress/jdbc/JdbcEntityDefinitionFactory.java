@@ -27,7 +27,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Table;
@@ -35,13 +37,23 @@ import org.jooq.impl.DSL;
 
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.jdbc.PropertyAccessors.LongPropertyAccessor;
+import com.strategicgains.repoexpress.jdbc.PropertyAccessors.PropertyAccessor;
 import com.strategicgains.repoexpress.jdbc.annotation.Entity;
 import com.strategicgains.repoexpress.jdbc.annotation.Id;
 import com.strategicgains.repoexpress.jdbc.annotation.Property;
 import com.strategicgains.repoexpress.jdbc.annotation.Transient;
+import com.strategicgains.repoexpress.jdbc.converter.LongPropertyConverter;
+import com.strategicgains.repoexpress.jdbc.converter.PropertyConverter;
 
 /**
  * Builds {@link JdbcEntityDefinition} instances from RepoExpress JDBC annotations.
+ * Field and constructor accessors are generated once per entity class (see {@link PropertyAccessors}).
+ * <p/>
+ * A property with a {@link PropertyConverter} is mapped to a field of the property's type, backed by
+ * the converter's column type, so that queries and records deal in the property's type. The exception
+ * is a {@link LongPropertyConverter} on a primitive long: its field has the column's type and the
+ * binding converts the long itself, avoiding a box per read and write.
  *
  * @author toddf
  * @since Feb 26, 2026
@@ -81,7 +93,7 @@ public final class JdbcEntityDefinitionFactory
 	implements JdbcEntityDefinition<T>
 	{
 		private final Class<T> entityClass;
-		private final Constructor<T> ctor;
+		private final Supplier<T> ctor;
 		private final Table<?> table;
 		private final List<PropertyBinding> bindings;
 		private final List<Field<?>> idFields;
@@ -180,9 +192,13 @@ public final class JdbcEntityDefinitionFactory
 		{
 			try
 			{
-				return ctor.newInstance();
+				return ctor.get();
 			}
-			catch (Exception e)
+			catch (RepositoryException e)
+			{
+				throw e;
+			}
+			catch (RuntimeException e)
 			{
 				throw new RepositoryException("Unable to instantiate " + entityClass.getName(), e);
 			}
@@ -192,7 +208,15 @@ public final class JdbcEntityDefinitionFactory
 		{
 			try
 			{
-				return record.get(binding.jooqField);
+				Object value = record.get(binding.jooqField);
+
+				// a record whose own field is unconverted (e.g. from plain SQL) holds the column's value.
+				if (value != null && binding.converted && !binding.jooqField.getType().isInstance(value))
+				{
+					return binding.jooqField.getDataType().convert(value);
+				}
+
+				return value;
 			}
 			catch (ClassCastException e)
 			{
@@ -331,18 +355,20 @@ public final class JdbcEntityDefinitionFactory
 			return fields;
 		}
 
-		private static <T> Constructor<T> noArgConstructor(Class<T> type)
+		private static <T> Supplier<T> noArgConstructor(Class<T> type)
 		{
+			Constructor<T> ctor;
+
 			try
 			{
-				Constructor<T> ctor = type.getDeclaredConstructor();
-				ctor.setAccessible(true);
-				return ctor;
+				ctor = type.getDeclaredConstructor();
 			}
 			catch (Exception e)
 			{
 				throw new RepositoryException("A no-arg constructor is required for " + type.getName(), e);
 			}
+
+			return PropertyAccessors.forConstructor(ctor);
 		}
 
 		private static String trimToNull(String value)
@@ -356,7 +382,11 @@ public final class JdbcEntityDefinitionFactory
 	private static final class PropertyBinding
 	{
 		private final java.lang.reflect.Field javaField;
+		private final PropertyAccessor accessor;
+		private final LongPropertyAccessor longAccessor;
+		private final LongPropertyConverter<Object> longConverter;
 		private final Field<?> jooqField;
+		private final boolean converted;
 		private final String logicalName;
 		private final String columnName;
 		private final boolean queryable;
@@ -367,10 +397,15 @@ public final class JdbcEntityDefinitionFactory
 		private final int idOrder;
 
 		private PropertyBinding(java.lang.reflect.Field javaField, Field<?> jooqField, String logicalName, String columnName,
-			boolean queryable, boolean sortable, boolean insertable, boolean updatable, boolean id, int idOrder)
+			boolean queryable, boolean sortable, boolean insertable, boolean updatable, boolean id, int idOrder,
+			LongPropertyConverter<Object> longConverter)
 		{
 			this.javaField = javaField;
+			this.accessor = (longConverter == null ? PropertyAccessors.forField(javaField) : null);
+			this.longAccessor = (longConverter == null ? null : PropertyAccessors.forLongField(javaField));
+			this.longConverter = longConverter;
 			this.jooqField = jooqField;
+			this.converted = (jooqField.getConverter().fromType() != jooqField.getType());
 			this.logicalName = logicalName;
 			this.columnName = columnName;
 			this.queryable = queryable;
@@ -383,33 +418,28 @@ public final class JdbcEntityDefinitionFactory
 
 		private Object get(Object target)
 		{
-			try
-			{
-				return javaField.get(target);
-			}
-			catch (Exception e)
+			if (longConverter != null)
 			{
-				throw new RepositoryException("Unable to read field '" + javaField.getName() + "'", e);
+				return longConverter.toColumn(longAccessor.getLong(target));
 			}
+
+			return accessor.get(target);
 		}
 
 		private void set(Object target, Object value)
 		{
-			try
-			{
-				if (value == null && javaField.getType().isPrimitive()) return;
-				javaField.set(target, value);
-			}
-			catch (Exception e)
+			if (longConverter != null)
 			{
-				throw new RepositoryException("Unable to write field '" + javaField.getName() + "'", e);
+				if (value != null) longAccessor.setLong(target, longConverter.fromColumn(value));
+				return;
 			}
+
+			accessor.set(target, value);
 		}
 
+		@SuppressWarnings("unchecked")
 		private static PropertyBinding create(java.lang.reflect.Field javaField, Property property, Id id, String tableName)
 		{
-			javaField.setAccessible(true);
-
 			String columnName = columnName(property, javaField);
 			String logicalName = logicalName(property, javaField);
 			boolean isId = (id != null);
@@ -423,7 +453,23 @@ public final class JdbcEntityDefinitionFactory
 				updatable = false;
 			}
 
-			Field<?> jooqField = createField(tableName, columnName, javaField.getType());
+			PropertyConverter<Object, Object> converter = converter(property, javaField);
+			LongPropertyConverter<Object> longConverter = null;
+			Field<?> jooqField;
+
+			if (converter == null)
+			{
+				jooqField = createField(tableName, columnName, javaField.getType());
+			}
+			else if (converter instanceof LongPropertyConverter && javaField.getType() == long.class)
+			{
+				longConverter = (LongPropertyConverter<Object>) (Object) converter;
+				jooqField = createField(tableName, columnName, converter.columnType());
+			}
+			else
+			{
+				jooqField = createField(tableName, columnName, converter.columnType().asConvertedDataType(converter));
+			}
 
 			return new PropertyBinding(
 				javaField,
@@ -435,7 +481,8 @@ public final class JdbcEntityDefinitionFactory
 				insertable,
 				updatable,
 				isId,
-				(isId ? id.order() : Integer.MAX_VALUE)
+				(isId ? id.order() : Integer.MAX_VALUE),
+				longConverter
 			);
 		}
 
@@ -444,6 +491,50 @@ public final class JdbcEntityDefinitionFactory
 			return DSL.field(DSL.name(tableName, columnName), type);
 		}
 
+		private static Field<?> createField(String tableName, String columnName, DataType<?> type)
+		{
+			return DSL.field(DSL.name(tableName, columnName), type);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static PropertyConverter<Object, Object> converter(Property property, java.lang.reflect.Field javaField)
+		{
+			if (property == null || property.converter() == PropertyConverter.class) return null;
+
+			PropertyConverter<Object, Object> converter;
+
+			try
+			{
+				converter = property.converter().getDeclaredConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException e)
+			{
+				throw new RepositoryException("Unable to instantiate " + property.converter().getName()
+					+ " for field '" + javaField.getName() + "'", e);
+			}
+
+			if (converter.toType() != boxed(javaField.getType()))
+			{
+				throw new RepositoryException(property.converter().getName() + " converts to " + converter.toType().getName()
+					+ ", not the " + javaField.getType().getName() + " of field '" + javaField.getName() + "'");
+			}
+
+			return converter;
+		}
+
+		private static Class<?> boxed(Class<?> type)
+		{
+			if (!type.isPrimitive()) return type;
+			if (type == long.class) return Long.class;
+			if (type == int.class) return Integer.class;
+			if (type == boolean.class) return Boolean.class;
+			if (type == double.class) return Double.class;
+			if (type == float.class) return Float.class;
+			if (type == short.class) return Short.class;
+			if (type == byte.class) return Byte.class;
+			return Character.class;
+		}
+
 		private static String columnName(Property property, java.lang.reflect.Field javaField)
 		{
 			if (property != null && property.value() != null && !property.value().trim().isEmpty())
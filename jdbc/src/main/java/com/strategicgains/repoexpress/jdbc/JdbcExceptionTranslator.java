@@ -47,8 +47,22 @@ final class JdbcExceptionTranslator
 
 		String state = sql.getSQLState();
 
-		if ("23505".equals(state)) return true;		// PostgreSQL unique_violation
-		if ("23000".equals(state) && sql.getErrorCode() == 1062) return true;	// MySQL duplicate key
+		if ("23505".equals(state)) return true;		// PostgreSQL, H2, Derby, DB2 unique_violation
+
+		if ("23000".equals(state))
+		{
+			switch (sql.getErrorCode())
+			{
+				case 1062:	// MySQL duplicate key
+				case 1:		// Oracle ORA-00001 unique constraint violated
+				case 2601:	// SQL Server duplicate key in unique index
+				case 2627:	// SQL Server primary key or unique constraint violation
+					return true;
+				default:
+					return false;
+			}
+		}
+
 		return false;
 	}
 
@@ -19,20 +19,33 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.DataType;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.InsertValuesStepN;
+import org.jooq.Query;
 import org.jooq.Record;
+import org.jooq.Result;
 import org.jooq.SQLDialect;
 import org.jooq.SelectQuery;
 import org.jooq.SortField;
 import org.jooq.Table;
 import org.jooq.UpdateQuery;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataTypeException;
+import org.jooq.conf.SettingsTools;
 import org.jooq.impl.DSL;
 import org.restexpress.common.query.OrderCallback;
 import org.restexpress.common.query.OrderComponent;
@@ -43,15 +56,22 @@ import org.restexpress.common.query.QueryRange;
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
 import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.KeysetPage;
 import com.strategicgains.repoexpress.Queryable;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
 import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
 import com.strategicgains.repoexpress.exception.ItemNotFoundException;
 import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.util.ContinuationToken;
 
 /**
  * A jOOQ-backed JDBC repository implementation for PostgreSQL/MySQL-style relational databases.
  * This initial iteration expects the entity identifier to be assigned before create().
+ * <p/>
+ * IN (...) conditions are padded to the next power of two (jOOQ's inListPadding setting, enabled
+ * on the repository's DSLContext) so that statements with varying list sizes share a handful of
+ * cached plans. On PostgreSQL, they are bound as a single array instead: = ANY(?).
  *
  * @author toddf
  * @since Feb 26, 2026
@@ -60,8 +80,20 @@ public class JdbcRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
 implements Queryable<T>
 {
+	/**
+	 * The maximum number of rows written by a single multi-row INSERT or addressed by a
+	 * single IN (...) condition. Keeps statements under driver bind-parameter limits.
+	 */
+	protected static final int BATCH_SIZE = 500;
+
+	/**
+	 * The default number of rows the driver fetches per round trip when streaming.
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
 	private final DSLContext dsl;
 	private final JdbcEntityDefinition<T> definition;
+	private int fetchSize = DEFAULT_FETCH_SIZE;
 
 	public JdbcRepository(DSLContext dsl, JdbcEntityDefinition<T> definition)
 	{
@@ -70,7 +102,7 @@ implements Queryable<T>
 		if (dsl == null) throw new IllegalArgumentException("DSLContext is required");
 		if (definition == null) throw new IllegalArgumentException("JdbcEntityDefinition is required");
 
-		this.dsl = dsl;
+		this.dsl = withInListPadding(dsl);
 		this.definition = definition;
 	}
 
@@ -108,16 +140,16 @@ implements Queryable<T>
 		this(config.createDslContext(dialect), entityClasses);
 	}
 
+	/**
+	 * Inserts the entity in a single round trip. Uniqueness is enforced atomically by the
+	 * table's primary key rather than a separate existence check, so ifUnique has no effect:
+	 * a duplicate key always results in a DuplicateItemException.
+	 */
 	@Override
 	public T doCreate(T entity, boolean ifUnique)
 	{
 		requireIdentifier(entity);
 
-		if (ifUnique && exists(entity.getIdentifier()))
-		{
-			throw duplicate(entity);
-		}
-
 		try
 		{
 			insertEntity(entity);
@@ -134,6 +166,41 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Writes the entities using multi-row INSERT statements of up to BATCH_SIZE rows each,
+	 * sent to the database as a single JDBC batch. As with doCreate(), uniqueness is enforced
+	 * by the primary key, so ifUnique has no effect.
+	 * <p/>
+	 * The batch is not atomic unless the DSLContext is participating in a transaction.
+	 */
+	@Override
+	public List<T> doCreateAll(Collection<T> entities, boolean ifUnique)
+	{
+		List<T> results = new ArrayList<T>(entities);
+
+		if (results.isEmpty()) return results;
+
+		for (T entity : results)
+		{
+			requireIdentifier(entity);
+		}
+
+		try
+		{
+			insertEntities(results);
+			return results;
+		}
+		catch (DataAccessException e)
+		{
+			if (JdbcExceptionTranslator.isDuplicateKey(e))
+			{
+				throw JdbcExceptionTranslator.toDuplicateItemException("Duplicate key on batch create", e);
+			}
+
+			throw JdbcExceptionTranslator.toRepositoryException("Unable to create batch of " + results.size(), e);
+		}
+	}
+
 	@Override
 	public T doRead(Identifier id)
 	{
@@ -154,6 +221,62 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Reads the IDs with one SELECT ... WHERE id IN (...) per BATCH_SIZE IDs, rather than a read()
+	 * per ID. Results are returned in the order of the given IDs; invalid or missing IDs are
+	 * omitted. Read observers are notified for each ID before the query and each entity after it.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		List<Field<?>> idFields = definition.idFields();
+		List<Identifier> valid = new ArrayList<Identifier>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			notifyBeforeRead(id);
+
+			if (id != null && id.size() == idFields.size())
+			{
+				valid.add(id);
+			}
+		}
+
+		if (valid.isEmpty()) return new ArrayList<T>(0);
+
+		Map<List<Object>, T> found = new HashMap<List<Object>, T>(valid.size());
+
+		try
+		{
+			for (List<Identifier> chunk : chunk(valid))
+			{
+				for (Record record : dsl.selectFrom(definition.table()).where(idsCondition(chunk)).fetch())
+				{
+					found.put(recordKey(record), definition.fromRecord(record));
+				}
+			}
+		}
+		catch (DataAccessException e)
+		{
+			throw JdbcExceptionTranslator.toRepositoryException("Unable to read items by id", e);
+		}
+
+		List<T> results = new ArrayList<T>(found.size());
+
+		for (Identifier id : valid)
+		{
+			T item = found.get(identifierKey(id));
+
+			if (item != null)
+			{
+				results.add(item);
+				notifyAfterRead(item);
+			}
+		}
+
+		return results;
+	}
+
 	@Override
 	public T doUpdate(T entity, boolean ifExists)
 	{
@@ -188,6 +311,75 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Sends one UPDATE per entity as a single JDBC batch. If ifExists is true, existence of
+	 * all the entities is verified with one query per BATCH_SIZE identifiers before anything
+	 * is written. Otherwise, entities not updated are inserted as a batch.
+	 * <p/>
+	 * The batch is not atomic unless the DSLContext is participating in a transaction.
+	 */
+	@Override
+	public List<T> doUpdateAll(Collection<T> entities, boolean ifExists)
+	{
+		List<T> results = new ArrayList<T>(entities);
+
+		if (results.isEmpty()) return results;
+
+		for (T entity : results)
+		{
+			requireIdentifier(entity);
+		}
+
+		try
+		{
+			if (ifExists)
+			{
+				requireAllExist(results);
+			}
+
+			List<Query> updates = new ArrayList<Query>(results.size());
+
+			for (T entity : results)
+			{
+				updates.add(updateQuery(entity));
+			}
+
+			int[] rows = executeAll(updates);
+			List<T> missing = new ArrayList<T>();
+
+			for (int i = 0; i < rows.length; ++i)
+			{
+				if (rows[i] == 0)
+				{
+					missing.add(results.get(i));
+				}
+			}
+
+			if (!missing.isEmpty())
+			{
+				if (ifExists)
+				{
+					T entity = missing.get(0);
+					throw new ItemNotFoundException(entity.getClass().getSimpleName()
+						+ " ID not found: " + entity.getIdentifier().toString());
+				}
+
+				insertEntities(missing);
+			}
+
+			return results;
+		}
+		catch (DataAccessException e)
+		{
+			if (JdbcExceptionTranslator.isDuplicateKey(e))
+			{
+				throw JdbcExceptionTranslator.toDuplicateItemException("Duplicate key on batch update", e);
+			}
+
+			throw JdbcExceptionTranslator.toRepositoryException("Unable to update batch of " + results.size(), e);
+		}
+	}
+
 	@Override
 	public void doDelete(T entity)
 	{
@@ -210,6 +402,42 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Deletes the entities with one DELETE ... WHERE id IN (...) per BATCH_SIZE entities.
+	 */
+	@Override
+	public void doDeleteAll(Collection<T> entities)
+	{
+		List<Identifier> ids = new ArrayList<Identifier>(entities.size());
+
+		for (T entity : entities)
+		{
+			requireIdentifier(entity);
+			ids.add(entity.getIdentifier());
+		}
+
+		try
+		{
+			int rows = 0;
+
+			for (List<Identifier> chunk : chunk(ids))
+			{
+				rows += dsl.deleteFrom(definition.table())
+					.where(idsCondition(chunk))
+					.execute();
+			}
+
+			if (rows < ids.size())
+			{
+				throw new ItemNotFoundException("One or more IDs not found in batch delete");
+			}
+		}
+		catch (DataAccessException e)
+		{
+			throw JdbcExceptionTranslator.toRepositoryException("Unable to delete batch of " + ids.size(), e);
+		}
+	}
+
 	@Override
 	public boolean exists(Identifier id)
 	{
@@ -229,6 +457,56 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Selects only the key columns of the matching rows (satisfied by the primary key index),
+	 * one query per BATCH_SIZE IDs.
+	 */
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		List<Field<?>> idFields = definition.idFields();
+		List<Identifier> valid = new ArrayList<Identifier>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			if (id != null && id.size() == idFields.size())
+			{
+				valid.add(id);
+			}
+		}
+
+		Set<Identifier> results = new LinkedHashSet<Identifier>();
+
+		if (valid.isEmpty()) return results;
+
+		Set<List<Object>> found = new HashSet<List<Object>>(valid.size());
+
+		try
+		{
+			for (List<Identifier> chunk : chunk(valid))
+			{
+				for (Record record : dsl.select(idFields).from(definition.table()).where(idsCondition(chunk)).fetch())
+				{
+					found.add(recordKey(record));
+				}
+			}
+		}
+		catch (DataAccessException e)
+		{
+			throw JdbcExceptionTranslator.toRepositoryException("Unable to determine if items exist", e);
+		}
+
+		for (Identifier id : valid)
+		{
+			if (found.contains(identifierKey(id)))
+			{
+				results.add(id);
+			}
+		}
+
+		return results;
+	}
+
 	@Override
 	public long count(QueryFilter filter)
 	{
@@ -271,6 +549,92 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Streams the matching rows through a lazy jOOQ cursor, mapping each row as it is consumed.
+	 * The cursor's connection is held until the stream is closed. Note that some drivers (e.g.
+	 * PostgreSQL) only honor the fetch size when auto-commit is off; otherwise they buffer the
+	 * entire result.
+	 */
+	@Override
+	public Stream<T> stream(QueryFilter filter, QueryOrder order)
+	{
+		try
+		{
+			SelectQuery<Record> q = dsl.selectQuery();
+			q.addFrom(definition.table());
+			q.addConditions(filterCondition(filter));
+			applyOrder(q, order);
+			Cursor<Record> cursor = q.fetchSize(fetchSize).fetchLazy();
+			return cursor.stream()
+				.onClose(cursor::close)
+				.map(definition::fromRecord);
+		}
+		catch (DataAccessException e)
+		{
+			throw JdbcExceptionTranslator.toRepositoryException("Unable to query items", e);
+		}
+	}
+
+	/**
+	 * Reads a page using jOOQ's seek() (a row-value predicate on the sort keys) instead of
+	 * OFFSET, so deep pages cost the same as the first one given a suitable index. The
+	 * primary key columns are appended to the sort as a tie-breaker.
+	 */
+	@Override
+	public KeysetPage<T> readPage(QueryFilter filter, QueryOrder order, int limit, String continuation)
+	{
+		if (limit < 1) throw new IllegalArgumentException("limit must be > 0");
+
+		List<Field<?>> keys = new ArrayList<Field<?>>();
+		List<SortField<?>> sorts = keysetOrder(order, keys);
+		String signature = signature(sorts);
+
+		try
+		{
+			SelectQuery<Record> q = dsl.selectQuery();
+			q.addFrom(definition.table());
+			q.addConditions(filterCondition(filter));
+			q.addOrderBy(sorts);
+
+			if (continuation != null)
+			{
+				q.addSeekAfter(seekValues(keys, ContinuationToken.decode(signature, continuation)));
+			}
+
+			q.addLimit(limit + 1);
+			Result<Record> records = q.fetch();
+			int size = Math.min(limit, records.size());
+			List<T> results = new ArrayList<T>(size);
+
+			for (int i = 0; i < size; i++)
+			{
+				results.add(definition.fromRecord(records.get(i)));
+			}
+
+			String next = (records.size() > limit ? ContinuationToken.encode(signature, keyValues(keys, records.get(limit - 1))) : null);
+			return new KeysetPage<T>(results, next);
+		}
+		catch (DataAccessException e)
+		{
+			throw JdbcExceptionTranslator.toRepositoryException("Unable to query items", e);
+		}
+	}
+
+	public int getFetchSize()
+	{
+		return fetchSize;
+	}
+
+	/**
+	 * Sets the JDBC fetch size used by stream(). Zero leaves the choice to the driver.
+	 */
+	public void setFetchSize(int fetchSize)
+	{
+		if (fetchSize < 0) throw new IllegalArgumentException("fetchSize must be >= 0");
+
+		this.fetchSize = fetchSize;
+	}
+
 	protected DSLContext getDsl()
 	{
 		return dsl;
@@ -296,12 +660,17 @@ implements Queryable<T>
 
 	/**
 	 * Resolve a mapped field by logical name and cast it to the desired Java type.
+	 * A field already of that type (including one with a PropertyConverter) is returned as is.
 	 * Intended for subclass query methods.
 	 */
 	@SuppressWarnings("unchecked")
 	protected <V> Field<V> field(String logicalFieldName, Class<V> type)
 	{
-		return (Field<V>) requireField(logicalFieldName).cast(type);
+		Field<?> field = requireField(logicalFieldName);
+
+		if (field.getType() == type) return (Field<V>) field;
+
+		return field.cast(type);
 	}
 
 	/**
@@ -380,13 +749,7 @@ implements Queryable<T>
 
 	private void insertEntity(T entity)
 	{
-		Map<Field<?>, Object> values = definition.insertValues(entity);
-
-		if (values == null || values.isEmpty())
-		{
-			throw new RepositoryException("insertValues() must return at least one column value");
-		}
-
+		Map<Field<?>, Object> values = insertValues(entity);
 		org.jooq.InsertQuery<?> query = dsl.insertQuery(definition.table());
 
 		for (Map.Entry<Field<?>, Object> entry : values.entrySet())
@@ -397,7 +760,59 @@ implements Queryable<T>
 		query.execute();
 	}
 
+	/**
+	 * Groups the entities by their insert column list, then writes each group as multi-row
+	 * INSERT statements of up to BATCH_SIZE rows, all sent as one JDBC batch.
+	 */
+	private void insertEntities(List<T> entities)
+	{
+		Map<List<Field<?>>, List<Collection<Object>>> rowsByColumns = new LinkedHashMap<List<Field<?>>, List<Collection<Object>>>();
+
+		for (T entity : entities)
+		{
+			Map<Field<?>, Object> values = insertValues(entity);
+			rowsByColumns.computeIfAbsent(new ArrayList<Field<?>>(values.keySet()), k -> new ArrayList<Collection<Object>>())
+				.add(values.values());
+		}
+
+		List<Query> inserts = new ArrayList<Query>();
+
+		for (Map.Entry<List<Field<?>>, List<Collection<Object>>> entry : rowsByColumns.entrySet())
+		{
+			for (List<Collection<Object>> rows : chunk(entry.getValue()))
+			{
+				InsertValuesStepN<?> insert = dsl.insertInto(definition.table(), entry.getKey());
+
+				for (Collection<Object> row : rows)
+				{
+					insert = insert.values(row);
+				}
+
+				inserts.add(insert);
+			}
+		}
+
+		executeAll(inserts);
+	}
+
+	private Map<Field<?>, Object> insertValues(T entity)
+	{
+		Map<Field<?>, Object> values = definition.insertValues(entity);
+
+		if (values == null || values.isEmpty())
+		{
+			throw new RepositoryException("insertValues() must return at least one column value");
+		}
+
+		return values;
+	}
+
 	private int updateEntity(T entity)
+	{
+		return updateQuery(entity).execute();
+	}
+
+	private UpdateQuery<?> updateQuery(T entity)
 	{
 		Map<Field<?>, Object> values = definition.updateValues(entity);
 
@@ -414,7 +829,108 @@ implements Queryable<T>
 		}
 
 		query.addConditions(idCondition(entity.getIdentifier()));
-		return query.execute();
+		return query;
+	}
+
+	/**
+	 * Executes the queries in a single round trip, returning the affected row counts.
+	 */
+	private int[] executeAll(List<Query> queries)
+	{
+		if (queries.size() == 1)
+		{
+			return new int[] {queries.get(0).execute()};
+		}
+
+		return dsl.batch(queries).execute();
+	}
+
+	private void requireAllExist(List<T> entities)
+	{
+		int found = 0;
+
+		for (List<T> chunk : chunk(entities))
+		{
+			found += dsl.fetchCount(dsl.selectOne().from(definition.table()).where(idsCondition(identifiers(chunk))));
+		}
+
+		if (found >= entities.size()) return;
+
+		for (T entity : entities)
+		{
+			if (!exists(entity.getIdentifier()))
+			{
+				throw new ItemNotFoundException(entity.getClass().getSimpleName()
+					+ " ID not found: " + entity.getIdentifier().toString());
+			}
+		}
+	}
+
+	private List<Identifier> identifiers(List<T> entities)
+	{
+		List<Identifier> ids = new ArrayList<Identifier>(entities.size());
+
+		for (T entity : entities)
+		{
+			ids.add(entity.getIdentifier());
+		}
+
+		return ids;
+	}
+
+	private List<Object> recordKey(Record record)
+	{
+		List<Object> key = new ArrayList<Object>(definition.idFields().size());
+
+		for (Field<?> idField : definition.idFields())
+		{
+			key.add(record.get(idField));
+		}
+
+		return key;
+	}
+
+	/**
+	 * Converts the identifier's components to the key columns' types, so it can be matched
+	 * against recordKey() regardless of how the caller typed the components.
+	 */
+	private List<Object> identifierKey(Identifier id)
+	{
+		List<Object> key = new ArrayList<Object>(id.size());
+		Iterator<?> components = id.components().iterator();
+
+		try
+		{
+			for (Field<?> idField : definition.idFields())
+			{
+				key.add(idField.getDataType().convert(typed(idField, components.next())));
+			}
+		}
+		catch (DataTypeException e)
+		{
+			return null;
+		}
+
+		return key;
+	}
+
+	private static DSLContext withInListPadding(DSLContext dsl)
+	{
+		if (Boolean.TRUE.equals(dsl.settings().isInListPadding())) return dsl;
+
+		return DSL.using(dsl.configuration().derive(SettingsTools.clone(dsl.settings()).withInListPadding(true)));
+	}
+
+	private static <E> List<List<E>> chunk(List<E> items)
+	{
+		List<List<E>> chunks = new ArrayList<List<E>>((items.size() / BATCH_SIZE) + 1);
+
+		for (int i = 0; i < items.size(); i += BATCH_SIZE)
+		{
+			chunks.add(items.subList(i, Math.min(i + BATCH_SIZE, items.size())));
+		}
+
+		return chunks;
 	}
 
 	private Record selectOneById(Identifier id)
@@ -475,6 +991,41 @@ implements Queryable<T>
 		return condition;
 	}
 
+	/**
+	 * Matches any of the given identifiers. Uses IN (...) for single-column keys and
+	 * OR-ed key conditions for compound keys.
+	 */
+	private Condition idsCondition(List<Identifier> ids)
+	{
+		List<Field<?>> idFields = definition.idFields();
+
+		if (idFields != null && idFields.size() == 1)
+		{
+			List<Object> values = new ArrayList<Object>(ids.size());
+
+			for (Identifier id : ids)
+			{
+				if (id == null || id.size() != 1)
+				{
+					throw new InvalidObjectIdException("Identifier component count does not match primary key field count");
+				}
+
+				values.add(id.firstComponent());
+			}
+
+			return in(idFields.get(0), values);
+		}
+
+		List<Condition> conditions = new ArrayList<Condition>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			conditions.add(idCondition(id));
+		}
+
+		return DSL.or(conditions);
+	}
+
 	private Condition filterCondition(QueryFilter filter)
 	{
 		if (filter == null) return DSL.trueCondition();
@@ -543,6 +1094,89 @@ implements Queryable<T>
 		}
 	}
 
+	private List<SortField<?>> keysetOrder(QueryOrder order, final List<Field<?>> keys)
+	{
+		final List<SortField<?>> sorts = new ArrayList<SortField<?>>();
+
+		if (order != null && order.isSorted())
+		{
+			order.iterate(new OrderCallback()
+			{
+				@Override
+				public void orderBy(OrderComponent component)
+				{
+					Field<?> field = requireField(component.getFieldName());
+					keys.add(field);
+					sorts.add(component.isDescending() ? field.desc() : field.asc());
+				}
+			});
+		}
+
+		for (Field<?> idField : definition.idFields())
+		{
+			if (keys.contains(idField)) continue;
+
+			keys.add(idField);
+			sorts.add(idField.asc());
+		}
+
+		return sorts;
+	}
+
+	private static String signature(List<SortField<?>> sorts)
+	{
+		StringBuilder signature = new StringBuilder();
+
+		for (SortField<?> sort : sorts)
+		{
+			if (signature.length() > 0) signature.append(',');
+			signature.append(sort.getName()).append(':').append(sort.getOrder());
+		}
+
+		return signature.toString();
+	}
+
+	private static List<Field<?>> seekValues(List<Field<?>> keys, List<String> values)
+	{
+		if (values.size() != keys.size())
+		{
+			throw new InvalidContinuationException("Continuation token does not match the requested sort order");
+		}
+
+		List<Field<?>> seek = new ArrayList<Field<?>>(keys.size());
+
+		try
+		{
+			for (int i = 0; i < keys.size(); i++)
+			{
+				seek.add(seekValue(keys.get(i), values.get(i)));
+			}
+		}
+		catch (DataTypeException e)
+		{
+			throw new InvalidContinuationException("Invalid continuation token", e);
+		}
+
+		return seek;
+	}
+
+	private static <V> Field<V> seekValue(Field<V> key, String value)
+	{
+		return DSL.val(key.getDataType().convert(typed(key, value)), key);
+	}
+
+	private static List<String> keyValues(List<Field<?>> keys, Record record)
+	{
+		List<String> values = new ArrayList<String>(keys.size());
+
+		for (Field<?> key : keys)
+		{
+			values.add(record.get(key, String.class));
+		}
+
+		return values;
+	}
+
 	private void applyRange(SelectQuery<Record> q, QueryRange range)
 	{
 		if (range == null || !range.isInitialized()) return;
@@ -577,37 +1211,37 @@ implements Queryable<T>
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Condition eq(Field<?> field, Object value)
 	{
-		return ((Field) field).eq(value);
+		return ((Field) field).eq(typed(field, value));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Condition ne(Field<?> field, Object value)
 	{
-		return ((Field) field).ne(value);
+		return ((Field) field).ne(typed(field, value));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Condition gt(Field<?> field, Object value)
 	{
-		return ((Field) field).gt(value);
+		return ((Field) field).gt(typed(field, value));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Condition ge(Field<?> field, Object value)
 	{
-		return ((Field) field).ge(value);
+		return ((Field) field).ge(typed(field, value));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Condition lt(Field<?> field, Object value)
 	{
-		return ((Field) field).lt(value);
+		return ((Field) field).lt(typed(field, value));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Condition le(Field<?> field, Object value)
 	{
-		return ((Field) field).le(value);
+		return ((Field) field).le(typed(field, value));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -620,7 +1254,30 @@ implements Queryable<T>
 			return DSL.falseCondition();
 		}
 
-		return ((Field) field).in(values);
+		if (values.size() > 1 && dsl.dialect().family() == SQLDialect.POSTGRES)
+		{
+			return anyOf(field, values);
+		}
+
+		return ((Field) field).in(typed(field, values));
+	}
+
+	/**
+	 * Binds the values as a single array parameter: field = ANY(?).
+	 */
+	@SuppressWarnings("unchecked")
+	private static <V> Condition anyOf(Field<V> field, Collection<?> values)
+	{
+		DataType<V> type = field.getDataType();
+		V[] array = (V[]) Array.newInstance(type.getArrayType().getComponentType(), values.size());
+		int i = 0;
+
+		for (Object value : values)
+		{
+			array[i++] = type.convert(typed(field, value));
+		}
+
+		return field.eq(DSL.any(DSL.val(array, type.getArrayDataType())));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -635,6 +1292,32 @@ implements Queryable<T>
 		return DSL.lower(((Field) field).cast(String.class)).like(stringValue(value).toLowerCase() + "%");
 	}
 
+	/**
+	 * Converts a caller-supplied value (e.g. a filter's String) to the Java type of a field with a
+	 * PropertyConverter. jOOQ would otherwise convert it straight to the column's type: for a
+	 * BINARY(16) UUID, that would be the bytes of the String.
+	 */
+	private static Object typed(Field<?> field, Object value)
+	{
+		if (value == null || field.getType().isInstance(value) || field.getConverter().fromType() == field.getType()) return value;
+
+		return DSL.val(value, field.getType()).getValue();
+	}
+
+	private static Collection<?> typed(Field<?> field, Collection<?> values)
+	{
+		if (field.getConverter().fromType() == field.getType()) return values;
+
+		List<Object> results = new ArrayList<Object>(values.size());
+
+		for (Object value : values)
+		{
+			results.add(typed(field, value));
+		}
+
+		return results;
+	}
+
 	private String stringValue(Object value)
 	{
 		return (value == null ? "" : value.toString());
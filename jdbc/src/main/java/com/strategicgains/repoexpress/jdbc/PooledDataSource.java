@@ -0,0 +1,498 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A lightweight, bounded JDBC connection pool. At most maxSize connections are checked out at
+ * once; callers beyond that wait up to the connection timeout. Connections are returned to the
+ * pool when closed.
+ * <p/>
+ * Idle connections are re-used most-recently-returned first. A connection is retired (physically
+ * closed) when it has been idle longer than the idle timeout or open longer than the max
+ * lifetime. A connection idle for more than half a second is validated before being handed out,
+ * using the validation query if configured, or Connection.isValid() if not.
+ * <p/>
+ * Created by JdbcConfig when jdbc.pool.maxSize is set. For a full-featured pool (e.g. HikariCP),
+ * override JdbcConfig.createDataSource() instead.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class PooledDataSource
+implements DataSource, AutoCloseable
+{
+	private static final long VALIDATION_BYPASS_MILLIS = 500;
+
+	/**
+	 * Opens a new physical connection.
+	 */
+	@FunctionalInterface
+	public interface ConnectionFactory
+	{
+		public Connection create() throws SQLException;
+	}
+
+	private final ConnectionFactory factory;
+	private final int maxSize;
+	private final Semaphore permits;
+	private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<PooledConnection>();
+	private volatile boolean closed;
+
+	private long connectionTimeoutMillis = 30000;
+	private long idleTimeoutMillis = 600000;
+	private long maxLifetimeMillis = 1800000;
+	private String validationQuery;
+	private int validationTimeoutSeconds = 5;
+	private PrintWriter logWriter;
+
+	public PooledDataSource(ConnectionFactory factory, int maxSize)
+	{
+		super();
+
+		if (factory == null) throw new IllegalArgumentException("connection factory is required");
+		if (maxSize < 1) throw new IllegalArgumentException("maxSize must be at least 1");
+
+		this.factory = factory;
+		this.maxSize = maxSize;
+		this.permits = new Semaphore(maxSize);
+	}
+
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * @return the number of connections currently checked out.
+	 */
+	public int getActiveCount()
+	{
+		return maxSize - permits.availablePermits();
+	}
+
+	/**
+	 * @return the number of open connections waiting in the pool.
+	 */
+	public int getIdleCount()
+	{
+		return idle.size();
+	}
+
+	public long getConnectionTimeoutMillis()
+	{
+		return connectionTimeoutMillis;
+	}
+
+	/**
+	 * How long getConnection() waits for a connection when all are checked out.
+	 */
+	public void setConnectionTimeoutMillis(long connectionTimeoutMillis)
+	{
+		this.connectionTimeoutMillis = connectionTimeoutMillis;
+	}
+
+	public long getIdleTimeoutMillis()
+	{
+		return idleTimeoutMillis;
+	}
+
+	/**
+	 * How long a connection may sit in the pool before it is retired. Zero or less to never retire idle connections.
+	 */
+	public void setIdleTimeoutMillis(long idleTimeoutMillis)
+	{
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	public long getMaxLifetimeMillis()
+	{
+		return maxLifetimeMillis;
+	}
+
+	/**
+	 * How long a connection may be open before it is retired. Zero or less for no limit.
+	 */
+	public void setMaxLifetimeMillis(long maxLifetimeMillis)
+	{
+		this.maxLifetimeMillis = maxLifetimeMillis;
+	}
+
+	public String getValidationQuery()
+	{
+		return validationQuery;
+	}
+
+	/**
+	 * A query (e.g. "select 1") used to validate idle connections. If null, Connection.isValid() is used.
+	 */
+	public void setValidationQuery(String validationQuery)
+	{
+		this.validationQuery = validationQuery;
+	}
+
+	public int getValidationTimeoutSeconds()
+	{
+		return validationTimeoutSeconds;
+	}
+
+	public void setValidationTimeoutSeconds(int validationTimeoutSeconds)
+	{
+		this.validationTimeoutSeconds = validationTimeoutSeconds;
+	}
+
+	@Override
+	public Connection getConnection()
+	throws SQLException
+	{
+		if (closed) throw new SQLException("Connection pool is closed");
+
+		try
+		{
+			if (!permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS))
+			{
+				throw new SQLException("Timed out after " + connectionTimeoutMillis + "ms waiting for one of " + maxSize + " pooled connections");
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted waiting for a pooled connection", e);
+		}
+
+		try
+		{
+			return borrow().proxy();
+		}
+		catch (SQLException | RuntimeException e)
+		{
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password)
+	throws SQLException
+	{
+		throw new SQLFeatureNotSupportedException("Credentials are configured on the pool");
+	}
+
+	/**
+	 * Closes all idle connections and refuses new requests. Checked-out connections are closed
+	 * as they are returned.
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+		PooledConnection pc;
+
+		while ((pc = idle.pollFirst()) != null)
+		{
+			pc.retire();
+		}
+	}
+
+	@Override
+	public PrintWriter getLogWriter()
+	{
+		return logWriter;
+	}
+
+	@Override
+	public void setLogWriter(PrintWriter out)
+	{
+		this.logWriter = out;
+	}
+
+	@Override
+	public void setLoginTimeout(int seconds)
+	{
+		// not supported; see setConnectionTimeoutMillis().
+	}
+
+	@Override
+	public int getLoginTimeout()
+	{
+		return 0;
+	}
+
+	@Override
+	public Logger getParentLogger()
+	throws SQLFeatureNotSupportedException
+	{
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface)
+	throws SQLException
+	{
+		if (iface.isInstance(this)) return iface.cast(this);
+
+		throw new SQLException("Not a wrapper for " + iface.getName());
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface)
+	{
+		return iface.isInstance(this);
+	}
+
+	private PooledConnection borrow()
+	throws SQLException
+	{
+		PooledConnection pc;
+
+		while ((pc = idle.pollFirst()) != null)
+		{
+			long now = System.currentTimeMillis();
+
+			if (pc.isExpired(now) || pc.isIdleTooLong(now) || (now - pc.lastUsed > VALIDATION_BYPASS_MILLIS && !pc.isValid()))
+			{
+				pc.retire();
+				continue;
+			}
+
+			return pc;
+		}
+
+		return new PooledConnection(factory.create());
+	}
+
+	private void giveBack(PooledConnection pc)
+	{
+		try
+		{
+			long now = System.currentTimeMillis();
+
+			if (closed || pc.isExpired(now) || !pc.reset())
+			{
+				pc.retire();
+				return;
+			}
+
+			pc.lastUsed = now;
+			idle.offerFirst(pc);
+			evictIdle(now);
+		}
+		finally
+		{
+			permits.release();
+		}
+	}
+
+	/**
+	 * Retires connections at the least-recently-used end of the pool that have been idle too long.
+	 */
+	private void evictIdle(long now)
+	{
+		PooledConnection oldest;
+
+		while ((oldest = idle.peekLast()) != null && oldest.isIdleTooLong(now))
+		{
+			if (idle.removeLastOccurrence(oldest))
+			{
+				oldest.retire();
+			}
+		}
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * A physical connection and its pool bookkeeping.
+	 *
+	 * @author toddf
+	 * @since Oct 17, 2026
+	 */
+	private class PooledConnection
+	{
+		private final Connection physical;
+		private final long createdAt;
+		private long lastUsed;
+		private boolean dirty;
+
+		private PooledConnection(Connection physical)
+		{
+			this.physical = physical;
+			this.createdAt = System.currentTimeMillis();
+			this.lastUsed = createdAt;
+		}
+
+		private boolean isExpired(long now)
+		{
+			return (maxLifetimeMillis > 0 && now - createdAt > maxLifetimeMillis);
+		}
+
+		private boolean isIdleTooLong(long now)
+		{
+			return (idleTimeoutMillis > 0 && now - lastUsed > idleTimeoutMillis);
+		}
+
+		private boolean isValid()
+		{
+			try
+			{
+				if (validationQuery == null)
+				{
+					return physical.isValid(validationTimeoutSeconds);
+				}
+
+				try (Statement s = physical.createStatement())
+				{
+					s.setQueryTimeout(validationTimeoutSeconds);
+					s.execute(validationQuery);
+					return true;
+				}
+			}
+			catch (SQLException e)
+			{
+				return false;
+			}
+		}
+
+		/**
+		 * If the borrower changed connection state (e.g. started a transaction), rolls back
+		 * and restores auto-commit so the next borrower starts clean.
+		 *
+		 * @return false if the connection is no longer usable.
+		 */
+		private boolean reset()
+		{
+			if (!dirty) return true;
+
+			try
+			{
+				if (physical.isClosed()) return false;
+
+				if (!physical.getAutoCommit())
+				{
+					physical.rollback();
+					physical.setAutoCommit(true);
+				}
+
+				dirty = false;
+				return true;
+			}
+			catch (SQLException e)
+			{
+				return false;
+			}
+		}
+
+		private void retire()
+		{
+			try
+			{
+				physical.close();
+			}
+			catch (SQLException e)
+			{
+				// nothing more can be done with it.
+			}
+		}
+
+		private Connection proxy()
+		{
+			return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, new Handle(this));
+		}
+	}
+
+	/**
+	 * The Connection handed to callers. close() returns the physical connection to the pool;
+	 * any other use after close() fails.
+	 *
+	 * @author toddf
+	 * @since Oct 17, 2026
+	 */
+	private class Handle
+	implements InvocationHandler
+	{
+		private PooledConnection pc;
+
+		private Handle(PooledConnection pc)
+		{
+			this.pc = pc;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+		throws Throwable
+		{
+			switch (method.getName())
+			{
+				case "close":
+					synchronized (this)
+					{
+						if (pc != null)
+						{
+							PooledConnection returned = pc;
+							pc = null;
+							giveBack(returned);
+						}
+					}
+
+					return null;
+				case "isClosed":
+					return (pc == null || pc.physical.isClosed());
+				case "equals":
+					return (proxy == args[0]);
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return "PooledConnection[" + (pc == null ? "closed" : pc.physical.toString()) + "]";
+				default:
+					break;
+			}
+
+			PooledConnection current = pc;
+
+			if (current == null) throw new SQLException("Connection is closed");
+
+			if (method.getName().startsWith("set"))
+			{
+				current.dirty = true;
+			}
+
+			try
+			{
+				return method.invoke(current.physical, args);
+			}
+			catch (InvocationTargetException e)
+			{
+				throw e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,252 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.function.Supplier;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Builds the per-class accessors that {@link JdbcEntityDefinitionFactory} uses to move values
+ * between entities and records. Accessors are created once, when the entity definition is built,
+ * so reading or writing a row never goes through java.lang.reflect.
+ * <p/>
+ * Fields are accessed through MethodHandles adapted to (Object)Object and (Object, Object)void,
+ * invoked exactly. Constructors are bound to a Supplier via LambdaMetafactory, falling back to a
+ * MethodHandle when the entity class is not visible to this class' loader.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+final class PropertyAccessors
+{
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+	private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+	private static final MethodType LONG_SETTER_TYPE = MethodType.methodType(void.class, Object.class, long.class);
+
+	private PropertyAccessors()
+	{
+		super();
+	}
+
+	/**
+	 * Reads and writes a single mapped field.
+	 */
+	interface PropertyAccessor
+	{
+		Object get(Object target);
+		void set(Object target, Object value);
+	}
+
+	/**
+	 * Reads and writes a primitive long field without boxing.
+	 */
+	interface LongPropertyAccessor
+	{
+		long getLong(Object target);
+		void setLong(Object target, long value);
+	}
+
+	static PropertyAccessor forField(Field field)
+	{
+		try
+		{
+			// Final fields are only writable through an accessible Field.
+			field.setAccessible(true);
+			MethodHandles.Lookup lookup = lookupFor(field.getDeclaringClass());
+			MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+			MethodHandle setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+			return new MethodHandleAccessor(field, getter, setter);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new RepositoryException("Unable to access field '" + field.getName() + "' on " + field.getDeclaringClass().getName(), e);
+		}
+	}
+
+	static LongPropertyAccessor forLongField(Field field)
+	{
+		if (field.getType() != long.class) throw new IllegalArgumentException("Not a long field: " + field.getName());
+
+		try
+		{
+			field.setAccessible(true);
+			MethodHandles.Lookup lookup = lookupFor(field.getDeclaringClass());
+			MethodHandle getter = lookup.unreflectGetter(field).asType(LONG_GETTER_TYPE);
+			MethodHandle setter = lookup.unreflectSetter(field).asType(LONG_SETTER_TYPE);
+			return new LongMethodHandleAccessor(field, getter, setter);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new RepositoryException("Unable to access field '" + field.getName() + "' on " + field.getDeclaringClass().getName(), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> Supplier<T> forConstructor(Constructor<T> ctor)
+	{
+		Class<T> type = ctor.getDeclaringClass();
+
+		try
+		{
+			MethodHandles.Lookup lookup = lookupFor(type);
+			MethodHandle handle = lookup.unreflectConstructor(ctor);
+
+			try
+			{
+				return (Supplier<T>) LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+					SUPPLIER_TYPE, handle, handle.type())
+					.getTarget()
+					.invokeExact();
+			}
+			catch (Throwable t)
+			{
+				// The lookup lacks full privilege on the entity class (e.g. a different class loader).
+				return new MethodHandleSupplier<T>(type, handle.asType(SUPPLIER_TYPE));
+			}
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new RepositoryException("Unable to access the no-arg constructor of " + type.getName(), e);
+		}
+	}
+
+	private static MethodHandles.Lookup lookupFor(Class<?> type)
+	throws IllegalAccessException
+	{
+		return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+	}
+
+	private static final class MethodHandleAccessor
+	implements PropertyAccessor
+	{
+		private final Field field;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+		private final boolean primitive;
+
+		private MethodHandleAccessor(Field field, MethodHandle getter, MethodHandle setter)
+		{
+			this.field = field;
+			this.getter = getter;
+			this.setter = setter;
+			this.primitive = field.getType().isPrimitive();
+		}
+
+		@Override
+		public Object get(Object target)
+		{
+			try
+			{
+				return (Object) getter.invokeExact(target);
+			}
+			catch (Throwable t)
+			{
+				throw new RepositoryException("Unable to read field '" + field.getName() + "'", t);
+			}
+		}
+
+		@Override
+		public void set(Object target, Object value)
+		{
+			if (value == null && primitive) return;
+
+			try
+			{
+				setter.invokeExact(target, value);
+			}
+			catch (Throwable t)
+			{
+				throw new RepositoryException("Unable to write field '" + field.getName() + "'", t);
+			}
+		}
+	}
+
+	private static final class LongMethodHandleAccessor
+	implements LongPropertyAccessor
+	{
+		private final Field field;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		private LongMethodHandleAccessor(Field field, MethodHandle getter, MethodHandle setter)
+		{
+			this.field = field;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public long getLong(Object target)
+		{
+			try
+			{
+				return (long) getter.invokeExact(target);
+			}
+			catch (Throwable t)
+			{
+				throw new RepositoryException("Unable to read field '" + field.getName() + "'", t);
+			}
+		}
+
+		@Override
+		public void setLong(Object target, long value)
+		{
+			try
+			{
+				setter.invokeExact(target, value);
+			}
+			catch (Throwable t)
+			{
+				throw new RepositoryException("Unable to write field '" + field.getName() + "'", t);
+			}
+		}
+	}
+
+	private static final class MethodHandleSupplier<T>
+	implements Supplier<T>
+	{
+		private final Class<T> type;
+		private final MethodHandle ctor;
+
+		private MethodHandleSupplier(Class<T> type, MethodHandle ctor)
+		{
+			this.type = type;
+			this.ctor = ctor;
+		}
+
+		@Override
+		public T get()
+		{
+			try
+			{
+				return type.cast((Object) ctor.invokeExact());
+			}
+			catch (Throwable t)
+			{
+				throw new RepositoryException("Unable to instantiate " + type.getName(), t);
+			}
+		}
+	}
+}
@@ -20,6 +20,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.strategicgains.repoexpress.jdbc.converter.PropertyConverter;
+
 /**
  * Maps a POJO field to a JDBC column and controls query/update participation.
  * <p/>
@@ -80,4 +82,14 @@ public @interface Property
 	 * @return true if updatable.
 	 */
 	public boolean updatable() default true;
+
+	/**
+	 * Converts between the field's type and the column's type, for example
+	 * {@code UuidBinaryConverter} to store a UUID in BINARY(16).
+	 * If {@code PropertyConverter.class} (the default), the field's own type is used.
+	 *
+	 * @return the converter class.
+	 */
+	@SuppressWarnings("rawtypes")
+	public Class<? extends PropertyConverter> converter() default PropertyConverter.class;
 }
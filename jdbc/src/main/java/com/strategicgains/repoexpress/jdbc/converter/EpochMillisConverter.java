@@ -0,0 +1,57 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc.converter;
+
+import java.sql.Timestamp;
+
+import org.jooq.DataType;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * Stores a long property holding milliseconds since the Unix epoch in a TIMESTAMP column.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class EpochMillisConverter
+extends LongPropertyConverter<Timestamp>
+{
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public long fromColumn(Timestamp value)
+	{
+		return value.getTime();
+	}
+
+	@Override
+	public Timestamp toColumn(long value)
+	{
+		return new Timestamp(value);
+	}
+
+	@Override
+	public Class<Timestamp> fromType()
+	{
+		return Timestamp.class;
+	}
+
+	@Override
+	public DataType<Timestamp> columnType()
+	{
+		return SQLDataType.TIMESTAMP;
+	}
+}
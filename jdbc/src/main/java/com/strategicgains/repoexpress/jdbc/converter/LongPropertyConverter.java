@@ -0,0 +1,62 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc.converter;
+
+/**
+ * A {@link PropertyConverter} for long properties. On a primitive long field, the entity
+ * definition reads and writes the field as a long and calls toColumn()/fromColumn(), so the
+ * value is never boxed. On a Long field, it behaves like any other converter.
+ * <p/>
+ * A null column leaves a primitive field unchanged, as it does without a converter.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ * @see EpochMillisConverter
+ */
+public abstract class LongPropertyConverter<C>
+implements PropertyConverter<C, Long>
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * @param value a non-null column value.
+	 * @return the property value.
+	 */
+	public abstract long fromColumn(C value);
+
+	/**
+	 * @return the column value for the property value.
+	 */
+	public abstract C toColumn(long value);
+
+	@Override
+	public final Long from(C value)
+	{
+		return (value == null ? null : Long.valueOf(fromColumn(value)));
+	}
+
+	@Override
+	public final C to(Long value)
+	{
+		return (value == null ? null : toColumn(value.longValue()));
+	}
+
+	@Override
+	public final Class<Long> toType()
+	{
+		return Long.class;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc.converter;
+
+import org.jooq.Converter;
+import org.jooq.DataType;
+
+/**
+ * Converts between a property's Java type (P) and the type of the column it is stored in (C).
+ * Name one on {@code @Property(converter = ...)}. Implementations need a no-arg constructor.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ * @see UuidBinaryConverter
+ * @see LongPropertyConverter
+ */
+public interface PropertyConverter<C, P>
+extends Converter<C, P>
+{
+	/**
+	 * @return the SQL data type of the column.
+	 */
+	DataType<C> columnType();
+}
@@ -0,0 +1,98 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc.converter;
+
+import java.util.UUID;
+
+import org.jooq.DataType;
+import org.jooq.exception.DataTypeException;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * Stores a UUID in a BINARY(16) column (most significant byte first), for databases without a
+ * native UUID type. That is less than half the size of the 36-character string otherwise
+ * stored, and comparisons are of two longs' worth of bytes rather than 36 characters. Byte order
+ * matches UUID order, so time-ordered (version 7) UUIDs stay sequential in the index.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class UuidBinaryConverter
+implements PropertyConverter<byte[], UUID>
+{
+	private static final long serialVersionUID = 1L;
+	private static final DataType<byte[]> BINARY_16 = SQLDataType.BINARY(16);
+
+	@Override
+	public UUID from(byte[] bytes)
+	{
+		if (bytes == null) return null;
+
+		if (bytes.length != 16) throw new DataTypeException("A UUID requires 16 bytes, not " + bytes.length);
+
+		return new UUID(toLong(bytes, 0), toLong(bytes, 8));
+	}
+
+	@Override
+	public byte[] to(UUID uuid)
+	{
+		if (uuid == null) return null;
+
+		byte[] bytes = new byte[16];
+		toBytes(uuid.getMostSignificantBits(), bytes, 0);
+		toBytes(uuid.getLeastSignificantBits(), bytes, 8);
+		return bytes;
+	}
+
+	@Override
+	public Class<byte[]> fromType()
+	{
+		return byte[].class;
+	}
+
+	@Override
+	public Class<UUID> toType()
+	{
+		return UUID.class;
+	}
+
+	@Override
+	public DataType<byte[]> columnType()
+	{
+		return BINARY_16;
+	}
+
+	private static long toLong(byte[] bytes, int offset)
+	{
+		long value = 0;
+
+		for (int i = offset; i < offset + 8; i++)
+		{
+			value = value << 8 | (bytes[i] & 0xff);
+		}
+
+		return value;
+	}
+
+	private static void toBytes(long value, byte[] bytes, int offset)
+	{
+		for (int i = offset + 7; i >= offset; i--)
+		{
+			bytes[i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+}
@@ -16,7 +16,10 @@
 package com.strategicgains.repoexpress.jdbc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Properties;
 
@@ -82,6 +85,44 @@ public class JdbcConfigTest
 		));
 	}
 
+	@Test
+	public void shouldNotPoolByDefault()
+	{
+		JdbcConfig config = new JdbcConfig(properties("jdbc.url", "jdbc:test"));
+
+		assertFalse(config.isPooled());
+	}
+
+	@Test
+	public void shouldConfigureSharedPool()
+	{
+		JdbcConfig config = new JdbcConfig(properties(
+			"jdbc.url", "jdbc:test",
+			"jdbc.pool.maxSize", "8",
+			"jdbc.pool.idleTimeoutMillis", "1000",
+			"jdbc.pool.maxLifetimeMillis", "2000",
+			"jdbc.pool.validationQuery", "select 1"
+		));
+
+		assertTrue(config.isPooled());
+		PooledDataSource pool = (PooledDataSource) config.getDataSource();
+		assertSame(pool, config.getDataSource());
+		assertEquals(8, pool.getMaxSize());
+		assertEquals(1000, pool.getIdleTimeoutMillis());
+		assertEquals(2000, pool.getMaxLifetimeMillis());
+		assertEquals("select 1", pool.getValidationQuery());
+		config.close();
+	}
+
+	@Test(expected = ConfigurationException.class)
+	public void shouldRejectNonNumericPoolSize()
+	{
+		new JdbcConfig(properties(
+			"jdbc.url", "jdbc:test",
+			"jdbc.pool.maxSize", "lots"
+		));
+	}
+
 	private Properties properties(String... keyValues)
 	{
 		Properties p = new Properties();
@@ -0,0 +1,240 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.noschema.entity.AbstractEntity;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.jdbc.annotation.Entity;
+import com.strategicgains.repoexpress.jdbc.annotation.Id;
+import com.strategicgains.repoexpress.jdbc.annotation.Property;
+import com.strategicgains.repoexpress.jdbc.converter.EpochMillisConverter;
+import com.strategicgains.repoexpress.jdbc.converter.UuidBinaryConverter;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class JdbcPropertyConverterTest
+{
+	private static final UUID ID = UUID.fromString("6fcb514b-b878-4c9d-95b7-8dc3a7ce6fd8");
+	private static final byte[] ID_BYTES = new UuidBinaryConverter().to(ID);
+	private static final long CREATED = 1_700_000_000_000L;
+
+	private static final Field<byte[]> ID_COLUMN = DSL.field(DSL.name("events", "id"), SQLDataType.BINARY(16));
+	private static final Field<Timestamp> CREATED_COLUMN = DSL.field(DSL.name("events", "created_at"), SQLDataType.TIMESTAMP);
+	private static final Field<String> NAME_COLUMN = DSL.field(DSL.name("events", "name"), String.class);
+
+	@Test
+	public void shouldConvertPropertiesToColumns()
+	{
+		JdbcEntityDefinition<Event> definition = JdbcEntityDefinitionFactory.from(Event.class);
+		Event event = new Event(ID, CREATED, "started");
+		Map<Field<?>, Object> values = definition.insertValues(event);
+
+		assertEquals(UUID.class, definition.field("id").getType());
+		assertEquals(byte[].class, definition.field("id").getConverter().fromType());
+		assertEquals(ID, value(values, "id"));
+		assertEquals(new Timestamp(CREATED), value(values, "created_at"));
+	}
+
+	@Test
+	public void shouldConvertColumnsToProperties()
+	{
+		JdbcEntityDefinition<Event> definition = JdbcEntityDefinitionFactory.from(Event.class);
+		Record record = events(1).get(0);
+		Event event = definition.fromRecord(record);
+
+		assertEquals(ID, event.getId());
+		assertEquals(CREATED, event.createdAt);
+		assertEquals("started", event.name);
+	}
+
+	@Test
+	public void shouldBindUuidAsBinary()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<Event> repository = repository(executed);
+
+		Event event = repository.read(new Identifier(ID));
+
+		assertEquals(ID, event.getId());
+		assertEquals(CREATED, event.createdAt);
+		assertArrayEquals(ID_BYTES, (byte[]) executed.get(0).bindings()[0]);
+	}
+
+	@Test
+	public void shouldConvertStringFilterValues()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<Event> repository = repository(executed);
+
+		repository.readAll(new QueryFilter().addCriteria("id", FilterOperator.EQUALS, ID.toString()), null, null);
+		repository.readAll(new QueryFilter().addCriteria("id", FilterOperator.IN, Arrays.asList(ID.toString())), null, null);
+		repository.readList(Arrays.asList(new Identifier(ID)));
+
+		for (MockExecuteContext context : executed)
+		{
+			assertArrayEquals(ID_BYTES, (byte[]) context.bindings()[0]);
+		}
+	}
+
+	@Test
+	public void shouldNotCastConvertedField()
+	{
+		JdbcRepository<Event> repository = repository(new ArrayList<MockExecuteContext>());
+
+		assertSame(JdbcEntityDefinitionFactory.from(Event.class).field("id"), repository.field("id", UUID.class));
+	}
+
+	@Test(expected = RepositoryException.class)
+	public void shouldRejectMismatchedConverter()
+	{
+		JdbcEntityDefinitionFactory.from(MismatchedEntity.class);
+	}
+
+	private static JdbcRepository<Event> repository(List<MockExecuteContext> executed)
+	{
+		return new JdbcRepository<Event>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx);
+			return new MockResult[] {new MockResult(1, events(1))};
+		}), SQLDialect.DEFAULT), Event.class);
+	}
+
+	private static Result<Record3<Timestamp, byte[], String>> events(int count)
+	{
+		DSLContext dsl = DSL.using(SQLDialect.DEFAULT);
+		Result<Record3<Timestamp, byte[], String>> result = dsl.newResult(CREATED_COLUMN, ID_COLUMN, NAME_COLUMN);
+
+		for (int i = 0; i < count; i++)
+		{
+			Record3<Timestamp, byte[], String> record = dsl.newRecord(CREATED_COLUMN, ID_COLUMN, NAME_COLUMN);
+			record.values(new Timestamp(CREATED), ID_BYTES, "started");
+			result.add(record);
+		}
+
+		return result;
+	}
+
+	private static Object value(Map<Field<?>, Object> values, String column)
+	{
+		for (Map.Entry<Field<?>, Object> entry : values.entrySet())
+		{
+			if (entry.getKey().getName().equals(column)) return entry.getValue();
+		}
+
+		return null;
+	}
+
+	@Entity(table = "events")
+	public static class Event
+	extends AbstractEntity<UUID>
+	{
+		@Id
+		@Property(converter = UuidBinaryConverter.class)
+		private UUID id;
+
+		@Property(value = "created_at", converter = EpochMillisConverter.class)
+		private long createdAt;
+
+		@Property
+		private String name;
+
+		public Event()
+		{
+			super();
+		}
+
+		public Event(UUID id, long createdAt, String name)
+		{
+			this();
+			this.id = id;
+			this.createdAt = createdAt;
+			this.name = name;
+		}
+
+		@Override
+		public Identifier getIdentifier()
+		{
+			return (id == null ? null : new Identifier(id));
+		}
+
+		@Override
+		public UUID getId()
+		{
+			return id;
+		}
+
+		@Override
+		public void setId(UUID id)
+		{
+			this.id = id;
+		}
+	}
+
+	@Entity(table = "mismatched")
+	public static class MismatchedEntity
+	extends AbstractEntity<String>
+	{
+		@Id
+		@Property(converter = UuidBinaryConverter.class)
+		private String id;
+
+		@Override
+		public Identifier getIdentifier()
+		{
+			return new Identifier(id);
+		}
+
+		@Override
+		public String getId()
+		{
+			return id;
+		}
+
+		@Override
+		public void setId(String id)
+		{
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.jdbc.example.AnnotatedUser;
+
+public class JdbcRepositoryBatchTest
+{
+	private RecordingProvider provider;
+	private JdbcRepository<AnnotatedUser> repository;
+
+	@Before
+	public void setup()
+	{
+		provider = new RecordingProvider();
+		repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(provider), SQLDialect.DEFAULT), AnnotatedUser.class);
+	}
+
+	@Test
+	public void shouldCreateAllWithOneMultiRowInsert()
+	{
+		List<AnnotatedUser> users = users(1L, 2L, 3L);
+
+		List<AnnotatedUser> created = repository.createAll(users, false);
+
+		assertEquals(users, created);
+		assertEquals(1, provider.executions.size());
+		MockExecuteContext ctx = provider.executions.get(0);
+		assertFalse(ctx.batch());
+		assertTrue(ctx.sql().toLowerCase().startsWith("insert"));
+		assertEquals(9, ctx.bindings().length);
+	}
+
+	@Test
+	public void shouldUpdateAllWithOneBatch()
+	{
+		List<AnnotatedUser> users = users(1L, 2L);
+
+		repository.updateAll(users, false);
+
+		assertEquals(1, provider.executions.size());
+		MockExecuteContext ctx = provider.executions.get(0);
+		assertTrue(ctx.batch());
+		assertEquals(2, ctx.batchSQL().length);
+	}
+
+	@Test
+	public void shouldDeleteAllWithOneInCondition()
+	{
+		repository.doDeleteAll(users(1L, 2L));
+
+		assertEquals(1, provider.executions.size());
+		String sql = provider.executions.get(0).sql().toLowerCase();
+		assertTrue(sql.startsWith("delete"));
+		assertTrue(sql.contains(" in ("));
+	}
+
+	private List<AnnotatedUser> users(Long... ids)
+	{
+		List<AnnotatedUser> users = new ArrayList<AnnotatedUser>(ids.length);
+
+		for (Long id : ids)
+		{
+			AnnotatedUser user = new AnnotatedUser();
+			user.setId(id);
+			user.setEmail("user" + id + "@example.com");
+			user.setDisplayName("User " + id);
+			users.add(user);
+		}
+
+		return users;
+	}
+
+	private static class RecordingProvider
+	implements MockDataProvider
+	{
+		private final List<MockExecuteContext> executions = new ArrayList<MockExecuteContext>();
+
+		@Override
+		public MockResult[] execute(MockExecuteContext ctx)
+		{
+			executions.add(ctx);
+			int statements = (ctx.batch() ? Math.max(ctx.batchSQL().length, ctx.batchBindings().length) : 1);
+			MockResult[] results = new MockResult[statements];
+			Arrays.fill(results, new MockResult(ctx.sql().toLowerCase().startsWith("delete") ? 2 : 1, null));
+			return results;
+		}
+	}
+}
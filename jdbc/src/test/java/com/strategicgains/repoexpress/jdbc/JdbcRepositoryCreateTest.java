@@ -0,0 +1,77 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.jdbc.example.AnnotatedUser;
+
+public class JdbcRepositoryCreateTest
+{
+	@Test
+	public void shouldCreateWithoutExistenceCheck()
+	{
+		List<String> executed = new ArrayList<String>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx.sql().toLowerCase());
+			return new MockResult[] {new MockResult(1, null)};
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		repository.create(user(1L));
+
+		assertEquals(1, executed.size());
+		assertTrue(executed.get(0).startsWith("insert"));
+	}
+
+	@Test
+	public void shouldTranslateUniqueViolationToDuplicateItemException()
+	{
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			throw new SQLException("duplicate key value violates unique constraint", "23505");
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		try
+		{
+			repository.create(user(1L));
+			fail("Expected DuplicateItemException");
+		}
+		catch (DuplicateItemException e)
+		{
+			assertTrue(e.getMessage().contains("1"));
+		}
+	}
+
+	private AnnotatedUser user(Long id)
+	{
+		AnnotatedUser user = new AnnotatedUser();
+		user.setId(id);
+		user.setEmail("user" + id + "@example.com");
+		return user;
+	}
+}
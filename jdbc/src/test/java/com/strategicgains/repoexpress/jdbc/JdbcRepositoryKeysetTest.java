@@ -0,0 +1,131 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+import org.restexpress.common.query.QueryOrder;
+
+import com.strategicgains.repoexpress.KeysetPage;
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
+import com.strategicgains.repoexpress.jdbc.example.AnnotatedUser;
+
+public class JdbcRepositoryKeysetTest
+{
+	private static final Field<Long> ID = DSL.field(DSL.name("users", "id"), Long.class);
+	private static final Field<String> EMAIL = DSL.field(DSL.name("users", "email_address"), String.class);
+	private static final Field<String> DISPLAY_NAME = DSL.field(DSL.name("users", "display_name"), String.class);
+
+	@Test
+	public void shouldSeekPastPreviousPageInsteadOfOffset()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx);
+			return new MockResult[] {new MockResult(3, users(3))};
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		KeysetPage<AnnotatedUser> first = repository.readPage(null, emailOrder(), 2, null);
+
+		assertEquals(2, first.getItems().size());
+		assertTrue(first.hasMore());
+		String sql = executed.get(0).sql().toLowerCase();
+		assertTrue(sql.contains("order by"));
+		assertFalse(sql.contains("offset"));
+		assertEquals(Long.valueOf(3), executed.get(0).bindings()[executed.get(0).bindings().length - 1]);
+
+		repository.readPage(null, emailOrder(), 2, first.getContinuation());
+
+		MockExecuteContext second = executed.get(1);
+		assertTrue(second.sql().contains(">"));
+		Object[] bindings = second.bindings();
+		assertArrayEquals(new Object[] {"user2@example.com", 2L}, new Object[] {bindings[0], bindings[bindings.length - 2]});
+	}
+
+	@Test
+	public void shouldReturnNoContinuationOnLastPage()
+	{
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx ->
+			new MockResult[] {new MockResult(2, users(2))}
+		), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		KeysetPage<AnnotatedUser> page = repository.readPage(null, null, 5, null);
+
+		assertEquals(2, page.getItems().size());
+		assertFalse(page.hasMore());
+		assertNull(page.getContinuation());
+	}
+
+	@Test(expected = InvalidContinuationException.class)
+	public void shouldRejectTokenIssuedForDifferentOrder()
+	{
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx ->
+			new MockResult[] {new MockResult(3, users(3))}
+		), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		String token = repository.readPage(null, emailOrder(), 2, null).getContinuation();
+		repository.readPage(null, null, 2, token);
+	}
+
+	@Test(expected = InvalidContinuationException.class)
+	public void shouldRejectGarbageToken()
+	{
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx ->
+			new MockResult[] {new MockResult(0, users(0))}
+		), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		repository.readPage(null, null, 2, "not-a-token!");
+	}
+
+	private static QueryOrder emailOrder()
+	{
+		QueryOrder order = new QueryOrder();
+		order.addSort("email");
+		return order;
+	}
+
+	private static Result<Record3<Long, String, String>> users(int count)
+	{
+		DSLContext dsl = DSL.using(SQLDialect.DEFAULT);
+		Result<Record3<Long, String, String>> result = dsl.newResult(ID, EMAIL, DISPLAY_NAME);
+
+		for (long i = 1; i <= count; i++)
+		{
+			Record3<Long, String, String> record = dsl.newRecord(ID, EMAIL, DISPLAY_NAME);
+			record.values(Long.valueOf(i), "user" + i + "@example.com", "User " + i);
+			result.add(record);
+		}
+
+		return result;
+	}
+}
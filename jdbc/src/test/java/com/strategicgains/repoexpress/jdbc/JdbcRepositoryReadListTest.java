@@ -0,0 +1,166 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.jdbc.example.AnnotatedUser;
+
+public class JdbcRepositoryReadListTest
+{
+	private static final Field<Long> ID = DSL.field(DSL.name("users", "id"), Long.class);
+	private static final Field<String> EMAIL = DSL.field(DSL.name("users", "email_address"), String.class);
+	private static final Field<String> DISPLAY_NAME = DSL.field(DSL.name("users", "display_name"), String.class);
+
+	@Test
+	public void shouldReadListInOneQueryPreservingRequestedOrder()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx);
+			return new MockResult[] {new MockResult(2, users(1L, 3L))};
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		List<AnnotatedUser> found = repository.readList(Arrays.asList(new Identifier(3), new Identifier(2L), new Identifier(1L), null));
+
+		assertEquals(1, executed.size());
+		assertTrue(executed.get(0).sql().toLowerCase().contains(" in ("));
+		assertEquals(2, found.size());
+		assertEquals(Long.valueOf(3L), found.get(0).getId());
+		assertEquals(Long.valueOf(1L), found.get(1).getId());
+	}
+
+	@Test
+	public void shouldNotifyReadObserversForEachId()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx);
+			return new MockResult[] {new MockResult(2, users(1L, 3L))};
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+		List<Object> requested = new ArrayList<Object>();
+		List<Object> read = new ArrayList<Object>();
+		repository.addObserver(new AbstractRepositoryObserver<AnnotatedUser>()
+		{
+			@Override
+			public void beforeRead(Identifier id)
+			{
+				requested.add(id.firstComponent());
+			}
+
+			@Override
+			public void afterRead(AnnotatedUser object)
+			{
+				read.add(object.getId());
+			}
+		});
+
+		List<AnnotatedUser> found = repository.readList(Arrays.asList(new Identifier(3L), new Identifier(2L), new Identifier(1L)));
+
+		assertEquals(1, executed.size());
+		assertEquals(2, found.size());
+		assertEquals(Arrays.asList(3L, 2L, 1L), requested);
+		assertEquals(Arrays.asList(3L, 1L), read);
+	}
+
+	@Test
+	public void shouldSelectOnlyKeyColumnsForExistsAll()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx);
+			Result<Record1<Long>> result = DSL.using(SQLDialect.DEFAULT).newResult(ID);
+			result.add(DSL.using(SQLDialect.DEFAULT).newRecord(ID).values(2L));
+			return new MockResult[] {new MockResult(1, result)};
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		Identifier two = new Identifier(2);
+		Set<Identifier> present = repository.existsAll(Arrays.asList(new Identifier(1L), two, null));
+
+		assertEquals(1, executed.size());
+		assertTrue(executed.get(0).sql().toLowerCase().startsWith("select \"users\".\"id\" from"));
+		assertEquals(Collections.singleton(two), present);
+	}
+
+	@Test
+	public void shouldPadInListsToPowersOfTwo()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx);
+			return new MockResult[] {new MockResult(0, users())};
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		repository.readList(Arrays.asList(new Identifier(1L), new Identifier(2L), new Identifier(3L)));
+		repository.readList(Arrays.asList(new Identifier(1L), new Identifier(2L), new Identifier(3L), new Identifier(4L)));
+
+		assertEquals(4, executed.get(0).bindings().length);
+		assertEquals(executed.get(0).sql(), executed.get(1).sql());
+	}
+
+	@Test
+	public void shouldBindInFilterAsArrayOnPostgres()
+	{
+		List<MockExecuteContext> executed = new ArrayList<MockExecuteContext>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx);
+			return new MockResult[] {new MockResult(0, users())};
+		}), SQLDialect.POSTGRES), AnnotatedUser.class);
+
+		repository.readAll(new QueryFilter().addCriteria("email", FilterOperator.IN, Arrays.asList("a@example.com", "b@example.com", "c@example.com")), null, null);
+
+		assertTrue(executed.get(0).sql().toLowerCase().contains("= any ("));
+		assertEquals(1, executed.get(0).bindings().length);
+	}
+
+	private static Result<Record3<Long, String, String>> users(Long... ids)
+	{
+		DSLContext dsl = DSL.using(SQLDialect.DEFAULT);
+		Result<Record3<Long, String, String>> result = dsl.newResult(ID, EMAIL, DISPLAY_NAME);
+
+		for (Long id : ids)
+		{
+			Record3<Long, String, String> record = dsl.newRecord(ID, EMAIL, DISPLAY_NAME);
+			record.values(id, "user" + id + "@example.com", "User " + id);
+			result.add(record);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.Test;
+import org.restexpress.common.query.QueryOrder;
+
+import com.strategicgains.repoexpress.jdbc.example.AnnotatedUser;
+
+public class JdbcRepositoryStreamTest
+{
+	private static final Field<Long> ID = DSL.field(DSL.name("users", "id"), Long.class);
+	private static final Field<String> EMAIL = DSL.field(DSL.name("users", "email_address"), String.class);
+	private static final Field<String> DISPLAY_NAME = DSL.field(DSL.name("users", "display_name"), String.class);
+
+	@Test
+	public void shouldStreamMappedRowsInOrder()
+	{
+		List<String> executed = new ArrayList<String>();
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx -> {
+			executed.add(ctx.sql().toLowerCase());
+			return new MockResult[] {new MockResult(3, users(3))};
+		}), SQLDialect.DEFAULT), AnnotatedUser.class);
+
+		QueryOrder order = new QueryOrder();
+		order.addSort("email");
+
+		try (Stream<AnnotatedUser> users = repository.stream(null, order))
+		{
+			List<Long> ids = users.map(AnnotatedUser::getId).collect(Collectors.toList());
+			assertEquals(List.of(1L, 2L, 3L), ids);
+		}
+
+		assertEquals(1, executed.size());
+		assertTrue(executed.get(0).contains("order by"));
+		assertTrue(!executed.get(0).contains("limit"));
+	}
+
+	@Test
+	public void shouldShortCircuitWithCustomFetchSize()
+	{
+		JdbcRepository<AnnotatedUser> repository = new JdbcRepository<AnnotatedUser>(DSL.using(new MockConnection(ctx ->
+			new MockResult[] {new MockResult(5, users(5))}
+		), SQLDialect.DEFAULT), AnnotatedUser.class);
+		repository.setFetchSize(2);
+
+		try (Stream<AnnotatedUser> users = repository.stream(null, null))
+		{
+			assertEquals(Long.valueOf(1L), users.findFirst().get().getId());
+		}
+
+		assertEquals(2, repository.getFetchSize());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNegativeFetchSize()
+	{
+		new JdbcRepository<AnnotatedUser>(DSL.using(SQLDialect.DEFAULT), AnnotatedUser.class).setFetchSize(-1);
+	}
+
+	private static Result<Record3<Long, String, String>> users(int count)
+	{
+		DSLContext dsl = DSL.using(SQLDialect.DEFAULT);
+		Result<Record3<Long, String, String>> result = dsl.newResult(ID, EMAIL, DISPLAY_NAME);
+
+		for (long i = 1; i <= count; i++)
+		{
+			Record3<Long, String, String> record = dsl.newRecord(ID, EMAIL, DISPLAY_NAME);
+			record.values(Long.valueOf(i), "user" + i + "@example.com", "User " + i);
+			result.add(record);
+		}
+
+		return result;
+	}
+}
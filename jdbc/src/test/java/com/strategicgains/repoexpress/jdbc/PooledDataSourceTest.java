@@ -0,0 +1,156 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PooledDataSourceTest
+{
+	private List<AtomicBoolean> opened;
+	private PooledDataSource pool;
+
+	@Before
+	public void setup()
+	{
+		opened = new ArrayList<AtomicBoolean>();
+		pool = new PooledDataSource(this::fakeConnection, 2);
+		pool.setConnectionTimeoutMillis(50);
+	}
+
+	@Test
+	public void shouldReuseReturnedConnections()
+	throws SQLException
+	{
+		pool.getConnection().close();
+		pool.getConnection().close();
+
+		assertEquals(1, opened.size());
+		assertEquals(1, pool.getIdleCount());
+		assertEquals(0, pool.getActiveCount());
+	}
+
+	@Test
+	public void shouldTimeOutWhenExhausted()
+	throws SQLException
+	{
+		Connection a = pool.getConnection();
+		pool.getConnection();
+
+		try
+		{
+			pool.getConnection();
+			fail("Expected SQLException");
+		}
+		catch (SQLException e)
+		{
+			assertTrue(e.getMessage().contains("Timed out"));
+		}
+
+		a.close();
+		pool.getConnection();
+		assertEquals(2, opened.size());
+	}
+
+	@Test
+	public void shouldRejectUseAfterClose()
+	throws SQLException
+	{
+		Connection c = pool.getConnection();
+		c.close();
+		c.close();
+
+		assertTrue(c.isClosed());
+		assertEquals(1, pool.getIdleCount());
+
+		try
+		{
+			c.createStatement();
+			fail("Expected SQLException");
+		}
+		catch (SQLException e)
+		{
+			assertTrue(e.getMessage().contains("closed"));
+		}
+	}
+
+	@Test
+	public void shouldRetireExpiredConnections()
+	throws Exception
+	{
+		pool.setMaxLifetimeMillis(1);
+		Connection c = pool.getConnection();
+		Thread.sleep(5);
+		c.close();
+
+		assertEquals(0, pool.getIdleCount());
+		assertFalse(opened.get(0).get());
+	}
+
+	@Test
+	public void shouldCloseIdleConnectionsOnClose()
+	throws SQLException
+	{
+		pool.getConnection().close();
+		pool.close();
+
+		assertFalse(opened.get(0).get());
+
+		try
+		{
+			pool.getConnection();
+			fail("Expected SQLException");
+		}
+		catch (SQLException e)
+		{
+			assertTrue(e.getMessage().contains("closed"));
+		}
+	}
+
+	private Connection fakeConnection()
+	{
+		AtomicBoolean open = new AtomicBoolean(true);
+		opened.add(open);
+
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+			switch (method.getName())
+			{
+				case "close":
+					open.set(false);
+					return null;
+				case "isClosed":
+					return !open.get();
+				case "isValid":
+				case "getAutoCommit":
+					return open.get();
+				default:
+					return null;
+			}
+		});
+	}
+}
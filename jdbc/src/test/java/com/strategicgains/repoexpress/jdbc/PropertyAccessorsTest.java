@@ -0,0 +1,163 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.function.Supplier;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.Test;
+
+import com.strategicgains.noschema.Identifier;
+import com.strategicgains.noschema.entity.AbstractEntity;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.jdbc.PropertyAccessors.PropertyAccessor;
+import com.strategicgains.repoexpress.jdbc.annotation.Entity;
+import com.strategicgains.repoexpress.jdbc.annotation.Id;
+import com.strategicgains.repoexpress.jdbc.annotation.Property;
+
+public class PropertyAccessorsTest
+{
+	@Test
+	public void shouldReadAndWritePrivateFields()
+	throws Exception
+	{
+		Widget widget = new Widget();
+		PropertyAccessor name = PropertyAccessors.forField(Widget.class.getDeclaredField("name"));
+		PropertyAccessor count = PropertyAccessors.forField(Widget.class.getDeclaredField("count"));
+		PropertyAccessor code = PropertyAccessors.forField(Widget.class.getDeclaredField("code"));
+
+		name.set(widget, "sprocket");
+		count.set(widget, Integer.valueOf(7));
+		code.set(widget, "B");
+
+		assertEquals("sprocket", name.get(widget));
+		assertEquals(Integer.valueOf(7), count.get(widget));
+		assertEquals("B", code.get(widget));
+	}
+
+	@Test
+	public void shouldIgnoreNullForPrimitiveFields()
+	throws Exception
+	{
+		Widget widget = new Widget();
+		widget.count = 3;
+		PropertyAccessors.forField(Widget.class.getDeclaredField("count")).set(widget, null);
+
+		assertEquals(3, widget.count);
+	}
+
+	@Test
+	public void shouldTranslateTypeMismatch()
+	throws Exception
+	{
+		PropertyAccessor count = PropertyAccessors.forField(Widget.class.getDeclaredField("count"));
+
+		try
+		{
+			count.set(new Widget(), "seven");
+			fail("Expected RepositoryException");
+		}
+		catch (RepositoryException e)
+		{
+			assertTrue(e.getMessage().contains("count"));
+		}
+	}
+
+	@Test
+	public void shouldInstantiateWithPrivateConstructor()
+	throws Exception
+	{
+		Supplier<Widget> supplier = PropertyAccessors.forConstructor(Widget.class.getDeclaredConstructor());
+
+		Widget one = supplier.get();
+		Widget two = supplier.get();
+
+		assertTrue(one != two);
+		assertNull(one.name);
+	}
+
+	@Test
+	public void shouldPopulateInheritedFieldsFromRecord()
+	{
+		DSLContext dsl = DSL.using(SQLDialect.H2);
+		JdbcEntityDefinition<Gadget> definition = JdbcEntityDefinitionFactory.from(Gadget.class);
+		Field<String> id = DSL.field(DSL.name("gadgets", "id"), String.class);
+		Field<Integer> weight = DSL.field(DSL.name("gadgets", "weight"), Integer.class);
+		Record record = dsl.newRecord(id, weight);
+		record.set(id, "g-1");
+		record.set(weight, Integer.valueOf(12));
+
+		Gadget gadget = definition.fromRecord(record);
+
+		assertEquals("g-1", gadget.getId());
+		assertEquals(12, gadget.weight);
+		assertEquals("g-1", definition.insertValues(gadget).values().iterator().next());
+	}
+
+	private static class Widget
+	{
+		private String name;
+		private int count;
+		private final String code = "A";
+
+		private Widget()
+		{
+			super();
+		}
+	}
+
+	private static class Base
+	extends AbstractEntity<String>
+	{
+		@Id
+		private String id;
+
+		@Override
+		public Identifier getIdentifier()
+		{
+			return (id == null ? null : new Identifier(id));
+		}
+
+		@Override
+		public String getId()
+		{
+			return id;
+		}
+
+		@Override
+		public void setId(String id)
+		{
+			this.id = id;
+		}
+	}
+
+	@Entity("gadgets")
+	private static class Gadget
+	extends Base
+	{
+		@Property
+		private int weight;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.jdbc.converter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.jooq.exception.DataTypeException;
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+public class UuidBinaryConverterTest
+{
+	private UuidBinaryConverter converter = new UuidBinaryConverter();
+
+	@Test
+	public void shouldStoreMostSignificantByteFirst()
+	{
+		UUID uuid = UUID.fromString("00993542-ba2f-4d9f-82bf-0000cd938f95");
+		byte[] bytes = converter.to(uuid);
+
+		assertArrayEquals(new byte[] {0x00, (byte) 0x99, 0x35, 0x42, (byte) 0xba, 0x2f, 0x4d, (byte) 0x9f,
+			(byte) 0x82, (byte) 0xbf, 0x00, 0x00, (byte) 0xcd, (byte) 0x93, (byte) 0x8f, (byte) 0x95}, bytes);
+		assertEquals(uuid, converter.from(bytes));
+		assertEquals(16, converter.columnType().length());
+	}
+
+	@Test
+	public void shouldSortLikeUnsignedUuid()
+	{
+		UUID lower = UUID.fromString("7fffffff-ffff-7fff-bfff-ffffffffffff");
+		UUID higher = UUID.fromString("80000000-0000-7000-8000-000000000000");
+
+		assertTrue(Arrays.compareUnsigned(converter.to(lower), converter.to(higher)) < 0);
+	}
+
+	@Test
+	public void shouldPassNulls()
+	{
+		assertNull(converter.from(null));
+		assertNull(converter.to(null));
+	}
+
+	@Test(expected = DataTypeException.class)
+	public void shouldRejectWrongLength()
+	{
+		converter.from(new byte[15]);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mongodb;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.NotSaved;
+import dev.morphia.annotations.Property;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Transient;
+
+/**
+ * A persisted field of a Morphia entity, as used for a keyset pagination sort key: its
+ * stored (document) name, Java type and value. Resolved from the Morphia annotations by
+ * reflection, as Morphia 1.6 deprecates MappedClass and MappedField.
+ *
+ * @author toddf
+ * @since Oct 17, 2026
+ */
+final class KeysetField
+{
+	/**
+	 * The default value() of Morphia's field annotations, meaning "use the Java field name".
+	 */
+	private static final String DEFAULT_NAME = ".";
+
+	private final Field field;
+	private final String name;
+
+	private KeysetField(Field field, String name)
+	{
+		super();
+		this.field = field;
+		this.name = name;
+		field.setAccessible(true);
+	}
+
+	/**
+	 * @return the field annotated with @Id, stored as "_id".
+	 * @throws RepositoryException if the type has no @Id field.
+	 */
+	static KeysetField idOf(Class<?> type)
+	{
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+		{
+			for (Field field : c.getDeclaredFields())
+			{
+				if (field.isAnnotationPresent(Id.class)) return new KeysetField(field, "_id");
+			}
+		}
+
+		throw new RepositoryException("No @Id field: " + type.getName());
+	}
+
+	/**
+	 * @param name the Java field name or the stored name.
+	 * @throws RepositoryException if the type has no such persisted field.
+	 */
+	static KeysetField named(Class<?> type, String name)
+	{
+		KeysetField byStoredName = null;
+
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+		{
+			for (Field field : c.getDeclaredFields())
+			{
+				if (!isPersisted(field)) continue;
+
+				String stored = storedName(field);
+
+				if (field.getName().equals(name)) return new KeysetField(field, stored);
+
+				if (byStoredName == null && stored.equals(name))
+				{
+					byStoredName = new KeysetField(field, stored);
+				}
+			}
+		}
+
+		if (byStoredName == null)
+		{
+			throw new RepositoryException("Unknown sort field: " + name);
+		}
+
+		return byStoredName;
+	}
+
+	String getName()
+	{
+		return name;
+	}
+
+	Class<?> getType()
+	{
+		return field.getType();
+	}
+
+	Object getValue(Object entity)
+	{
+		try
+		{
+			return field.get(entity);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new RepositoryException(e);
+		}
+	}
+
+	@Override
+	public boolean equals(Object that)
+	{
+		return (that instanceof KeysetField && name.equals(((KeysetField) that).name));
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return name.hashCode();
+	}
+
+	private static boolean isPersisted(Field field)
+	{
+		int modifiers = field.getModifiers();
+
+		return !(Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+			|| field.isAnnotationPresent(Transient.class) || field.isAnnotationPresent(NotSaved.class));
+	}
+
+	private static String storedName(Field field)
+	{
+		if (field.isAnnotationPresent(Id.class)) return "_id";
+
+		String value = DEFAULT_NAME;
+
+		if (field.isAnnotationPresent(Property.class))
+		{
+			value = field.getAnnotation(Property.class).value();
+		}
+		else if (field.isAnnotationPresent(Embedded.class))
+		{
+			value = field.getAnnotation(Embedded.class).value();
+		}
+		else if (field.isAnnotationPresent(Reference.class))
+		{
+			value = field.getAnnotation(Reference.class).value();
+		}
+
+		return (DEFAULT_NAME.equals(value) ? field.getName() : value);
+	}
+}
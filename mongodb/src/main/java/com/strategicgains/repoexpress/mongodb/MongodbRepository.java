@@ -16,9 +16,20 @@
 package com.strategicgains.repoexpress.mongodb;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.types.ObjectId;
 import org.restexpress.common.query.FilterCallback;
 import org.restexpress.common.query.FilterComponent;
 import org.restexpress.common.query.OrderCallback;
@@ -27,21 +38,39 @@ import org.restexpress.common.query.QueryFilter;
 import org.restexpress.common.query.QueryOrder;
 import org.restexpress.common.query.QueryRange;
 
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.DBObject;
+import com.mongodb.DuplicateKeyException;
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoClient;
+import com.mongodb.MongoException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.result.UpdateResult;
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
 import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.KeysetPage;
 import com.strategicgains.repoexpress.Queryable;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidContinuationException;
 import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
 import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.util.ContinuationToken;
 
+import dev.morphia.AdvancedDatastore;
 import dev.morphia.Datastore;
+import dev.morphia.Key;
 import dev.morphia.Morphia;
 import dev.morphia.converters.UUIDConverter;
+import dev.morphia.query.Criteria;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.MorphiaKeyCursor;
 
 /**
  * Uses MongoDB as its back-end store to persist Identifiable implementations.
@@ -55,10 +84,20 @@ public class MongodbRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
 implements Queryable<T>
 {
+	/**
+	 * The default number of documents the driver fetches per round trip when streaming.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private static final Set<Class<?>> KEYSET_TYPES = new HashSet<Class<?>>(Arrays.asList(
+		String.class, Long.class, long.class, Integer.class, int.class, Short.class, short.class, Double.class, double.class,
+		Float.class, float.class, Boolean.class, boolean.class, UUID.class, ObjectId.class));
+
 	private MongoClient mongo;
 	private Morphia morphia;
 	private Datastore datastore;
 	private Class<T> inheritanceRoot;
+	private int batchSize = DEFAULT_BATCH_SIZE;
 
 	/**
 	 * 
@@ -91,17 +130,69 @@ implements Queryable<T>
 		datastore.ensureCaps();
 	}
 
+	/**
+	 * If ifUnique is true, the item is written with an insert, so uniqueness is enforced
+	 * atomically by the _id index rather than a separate existence check. Otherwise, the
+	 * item is saved (upserted).
+	 */
 	@Override
 	public T doCreate(T item, boolean ifUnique)
 	{
-		if (ifUnique && exists(item.getIdentifier()))
+		if (!ifUnique)
 		{
-			throw new DuplicateItemException(item.getClass().getSimpleName()
-			    + " ID already exists: " + item.getIdentifier());
+			datastore.save(item);
+			return item;
 		}
 
-		datastore.save(item);
-		return item;
+		try
+		{
+			((AdvancedDatastore) datastore).insert(item);
+			return item;
+		}
+		catch (MongoException e)
+		{
+			if (isDuplicateKey(e))
+			{
+				throw new DuplicateItemException(item.getClass().getSimpleName()
+				    + " ID already exists: " + item.getIdentifier(), e);
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * If ifUnique is true, the items are written with a single bulk insert, with uniqueness
+	 * enforced by the _id index. Items preceding a duplicate will have been written when a
+	 * DuplicateItemException is thrown. Otherwise, the items are written with a single bulk save.
+	 */
+	@Override
+	public List<T> doCreateAll(Collection<T> items, boolean ifUnique)
+	{
+		List<T> results = new ArrayList<>(items);
+
+		if (results.isEmpty()) return results;
+
+		if (!ifUnique)
+		{
+			datastore.save(results);
+			return results;
+		}
+
+		try
+		{
+			((AdvancedDatastore) datastore).insert(results);
+			return results;
+		}
+		catch (MongoException e)
+		{
+			if (isDuplicateKey(e))
+			{
+				throw new DuplicateItemException("Duplicate ID on batch create", e);
+			}
+
+			throw e;
+		}
 	}
 
 	@Override
@@ -117,19 +208,56 @@ implements Queryable<T>
 		return item;
 	}
 
+	/**
+	 * If ifExists is true, the stored document is replaced only if it matches the item's ID,
+	 * with the matched count determining existence in the same round trip. Otherwise, the item
+	 * is saved (upserted).
+	 */
 	@Override
 	public T doUpdate(T item, boolean ifExists)
 	{
-		if (ifExists && !exists(item.getIdentifier()))
+		if (!ifExists)
+		{
+			datastore.save(item);
+			return item;
+		}
+
+		if (!replaceExisting(item))
 		{
 			throw new ItemNotFoundException(item.getClass().getSimpleName()
 			    + " ID not found: " + item.getIdentifier());
 		}
 
-		datastore.save(item);
 		return item;
 	}
 
+	/**
+	 * Saves the items with a single bulk save. If ifExists is true, existence is checked with
+	 * a single count query before anything is written.
+	 */
+	@Override
+	public List<T> doUpdateAll(Collection<T> items, boolean ifExists)
+	{
+		List<T> results = new ArrayList<>(items);
+
+		if (results.isEmpty()) return results;
+
+		if (ifExists && countExisting(results) < results.size())
+		{
+			for (T item : results)
+			{
+				if (!exists(item.getIdentifier()))
+				{
+					throw new ItemNotFoundException(item.getClass().getSimpleName()
+					    + " ID not found: " + item.getIdentifier());
+				}
+			}
+		}
+
+		datastore.save(results);
+		return results;
+	}
+
 	@Override
 	public void doDelete(T object)
 	{
@@ -143,6 +271,17 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Removes the objects with a single delete-by-query on their IDs.
+	 */
+	@Override
+	public void doDeleteAll(Collection<T> objects)
+	{
+		if (objects.isEmpty()) return;
+
+		datastore.delete(datastore.createQuery(inheritanceRoot).field("_id").in(lastComponents(objects)));
+	}
+
 	/**
 	 * A general-purpose 'finder' method, useful for implementing alternate-key queries. Since
 	 * it does not support ordering and range sub-sets, it's best for creating queries that
@@ -178,6 +317,85 @@ implements Queryable<T>
 		return query(inheritanceRoot, filter, range, order);
 	}
 
+	/**
+	 * Streams all instances of the inheritance root class matching the given criteria through
+	 * a server-side cursor. Like readAll(), this is not observable by default.
+	 */
+	@Override
+	public Stream<T> stream(QueryFilter filter, QueryOrder order)
+	{
+		return stream(inheritanceRoot, filter, order);
+	}
+
+	/**
+	 * Reads a page using range predicates on the sort keys (continuing after the previous
+	 * page's last document) instead of skip(), so deep pages cost the same as the first one
+	 * given a suitable index. _id is appended to the sort as a tie-breaker. Sort keys must be
+	 * strings, numbers, booleans, dates, UUIDs, ObjectIds or enums.
+	 */
+	@Override
+	public KeysetPage<T> readPage(QueryFilter filter, QueryOrder order, int limit, String continuation)
+	{
+		if (limit < 1) throw new IllegalArgumentException("limit must be > 0");
+
+		final List<KeysetField> keys = new ArrayList<KeysetField>();
+		final List<Boolean> descending = new ArrayList<Boolean>();
+
+		if (order != null && order.isSorted())
+		{
+			order.iterate(new OrderCallback()
+			{
+				@Override
+				public void orderBy(OrderComponent component)
+				{
+					keys.add(keysetField(component.getFieldName()));
+					descending.add(component.isDescending());
+				}
+			});
+		}
+
+		KeysetField idField = KeysetField.idOf(inheritanceRoot);
+
+		if (!keys.contains(idField))
+		{
+			keys.add(keysetField(idField.getName()));
+			descending.add(Boolean.FALSE);
+		}
+
+		String signature = keysetSignature(keys, descending);
+		Query<T> q = getBaseFilterQuery(inheritanceRoot, filter);
+		List<Sort> sorts = new ArrayList<Sort>(keys.size());
+
+		for (int i = 0; i < keys.size(); i++)
+		{
+			String name = keys.get(i).getName();
+			sorts.add(descending.get(i) ? Sort.descending(name) : Sort.ascending(name));
+		}
+
+		order(q, sorts);
+
+		if (continuation != null)
+		{
+			seekAfter(q, keys, descending, ContinuationToken.decode(signature, continuation));
+		}
+
+		List<T> found = q.find(new FindOptions().limit(limit + 1)).toList();
+
+		if (found.size() <= limit)
+		{
+			return new KeysetPage<T>(found, null);
+		}
+
+		List<String> last = new ArrayList<String>(keys.size());
+
+		for (KeysetField key : keys)
+		{
+			last.add(keyToString(key.getValue(found.get(limit - 1))));
+		}
+
+		return new KeysetPage<T>(found.subList(0, limit), ContinuationToken.encode(signature, last));
+	}
+
 	/**
 	 * Read each of the instances corresponding to the given Collection of IDs, returning the 
 	 * results as a list.  If an ID in the provided Collection does not exist, it is simply
@@ -223,12 +441,122 @@ implements Queryable<T>
 	{
 		if (id == null) return false;
 
-		return (datastore.find(inheritanceRoot).field("_id").equal(id.lastComponent()).count() > 0);
+		MorphiaKeyCursor<T> cursor = datastore.find(inheritanceRoot)
+			.field("_id").equal(id.lastComponent())
+			.keys(new FindOptions().limit(1));
+
+		try
+		{
+			return cursor.hasNext();
+		}
+		finally
+		{
+			cursor.close();
+		}
+	}
+
+	/**
+	 * Fetches only the _id of the matching documents (covered by the _id index) in a single query.
+	 */
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		Set<Identifier> results = new LinkedHashSet<Identifier>();
+		List<Identifier> valid = new ArrayList<Identifier>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			if (id != null && !id.isEmpty()) valid.add(id);
+		}
+
+		if (valid.isEmpty()) return results;
+
+		Set<Object> found = new HashSet<Object>(valid.size());
+		MorphiaKeyCursor<T> cursor = datastore.find(inheritanceRoot)
+			.field("_id").in(new PrimaryIdIterable(valid))
+			.keys();
+
+		try
+		{
+			while (cursor.hasNext())
+			{
+				found.add(cursor.next().getId());
+			}
+		}
+		finally
+		{
+			cursor.close();
+		}
+
+		for (Identifier id : valid)
+		{
+			if (found.contains(id.lastComponent()))
+			{
+				results.add(id);
+			}
+		}
+
+		return results;
 	}
 
 
 	// SECTION: UTILITY
 
+	private static boolean isDuplicateKey(MongoException e)
+	{
+		if (e instanceof DuplicateKeyException) return true;
+
+		if (e instanceof MongoWriteException)
+		{
+			return (((MongoWriteException) e).getError().getCategory() == ErrorCategory.DUPLICATE_KEY);
+		}
+
+		if (e instanceof BulkWriteException)
+		{
+			for (BulkWriteError error : ((BulkWriteException) e).getWriteErrors())
+			{
+				if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Replaces the stored document with a single replaceOne() by _id, through the driver, as
+	 * Morphia 1.6 deprecates Datastore.updateFirst().
+	 * 
+	 * @return false if no document has the item's ID.
+	 */
+	private boolean replaceExisting(T item)
+	{
+		Key<T> key = morphia.getMapper().getKey(item);
+
+		if (key == null) return false;
+
+		DBObject document = morphia.getMapper().toDBObject(item);
+		UpdateResult result = datastore.getDatabase().getCollection(key.getCollection(), DBObject.class)
+			.replaceOne(Filters.eq("_id", document.get("_id")), document);
+		return (result.getMatchedCount() > 0);
+	}
+
+	private long countExisting(Collection<T> items)
+	{
+		return datastore.find(inheritanceRoot).field("_id").in(lastComponents(items)).count();
+	}
+
+	private List<Object> lastComponents(Collection<T> items)
+	{
+		List<Object> ids = new ArrayList<>(items.size());
+
+		for (T item : items)
+		{
+			ids.add(item.getIdentifier().lastComponent());
+		}
+
+		return ids;
+	}
+
 	/**
 	 * Get the underlying Morphia Datastore object with which to construct queries against.
 	 * 
@@ -265,6 +593,37 @@ implements Queryable<T>
 		return (fo != null ? q.find(fo).toList() : q.find().toList());
 	}
 
+	/**
+	 * Execute a query against the repository, using QueryFilter and QueryOrder as criteria
+	 * against the type. Returns the results as a Stream backed by a MongoCursor that fetches
+	 * batchSize documents at a time. Closing the stream closes the cursor.
+	 * 
+	 * @param type
+	 * @param filter
+	 * @param order
+	 */
+	protected Stream<T> stream(Class<T> type, QueryFilter filter, QueryOrder order)
+	{
+		MorphiaCursor<T> cursor = getBaseQuery(type, filter, order).find(new FindOptions().batchSize(batchSize));
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(cursor::close);
+	}
+
+	public int getBatchSize()
+	{
+		return batchSize;
+	}
+
+	/**
+	 * Sets the cursor batch size used by stream(). Zero leaves the choice to the server.
+	 */
+	public void setBatchSize(int batchSize)
+	{
+		if (batchSize < 0) throw new IllegalArgumentException("batchSize must be >= 0");
+
+		this.batchSize = batchSize;
+	}
+
 	/**
 	 * Creates a base query with ordering configured, if present. To support limit and offset (range)
 	 * in the query, call createFindOptions(QueryRange) and pass it in to the asList(FindOptions) call
@@ -359,6 +718,104 @@ implements Queryable<T>
 		});
 	}
 
+	private KeysetField keysetField(String name)
+	{
+		KeysetField field = KeysetField.named(inheritanceRoot, name);
+
+		if (!isKeysetType(field.getType()))
+		{
+			throw new RepositoryException("Unsupported keyset sort field type: " + name + " (" + field.getType().getName() + ")");
+		}
+
+		return field;
+	}
+
+	private static String keysetSignature(List<KeysetField> keys, List<Boolean> descending)
+	{
+		StringBuilder signature = new StringBuilder();
+
+		for (int i = 0; i < keys.size(); i++)
+		{
+			if (i > 0) signature.append(',');
+			signature.append(keys.get(i).getName()).append(descending.get(i) ? ":desc" : ":asc");
+		}
+
+		return signature.toString();
+	}
+
+	/**
+	 * Adds (k0 > v0) or (k0 = v0 and k1 > v1) or ... to the query, flipping the comparison
+	 * for descending keys.
+	 */
+	private void seekAfter(Query<T> q, List<KeysetField> keys, List<Boolean> descending, List<String> values)
+	{
+		if (values.size() != keys.size())
+		{
+			throw new InvalidContinuationException("Continuation token does not match the requested sort order");
+		}
+
+		Criteria[] branches = new Criteria[keys.size()];
+
+		for (int i = 0; i < branches.length; i++)
+		{
+			Criteria[] terms = new Criteria[i + 1];
+
+			for (int j = 0; j < i; j++)
+			{
+				terms[j] = q.criteria(keys.get(j).getName()).equal(keyFromString(keys.get(j), values.get(j)));
+			}
+
+			Object value = keyFromString(keys.get(i), values.get(i));
+			String name = keys.get(i).getName();
+			terms[i] = (descending.get(i) ? q.criteria(name).lessThan(value) : q.criteria(name).greaterThan(value));
+			branches[i] = (i == 0 ? terms[0] : q.and(terms));
+		}
+
+		q.or(branches);
+	}
+
+	private static boolean isKeysetType(Class<?> type)
+	{
+		return KEYSET_TYPES.contains(type) || type.isEnum() || Date.class.isAssignableFrom(type);
+	}
+
+	private static String keyToString(Object value)
+	{
+		if (value == null) return null;
+		if (value instanceof Date) return String.valueOf(((Date) value).getTime());
+		if (value instanceof Enum) return ((Enum<?>) value).name();
+		return value.toString();
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Object keyFromString(KeysetField key, String value)
+	{
+		if (value == null) return null;
+
+		Class<?> type = key.getType();
+
+		try
+		{
+			if (String.class == type) return value;
+			if (Long.class == type || long.class == type) return Long.valueOf(value);
+			if (Integer.class == type || int.class == type) return Integer.valueOf(value);
+			if (Short.class == type || short.class == type) return Short.valueOf(value);
+			if (Double.class == type || double.class == type) return Double.valueOf(value);
+			if (Float.class == type || float.class == type) return Float.valueOf(value);
+			if (Boolean.class == type || boolean.class == type) return Boolean.valueOf(value);
+			if (Date.class.isAssignableFrom(type)) return new Date(Long.parseLong(value));
+			if (UUID.class == type) return UUID.fromString(value);
+			if (ObjectId.class == type) return new ObjectId(value);
+			if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, value);
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new InvalidContinuationException("Invalid continuation token", e);
+		}
+
+		throw new InvalidContinuationException("Unsupported keyset sort field type: " + type.getName());
+	}
+
 	/**
 	 * @param q
 	 * @param order
@@ -387,9 +844,19 @@ implements Queryable<T>
 				}
 			});
 			
-			q.order(sorts.toArray(new Sort[0]));
+			order(q, sorts);
 		}
 	}
+
+	/**
+	 * Morphia 1.6 deprecates Query.order() in favor of FindOptions.sort(), but the latter isn't
+	 * public until 2.0, so this is the one place a Query is sorted.
+	 */
+	@SuppressWarnings("deprecation")
+	private static <T> void order(Query<T> q, List<Sort> sorts)
+	{
+		q.order(sorts.toArray(new Sort[0]));
+	}
 	
 	/**
 	 * Get the underlying Morphia instance.
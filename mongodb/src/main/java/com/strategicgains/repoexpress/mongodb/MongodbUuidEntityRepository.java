@@ -15,11 +15,14 @@
 */
 package com.strategicgains.repoexpress.mongodb;
 
+import java.util.UUID;
+
 import com.mongodb.MongoClient;
 import com.strategicgains.repoexpress.domain.TimestampedIdentifiable;
 import com.strategicgains.repoexpress.domain.UuidEntity;
 import com.strategicgains.repoexpress.event.DefaultTimestampedIdentifiableRepositoryObserver;
 import com.strategicgains.repoexpress.event.UuidEntityRepositoryObserver;
+import com.strategicgains.repoexpress.util.IdGenerator;
 
 /**
  * A MongoDB repository that manages types of TimestampedUuidIdentifiable. It utilizes the
@@ -32,6 +35,9 @@ import com.strategicgains.repoexpress.event.UuidEntityRepositoryObserver;
  * 22 characters (using Base64 encoding) is arguably more readable and universally applicable
  * on a URL.
  * <p/>
+ * New IDs are random by default. Pass IdGenerator.timeOrderedUuid() to assign time-ordered
+ * UUIDs, which keep inserts at the tail of the _id index.
+ * <p/>
  * To implement single-table inheritance, simply pass in all the sub-classes that
  * exist in this collection, with the inheritance-root listed first.
  * 
@@ -41,16 +47,25 @@ import com.strategicgains.repoexpress.event.UuidEntityRepositoryObserver;
 public class MongodbUuidEntityRepository<T extends TimestampedIdentifiable & UuidEntity>
 extends MongodbRepository<T>
 {
+	private final IdGenerator<UUID> ids;
+
     @SuppressWarnings("unchecked")
 	public MongodbUuidEntityRepository(MongoClient mongo, String databaseName, Class<? extends T>... types)
+    {
+	    this(mongo, databaseName, IdGenerator.randomUuid(), types);
+    }
+
+    @SuppressWarnings("unchecked")
+	public MongodbUuidEntityRepository(MongoClient mongo, String databaseName, IdGenerator<UUID> ids, Class<? extends T>... types)
     {
 	    super(mongo, databaseName, types);
+	    this.ids = ids;
 		initializeObservers();
     }
 
 	protected void initializeObservers()
     {
 	    addObserver(new DefaultTimestampedIdentifiableRepositoryObserver<T>());
-		addObserver(new UuidEntityRepositoryObserver<T>());
+		addObserver(new UuidEntityRepositoryObserver<T>(ids));
     }
 }
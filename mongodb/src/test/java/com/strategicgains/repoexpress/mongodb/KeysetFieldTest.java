@@ -0,0 +1,82 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mongodb;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+import dev.morphia.annotations.Property;
+import dev.morphia.annotations.Transient;
+
+public class KeysetFieldTest
+{
+	@Test
+	public void shouldFindInheritedIdField()
+	{
+		KeysetField id = KeysetField.idOf(TestEntity.class);
+
+		assertEquals("_id", id.getName());
+		assertEquals(UUID.class, id.getType());
+	}
+
+	@Test
+	public void shouldResolveJavaAndStoredNames()
+	{
+		assertEquals("n", KeysetField.named(Named.class, "name").getName());
+		assertEquals("n", KeysetField.named(Named.class, "n").getName());
+		assertEquals("_id", KeysetField.named(Named.class, "id").getName());
+		assertEquals("createdAt", KeysetField.named(Named.class, "createdAt").getName());
+		assertEquals(Date.class, KeysetField.named(Named.class, "createdAt").getType());
+	}
+
+	@Test
+	public void shouldReadFieldValue()
+	{
+		Named named = new Named();
+		named.name = "x";
+
+		assertEquals("x", KeysetField.named(Named.class, "name").getValue(named));
+	}
+
+	@Test(expected=RepositoryException.class)
+	public void shouldRejectTransientField()
+	{
+		KeysetField.named(Named.class, "scratch");
+	}
+
+	@Test(expected=RepositoryException.class)
+	public void shouldRejectUnknownField()
+	{
+		KeysetField.named(Named.class, "nope");
+	}
+
+	private static class Named
+	extends TestEntity
+	{
+		@Property("n")
+		private String name;
+
+		@Transient
+		@SuppressWarnings("unused")
+		private String scratch;
+	}
+}
@@ -32,4 +32,10 @@ extends RedisRepository<T>
 	{
 		return super.doUpdate(item, ifExists, item.getTtlSeconds());
 	}
+
+	@Override
+	protected int getTtlSeconds(T item)
+	{
+		return item.getTtlSeconds();
+	}
 }
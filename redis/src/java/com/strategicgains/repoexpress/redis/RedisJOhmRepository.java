@@ -26,6 +26,9 @@ import redis.clients.johm.JOhm;
 /**
  * Persist objects (mainly sub-classes of AbstractRedisJOhmEntity) to a Redis datastore using JOhm.
  * The Object must implement Identifiable and the ID must be numeric (e.g. Long, Integer).
+ * <p/>
+ * By default, JOhm assigns IDs on create with a round trip to Redis. To assign them in-process,
+ * add an IdGeneratingRepositoryObserver with a SnowflakeGenerator or HiLoIdGenerator.
  * 
  * @author toddf
  * @since Jun 6, 2012
@@ -45,7 +48,9 @@ extends AbstractObservableRepository<T>
 	@Override
 	public T doCreate(T object, boolean ifUnique)
 	{
-		if (ifUnique && !JOhm.isNew(object))
+		// JOhm assigns an ID (via INCR) only when there isn't one. One assigned in-process
+		// (e.g. by an IdGeneratingRepositoryObserver) is kept, provided it's unused.
+		if (ifUnique && !JOhm.isNew(object) && exists(object.getIdentifier()))
 		{
 			throw new DuplicateItemException(object.getClass().getSimpleName()
 				+ " ID already exists: " + object.getIdentifier());
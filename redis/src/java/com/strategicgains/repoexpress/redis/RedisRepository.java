@@ -15,6 +15,12 @@
  */
 package com.strategicgains.repoexpress.redis;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import com.strategicgains.noschema.Identifiable;
 import com.strategicgains.noschema.Identifier;
 import com.strategicgains.repoexpress.AbstractObservableRepository;
@@ -25,6 +31,9 @@ import com.strategicgains.repoexpress.exception.RepositoryException;
 
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.SetParams;
 
 /**
  * This Redis repository works on simpler objects than RedisJOhmRepository, in that, the persisted
@@ -50,6 +59,22 @@ public abstract class RedisRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
 {
 	private static final int NEVER_EXPIRE = -1;
+
+	/**
+	 * The maximum number of keys fetched by a single MGET in readList().
+	 */
+	protected static final int MGET_BATCH_SIZE = 1000;
+
+	/**
+	 * The condition on a key's existence under which a SET is applied.
+	 */
+	private enum SetCondition
+	{
+		ALWAYS,
+		IF_ABSENT,	// SET ... NX
+		IF_PRESENT	// SET ... XX
+	}
+
 	private JedisPool jedisPool;
 	private Class<? extends T> entityClass;
 
@@ -71,6 +96,11 @@ extends AbstractObservableRepository<T>
 		return doCreate(item, ifUnique, NEVER_EXPIRE);
 	}
 
+	/**
+	 * Writes the item with a single SET. If ifUnique is true, the write is conditional
+	 * (SET ... NX), so uniqueness is enforced atomically by Redis rather than by a separate
+	 * EXISTS before the write.
+	 */
 	protected T doCreate(T item, boolean ifUnique, int ttlSeconds)
 	{
 		//Item expires immediately, so no sense in storing it.
@@ -79,17 +109,18 @@ extends AbstractObservableRepository<T>
 			return item;
 		}
 
-		if (ifUnique && exists(item.getIdentifier()))
-		{
-			throw new DuplicateItemException(item.getClass().getSimpleName()
-			    + " ID already exists: " + item.getIdentifier());
-		}
-
 		Jedis jedis = jedisPool.getResource();
 		
 		try
 		{
-			if (!jedis.setex(item.getIdentifier().toString(), ttlSeconds, marshalFrom(item)).equalsIgnoreCase("OK"))
+			String reply = jedis.set(item.getIdentifier().toString(), marshalFrom(item), setParams(ttlSeconds, (ifUnique ? SetCondition.IF_ABSENT : SetCondition.ALWAYS)));
+
+			if (reply == null && ifUnique)
+			{
+				throw duplicate(item);
+			}
+
+			if (!"OK".equalsIgnoreCase(reply))
 			{
 				throw new RepositoryException("Error creating object: " + item.getIdentifier());
 			}
@@ -102,6 +133,40 @@ extends AbstractObservableRepository<T>
 		}
 	}
 
+	/**
+	 * Writes the items with a single round trip. If ifUnique is true and none of the items
+	 * expire, they are written atomically with MSETNX: all or nothing. Otherwise, each item is
+	 * written with a pipelined SET (conditional on absence if ifUnique is true), in which case
+	 * items other than a duplicate may have been written when a DuplicateItemException is thrown.
+	 */
+	@Override
+	public List<T> doCreateAll(Collection<T> items, boolean ifUnique)
+	{
+		List<T> results = new ArrayList<T>(items);
+
+		if (results.isEmpty()) return results;
+
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			if (ifUnique && neverExpire(results))
+			{
+				msetnx(jedis, results);
+			}
+			else
+			{
+				writeAll(jedis, results, (ifUnique ? SetCondition.IF_ABSENT : SetCondition.ALWAYS), "Error creating object: ");
+			}
+
+			return results;
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
 	@Override
 	public void doDelete(T object)
 	{
@@ -122,6 +187,31 @@ extends AbstractObservableRepository<T>
 		}
 	}
 
+	/**
+	 * Removes the objects with a single multi-key DEL.
+	 */
+	@Override
+	public void doDeleteAll(Collection<T> objects)
+	{
+		if (objects.isEmpty()) return;
+
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Long reply = jedis.del(keys(objects));
+
+			if (reply < objects.size())
+			{
+				throw new ItemNotFoundException("One or more IDs not found in batch delete");
+			}
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
 	@Override
 	public T doRead(Identifier id)
 	{
@@ -144,25 +234,96 @@ extends AbstractObservableRepository<T>
 		}
 	}
 
+	/**
+	 * Reads the IDs with pipelined MGETs of up to MGET_BATCH_SIZE keys each (one round trip),
+	 * rather than a GET per ID. Results are returned in the order of the given IDs, with missing
+	 * IDs omitted. Read observers are notified for each ID before the MGETs and each entity after
+	 * them.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		List<String> keys = new ArrayList<String>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			notifyBeforeRead(id);
+
+			if (id != null) keys.add(id.toString());
+		}
+
+		List<T> results = new ArrayList<T>(keys.size());
+
+		if (keys.isEmpty()) return results;
+
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Pipeline pipeline = jedis.pipelined();
+			List<Response<List<String>>> replies = new ArrayList<Response<List<String>>>();
+
+			for (int i = 0; i < keys.size(); i += MGET_BATCH_SIZE)
+			{
+				replies.add(pipeline.mget(keys.subList(i, Math.min(i + MGET_BATCH_SIZE, keys.size())).toArray(new String[0])));
+			}
+
+			pipeline.sync();
+
+			for (Response<List<String>> reply : replies)
+			{
+				for (String json : reply.get())
+				{
+					if (json == null || json.trim().isEmpty()) continue;
+
+					results.add(marshalTo(json, entityClass));
+				}
+			}
+
+			for (T item : results)
+			{
+				notifyAfterRead(item);
+			}
+
+			return results;
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
 	@Override
 	public T doUpdate(T item, boolean ifExists)
 	{
 		return doUpdate(item, ifExists, NEVER_EXPIRE);
 	}
 
+	/**
+	 * Writes the item with a single SET. If ifExists is true, the write is conditional
+	 * (SET ... XX), so existence is enforced atomically by Redis rather than by a separate
+	 * EXISTS before the write.
+	 */
 	protected T doUpdate(T item, boolean ifExists, int ttlSeconds)
 	{
-		if (ifExists && !exists(item.getIdentifier()))
+		//Item expires immediately, so no sense in storing it.
+		if (ttlSeconds == 0)
 		{
-			throw new ItemNotFoundException(item.getClass().getSimpleName()
-			    + " ID not found: " + item.getIdentifier());
+			return item;
 		}
 
 		Jedis jedis = jedisPool.getResource();
 		
 		try
 		{
-			if (!jedis.setex(item.getIdentifier().toString(), ttlSeconds, marshalFrom(item)).equalsIgnoreCase("OK"))
+			String reply = jedis.set(item.getIdentifier().toString(), marshalFrom(item), setParams(ttlSeconds, (ifExists ? SetCondition.IF_PRESENT : SetCondition.ALWAYS)));
+
+			if (reply == null && ifExists)
+			{
+				throw notFound(item);
+			}
+
+			if (!"OK".equalsIgnoreCase(reply))
 			{
 				throw new RepositoryException("Error updating object: " + item.getIdentifier());
 			}
@@ -175,6 +336,31 @@ extends AbstractObservableRepository<T>
 		}
 	}
 
+	/**
+	 * Writes the items with a single pipelined round trip of SET commands, conditional on
+	 * existence (SET ... XX) if ifExists is true. Items other than a missing one may have been
+	 * written when an ItemNotFoundException is thrown.
+	 */
+	@Override
+	public List<T> doUpdateAll(Collection<T> items, boolean ifExists)
+	{
+		List<T> results = new ArrayList<T>(items);
+
+		if (results.isEmpty()) return results;
+
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			writeAll(jedis, results, (ifExists ? SetCondition.IF_PRESENT : SetCondition.ALWAYS), "Error updating object: ");
+			return results;
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
 	@Override
 	public boolean exists(Identifier id)
 	{
@@ -192,9 +378,197 @@ extends AbstractObservableRepository<T>
 		}
 	}
 
+	/**
+	 * Checks the keys with pipelined EXISTS calls, in a single round trip. (A multi-key EXISTS
+	 * only returns how many of the keys exist, not which ones.)
+	 */
+	@Override
+	public Set<Identifier> existsAll(Collection<Identifier> ids)
+	{
+		List<Identifier> valid = new ArrayList<Identifier>(ids.size());
+		List<String> keys = new ArrayList<String>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			if (id == null) continue;
+
+			valid.add(id);
+			keys.add(id.toString());
+		}
+
+		Set<Identifier> results = new LinkedHashSet<Identifier>();
+
+		if (valid.isEmpty()) return results;
+
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Pipeline pipeline = jedis.pipelined();
+			List<Response<Boolean>> replies = new ArrayList<Response<Boolean>>(keys.size());
+
+			for (String key : keys)
+			{
+				replies.add(pipeline.exists(key));
+			}
+
+			pipeline.sync();
+
+			for (int i = 0; i < valid.size(); ++i)
+			{
+				if (replies.get(i).get())
+				{
+					results.add(valid.get(i));
+				}
+			}
+
+			return results;
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
 
 	// SECTION: UTILITY
-	
+
+	/**
+	 * The time-to-live applied to the item when written by the batch operations.
+	 * 
+	 * @return the TTL in seconds. Negative to never expire. Zero to skip writing the item.
+	 */
+	protected int getTtlSeconds(T item)
+	{
+		return NEVER_EXPIRE;
+	}
+
+	private void writeAll(Jedis jedis, List<T> items, SetCondition condition, String errorMessage)
+	{
+		Pipeline pipeline = jedis.pipelined();
+		List<Response<String>> replies = new ArrayList<Response<String>>(items.size());
+
+		for (T item : items)
+		{
+			int ttlSeconds = getTtlSeconds(item);
+
+			//Item expires immediately, so no sense in storing it.
+			if (ttlSeconds == 0)
+			{
+				replies.add(null);
+				continue;
+			}
+
+			replies.add(pipeline.set(item.getIdentifier().toString(), marshalFrom(item), setParams(ttlSeconds, condition)));
+		}
+
+		pipeline.sync();
+
+		for (int i = 0; i < items.size(); ++i)
+		{
+			Response<String> reply = replies.get(i);
+
+			if (reply == null) continue;
+
+			String result = reply.get();
+
+			if (result == null && condition == SetCondition.IF_ABSENT)
+			{
+				throw duplicate(items.get(i));
+			}
+
+			if (result == null && condition == SetCondition.IF_PRESENT)
+			{
+				throw notFound(items.get(i));
+			}
+
+			if (!"OK".equalsIgnoreCase(result))
+			{
+				throw new RepositoryException(errorMessage + items.get(i).getIdentifier());
+			}
+		}
+	}
+
+	private void msetnx(Jedis jedis, List<T> items)
+	{
+		String[] keysValues = new String[items.size() * 2];
+		int i = 0;
+
+		for (T item : items)
+		{
+			keysValues[i++] = item.getIdentifier().toString();
+			keysValues[i++] = marshalFrom(item);
+		}
+
+		if (jedis.msetnx(keysValues) > 0) return;
+
+		for (T item : items)
+		{
+			if (jedis.exists(item.getIdentifier().toString()))
+			{
+				throw duplicate(item);
+			}
+		}
+
+		throw new DuplicateItemException("One or more IDs already exist");
+	}
+
+	private boolean neverExpire(List<T> items)
+	{
+		for (T item : items)
+		{
+			if (getTtlSeconds(item) >= 0) return false;
+		}
+
+		return true;
+	}
+
+	private SetParams setParams(int ttlSeconds, SetCondition condition)
+	{
+		SetParams params = SetParams.setParams();
+
+		if (condition == SetCondition.IF_ABSENT)
+		{
+			params.nx();
+		}
+		else if (condition == SetCondition.IF_PRESENT)
+		{
+			params.xx();
+		}
+
+		if (ttlSeconds > 0)
+		{
+			params.ex(ttlSeconds);
+		}
+
+		return params;
+	}
+
+	private ItemNotFoundException notFound(T item)
+	{
+		return new ItemNotFoundException(item.getClass().getSimpleName()
+		    + " ID not found: " + item.getIdentifier());
+	}
+
+	private DuplicateItemException duplicate(T item)
+	{
+		return new DuplicateItemException(item.getClass().getSimpleName()
+		    + " ID already exists: " + item.getIdentifier());
+	}
+
+	private String[] keys(Collection<T> items)
+	{
+		String[] keys = new String[items.size()];
+		int i = 0;
+
+		for (T item : items)
+		{
+			keys[i++] = item.getIdentifier().toString();
+		}
+
+		return keys;
+	}
+
 	protected abstract T marshalTo(String json, Class<? extends T> entityClass);
 	protected abstract String marshalFrom(T instance);
 }